@@ -0,0 +1,68 @@
+package org.clowdy.animation;
+
+/**
+ * Static helpers for the affine transformation matrices of a skeleton, stored as 16 column major floats in shared
+ * arrays so that evaluating a skeleton never creates a Matrix4x4 per bone. The bottom row of every matrix is
+ * (0, 0, 0, 1) and is neither read nor relied on by the products.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+final class AffineTransforms {
+    // Number of floats of each matrix.
+    static final int MATRIX = 16;
+
+    private AffineTransforms() {
+    }
+
+    /*
+     * Sets the matrix at the given offset to translate * rotate * scale for the local transform of the given bone
+     * of a pose.
+     */
+    static void compose(Pose pose, int bone, float[] dest, int offset) {
+        float[] t = pose.translations;
+        float[] q = pose.rotations;
+        float[] s = pose.scales;
+        int t3 = bone * 3;
+        int q4 = bone * 4;
+        float x = q[q4], y = q[q4 + 1], z = q[q4 + 2], w = q[q4 + 3];
+        float sx = s[t3], sy = s[t3 + 1], sz = s[t3 + 2];
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float xw = x * w, yw = y * w, zw = z * w;
+        dest[offset] = (1 - 2 * (yy + zz)) * sx;
+        dest[offset + 1] = 2 * (xy + zw) * sx;
+        dest[offset + 2] = 2 * (xz - yw) * sx;
+        dest[offset + 3] = 0;
+        dest[offset + 4] = 2 * (xy - zw) * sy;
+        dest[offset + 5] = (1 - 2 * (xx + zz)) * sy;
+        dest[offset + 6] = 2 * (yz + xw) * sy;
+        dest[offset + 7] = 0;
+        dest[offset + 8] = 2 * (xz + yw) * sz;
+        dest[offset + 9] = 2 * (yz - xw) * sz;
+        dest[offset + 10] = (1 - 2 * (xx + yy)) * sz;
+        dest[offset + 11] = 0;
+        dest[offset + 12] = t[t3];
+        dest[offset + 13] = t[t3 + 1];
+        dest[offset + 14] = t[t3 + 2];
+        dest[offset + 15] = 1;
+    }
+
+    /*
+     * Sets the matrix at the destination offset to the product of the left and right matrices. The left matrix is
+     * read first and each column of the right before it is written, so the destination may be either input.
+     */
+    static void multiply(float[] left, int l, float[] right, int r, float[] dest, int d) {
+        float a00 = left[l], a10 = left[l + 1], a20 = left[l + 2];
+        float a01 = left[l + 4], a11 = left[l + 5], a21 = left[l + 6];
+        float a02 = left[l + 8], a12 = left[l + 9], a22 = left[l + 10];
+        float a03 = left[l + 12], a13 = left[l + 13], a23 = left[l + 14];
+        for (int c = 0; c < MATRIX; c += 4) {
+            float b0 = right[r + c], b1 = right[r + c + 1], b2 = right[r + c + 2];
+            float translate = c == 12 ? 1 : 0;
+            dest[d + c] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * translate;
+            dest[d + c + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * translate;
+            dest[d + c + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * translate;
+            dest[d + c + 3] = translate;
+        }
+    }
+}
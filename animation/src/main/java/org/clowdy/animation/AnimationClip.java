@@ -0,0 +1,257 @@
+package org.clowdy.animation;
+
+import java.util.Arrays;
+
+/**
+ * <p>A clip of keyframe tracks for the bones of a skeleton, with a translation, rotation and scale channel per
+ * bone. The keys of every channel are packed into one array of times and one of values, four floats per key, with
+ * the keys of each channel stored next to each other in time order.</p>
+ *
+ * <p>Sampling a clip finds the pair of keys either side of the sample time by binary search, then interpolates
+ * translation and scale linearly and rotation by normalised linear interpolation along the shortest path. A channel
+ * with no keys leaves the pose unchanged, so bones a clip doesn't animate keep the pose they are sampled over,
+ * usually the bind pose.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class AnimationClip {
+    /**
+     * The channel of the translation of a bone.
+     */
+    public static final int TRANSLATION = 0;
+
+    /**
+     * The channel of the rotation of a bone.
+     */
+    public static final int ROTATION = 1;
+
+    /**
+     * The channel of the scale of a bone.
+     */
+    public static final int SCALE = 2;
+
+    // Floats stored for each key, the xyz of a translation or scale leave the fourth unused.
+    private static final int STRIDE = 4;
+    private static final int CHANNELS = 3;
+
+    private final int bones;
+    private final float duration;
+    // Start of the keys of each channel, bone * 3 + channel, with a final entry of the number of keys.
+    private final int[] keyStart;
+    private final float[] times;
+    private final float[] values;
+
+    private AnimationClip(Builder builder) {
+        bones = builder.bones;
+        duration = builder.duration;
+        keyStart = new int[bones * CHANNELS + 1];
+        for (int channel = 0; channel < bones * CHANNELS; channel++) {
+            float[] channelTimes = builder.times[channel];
+            keyStart[channel + 1] = keyStart[channel] + (channelTimes == null ? 0 : channelTimes.length);
+        }
+        times = new float[keyStart[bones * CHANNELS]];
+        values = new float[times.length * STRIDE];
+        for (int channel = 0; channel < bones * CHANNELS; channel++) {
+            float[] channelTimes = builder.times[channel];
+            if (channelTimes != null) {
+                System.arraycopy(channelTimes, 0, times, keyStart[channel], channelTimes.length);
+                System.arraycopy(builder.values[channel], 0, values, keyStart[channel] * STRIDE,
+                        channelTimes.length * STRIDE);
+            }
+        }
+    }
+
+    /**
+     * Returns a new Builder for an AnimationClip of the given number of bones and duration.
+     *
+     * @param bones    The number of bones of the skeleton the clip animates.
+     * @param duration The duration of the clip in seconds.
+     * @return A new Builder.
+     * @throws IllegalArgumentException When the number of bones is negative or the duration is not positive.
+     */
+    public static Builder builder(int bones, float duration) {
+        return new Builder(bones, duration);
+    }
+
+    /**
+     * Returns the number of bones of the skeleton this AnimationClip animates.
+     *
+     * @return The number of bones.
+     */
+    public int getBoneCount() {
+        return bones;
+    }
+
+    /**
+     * Returns the duration of this AnimationClip in seconds.
+     *
+     * @return The duration.
+     */
+    public float getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the given Pose after setting each animated channel of each bone to its value at the given time.
+     * Channels without keys are left unchanged.
+     *
+     * @param time The time to sample, in seconds.
+     * @param loop true to wrap the time around the duration, false to clamp it to the clip.
+     * @param dest The Pose to sample into.
+     * @return The given Pose.
+     * @throws IllegalArgumentException When the destination is null or of a different number of bones.
+     */
+    public Pose sample(float time, boolean loop, Pose dest) {
+        if (dest == null || dest.getBoneCount() != bones) {
+            throw new IllegalArgumentException("The destination Pose must have " + bones + " bones.");
+        }
+        if (loop) {
+            time -= (float) Math.floor(time / duration) * duration;
+        } else {
+            time = time < 0 ? 0 : Math.min(time, duration);
+        }
+        for (int channel = 0, bone = 0; bone < bones; bone++) {
+            sampleChannel(keyStart[channel], keyStart[channel + 1], time, dest.translations, bone * 3, false);
+            channel++;
+            sampleChannel(keyStart[channel], keyStart[channel + 1], time, dest.rotations, bone * 4, true);
+            channel++;
+            sampleChannel(keyStart[channel], keyStart[channel + 1], time, dest.scales, bone * 3, false);
+            channel++;
+        }
+        return dest;
+    }
+
+    /*
+     * Interpolates the keys from start to end at the given time into the destination, clamping to the first and
+     * last keys outside their times.
+     */
+    private void sampleChannel(int start, int end, float time, float[] dest, int offset, boolean rotation) {
+        if (start == end) {
+            return;
+        }
+        int components = rotation ? 4 : 3;
+        // Index of the last key at or before the time, or start - 1 when the time is before the first key.
+        int found = Arrays.binarySearch(times, start, end, time);
+        int key = found >= 0 ? found : -found - 2;
+        if (key < start || key == end - 1) {
+            int value = (key < start ? start : key) * STRIDE;
+            System.arraycopy(values, value, dest, offset, components);
+            return;
+        }
+        float t = (time - times[key]) / (times[key + 1] - times[key]);
+        int from = key * STRIDE;
+        int to = from + STRIDE;
+        if (rotation) {
+            float dot = values[from] * values[to] + values[from + 1] * values[to + 1]
+                    + values[from + 2] * values[to + 2] + values[from + 3] * values[to + 3];
+            float keep = 1 - t;
+            float toWeight = dot < 0 ? -t : t;
+            Pose.nlerp(dest, offset, values[from] * keep + values[to] * toWeight,
+                    values[from + 1] * keep + values[to + 1] * toWeight,
+                    values[from + 2] * keep + values[to + 2] * toWeight,
+                    values[from + 3] * keep + values[to + 3] * toWeight);
+        } else {
+            for (int i = 0; i < 3; i++) {
+                dest[offset + i] = values[from + i] + (values[to + i] - values[from + i]) * t;
+            }
+        }
+    }
+
+    /**
+     * Builder for an AnimationClip, taking the keys of each channel of each bone.
+     */
+    public static final class Builder {
+        private final int bones;
+        private final float duration;
+        private final float[][] times;
+        private final float[][] values;
+
+        private Builder(int bones, float duration) {
+            if (bones < 0) {
+                throw new IllegalArgumentException("The number of bones can not be negative.");
+            }
+            if (!(duration > 0)) {
+                throw new IllegalArgumentException("The duration must be positive.");
+            }
+            this.bones = bones;
+            this.duration = duration;
+            times = new float[bones * CHANNELS][];
+            values = new float[bones * CHANNELS][];
+        }
+
+        /**
+         * Sets the translation keys of the given bone.
+         *
+         * @param bone   The index of the bone.
+         * @param times  The time of each key, strictly ascending.
+         * @param values The xyz translation of each key.
+         * @return This Builder.
+         * @throws IllegalArgumentException  When the keys are null, the times do not ascend or there are not three
+         *                                   values per time.
+         * @throws IndexOutOfBoundsException When the bone is out of range.
+         */
+        public Builder translation(int bone, float[] times, float[] values) {
+            return channel(bone, TRANSLATION, times, values, 3);
+        }
+
+        /**
+         * Sets the rotation keys of the given bone.
+         *
+         * @param bone   The index of the bone.
+         * @param times  The time of each key, strictly ascending.
+         * @param values The xyzw normalised rotation Quaternion of each key.
+         * @return This Builder.
+         * @throws IllegalArgumentException  When the keys are null, the times do not ascend or there are not four
+         *                                   values per time.
+         * @throws IndexOutOfBoundsException When the bone is out of range.
+         */
+        public Builder rotation(int bone, float[] times, float[] values) {
+            return channel(bone, ROTATION, times, values, 4);
+        }
+
+        /**
+         * Sets the scale keys of the given bone.
+         *
+         * @param bone   The index of the bone.
+         * @param times  The time of each key, strictly ascending.
+         * @param values The xyz scale of each key.
+         * @return This Builder.
+         * @throws IllegalArgumentException  When the keys are null, the times do not ascend or there are not three
+         *                                   values per time.
+         * @throws IndexOutOfBoundsException When the bone is out of range.
+         */
+        public Builder scale(int bone, float[] times, float[] values) {
+            return channel(bone, SCALE, times, values, 3);
+        }
+
+        /**
+         * Returns a new AnimationClip of the keys set on this Builder.
+         *
+         * @return A new AnimationClip.
+         */
+        public AnimationClip build() {
+            return new AnimationClip(this);
+        }
+
+        private Builder channel(int bone, int channel, float[] keyTimes, float[] keyValues, int components) {
+            if (bone < 0 || bone >= bones) {
+                throw new IndexOutOfBoundsException("Bone " + bone + " is outside a clip of " + bones + " bones.");
+            }
+            if (keyTimes == null || keyValues == null || keyValues.length != keyTimes.length * components) {
+                throw new IllegalArgumentException("There must be " + components + " values for each key time.");
+            }
+            for (int i = 1; i < keyTimes.length; i++) {
+                if (!(keyTimes[i] > keyTimes[i - 1])) {
+                    throw new IllegalArgumentException("The key times must be strictly ascending.");
+                }
+            }
+            float[] packed = new float[keyTimes.length * STRIDE];
+            for (int key = 0; key < keyTimes.length; key++) {
+                System.arraycopy(keyValues, key * components, packed, key * STRIDE, components);
+            }
+            times[bone * CHANNELS + channel] = keyTimes.clone();
+            values[bone * CHANNELS + channel] = packed;
+            return this;
+        }
+    }
+}
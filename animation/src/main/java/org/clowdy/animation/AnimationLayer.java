@@ -0,0 +1,51 @@
+package org.clowdy.animation;
+
+/**
+ * A layer of an Animator, playing a single AnimationClip blended over the layers below it. The fields are public
+ * so gameplay code can drive the layers of every character each frame without any indirection.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class AnimationLayer {
+    /**
+     * The clip played by this layer, or null for an inactive layer.
+     */
+    public AnimationClip clip;
+
+    /**
+     * The playback time of the clip in seconds.
+     */
+    public float time;
+
+    /**
+     * The factor the playback time advances by, 1 for the clip's own speed.
+     */
+    public float speed = 1;
+
+    /**
+     * The weight this layer is blended over the layers below with, 0 having no effect and 1 replacing them.
+     */
+    public float weight = 1;
+
+    /**
+     * true to loop the clip, false to hold its last key.
+     */
+    public boolean loop = true;
+
+    /**
+     * The weight of each bone, or null for every bone to be blended by the full weight.
+     */
+    public float[] mask;
+
+    /**
+     * Returns this layer after setting it to play the given clip from the start.
+     *
+     * @param clip The clip to play, or null to deactivate the layer.
+     * @return This layer.
+     */
+    public AnimationLayer play(AnimationClip clip) {
+        this.clip = clip;
+        time = 0;
+        return this;
+    }
+}
@@ -0,0 +1,167 @@
+package org.clowdy.animation;
+
+import java.nio.FloatBuffer;
+
+/**
+ * <p>The animation state of a single character: a Skeleton and a stack of AnimationLayers. Evaluating an Animator
+ * starts from the bind pose, then samples each active layer and blends it over the result by its weight and mask.
+ * The skinning matrix palette is then resolved from the pose, one Matrix4x4 per bone stored as 16 column major
+ * floats.</p>
+ *
+ * <p>Every Pose and matrix array an Animator needs is allocated on construction, so evaluating it each frame does
+ * not allocate. That working state makes an Animator unsafe to evaluate from more than one thread at once, but
+ * distinct Animators may be evaluated in parallel, as PaletteBuilder does.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class Animator {
+    private final Skeleton skeleton;
+    private final AnimationLayer[] layers;
+    // The blended pose and the pose each layer is sampled into before being blended over it.
+    private final Pose pose;
+    private final Pose layerPose;
+    // The global transform of each bone, then its skinning matrix, 16 floats per bone.
+    private final float[] matrices;
+
+    /**
+     * Constructs an Animator for the given Skeleton with the given number of layers, all inactive.
+     *
+     * @param skeleton The Skeleton to animate.
+     * @param layers   The number of layers.
+     * @throws IllegalArgumentException When the skeleton is null or the number of layers is not positive.
+     */
+    public Animator(Skeleton skeleton, int layers) {
+        if (skeleton == null) {
+            throw new IllegalArgumentException("The skeleton can not be null.");
+        }
+        if (layers < 1) {
+            throw new IllegalArgumentException("An Animator must have at least one layer.");
+        }
+        this.skeleton = skeleton;
+        this.layers = new AnimationLayer[layers];
+        for (int i = 0; i < layers; i++) {
+            this.layers[i] = new AnimationLayer();
+        }
+        int bones = skeleton.getBoneCount();
+        pose = skeleton.getBindPose(new Pose(bones));
+        layerPose = new Pose(bones);
+        matrices = new float[bones * AffineTransforms.MATRIX];
+    }
+
+    /**
+     * Returns the Skeleton this Animator animates.
+     *
+     * @return The Skeleton.
+     */
+    public Skeleton getSkeleton() {
+        return skeleton;
+    }
+
+    /**
+     * Returns the layer at the given index, 0 being the bottom layer.
+     *
+     * @param index The index of the layer.
+     * @return The layer.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public AnimationLayer getLayer(int index) {
+        return layers[index];
+    }
+
+    /**
+     * Returns the number of layers of this Animator.
+     *
+     * @return The number of layers.
+     */
+    public int getLayerCount() {
+        return layers.length;
+    }
+
+    /**
+     * Advances the playback time of every active layer by the given time, scaled by the layer's speed.
+     *
+     * @param seconds The time to advance by.
+     */
+    public void advance(float seconds) {
+        for (AnimationLayer layer : layers) {
+            if (layer.clip != null) {
+                layer.time += seconds * layer.speed;
+            }
+        }
+    }
+
+    /**
+     * Returns the pose of the last evaluation. The returned Pose is reused by the next evaluation.
+     *
+     * @return The evaluated Pose.
+     */
+    public Pose getPose() {
+        return pose;
+    }
+
+    /**
+     * Returns the evaluated Pose after blending the active layers over the bind pose at their current times.
+     *
+     * @return The evaluated Pose, which is reused by the next evaluation.
+     * @throws IllegalStateException When the clip of a layer is for a different number of bones.
+     */
+    public Pose evaluate() {
+        Pose bindPose = skeleton.bindPose();
+        pose.set(bindPose);
+        for (AnimationLayer layer : layers) {
+            AnimationClip clip = layer.clip;
+            if (clip == null || layer.weight == 0) {
+                continue;
+            }
+            if (clip.getBoneCount() != skeleton.getBoneCount()) {
+                throw new IllegalStateException("A clip of " + clip.getBoneCount() + " bones can not animate a "
+                        + "skeleton of " + skeleton.getBoneCount() + ".");
+            }
+            if (layer.weight == 1 && layer.mask == null) {
+                // A full weight layer replaces everything below it, so it is sampled straight into the pose.
+                clip.sample(layer.time, layer.loop, pose.set(bindPose));
+            } else {
+                clip.sample(layer.time, layer.loop, layerPose.set(bindPose));
+                pose.blend(layerPose, layer.weight, layer.mask);
+            }
+        }
+        return pose;
+    }
+
+    /**
+     * Evaluates this Animator and writes its skinning matrix palette into the given buffer, 16 column major floats
+     * per bone starting at the given index. The buffer's position is not changed.
+     *
+     * @param dest  The buffer to write the palette into.
+     * @param index The index of the first float of the palette.
+     * @return The given buffer.
+     * @throws IllegalArgumentException  When the buffer is null.
+     * @throws IndexOutOfBoundsException When the palette does not fit in the buffer at the index.
+     * @throws IllegalStateException     When the clip of a layer is for a different number of bones.
+     */
+    public FloatBuffer writePalette(FloatBuffer dest, int index) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination buffer can not be null.");
+        }
+        if (index < 0 || index > dest.limit() - matrices.length) {
+            throw new IndexOutOfBoundsException("A palette of " + matrices.length + " floats at " + index
+                    + " does not fit in a buffer with limit " + dest.limit() + ".");
+        }
+        evaluate();
+        skeleton.globalTransforms(pose, matrices);
+        float[] inverseBindPose = skeleton.inverseBindPose;
+        for (int offset = 0; offset < matrices.length; offset += AffineTransforms.MATRIX) {
+            AffineTransforms.multiply(matrices, offset, inverseBindPose, offset, matrices, offset);
+        }
+        // A bulk put through a view copies the whole palette at once, rather than checking each absolute put.
+        dest.duplicate().position(index).put(matrices);
+        return dest;
+    }
+
+    /*
+     * The number of floats of the palette of this Animator.
+     */
+    int paletteSize() {
+        return matrices.length;
+    }
+}
@@ -0,0 +1,149 @@
+package org.clowdy.animation;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Builds the skinning matrix palettes of many Animators into a single packed FloatBuffer ready for upload, the
+ * palette of each Animator following the one before it. The Animators are split into ranges evaluated in parallel
+ * on a ForkJoinPool, each task writing its own disjoint part of the buffer through absolute puts.</p>
+ *
+ * <p>A PaletteBuilder keeps the offset of each palette between builds so building each frame does not allocate,
+ * and so must not be used by more than one thread at once.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class PaletteBuilder {
+    /**
+     * The number of Animators below which a range is evaluated on the calling thread rather than split further.
+     */
+    public static final int CHARACTERS_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+    // The index of the first float of each Animator's palette, with a final entry of the total size.
+    private int[] offsets = new int[1];
+
+    /**
+     * Constructs a PaletteBuilder that evaluates on the common ForkJoinPool.
+     */
+    public PaletteBuilder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a PaletteBuilder that evaluates on the given ForkJoinPool.
+     *
+     * @param pool The pool to evaluate on.
+     * @throws IllegalArgumentException When the pool is null.
+     */
+    public PaletteBuilder(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("The pool can not be null.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the number of floats of the palettes of the first count Animators, the size of the buffer they are
+     * built into.
+     *
+     * @param animators The Animators.
+     * @param count     The number of Animators.
+     * @return The number of floats of their palettes.
+     * @throws IllegalArgumentException When the array is null, contains null or the count is out of range.
+     */
+    public static int paletteSize(Animator[] animators, int count) {
+        checkAnimators(animators, count);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            size += animators[i].paletteSize();
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates the first count Animators and writes their palettes into the given buffer, one after another from
+     * index 0. The buffer's position is not changed.
+     *
+     * @param animators The Animators to evaluate.
+     * @param count     The number of Animators.
+     * @param dest      The buffer to write the palettes into.
+     * @return The given buffer.
+     * @throws IllegalArgumentException  When an input is null, the array contains null or the count is out of range.
+     * @throws IndexOutOfBoundsException When the palettes do not fit in the buffer.
+     * @throws IllegalStateException     When the clip of a layer is for a different number of bones.
+     */
+    public FloatBuffer build(Animator[] animators, int count, FloatBuffer dest) {
+        checkAnimators(animators, count);
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination buffer can not be null.");
+        }
+        if (offsets.length < count + 1) {
+            offsets = new int[Math.max(count + 1, offsets.length * 2)];
+        }
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] = offsets[i] + animators[i].paletteSize();
+        }
+        if (offsets[count] > dest.limit()) {
+            throw new IndexOutOfBoundsException("Palettes of " + offsets[count]
+                    + " floats do not fit in a buffer with limit " + dest.limit() + ".");
+        }
+        if (count <= CHARACTERS_PER_TASK) {
+            writePalettes(animators, offsets, 0, count, dest);
+        } else {
+            pool.invoke(new PaletteTask(animators, offsets, 0, count, dest));
+        }
+        return dest;
+    }
+
+    /*
+     * Writes the palettes of the Animators from the start up to the end, on the calling thread.
+     */
+    private static void writePalettes(Animator[] animators, int[] offsets, int start, int end, FloatBuffer dest) {
+        for (int i = start; i < end; i++) {
+            animators[i].writePalette(dest, offsets[i]);
+        }
+    }
+
+    private static void checkAnimators(Animator[] animators, int count) {
+        if (animators == null || count < 0 || count > animators.length) {
+            throw new IllegalArgumentException("The count must be within an array of Animators.");
+        }
+        for (int i = 0; i < count; i++) {
+            if (animators[i] == null) {
+                throw new IllegalArgumentException("The Animators can not be null.");
+            }
+        }
+    }
+
+    /*
+     * Halves its range of Animators until it is small enough to write on the current worker.
+     */
+    private static final class PaletteTask extends RecursiveAction {
+        private final Animator[] animators;
+        private final int[] offsets;
+        private final int start;
+        private final int end;
+        private final FloatBuffer dest;
+
+        private PaletteTask(Animator[] animators, int[] offsets, int start, int end, FloatBuffer dest) {
+            this.animators = animators;
+            this.offsets = offsets;
+            this.start = start;
+            this.end = end;
+            this.dest = dest;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CHARACTERS_PER_TASK) {
+                writePalettes(animators, offsets, start, end, dest);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new PaletteTask(animators, offsets, start, middle, dest),
+                    new PaletteTask(animators, offsets, middle, end, dest));
+        }
+    }
+}
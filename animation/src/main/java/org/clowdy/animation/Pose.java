@@ -0,0 +1,286 @@
+package org.clowdy.animation;
+
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+
+import java.util.Arrays;
+
+/**
+ * <p>The local transforms of every bone of a skeleton, relative to each bone's parent, as a translation, a rotation
+ * Quaternion and a scale. The transforms are packed into three float arrays, so a Pose of any number of bones is
+ * three objects and sampling or blending it is a loop over primitive arrays.</p>
+ *
+ * <p>Poses are blended a bone at a time: translation and scale linearly and rotation by normalised linear
+ * interpolation along the shortest path, with an optional per bone weight mask so a layer can drive only part of a
+ * skeleton, e.g. the upper body.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class Pose {
+    private final int bones;
+    // Packed xyz translations, xyzw rotations and xyz scales of each bone.
+    final float[] translations;
+    final float[] rotations;
+    final float[] scales;
+
+    /**
+     * Constructs a Pose of the given number of bones, each with the identity transform.
+     *
+     * @param bones The number of bones.
+     * @throws IllegalArgumentException When the number of bones is negative.
+     */
+    public Pose(int bones) {
+        if (bones < 0) {
+            throw new IllegalArgumentException("The number of bones can not be negative.");
+        }
+        this.bones = bones;
+        translations = new float[bones * 3];
+        rotations = new float[bones * 4];
+        scales = new float[bones * 3];
+        identity();
+    }
+
+    /**
+     * Constructs a Pose that clones a given Pose.
+     *
+     * @param pose The Pose to clone.
+     * @throws IllegalArgumentException When the input Pose is null.
+     */
+    public Pose(Pose pose) {
+        this(boneCountOf(pose));
+        set(pose);
+    }
+
+    /**
+     * Returns the number of bones of this Pose.
+     *
+     * @return The number of bones.
+     */
+    public int getBoneCount() {
+        return bones;
+    }
+
+    /**
+     * Returns this Pose after setting every bone to the identity transform.
+     *
+     * @return This Pose.
+     */
+    public Pose identity() {
+        Arrays.fill(translations, 0);
+        Arrays.fill(rotations, 0);
+        Arrays.fill(scales, 1);
+        for (int i = 3; i < rotations.length; i += 4) {
+            rotations[i] = 1;
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Pose after copying the transforms of the given Pose.
+     *
+     * @param pose The Pose to copy, of the same number of bones.
+     * @return This Pose.
+     * @throws IllegalArgumentException When the input Pose is null or of a different number of bones.
+     */
+    public Pose set(Pose pose) {
+        checkBones(pose);
+        System.arraycopy(pose.translations, 0, translations, 0, translations.length);
+        System.arraycopy(pose.rotations, 0, rotations, 0, rotations.length);
+        System.arraycopy(pose.scales, 0, scales, 0, scales.length);
+        return this;
+    }
+
+    /**
+     * Returns this Pose after setting the translation of the given bone.
+     *
+     * @param bone The index of the bone.
+     * @param x    The x component of the translation.
+     * @param y    The y component of the translation.
+     * @param z    The z component of the translation.
+     * @return This Pose.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Pose setTranslation(int bone, float x, float y, float z) {
+        int offset = checkBone(bone) * 3;
+        translations[offset] = x;
+        translations[offset + 1] = y;
+        translations[offset + 2] = z;
+        return this;
+    }
+
+    /**
+     * Returns this Pose after setting the rotation of the given bone.
+     *
+     * @param bone     The index of the bone.
+     * @param rotation The normalised rotation.
+     * @return This Pose.
+     * @throws IllegalArgumentException  When the rotation is null.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Pose setRotation(int bone, Quaternion rotation) {
+        if (rotation == null) {
+            throw new IllegalArgumentException("The input Quaternion can not be null.");
+        }
+        int offset = checkBone(bone) * 4;
+        rotations[offset] = rotation.x;
+        rotations[offset + 1] = rotation.y;
+        rotations[offset + 2] = rotation.z;
+        rotations[offset + 3] = rotation.w;
+        return this;
+    }
+
+    /**
+     * Returns this Pose after setting the scale of the given bone.
+     *
+     * @param bone The index of the bone.
+     * @param x    The scale along x.
+     * @param y    The scale along y.
+     * @param z    The scale along z.
+     * @return This Pose.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Pose setScale(int bone, float x, float y, float z) {
+        int offset = checkBone(bone) * 3;
+        scales[offset] = x;
+        scales[offset + 1] = y;
+        scales[offset + 2] = z;
+        return this;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the translation of the given bone.
+     *
+     * @param bone The index of the bone.
+     * @param dest The Vector3D to store the translation in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException  When the destination is null.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Vector3D getTranslation(int bone, Vector3D dest) {
+        return get(translations, bone, dest);
+    }
+
+    /**
+     * Returns the given Quaternion after setting it to the rotation of the given bone.
+     *
+     * @param bone The index of the bone.
+     * @param dest The Quaternion to store the rotation in.
+     * @return The given Quaternion.
+     * @throws IllegalArgumentException  When the destination is null.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Quaternion getRotation(int bone, Quaternion dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Quaternion can not be null.");
+        }
+        int offset = checkBone(bone) * 4;
+        return dest.set(rotations[offset], rotations[offset + 1], rotations[offset + 2], rotations[offset + 3]);
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the scale of the given bone.
+     *
+     * @param bone The index of the bone.
+     * @param dest The Vector3D to store the scale in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException  When the destination is null.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public Vector3D getScale(int bone, Vector3D dest) {
+        return get(scales, bone, dest);
+    }
+
+    /**
+     * Returns this Pose after blending every bone towards the given Pose by the given weight.
+     *
+     * @param target The Pose to blend towards.
+     * @param weight The blend weight, 0 leaving this Pose unchanged and 1 giving the target.
+     * @return This Pose.
+     * @throws IllegalArgumentException When the target is null or of a different number of bones.
+     */
+    public Pose blend(Pose target, float weight) {
+        return blend(target, weight, null);
+    }
+
+    /**
+     * Returns this Pose after blending each bone towards the given Pose by the given weight scaled by the bone's
+     * weight in the mask.
+     *
+     * @param target The Pose to blend towards.
+     * @param weight The blend weight, 0 leaving this Pose unchanged and 1 giving the target.
+     * @param mask   The weight of each bone, or null to blend every bone by the full weight.
+     * @return This Pose.
+     * @throws IllegalArgumentException When the target is null or of a different number of bones, or the mask is not
+     *                                  of one weight per bone.
+     */
+    public Pose blend(Pose target, float weight, float[] mask) {
+        checkBones(target);
+        if (mask != null && mask.length != bones) {
+            throw new IllegalArgumentException("The mask must have a weight for each of the " + bones + " bones.");
+        }
+        float[] t = target.translations;
+        float[] q = target.rotations;
+        float[] s = target.scales;
+        for (int bone = 0; bone < bones; bone++) {
+            float w = mask == null ? weight : weight * mask[bone];
+            if (w == 0) {
+                continue;
+            }
+            float keep = 1 - w;
+            for (int i = bone * 3, end = i + 3; i < end; i++) {
+                translations[i] = translations[i] * keep + t[i] * w;
+                scales[i] = scales[i] * keep + s[i] * w;
+            }
+            int r = bone * 4;
+            float dot = rotations[r] * q[r] + rotations[r + 1] * q[r + 1] + rotations[r + 2] * q[r + 2]
+                    + rotations[r + 3] * q[r + 3];
+            // q and -q are the same rotation, negating the target when needed takes the shorter path.
+            float targetWeight = dot < 0 ? -w : w;
+            nlerp(rotations, r, rotations[r] * keep + q[r] * targetWeight,
+                    rotations[r + 1] * keep + q[r + 1] * targetWeight,
+                    rotations[r + 2] * keep + q[r + 2] * targetWeight,
+                    rotations[r + 3] * keep + q[r + 3] * targetWeight);
+        }
+        return this;
+    }
+
+    /*
+     * Stores the normalised rotation at the given offset, leaving a zero rotation unnormalised.
+     */
+    static void nlerp(float[] rotations, int offset, float x, float y, float z, float w) {
+        float lengthSquared = x * x + y * y + z * z + w * w;
+        float scale = lengthSquared == 0 ? 1 : (float) (1 / Math.sqrt(lengthSquared));
+        rotations[offset] = x * scale;
+        rotations[offset + 1] = y * scale;
+        rotations[offset + 2] = z * scale;
+        rotations[offset + 3] = w * scale;
+    }
+
+    private Vector3D get(float[] values, int bone, Vector3D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector can not be null.");
+        }
+        int offset = checkBone(bone) * 3;
+        return dest.set(values[offset], values[offset + 1], values[offset + 2]);
+    }
+
+    private int checkBone(int bone) {
+        if (bone < 0 || bone >= bones) {
+            throw new IndexOutOfBoundsException("Bone " + bone + " is outside a pose of " + bones + " bones.");
+        }
+        return bone;
+    }
+
+    private void checkBones(Pose pose) {
+        if (boneCountOf(pose) != bones) {
+            throw new IllegalArgumentException("The input Pose must have " + bones + " bones.");
+        }
+    }
+
+    private static int boneCountOf(Pose pose) {
+        if (pose == null) {
+            throw new IllegalArgumentException("The input Pose can not be null.");
+        }
+        return pose.bones;
+    }
+}
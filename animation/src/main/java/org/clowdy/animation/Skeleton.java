@@ -0,0 +1,112 @@
+package org.clowdy.animation;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+
+import java.nio.FloatBuffer;
+
+/**
+ * <p>The hierarchy of bones shared by every character using the same rig. Each bone has the index of its parent,
+ * or -1 for a root, and parents come before their children, so the transforms of a whole skeleton are resolved in a
+ * single pass in bone order.</p>
+ *
+ * <p>The bind pose is the local transform of each bone when the mesh was bound to the skeleton. Its global
+ * transforms are inverted once on construction, and the skinning matrix of each bone is its animated global
+ * transform times its inverse bind transform.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class Skeleton {
+    private final int[] parents;
+    private final Pose bindPose;
+    // Inverse of the global bind transform of each bone, 16 column major floats per bone.
+    final float[] inverseBindPose;
+
+    /**
+     * Constructs a Skeleton of the given parents and local bind pose.
+     *
+     * @param parents  The index of the parent of each bone, -1 for a root. Every parent must come before its
+     *                 children.
+     * @param bindPose The local transform of each bone in the bind pose, it is copied.
+     * @throws IllegalArgumentException When either input is null, the bind pose has a different number of bones or a
+     *                                  parent does not come before its child.
+     */
+    public Skeleton(int[] parents, Pose bindPose) {
+        if (parents == null || bindPose == null) {
+            throw new IllegalArgumentException("The parents and bind pose can not be null.");
+        }
+        int bones = parents.length;
+        if (bindPose.getBoneCount() != bones) {
+            throw new IllegalArgumentException("The bind pose must have " + bones + " bones.");
+        }
+        for (int bone = 0; bone < bones; bone++) {
+            if (parents[bone] < -1 || parents[bone] >= bone) {
+                throw new IllegalArgumentException("The parent of bone " + bone
+                        + " must be -1 or a bone before it.");
+            }
+        }
+        this.parents = parents.clone();
+        this.bindPose = new Pose(bindPose);
+        inverseBindPose = new float[bones * AffineTransforms.MATRIX];
+        globalTransforms(this.bindPose, inverseBindPose);
+        FloatBuffer buffer = FloatBuffer.wrap(inverseBindPose);
+        Matrix4x4 matrix = new Matrix4x4();
+        for (int offset = 0; offset < inverseBindPose.length; offset += AffineTransforms.MATRIX) {
+            matrix.load(buffer, offset).inverse().get(buffer, offset);
+        }
+    }
+
+    /**
+     * Returns the number of bones of this Skeleton.
+     *
+     * @return The number of bones.
+     */
+    public int getBoneCount() {
+        return parents.length;
+    }
+
+    /**
+     * Returns the index of the parent of the given bone, -1 for a root.
+     *
+     * @param bone The index of the bone.
+     * @return The index of its parent.
+     * @throws IndexOutOfBoundsException When the bone is out of range.
+     */
+    public int getParent(int bone) {
+        return parents[bone];
+    }
+
+    /**
+     * Returns the given Pose after setting it to the bind pose of this Skeleton.
+     *
+     * @param dest The Pose to store the bind pose in.
+     * @return The given Pose.
+     * @throws IllegalArgumentException When the destination is null or of a different number of bones.
+     */
+    public Pose getBindPose(Pose dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Pose can not be null.");
+        }
+        return dest.set(bindPose);
+    }
+
+    /*
+     * Sets the global transform of each bone of the given pose into the destination, 16 floats per bone, by
+     * multiplying each local transform by the already resolved global transform of its parent.
+     */
+    void globalTransforms(Pose pose, float[] dest) {
+        for (int bone = 0, offset = 0; bone < parents.length; bone++, offset += AffineTransforms.MATRIX) {
+            AffineTransforms.compose(pose, bone, dest, offset);
+            int parent = parents[bone];
+            if (parent != -1) {
+                AffineTransforms.multiply(dest, parent * AffineTransforms.MATRIX, dest, offset, dest, offset);
+            }
+        }
+    }
+
+    /*
+     * The bind pose, for the Animator to reset to without copying through getBindPose.
+     */
+    Pose bindPose() {
+        return bindPose;
+    }
+}
@@ -0,0 +1,65 @@
+package org.clowdy.animation;
+
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnimationClipTest {
+    private static final float PRECISION = 0.0001f;
+
+    private final Quaternion quarterTurn = new Quaternion().fromAxisAngle(0, 1, 0, (float) Math.PI / 2);
+    private final AnimationClip clip = AnimationClip.builder(2, 2)
+            .translation(0, new float[]{0, 1, 2}, new float[]{0, 0, 0, 2, 4, 6, 0, 0, 0})
+            .rotation(0, new float[]{0, 2}, new float[]{0, 0, 0, 1,
+                    quarterTurn.x, quarterTurn.y, quarterTurn.z, quarterTurn.w})
+            .scale(1, new float[]{0.5f}, new float[]{3, 3, 3})
+            .build();
+    private final Pose pose = new Pose(2);
+
+    @Test
+    public void translationIsInterpolatedBetweenKeys() {
+        clip.sample(0.5f, false, pose);
+        assertEquals(new Vector3D(1, 2, 3), pose.getTranslation(0, new Vector3D()));
+        clip.sample(1.5f, false, pose);
+        assertEquals(new Vector3D(1, 2, 3), pose.getTranslation(0, new Vector3D()));
+    }
+
+    @Test
+    public void rotationIsInterpolatedAndNormalised() {
+        clip.sample(1, false, pose);
+        Quaternion rotation = pose.getRotation(0, new Quaternion());
+        assertEquals(1, rotation.length(), PRECISION);
+        assertEquals(Math.PI / 4, rotation.getAngle(), 0.001f);
+    }
+
+    @Test
+    public void timeIsClampedOrLooped() {
+        clip.sample(3, false, pose);
+        assertEquals(Math.PI / 2, pose.getRotation(0, new Quaternion()).getAngle(), 0.001f);
+        clip.sample(2.5f, true, pose);
+        assertEquals(new Vector3D(1, 2, 3), pose.getTranslation(0, new Vector3D()));
+        clip.sample(-1.5f, true, pose);
+        assertEquals(new Vector3D(1, 2, 3), pose.getTranslation(0, new Vector3D()));
+    }
+
+    @Test
+    public void singleKeyHoldsAndChannelsWithoutKeysAreUnchanged() {
+        pose.setTranslation(1, 7, 8, 9);
+        clip.sample(1.2f, true, pose);
+        assertEquals(new Vector3D(3, 3, 3), pose.getScale(1, new Vector3D()));
+        assertEquals(new Vector3D(7, 8, 9), pose.getTranslation(1, new Vector3D()));
+        assertEquals(new Vector3D(1, 1, 1), pose.getScale(0, new Vector3D()));
+    }
+
+    @Test
+    public void invalidKeysThrow() {
+        AnimationClip.Builder builder = AnimationClip.builder(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> builder.translation(0, new float[]{0, 1}, new float[3]));
+        assertThrows(IllegalArgumentException.class, () -> builder.scale(0, new float[]{1, 1}, new float[6]));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.rotation(1, new float[]{0}, new float[4]));
+        assertThrows(IllegalArgumentException.class, () -> AnimationClip.builder(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> clip.sample(0, true, new Pose(3)));
+    }
+}
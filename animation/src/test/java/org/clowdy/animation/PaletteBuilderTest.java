@@ -0,0 +1,123 @@
+package org.clowdy.animation;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaletteBuilderTest {
+    private static final float PRECISION = 0.0001f;
+
+    // A chain of three bones, each one unit along x from its parent.
+    private final Skeleton skeleton = new Skeleton(new int[]{-1, 0, 1},
+            new Pose(3).setTranslation(1, 1, 0, 0).setTranslation(2, 1, 0, 0));
+    private final AnimationClip bend = AnimationClip.builder(3, 1)
+            .rotation(1, new float[]{0, 1}, rotations(0, (float) Math.PI))
+            .translation(0, new float[]{0, 1}, new float[]{0, 0, 0, 0, 10, 0})
+            .scale(2, new float[]{0}, new float[]{2, 2, 2})
+            .build();
+
+    private static float[] rotations(float from, float to) {
+        Quaternion a = new Quaternion().fromAxisAngle(0, 0, 1, from);
+        Quaternion b = new Quaternion().fromAxisAngle(0, 0, 1, to);
+        return new float[]{a.x, a.y, a.z, a.w, b.x, b.y, b.z, b.w};
+    }
+
+    private static void assertMatrixEquals(Matrix4x4 expected, Matrix4x4 actual) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                assertEquals(expected.get(r, c), actual.get(r, c), PRECISION);
+            }
+        }
+    }
+
+    @Test
+    public void bindPosePaletteIsIdentity() {
+        FloatBuffer palette = new Animator(skeleton, 1).writePalette(FloatBuffer.allocate(48), 0);
+        Matrix4x4 identity = new Matrix4x4().identity();
+        for (int bone = 0; bone < 3; bone++) {
+            assertMatrixEquals(identity, new Matrix4x4().load(palette, bone * 16));
+        }
+    }
+
+    @Test
+    public void paletteMatchesMatrixComposition() {
+        Animator animator = new Animator(skeleton, 1);
+        animator.getLayer(0).play(bend).time = 0.5f;
+        FloatBuffer palette = animator.writePalette(FloatBuffer.allocate(48), 0);
+        Pose pose = bend.sample(0.5f, true, skeleton.getBindPose(new Pose(3)));
+        Matrix4x4 global = new Matrix4x4().identity();
+        Matrix4x4 bindGlobal = new Matrix4x4().identity();
+        Matrix4x4 local = new Matrix4x4();
+        Quaternion rotation = new Quaternion();
+        Vector3D vector = new Vector3D();
+        for (int bone = 0; bone < 3; bone++) {
+            pose.getRotation(bone, rotation).toMatrix(local);
+            pose.getTranslation(bone, vector);
+            local.set(0, 3, vector.x).set(1, 3, vector.y).set(2, 3, vector.z);
+            pose.getScale(bone, vector);
+            local.multiply(new Matrix4x4(vector.x, 0, 0, 0, 0, vector.y, 0, 0, 0, 0, vector.z, 0, 0, 0, 0, 1));
+            global.multiply(local);
+            bindGlobal.multiply(new Matrix4x4(1, 0, 0, bone == 0 ? 0 : 1, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1));
+            Matrix4x4 expected = new Matrix4x4(global).multiply(new Matrix4x4(bindGlobal).inverse());
+            assertMatrixEquals(expected, new Matrix4x4().load(palette, bone * 16));
+        }
+    }
+
+    @Test
+    public void layersBlendOverTheLayersBelow() {
+        Animator animator = new Animator(skeleton, 2);
+        animator.getLayer(0).play(bend);
+        AnimationLayer upper = animator.getLayer(1).play(bend);
+        upper.time = 1;
+        upper.loop = false;
+        upper.weight = 0.5f;
+        upper.mask = new float[]{1, 0, 0};
+        animator.advance(0);
+        Pose pose = animator.evaluate();
+        assertEquals(5, pose.getTranslation(0, new Vector3D()).y, PRECISION);
+        assertEquals(0, pose.getRotation(1, new Quaternion()).getAngle(), PRECISION);
+    }
+
+    @Test
+    public void parallelBuildMatchesEachAnimator() {
+        int count = 200;
+        Animator[] animators = new Animator[count];
+        for (int i = 0; i < count; i++) {
+            animators[i] = new Animator(skeleton, 1);
+            animators[i].getLayer(0).play(bend).time = i * 0.01f;
+        }
+        FloatBuffer parallel = FloatBuffer.allocate(PaletteBuilder.paletteSize(animators, count));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new PaletteBuilder(pool).build(animators, count, parallel);
+        } finally {
+            pool.shutdown();
+        }
+        FloatBuffer single = FloatBuffer.allocate(48);
+        for (int i = 0; i < count; i++) {
+            animators[i].writePalette(single, 0);
+            for (int j = 0; j < 48; j++) {
+                assertEquals(single.get(j), parallel.get(i * 48 + j));
+            }
+        }
+        assertEquals(0, parallel.position());
+    }
+
+    @Test
+    public void invalidInputThrows() {
+        Animator[] animators = {new Animator(skeleton, 1), null};
+        PaletteBuilder builder = new PaletteBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.build(animators, 2, FloatBuffer.allocate(96)));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.build(animators, 1, FloatBuffer.allocate(47)));
+        assertThrows(IllegalArgumentException.class, () -> new Skeleton(new int[]{-1, 2, 0}, new Pose(3)));
+        Animator animator = new Animator(skeleton, 1);
+        animator.getLayer(0).play(AnimationClip.builder(2, 1).build());
+        assertThrows(IllegalStateException.class, animator::evaluate);
+    }
+}
@@ -0,0 +1,58 @@
+package org.clowdy.animation;
+
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PoseTest {
+    private static final float PRECISION = 0.0001f;
+
+    @Test
+    public void newPoseIsIdentity() {
+        Pose pose = new Pose(1);
+        assertEquals(new Vector3D(), pose.getTranslation(0, new Vector3D()));
+        assertEquals(new Quaternion().identity(), pose.getRotation(0, new Quaternion()));
+        assertEquals(new Vector3D(1), pose.getScale(0, new Vector3D()));
+    }
+
+    @Test
+    public void blendInterpolatesEachBone() {
+        Pose pose = new Pose(1);
+        Pose target = new Pose(1).setTranslation(0, 4, 0, 0).setScale(0, 3, 3, 3)
+                .setRotation(0, new Quaternion().fromAxisAngle(0, 0, 1, (float) Math.PI / 2));
+        pose.blend(target, 0.5f);
+        assertEquals(new Vector3D(2, 0, 0), pose.getTranslation(0, new Vector3D()));
+        assertEquals(new Vector3D(2, 2, 2), pose.getScale(0, new Vector3D()));
+        Quaternion rotation = pose.getRotation(0, new Quaternion());
+        assertEquals(1, rotation.length(), PRECISION);
+        assertEquals(Math.PI / 4, rotation.getAngle(), 0.001f);
+    }
+
+    @Test
+    public void blendTakesTheShortestPath() {
+        Pose pose = new Pose(1);
+        Quaternion negated = new Quaternion().fromAxisAngle(1, 0, 0, 0.5f).multiply(-1);
+        pose.blend(new Pose(1).setRotation(0, negated), 0.5f);
+        assertEquals(0.25f, pose.getRotation(0, new Quaternion()).getAngle(), 0.001f);
+    }
+
+    @Test
+    public void blendMaskScalesEachBone() {
+        Pose pose = new Pose(3);
+        Pose target = new Pose(3).setTranslation(0, 1, 1, 1).setTranslation(1, 1, 1, 1).setTranslation(2, 1, 1, 1);
+        pose.blend(target, 0.5f, new float[]{0, 1, 0.5f});
+        assertEquals(new Vector3D(), pose.getTranslation(0, new Vector3D()));
+        assertEquals(new Vector3D(0.5f), pose.getTranslation(1, new Vector3D()));
+        assertEquals(new Vector3D(0.25f), pose.getTranslation(2, new Vector3D()));
+    }
+
+    @Test
+    public void mismatchedPosesThrow() {
+        Pose pose = new Pose(2);
+        assertThrows(IllegalArgumentException.class, () -> pose.set(new Pose(3)));
+        assertThrows(IllegalArgumentException.class, () -> pose.blend(new Pose(2), 1, new float[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> pose.setTranslation(2, 0, 0, 0));
+    }
+}
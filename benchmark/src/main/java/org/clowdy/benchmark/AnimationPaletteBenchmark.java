@@ -0,0 +1,137 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.animation.AnimationClip;
+import org.clowdy.animation.AnimationLayer;
+import org.clowdy.animation.Animator;
+import org.clowdy.animation.PaletteBuilder;
+import org.clowdy.animation.Pose;
+import org.clowdy.animation.Skeleton;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures building the skinning palettes of a crowd of characters with two animation layers each. The
+ * PaletteBuilder is measured on a single worker and on the common pool, against resolving each bone through
+ * Quaternion and Matrix4x4 objects created per bone.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimationPaletteBenchmark {
+    private static final int BONES = 60;
+    private static final int KEYS = 30;
+
+    @Param({"1000"})
+    private int characters;
+
+    private Skeleton skeleton;
+    private Animator[] animators;
+    private FloatBuffer palette;
+    private ForkJoinPool single;
+    private PaletteBuilder singleBuilder;
+    private PaletteBuilder parallelBuilder;
+    private int[] parents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        parents = new int[BONES];
+        Pose bindPose = new Pose(BONES);
+        for (int bone = 0; bone < BONES; bone++) {
+            parents[bone] = bone == 0 ? -1 : random.nextInt(bone);
+            bindPose.setTranslation(bone, 0, 0.2f, 0);
+        }
+        skeleton = new Skeleton(parents, bindPose);
+        AnimationClip walk = clip(random);
+        AnimationClip wave = clip(random);
+        float[] mask = new float[BONES];
+        for (int bone = BONES / 2; bone < BONES; bone++) {
+            mask[bone] = 1;
+        }
+        animators = new Animator[characters];
+        for (int i = 0; i < characters; i++) {
+            animators[i] = new Animator(skeleton, 2);
+            animators[i].getLayer(0).play(walk).time = random.nextFloat();
+            AnimationLayer upper = animators[i].getLayer(1).play(wave);
+            upper.weight = 0.7f;
+            upper.mask = mask;
+        }
+        palette = ByteBuffer.allocateDirect(PaletteBuilder.paletteSize(animators, characters) * Float.BYTES)
+                .order(ByteOrder.nativeOrder()).asFloatBuffer();
+        single = new ForkJoinPool(1);
+        singleBuilder = new PaletteBuilder(single);
+        parallelBuilder = new PaletteBuilder();
+    }
+
+    private static AnimationClip clip(Random random) {
+        AnimationClip.Builder builder = AnimationClip.builder(BONES, 1);
+        float[] times = new float[KEYS];
+        for (int key = 0; key < KEYS; key++) {
+            times[key] = key / (float) (KEYS - 1);
+        }
+        Quaternion rotation = new Quaternion();
+        for (int bone = 0; bone < BONES; bone++) {
+            float[] rotations = new float[KEYS * 4];
+            for (int key = 0; key < KEYS; key++) {
+                rotation.fromAxisAngle(random.nextFloat(), random.nextFloat(), random.nextFloat() + 0.1f,
+                        random.nextFloat());
+                rotations[key * 4] = rotation.x;
+                rotations[key * 4 + 1] = rotation.y;
+                rotations[key * 4 + 2] = rotation.z;
+                rotations[key * 4 + 3] = rotation.w;
+            }
+            builder.rotation(bone, times, rotations);
+        }
+        builder.translation(0, times, new float[KEYS * 3]);
+        return builder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    @Benchmark
+    public FloatBuffer perBoneObjects() {
+        int index = 0;
+        for (Animator animator : animators) {
+            Pose pose = animator.evaluate();
+            Matrix4x4[] globals = new Matrix4x4[BONES];
+            for (int bone = 0; bone < BONES; bone++) {
+                Matrix4x4 local = pose.getRotation(bone, new Quaternion()).toMatrix(new Matrix4x4());
+                Vector3D translation = pose.getTranslation(bone, new Vector3D());
+                local.set(0, 3, translation.x).set(1, 3, translation.y).set(2, 3, translation.z);
+                Vector3D scale = pose.getScale(bone, new Vector3D());
+                local.multiply(new Matrix4x4(scale.x, 0, 0, 0, 0, scale.y, 0, 0, 0, 0, scale.z, 0, 0, 0, 0, 1));
+                globals[bone] = parents[bone] == -1 ? local : new Matrix4x4(globals[parents[bone]]).multiply(local);
+                globals[bone].get(palette, index);
+                index += 16;
+            }
+        }
+        return palette;
+    }
+
+    @Benchmark
+    public FloatBuffer paletteBuilderSingle() {
+        return singleBuilder.build(animators, characters, palette);
+    }
+
+    @Benchmark
+    public FloatBuffer paletteBuilderParallel() {
+        return parallelBuilder.build(animators, characters, palette);
+    }
+}
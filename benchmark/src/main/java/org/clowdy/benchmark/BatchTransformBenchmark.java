@@ -0,0 +1,84 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.batch.BatchKernels;
+import org.clowdy.maths.batch.Vector3Array;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures transforming a batch of positions by a Matrix4x4 one Vector3D at a time against the scalar and the
+ * selected BatchKernels over a packed Vector3Array.</p>
+ *
+ * <p>The selected kernels are only the Vector API kernels when the forked JVM has the incubator module, run with
+ * -jvmArgsAppend --add-modules=jdk.incubator.vector on Java 17 or later to measure them.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchTransformBenchmark {
+    @Param({"1024", "65536"})
+    private int size;
+
+    private final Matrix4x4 matrix = new Matrix4x4(
+            0, -2, 0, 5,
+            3, 0, 1, -1,
+            0, 1, 0.5f, 7,
+            0, 0, 0, 1);
+    private final float[] elements = new float[12];
+    private Vector3D[] vectors;
+    private Vector3D[] transformed;
+    private Vector3Array source;
+    private Vector3Array dest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new Vector3D[size];
+        transformed = new Vector3D[size];
+        source = new Vector3Array(size);
+        dest = new Vector3Array(size);
+        for (int i = 0; i < size; i++) {
+            vectors[i] = new Vector3D(random.nextFloat(), random.nextFloat(), random.nextFloat());
+            transformed[i] = new Vector3D();
+            source.set(i, vectors[i]);
+        }
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 4; column++) {
+                elements[row * 4 + column] = matrix.get(row, column);
+            }
+        }
+    }
+
+    @Benchmark
+    public Vector3D[] perObject() {
+        float[] m = elements;
+        for (int i = 0; i < size; i++) {
+            Vector3D v = vectors[i];
+            transformed[i].set(m[0] * v.x + m[1] * v.y + m[2] * v.z + m[3],
+                    m[4] * v.x + m[5] * v.y + m[6] * v.z + m[7],
+                    m[8] * v.x + m[9] * v.y + m[10] * v.z + m[11]);
+        }
+        return transformed;
+    }
+
+    @Benchmark
+    public Vector3Array scalarKernels() {
+        BatchKernels.scalar().transformPositions(matrix, source, dest);
+        return dest;
+    }
+
+    @Benchmark
+    public Vector3Array selectedKernels() {
+        BatchKernels.get().transformPositions(matrix, source, dest);
+        return dest;
+    }
+}
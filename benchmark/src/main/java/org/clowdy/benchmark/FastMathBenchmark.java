@@ -0,0 +1,103 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.FastMath;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the FastMath approximations against java.lang.Math, and normalising and finding the angle between a
+ * batch of vectors exactly against the fast versions.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastMathBenchmark {
+    private static final int SIZE = 4096;
+
+    private final float[] values = new float[SIZE];
+    private final float[] results = new float[SIZE];
+    private final Vector3D[] vectors = new Vector3D[SIZE];
+    private final Vector3D[] others = new Vector3D[SIZE];
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextFloat() * 2 - 1;
+            vectors[i] = new Vector3D(random.nextFloat() + 1, random.nextFloat(), random.nextFloat());
+            others[i] = new Vector3D(random.nextFloat(), random.nextFloat() + 1, random.nextFloat());
+        }
+    }
+
+    @Benchmark
+    public float[] mathAcos() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = (float) Math.acos(values[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public float[] fastAcos() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = FastMath.acos(values[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public float[] mathSin() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = (float) Math.sin(values[i] * 100);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public float[] fastSin() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = FastMath.sin(values[i] * 100);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public Vector3D[] normalise() {
+        for (Vector3D vector : vectors) {
+            vector.normalise();
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public Vector3D[] normaliseFast() {
+        for (Vector3D vector : vectors) {
+            vector.normaliseFast();
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public float[] angle() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = vectors[i].angle(others[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public float[] angleFast() {
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = vectors[i].angleFast(others[i]);
+        }
+        return results;
+    }
+}
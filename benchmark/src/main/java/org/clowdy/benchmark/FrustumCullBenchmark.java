@@ -0,0 +1,96 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.geometry.AABB;
+import org.clowdy.maths.geometry.AABBArray;
+import org.clowdy.maths.geometry.BoundingSphere;
+import org.clowdy.maths.geometry.BoundingSphereArray;
+import org.clowdy.maths.geometry.Frustum;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures culling a scene of bounds against a Frustum one BoundingSphere or AABB object at a time against the
+ * packed BoundingSphereArray and AABBArray culling, both writing the same visibility bitmask.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrustumCullBenchmark {
+    @Param({"200000"})
+    private int size;
+
+    private final Frustum frustum = new Frustum(new Matrix4x4(
+            1, 0, 0, 0,
+            0, 1, 0, 0,
+            0, 0, -1.0002f, -0.20002f,
+            0, 0, -1, 0));
+    private BoundingSphere[] sphereObjects;
+    private AABB[] boxObjects;
+    private BoundingSphereArray spheres;
+    private AABBArray boxes;
+    private long[] visibility;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        sphereObjects = new BoundingSphere[size];
+        boxObjects = new AABB[size];
+        spheres = new BoundingSphereArray(size);
+        boxes = new AABBArray(size);
+        visibility = new long[(size + 63) / 64];
+        for (int i = 0; i < size; i++) {
+            Vector3D centre = new Vector3D(random.nextFloat() * 2000 - 1000, random.nextFloat() * 2000 - 1000,
+                    random.nextFloat() * 2000 - 1000);
+            float extent = random.nextFloat() * 5;
+            sphereObjects[i] = new BoundingSphere(centre, extent);
+            boxObjects[i] = new AABB(new Vector3D(centre.x - extent, centre.y - extent, centre.z - extent),
+                    new Vector3D(centre.x + extent, centre.y + extent, centre.z + extent));
+            spheres.set(i, sphereObjects[i]);
+            boxes.set(i, boxObjects[i]);
+        }
+    }
+
+    @Benchmark
+    public long[] perObjectSpheres() {
+        Arrays.fill(visibility, 0);
+        for (int i = 0; i < size; i++) {
+            if (frustum.intersects(sphereObjects[i])) {
+                visibility[i >>> 6] |= 1L << i;
+            }
+        }
+        return visibility;
+    }
+
+    @Benchmark
+    public long[] packedSpheres() {
+        frustum.cull(spheres, visibility);
+        return visibility;
+    }
+
+    @Benchmark
+    public long[] perObjectBoxes() {
+        Arrays.fill(visibility, 0);
+        for (int i = 0; i < size; i++) {
+            if (frustum.intersects(boxObjects[i])) {
+                visibility[i >>> 6] |= 1L << i;
+            }
+        }
+        return visibility;
+    }
+
+    @Benchmark
+    public long[] packedBoxes() {
+        frustum.cull(boxes, visibility);
+        return visibility;
+    }
+}
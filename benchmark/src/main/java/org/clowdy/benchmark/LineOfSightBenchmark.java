@@ -0,0 +1,101 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.geometry.AABB;
+import org.clowdy.maths.geometry.AABBArray;
+import org.clowdy.maths.geometry.Ray;
+import org.clowdy.maths.geometry.RayHit;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one tick of line of sight checks, each agent casting a segment to the player through a field of box
+ * obstacles, testing one AABB object at a time against the packed AABBArray queries. The any queries stop at the
+ * first obstacle hit, the nearest queries test every obstacle.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineOfSightBenchmark {
+    private static final int AGENTS = 500;
+
+    @Param({"1000"})
+    private int obstacles;
+
+    private final Vector3D player = new Vector3D(0, 1, 0);
+    private final Ray ray = new Ray();
+    private final RayHit hit = new RayHit();
+    private final boolean[] visible = new boolean[AGENTS];
+    private Vector3D[] agents;
+    private AABB[] boxObjects;
+    private AABBArray boxes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        agents = new Vector3D[AGENTS];
+        for (int i = 0; i < AGENTS; i++) {
+            agents[i] = new Vector3D(random.nextFloat() * 400 - 200, 1, random.nextFloat() * 400 - 200);
+        }
+        boxObjects = new AABB[obstacles];
+        boxes = new AABBArray(obstacles);
+        for (int i = 0; i < obstacles; i++) {
+            float x = random.nextFloat() * 400 - 200, z = random.nextFloat() * 400 - 200;
+            float size = random.nextFloat() * 4 + 1;
+            boxObjects[i] = new AABB(new Vector3D(x - size, 0, z - size), new Vector3D(x + size, 3, z + size));
+            boxes.set(i, boxObjects[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean[] perObject() {
+        for (int i = 0; i < AGENTS; i++) {
+            ray.setSegment(agents[i], player);
+            boolean blocked = false;
+            for (AABB box : boxObjects) {
+                if (ray.intersect(box) < 1) {
+                    blocked = true;
+                    break;
+                }
+            }
+            visible[i] = !blocked;
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public boolean[] perObjectNearest() {
+        for (int i = 0; i < AGENTS; i++) {
+            ray.setSegment(agents[i], player);
+            float nearest = 1;
+            for (AABB box : boxObjects) {
+                nearest = Math.min(nearest, ray.intersect(box));
+            }
+            visible[i] = nearest == 1;
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public boolean[] packedAny() {
+        for (int i = 0; i < AGENTS; i++) {
+            visible[i] = !ray.setSegment(agents[i], player).any(boxes, 1);
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public boolean[] packedNearest() {
+        for (int i = 0; i < AGENTS; i++) {
+            visible[i] = !ray.setSegment(agents[i], player).nearest(boxes, 1, hit);
+        }
+        return visible;
+    }
+}
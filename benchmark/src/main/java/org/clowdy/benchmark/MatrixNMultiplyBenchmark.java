@@ -0,0 +1,95 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.matrix.MatrixN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures the product of two dense MatrixN instances with the generic row at a time loop of AbstractMatrix,
+ * against the cache blocked product on a single thread and split between the tasks of the common pool.</p>
+ *
+ * <p>The parallel product only differs from the single threaded one from MatrixN.PARALLEL_THRESHOLD rows.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixNMultiplyBenchmark {
+    @Param({"64", "256", "512"})
+    private int n;
+
+    private MatrixN left;
+    private MatrixN right;
+    private MatrixN dest;
+    private float[] leftData;
+    private float[] rightData;
+    private float[] destData;
+    private ForkJoinPool single;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        left = new MatrixN(n);
+        right = new MatrixN(n);
+        dest = new MatrixN(n);
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                left.set(r, c, random.nextFloat());
+                right.set(r, c, random.nextFloat());
+            }
+        }
+        leftData = new float[n * n];
+        rightData = new float[n * n];
+        destData = new float[n * n];
+        for (int c = 0; c < n; c++) {
+            for (int r = 0; r < n; r++) {
+                leftData[c * n + r] = left.get(r, c);
+                rightData[c * n + r] = right.get(r, c);
+            }
+        }
+        single = new ForkJoinPool(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    /*
+     * The generic product of AbstractMatrix, a row at a time with the left matrix read across its columns.
+     */
+    @Benchmark
+    public float[] generic() {
+        float[] row = new float[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                float sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += leftData[k * n + r] * rightData[c * n + k];
+                }
+                row[c] = sum;
+            }
+            for (int c = 0; c < n; c++) {
+                destData[c * n + r] = row[c];
+            }
+        }
+        return destData;
+    }
+
+    @Benchmark
+    public MatrixN blocked() {
+        return MatrixN.multiply(left, right, dest, single);
+    }
+
+    @Benchmark
+    public MatrixN parallel() {
+        return MatrixN.multiply(left, right, dest);
+    }
+}
@@ -0,0 +1,65 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.noise.FractalNoise;
+import org.clowdy.maths.noise.Noise;
+import org.clowdy.maths.noise.NoiseGrid;
+import org.clowdy.maths.noise.PerlinNoise;
+import org.clowdy.maths.noise.SimplexNoise;
+import org.clowdy.maths.noise.ValueNoise;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures filling a 512x512 heightmap chunk with each Noise through NoiseGrid, on a single threaded pool and
+ * split between the tasks of the common pool.</p>
+ *
+ * <p>The single threaded pool still goes through the tasks, so the difference between the two is the speed up of
+ * the parallel fill alone.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseGridBenchmark {
+    private static final int SIZE = 512;
+    private static final float STEP = 1f / 64;
+
+    @Param({"value", "perlin", "simplex", "fbm6", "ridged6"})
+    private String noiseType;
+
+    private final float[] heights = new float[SIZE * SIZE];
+    private final ForkJoinPool single = new ForkJoinPool(1);
+    private Noise noise;
+
+    @Setup
+    public void setUp() {
+        switch (noiseType) {
+            case "value": noise = new ValueNoise(42); break;
+            case "perlin": noise = new PerlinNoise(42); break;
+            case "simplex": noise = new SimplexNoise(42); break;
+            case "fbm6": noise = FractalNoise.fbm(new SimplexNoise(42), 6, 2, 0.5f); break;
+            default: noise = FractalNoise.ridged(new SimplexNoise(42), 6, 2, 0.5f);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    @Benchmark
+    public float[] fillSingle() {
+        return NoiseGrid.fill(noise, heights, SIZE, SIZE, 0, 0, STEP, single);
+    }
+
+    @Benchmark
+    public float[] fillParallel() {
+        return NoiseGrid.fill(noise, heights, SIZE, SIZE, 0, 0, STEP);
+    }
+}
@@ -0,0 +1,78 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.batch.Vector3Array;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.maths.world.OriginRebaser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures shifting every position in the world by a rebase of the origin, one Vector3D at a time against an
+ * OriginRebaser over a packed Vector3Array, sequentially and split between the tasks of the common pool.</p>
+ *
+ * <p>Each operation rebases forwards then back so the positions stay in range across iterations.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OriginRebaseBenchmark {
+    @Param({"65536", "1048576"})
+    private int size;
+
+    private final Vector3D shift = new Vector3D(2048, -1024, 512);
+    private final Vector3D back = new Vector3D(-2048, 1024, -512);
+    private Vector3D[] vectors;
+    private OriginRebaser sequential;
+    private OriginRebaser parallel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new Vector3D[size];
+        Vector3Array sequentialPositions = new Vector3Array(size);
+        Vector3Array parallelPositions = new Vector3Array(size);
+        for (int i = 0; i < size; i++) {
+            vectors[i] = new Vector3D(random.nextFloat() * 1024, random.nextFloat() * 1024, random.nextFloat() * 1024);
+            sequentialPositions.set(i, vectors[i]);
+        }
+        parallelPositions.set(sequentialPositions);
+        // A single threaded pool still goes through the tasks, isolating their overhead from the shift itself.
+        sequential = new OriginRebaser(1024, 256, new ForkJoinPool(1));
+        sequential.register(sequentialPositions);
+        parallel = new OriginRebaser(1024, 256);
+        parallel.register(parallelPositions);
+    }
+
+    @Benchmark
+    public Vector3D[] perObject() {
+        for (Vector3D vector : vectors) {
+            vector.subtract(shift);
+        }
+        for (Vector3D vector : vectors) {
+            vector.subtract(back);
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public OriginRebaser packedSingle() {
+        sequential.rebase(shift.x, shift.y, shift.z);
+        sequential.rebase(back.x, back.y, back.z);
+        return sequential;
+    }
+
+    @Benchmark
+    public OriginRebaser packedParallel() {
+        parallel.rebase(shift.x, shift.y, shift.z);
+        parallel.rebase(back.x, back.y, back.z);
+        return parallel;
+    }
+}
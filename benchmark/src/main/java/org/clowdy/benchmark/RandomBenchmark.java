@@ -0,0 +1,60 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.util.random.FastRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures filling an array with random floats from java.util.Random, ThreadLocalRandom and FastRandom, one
+ * nextFloat at a time and through the bulk fill of FastRandom.</p>
+ *
+ * <p>The shared Random is called from every benchmark thread, run with -t to measure its contention.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomBenchmark {
+    private static final int SIZE = 65536;
+    private static final Random SHARED = new Random(42);
+
+    private final float[] values = new float[SIZE];
+    private final FastRandom fast = new FastRandom(42);
+
+    @Benchmark
+    public float[] sharedRandom() {
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = SHARED.nextFloat();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public float[] threadLocalRandom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextFloat();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public float[] fastRandom() {
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = fast.nextFloat();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public float[] fastRandomFill() {
+        return fast.fill(values, 0, SIZE, 0, 1);
+    }
+}
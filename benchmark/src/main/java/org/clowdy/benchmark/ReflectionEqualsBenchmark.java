@@ -0,0 +1,101 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.benchmark.util.LegacyReflectionEqualsHelper;
+import org.clowdy.component.Component;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.util.ReflectionEqualsHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares the cached accessor plans of ReflectionEqualsHelper against the previous uncached reflective
+ * implementation, for both a vector and a component with a mix of primitive and reference fields. The hash set
+ * benchmarks show the effect on the collections Components and Vectors are commonly stored in.</p>
+ *
+ * <p>Run with {@code java -jar benchmark/target/benchmarks.jar ReflectionEqualsBenchmark}.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReflectionEqualsBenchmark {
+    private final Vector3D vectorOne = new Vector3D(1.5f, -2.25f, 3);
+    private final Vector3D vectorTwo = new Vector3D(1.5f, -2.25f, 3);
+    private final BenchmarkComponent componentOne = new BenchmarkComponent();
+    private final BenchmarkComponent componentTwo = new BenchmarkComponent();
+    private final Set<Vector3D> vectors = new HashSet<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 1_000; i++) {
+            vectors.add(new Vector3D(i, i * 0.5f, -i));
+        }
+    }
+
+    @Benchmark
+    public boolean cachedVectorEquals() {
+        return ReflectionEqualsHelper.areEquals(vectorOne, vectorTwo);
+    }
+
+    @Benchmark
+    public boolean legacyVectorEquals() {
+        return LegacyReflectionEqualsHelper.areEquals(vectorOne, vectorTwo);
+    }
+
+    @Benchmark
+    public int cachedVectorHashCode() {
+        return ReflectionEqualsHelper.hashcode(vectorOne);
+    }
+
+    @Benchmark
+    public int legacyVectorHashCode() {
+        return LegacyReflectionEqualsHelper.hashcode(vectorOne);
+    }
+
+    @Benchmark
+    public boolean cachedComponentEquals() {
+        return ReflectionEqualsHelper.areEquals(componentOne, componentTwo);
+    }
+
+    @Benchmark
+    public boolean legacyComponentEquals() {
+        return LegacyReflectionEqualsHelper.areEquals(componentOne, componentTwo);
+    }
+
+    @Benchmark
+    public int cachedComponentHashCode() {
+        return ReflectionEqualsHelper.hashcode(componentOne);
+    }
+
+    @Benchmark
+    public int legacyComponentHashCode() {
+        return LegacyReflectionEqualsHelper.hashcode(componentOne);
+    }
+
+    @Benchmark
+    public boolean hashSetContainsVector() {
+        return vectors.contains(vectorOne);
+    }
+
+    /**
+     * A Component with the field mix typical of gameplay components.
+     */
+    public static class BenchmarkComponent extends Component {
+        public float speed = 4.5f;
+        public int health = 100;
+        public boolean active = true;
+        public Vector3D position = new Vector3D(10, 0, -3);
+
+        @Override
+        protected PoolType[] setPoolTypes() {
+            return new PoolType[]{PoolType.PHYSICS};
+        }
+    }
+}
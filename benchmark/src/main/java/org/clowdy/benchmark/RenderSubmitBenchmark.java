@@ -0,0 +1,90 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.render.opengl.RecordingBackend;
+import org.clowdy.render.opengl.StreamingVbo;
+import org.clowdy.render.opengl.Vao;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
+
+/**
+ * <p>Measures the CPU side cost of a frame of rendering through a RecordingBackend, so it runs without a GPU:
+ * uploading the positions of 50k particles, once by giving a buffer new static storage through a fresh allocation
+ * each frame and once through a StreamingVbo, and submitting the draw calls of many meshes.</p>
+ *
+ * <p>The RecordingBackend copies uploads into heap memory where a driver would copy them to the GPU, so uploads
+ * include one copy of the data either way.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderSubmitBenchmark {
+    private static final int PARTICLES = 50000;
+    private static final int MESHES = 1000;
+
+    private final float[] positions = new float[PARTICLES * 3];
+    private RecordingBackend gl;
+    private int staticBuffer;
+    private StreamingVbo streaming;
+    private Vao[] meshes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextFloat();
+        }
+        gl = new RecordingBackend();
+        staticBuffer = gl.genBuffer();
+        streaming = StreamingVbo.create(gl, GL_ARRAY_BUFFER, positions.length * Float.BYTES * 3, 2);
+        meshes = new Vao[MESHES];
+        float[] vertices = {0, 0, 0, 1, 0, 0, 0, 1, 0, 1, 1, 0};
+        float[] textureCoords = {0, 0, 1, 0, 0, 1, 1, 1};
+        int[] indices = {0, 1, 2, 2, 1, 3};
+        for (int i = 0; i < MESHES; i++) {
+            meshes[i] = Vao.create(gl);
+            meshes[i].storeData(vertices, textureCoords, indices);
+        }
+    }
+
+    @Benchmark
+    public RecordingBackend reallocatingUpload() {
+        ByteBuffer buffer = gl.allocate(positions.length * Float.BYTES);
+        try {
+            buffer.asFloatBuffer().put(positions);
+            gl.bindBuffer(GL_ARRAY_BUFFER, staticBuffer);
+            gl.bufferData(GL_ARRAY_BUFFER, buffer, GL_STATIC_DRAW);
+        } finally {
+            gl.free(buffer);
+        }
+        gl.clearRecording();
+        return gl;
+    }
+
+    @Benchmark
+    public int streamingUpload() {
+        int offset = streaming.upload(positions);
+        streaming.endFrame();
+        gl.clearRecording();
+        return offset;
+    }
+
+    @Benchmark
+    public RecordingBackend drawSubmission() {
+        for (Vao mesh : meshes) {
+            mesh.draw();
+        }
+        gl.clearRecording();
+        return gl;
+    }
+}
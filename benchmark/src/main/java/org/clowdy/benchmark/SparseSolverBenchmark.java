@@ -0,0 +1,116 @@
+package org.clowdy.benchmark;
+
+import org.clowdy.maths.matrix.LUDecomposition;
+import org.clowdy.maths.matrix.MatrixN;
+import org.clowdy.maths.sparse.ConjugateGradient;
+import org.clowdy.maths.sparse.ProjectedGaussSeidel;
+import org.clowdy.maths.sparse.SparseMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures solving the constraint system of stacks of crates, four contacts per crate, each contact coupled to
+ * the other contacts of its crate and to the contacts of the crates above and below. The sparse solvers are
+ * measured from a zero initial guess and warm started from the solution of the previous frame, against a dense
+ * LU solve of the same system.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseSolverBenchmark {
+    private static final float TOLERANCE = 1e-4f;
+
+    @Param({"256", "1024"})
+    private int contacts;
+
+    private SparseMatrix sparse;
+    private MatrixN dense;
+    private float[] b;
+    private float[] previous;
+    private float[] x;
+    private float[] lower;
+    private float[] upper;
+    private final ProjectedGaussSeidel gaussSeidel = new ProjectedGaussSeidel(200, TOLERANCE);
+    private final ConjugateGradient conjugateGradient = new ConjugateGradient(200, TOLERANCE);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        SparseMatrix.Builder builder = SparseMatrix.builder(contacts, contacts);
+        dense = new MatrixN(contacts);
+        for (int i = 0; i < contacts; i++) {
+            add(builder, i, i, 4);
+            int crate = i / 4;
+            for (int j = crate * 4; j < crate * 4 + 4; j++) {
+                if (j != i) {
+                    add(builder, i, j, 0.25f);
+                }
+            }
+            if (i + 4 < contacts) {
+                add(builder, i, i + 4, -1);
+                add(builder, i + 4, i, -1);
+            }
+        }
+        sparse = builder.build();
+        b = new float[contacts];
+        lower = new float[contacts];
+        upper = new float[contacts];
+        for (int i = 0; i < contacts; i++) {
+            b[i] = 1 + random.nextFloat();
+            upper[i] = Float.POSITIVE_INFINITY;
+        }
+        previous = new float[contacts];
+        conjugateGradient.solve(sparse, b, previous);
+        // The next frame, where the stack has settled slightly differently.
+        for (int i = 0; i < contacts; i++) {
+            b[i] *= 1 + 0.01f * (random.nextFloat() - 0.5f);
+        }
+        x = new float[contacts];
+    }
+
+    private void add(SparseMatrix.Builder builder, int row, int column, float value) {
+        builder.add(row, column, value);
+        dense.set(row, column, dense.get(row, column) + value);
+    }
+
+    @Benchmark
+    public float[] gaussSeidelCold() {
+        Arrays.fill(x, 0);
+        gaussSeidel.solve(sparse, b, lower, upper, x);
+        return x;
+    }
+
+    @Benchmark
+    public float[] gaussSeidelWarm() {
+        System.arraycopy(previous, 0, x, 0, contacts);
+        gaussSeidel.solve(sparse, b, lower, upper, x);
+        return x;
+    }
+
+    @Benchmark
+    public float[] conjugateGradientCold() {
+        Arrays.fill(x, 0);
+        conjugateGradient.solve(sparse, b, x);
+        return x;
+    }
+
+    @Benchmark
+    public float[] conjugateGradientWarm() {
+        System.arraycopy(previous, 0, x, 0, contacts);
+        conjugateGradient.solve(sparse, b, x);
+        return x;
+    }
+
+    @Benchmark
+    public float[] denseLU() {
+        return new LUDecomposition(dense).solve(b, x);
+    }
+}
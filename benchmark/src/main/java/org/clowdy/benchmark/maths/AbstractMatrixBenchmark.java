@@ -0,0 +1,192 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.matrix.AbstractMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks every operation of the Matrix interface on one Matrix implementation, each extending class
+ * supplies the instances and adds the operations particular to its type.</p>
+ *
+ * <p>The measured matrix is a rigid transformation, so inverting, transposing or taking the adjugate of it in
+ * place alternates between two well conditioned matrices instead of drifting towards overflow. Multiplying in
+ * place is by the identity for the same reason, the cost of the multiply does not depend on the values. Scalar
+ * multiplication and division are by -1, which flips the sign of every element on each invocation but keeps their
+ * magnitudes, and unlike 1 can not be folded away by the JIT.</p>
+ *
+ * @param <M> The Matrix type being measured.
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractMatrixBenchmark<M extends AbstractMatrix<M>> {
+    protected M matrix;
+    protected M other;
+    protected M zero;
+    protected M identity;
+    protected M scratch;
+    private FloatBuffer floats;
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() {
+        matrix = newRigid();
+        other = newGeneral();
+        zero = newMatrix(0);
+        identity = newMatrix(0).identity();
+        scratch = newMatrix(0);
+        floats = FloatBuffer.allocate(matrix.elements());
+        bytes = ByteBuffer.allocateDirect(matrix.elements() * Float.BYTES).order(ByteOrder.nativeOrder());
+        matrix.get(floats, 0);
+        matrix.get(bytes, 0);
+    }
+
+    /**
+     * Returns a new rigid transformation of the measured type, a rotation followed by a translation where the
+     * type allows.
+     *
+     * @return The new Matrix.
+     */
+    protected abstract M newRigid();
+
+    /**
+     * Returns a new invertible Matrix of the measured type with no special structure.
+     *
+     * @return The new Matrix.
+     */
+    protected abstract M newGeneral();
+
+    /**
+     * Returns a new Matrix of the measured type with every element set to the given value.
+     *
+     * @param value The value of every element.
+     * @return The new Matrix.
+     */
+    protected abstract M newMatrix(float value);
+
+    /**
+     * Returns a copy of the given Matrix through the copy constructor of the measured type.
+     *
+     * @param matrix The Matrix to copy.
+     * @return The copy.
+     */
+    protected abstract M copy(M matrix);
+
+    @Benchmark
+    public M copyConstructor() {
+        return copy(matrix);
+    }
+
+    @Benchmark
+    public M set() {
+        return scratch.set(other);
+    }
+
+    @Benchmark
+    public M setValue() {
+        return scratch.set(2);
+    }
+
+    @Benchmark
+    public float getElement() {
+        return matrix.get(1, 2);
+    }
+
+    @Benchmark
+    public M setElement() {
+        return scratch.set(1, 2, 3);
+    }
+
+    @Benchmark
+    public M add() {
+        return matrix.add(zero);
+    }
+
+    @Benchmark
+    public M subtract() {
+        return matrix.subtract(zero);
+    }
+
+    @Benchmark
+    public M multiply() {
+        return other.multiply(identity);
+    }
+
+    @Benchmark
+    public M multiplyScalar() {
+        return matrix.multiply(-1);
+    }
+
+    @Benchmark
+    public M divide() {
+        return matrix.divide(-1);
+    }
+
+    @Benchmark
+    public M identity() {
+        return scratch.identity();
+    }
+
+    @Benchmark
+    public M transpose() {
+        return matrix.transpose();
+    }
+
+    @Benchmark
+    public float determinant() {
+        return other.determinant();
+    }
+
+    @Benchmark
+    public M adjugate() {
+        return matrix.adjugate();
+    }
+
+    @Benchmark
+    public M inverse() {
+        return matrix.inverse();
+    }
+
+    @Benchmark
+    public boolean equalsMatrix() {
+        return matrix.equals(other);
+    }
+
+    @Benchmark
+    public int hashCodeMatrix() {
+        return matrix.hashCode();
+    }
+
+    @Benchmark
+    public String toStringMatrix() {
+        return matrix.toString();
+    }
+
+    @Benchmark
+    public FloatBuffer getFloatBuffer() {
+        return matrix.get(floats, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer getByteBuffer() {
+        return matrix.get(bytes, 0);
+    }
+
+    @Benchmark
+    public M loadFloatBuffer() {
+        return scratch.load(floats, 0);
+    }
+
+    @Benchmark
+    public M loadByteBuffer() {
+        return scratch.load(bytes, 0);
+    }
+}
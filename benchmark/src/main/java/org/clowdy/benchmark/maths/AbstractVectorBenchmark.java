@@ -0,0 +1,178 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.vector.AbstractVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks every operation of the Vector interface on one Vector implementation, each extending class
+ * supplies the instances and adds the operations particular to its type.</p>
+ *
+ * <p>Operations that modify the vector are given operands that keep it bounded, such as adding zero, or multiplying
+ * or dividing by -1, which only flips the signs of its components, so their magnitudes stay the same however many
+ * times the benchmark is invoked. -1 is used rather than 1 so the JIT can not fold the operation away.</p>
+ *
+ * @param <V> The Vector type being measured.
+ * @author Dominic Cogan-Tucker
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractVectorBenchmark<V extends AbstractVector<V>> {
+    protected V vector;
+    protected V other;
+    protected V zero;
+    protected V unit;
+    protected V scratch;
+    private FloatBuffer floats;
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() {
+        vector = newVector(1.5f, -2.25f, 3, 0.5f);
+        other = newVector(-4, 0.75f, 2, -1);
+        zero = newVector(0, 0, 0, 0);
+        unit = newVector(1.5f, -2.25f, 3, 0.5f).normalise();
+        scratch = newVector(0, 0, 0, 0);
+        floats = FloatBuffer.allocate(vector.components());
+        bytes = ByteBuffer.allocateDirect(vector.components() * Float.BYTES).order(ByteOrder.nativeOrder());
+        vector.get(floats, 0);
+        vector.get(bytes, 0);
+    }
+
+    /**
+     * Returns a new Vector of the measured type from the first of the given components it has.
+     *
+     * @param x The first component.
+     * @param y The second component.
+     * @param z The third component, ignored by 2D vectors.
+     * @param w The fourth component, ignored by 2D and 3D vectors.
+     * @return The new Vector.
+     */
+    protected abstract V newVector(float x, float y, float z, float w);
+
+    /**
+     * Returns a copy of the given Vector through the copy constructor of the measured type.
+     *
+     * @param vector The Vector to copy.
+     * @return The copy.
+     */
+    protected abstract V copy(V vector);
+
+    @Benchmark
+    public V copyConstructor() {
+        return copy(vector);
+    }
+
+    @Benchmark
+    public V set() {
+        return scratch.set(other);
+    }
+
+    @Benchmark
+    public V add() {
+        return vector.add(zero);
+    }
+
+    @Benchmark
+    public V subtract() {
+        return vector.subtract(zero);
+    }
+
+    @Benchmark
+    public V multiply() {
+        return vector.multiply(-1);
+    }
+
+    @Benchmark
+    public V divide() {
+        return vector.divide(-1);
+    }
+
+    @Benchmark
+    public V negate() {
+        return vector.negate();
+    }
+
+    @Benchmark
+    public float dot() {
+        return vector.dot(other);
+    }
+
+    @Benchmark
+    public float length() {
+        return vector.length();
+    }
+
+    @Benchmark
+    public float lengthSquared() {
+        return vector.lengthSquared();
+    }
+
+    @Benchmark
+    public float lengthFast() {
+        return vector.lengthFast();
+    }
+
+    @Benchmark
+    public V normalise() {
+        return unit.normalise();
+    }
+
+    @Benchmark
+    public V normaliseFast() {
+        return scratch.set(unit).normaliseFast();
+    }
+
+    @Benchmark
+    public float angle() {
+        return vector.angle(other);
+    }
+
+    @Benchmark
+    public float angleFast() {
+        return vector.angleFast(other);
+    }
+
+    @Benchmark
+    public boolean equalsVector() {
+        return vector.equals(other);
+    }
+
+    @Benchmark
+    public int hashCodeVector() {
+        return vector.hashCode();
+    }
+
+    @Benchmark
+    public String toStringVector() {
+        return vector.toString();
+    }
+
+    @Benchmark
+    public FloatBuffer getFloatBuffer() {
+        return vector.get(floats, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer getByteBuffer() {
+        return vector.get(bytes, 0);
+    }
+
+    @Benchmark
+    public V loadFloatBuffer() {
+        return scratch.load(floats, 0);
+    }
+
+    @Benchmark
+    public V loadByteBuffer() {
+        return scratch.load(bytes, 0);
+    }
+}
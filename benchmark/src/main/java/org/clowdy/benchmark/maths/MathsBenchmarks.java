@@ -0,0 +1,40 @@
+package org.clowdy.benchmark.maths;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Runs the vector and matrix benchmarks with the GC profiler, so each operation is reported in ns/op alongside
+ * the bytes it allocates per op (gc.alloc.rate.norm). The results are also written as JSON to
+ * maths-benchmarks.json in the working directory, which can be kept per release to track the maths engine over
+ * time.</p>
+ *
+ * <p>Run with {@code java -cp benchmark/target/benchmarks.jar org.clowdy.benchmark.maths.MathsBenchmarks}. Any
+ * JMH command line options are accepted, e.g. a regular expression to run only some of the benchmarks, or -rff
+ * to write the results elsewhere.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class MathsBenchmarks {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(MathsBenchmarks.class.getPackageName() + "\\.");
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result("maths-benchmarks.json");
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        Options options = builder.parent(commandLine).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,48 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the operations of Matrix3x3.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Matrix3x3Benchmark extends AbstractMatrixBenchmark<Matrix3x3> {
+    @Override
+    protected Matrix3x3 newRigid() {
+        // A rotation of 30 degrees about z.
+        return new Matrix3x3(
+                0.8660254f, -0.5f, 0,
+                0.5f, 0.8660254f, 0,
+                0, 0, 1);
+    }
+
+    @Override
+    protected Matrix3x3 newGeneral() {
+        return new Matrix3x3(
+                2, -1, 0.5f,
+                0.25f, 3, -2,
+                1, 0.5f, 4);
+    }
+
+    @Override
+    protected Matrix3x3 newMatrix(float value) {
+        return new Matrix3x3(value);
+    }
+
+    @Override
+    protected Matrix3x3 copy(Matrix3x3 matrix) {
+        return new Matrix3x3(matrix);
+    }
+
+    @Benchmark
+    public Matrix3x3 multiplyInto() {
+        return Matrix3x3.multiply(matrix, other, scratch);
+    }
+
+    @Benchmark
+    public Matrix3x3 transposeInto() {
+        return Matrix3x3.transpose(other, scratch);
+    }
+}
@@ -0,0 +1,63 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the operations of Matrix4x4.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Matrix4x4Benchmark extends AbstractMatrixBenchmark<Matrix4x4> {
+    private final Matrix3x3 normal = new Matrix3x3();
+
+    @Override
+    protected Matrix4x4 newRigid() {
+        // A rotation of 30 degrees about z followed by a translation of (1, 2, 3).
+        return new Matrix4x4(
+                0.8660254f, -0.5f, 0, 1,
+                0.5f, 0.8660254f, 0, 2,
+                0, 0, 1, 3,
+                0, 0, 0, 1);
+    }
+
+    @Override
+    protected Matrix4x4 newGeneral() {
+        return new Matrix4x4(
+                2, -1, 0.5f, 3,
+                0.25f, 3, -2, 1,
+                1, 0.5f, 4, -1,
+                0.5f, 0, 1, 2);
+    }
+
+    @Override
+    protected Matrix4x4 newMatrix(float value) {
+        return new Matrix4x4(value);
+    }
+
+    @Override
+    protected Matrix4x4 copy(Matrix4x4 matrix) {
+        return new Matrix4x4(matrix);
+    }
+
+    @Benchmark
+    public Matrix4x4 multiplyInto() {
+        return Matrix4x4.multiply(matrix, other, scratch);
+    }
+
+    @Benchmark
+    public Matrix4x4 transposeInto() {
+        return Matrix4x4.transpose(other, scratch);
+    }
+
+    @Benchmark
+    public Matrix4x4 inverseAffine() {
+        return matrix.inverseAffine();
+    }
+
+    @Benchmark
+    public Matrix3x3 normalMatrix() {
+        return matrix.normal(normal);
+    }
+}
@@ -0,0 +1,72 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Quaternion;
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the operations of Quaternion. The rotation operations work on the normalised unit instance, and
+ * those that modify it start from a fresh copy so rounding does not accumulate between invocations.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class QuaternionBenchmark extends AbstractVectorBenchmark<Quaternion> {
+    private final Vector3D point = new Vector3D();
+    private final Matrix4x4 rotation = new Matrix4x4();
+
+    @Override
+    protected Quaternion newVector(float x, float y, float z, float w) {
+        return new Quaternion(x, y, z, w);
+    }
+
+    @Override
+    protected Quaternion copy(Quaternion vector) {
+        return new Quaternion(vector);
+    }
+
+    @Benchmark
+    public Quaternion fromAxisAngle() {
+        return scratch.fromAxisAngle(1, 2, 3, 0.5f);
+    }
+
+    @Benchmark
+    public Quaternion multiplyQuaternion() {
+        return scratch.set(unit).multiply(other);
+    }
+
+    @Benchmark
+    public Quaternion multiplyInto() {
+        return Quaternion.multiply(unit, other, scratch);
+    }
+
+    @Benchmark
+    public Quaternion inverse() {
+        return scratch.set(other).inverse();
+    }
+
+    @Benchmark
+    public Quaternion nlerp() {
+        return scratch.set(unit).nlerp(other, 0.5f);
+    }
+
+    @Benchmark
+    public Quaternion slerp() {
+        return scratch.set(unit).slerp(other, 0.5f);
+    }
+
+    @Benchmark
+    public Vector3D rotate() {
+        return unit.rotate(point.set(1, 2, 3));
+    }
+
+    @Benchmark
+    public Matrix4x4 toMatrix() {
+        return unit.toMatrix(rotation);
+    }
+
+    @Benchmark
+    public Quaternion fromMatrix() {
+        return scratch.fromMatrix(unit.toMatrix(rotation));
+    }
+}
@@ -0,0 +1,20 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.vector.Vector2D;
+
+/**
+ * Benchmarks the operations of Vector2D.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Vector2DBenchmark extends AbstractVectorBenchmark<Vector2D> {
+    @Override
+    protected Vector2D newVector(float x, float y, float z, float w) {
+        return new Vector2D(x, y);
+    }
+
+    @Override
+    protected Vector2D copy(Vector2D vector) {
+        return new Vector2D(vector);
+    }
+}
@@ -0,0 +1,27 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the operations of Vector3D.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Vector3DBenchmark extends AbstractVectorBenchmark<Vector3D> {
+    @Override
+    protected Vector3D newVector(float x, float y, float z, float w) {
+        return new Vector3D(x, y, z);
+    }
+
+    @Override
+    protected Vector3D copy(Vector3D vector) {
+        return new Vector3D(vector);
+    }
+
+    @Benchmark
+    public Vector3D cross() {
+        // Crossing a fresh copy each time keeps the operands the same between invocations.
+        return scratch.set(vector).cross(other);
+    }
+}
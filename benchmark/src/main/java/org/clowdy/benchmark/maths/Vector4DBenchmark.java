@@ -0,0 +1,20 @@
+package org.clowdy.benchmark.maths;
+
+import org.clowdy.maths.vector.Vector4D;
+
+/**
+ * Benchmarks the operations of Vector4D.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Vector4DBenchmark extends AbstractVectorBenchmark<Vector4D> {
+    @Override
+    protected Vector4D newVector(float x, float y, float z, float w) {
+        return new Vector4D(x, y, z, w);
+    }
+
+    @Override
+    protected Vector4D copy(Vector4D vector) {
+        return new Vector4D(vector);
+    }
+}
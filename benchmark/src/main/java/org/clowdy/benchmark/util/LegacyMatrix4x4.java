@@ -0,0 +1,70 @@
+package org.clowdy.benchmark.util;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+
+/**
+ * A Matrix4x4 calculating its determinant, adjugate and inverse as Matrix4x4 did before the closed-form inverse,
+ * through a new Matrix3x3 per minor. Kept only as the baseline for MatrixInverseBenchmark.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class LegacyMatrix4x4 extends Matrix4x4 {
+    /**
+     * Constructs a LegacyMatrix4x4 as a clone of the given Matrix4x4.
+     *
+     * @param m The Matrix4x4 to clone.
+     */
+    public LegacyMatrix4x4(Matrix4x4 m) {
+        super(m);
+    }
+
+    @Override
+    public float determinant() {
+        return data[0]
+                * new Matrix3x3(data[5], data[9], data[13], data[6], data[10],
+                data[14], data[7], data[11], data[15]).determinant()
+                - data[4] * new Matrix3x3(data[1], data[9], data[13], data[2],
+                data[10], data[14], data[3], data[11], data[15])
+                .determinant()
+                + data[8] * new Matrix3x3(data[1], data[5], data[13], data[2],
+                data[6], data[14], data[3], data[7], data[15])
+                .determinant()
+                - data[12] * new Matrix3x3(data[1], data[5], data[9], data[2],
+                data[6], data[10], data[3], data[7], data[11])
+                .determinant();
+    }
+
+    @Override
+    public Matrix4x4 adjugate() {
+        transpose();
+        float[] temp = new float[16];
+        temp[0] = new Matrix3x3(data[5], data[9], data[13], data[6], data[10], data[14], data[7], data[11], data[15]).determinant();
+        temp[1] = -new Matrix3x3(data[4], data[8], data[12], data[6], data[10], data[14], data[7], data[11], data[15]).determinant();
+        temp[2] = new Matrix3x3(data[4], data[8], data[12], data[5], data[9], data[13], data[7], data[11], data[15]).determinant();
+        temp[3] = -new Matrix3x3(data[4], data[8], data[12], data[5], data[9], data[13], data[6], data[10], data[14]).determinant();
+        temp[4] = -new Matrix3x3(data[1], data[9], data[13], data[2], data[10], data[14], data[3], data[11], data[15]).determinant();
+        temp[5] = new Matrix3x3(data[0], data[8], data[12], data[2], data[10], data[14], data[3], data[11], data[15]).determinant();
+        temp[6] = -new Matrix3x3(data[0], data[8], data[12], data[1], data[9], data[13], data[3], data[11], data[15]).determinant();
+        temp[7] = new Matrix3x3(data[0], data[8], data[12], data[1], data[9], data[13], data[2], data[10], data[14]).determinant();
+        temp[8] = new Matrix3x3(data[1], data[5], data[13], data[2], data[6], data[14], data[3], data[7], data[15]).determinant();
+        temp[9] = -new Matrix3x3(data[0], data[4], data[12], data[2], data[6], data[14], data[3], data[7], data[15]).determinant();
+        temp[10] = new Matrix3x3(data[0], data[4], data[12], data[1], data[5], data[13], data[3], data[7], data[15]).determinant();
+        temp[11] = -new Matrix3x3(data[0], data[4], data[12], data[1], data[5], data[13], data[2], data[6], data[14]).determinant();
+        temp[12] = -new Matrix3x3(data[1], data[5], data[9], data[2], data[6], data[10], data[3], data[7], data[11]).determinant();
+        temp[13] = new Matrix3x3(data[0], data[4], data[8], data[2], data[6], data[10], data[3], data[7], data[11]).determinant();
+        temp[14] = -new Matrix3x3(data[0], data[4], data[8], data[1], data[5], data[9], data[3], data[7], data[11]).determinant();
+        temp[15] = new Matrix3x3(data[0], data[4], data[8], data[1], data[5], data[9], data[2], data[6], data[10]).determinant();
+        data = temp;
+        return this;
+    }
+
+    @Override
+    public Matrix4x4 inverse() {
+        float det = determinant();
+        if (det == 0) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        return adjugate().divide(det);
+    }
+}
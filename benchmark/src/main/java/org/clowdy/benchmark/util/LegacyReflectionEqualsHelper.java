@@ -0,0 +1,66 @@
+package org.clowdy.benchmark.util;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * The uncached reflective equals and hashCode implementation that ReflectionEqualsHelper used before it cached
+ * per class accessor plans. Kept only as the baseline the benchmarks measure the cached helper against.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class LegacyReflectionEqualsHelper {
+    private LegacyReflectionEqualsHelper() {
+    }
+
+    public static boolean areEquals(Object objectOne, Object objectTwo) {
+        if (objectOne.getClass().equals(objectTwo.getClass())) {
+            Field[] fieldVariables = objectOne.getClass().getDeclaredFields();
+            Object objectOneFieldValue;
+            Object objectTwoFieldValue;
+            for (Field field : fieldVariables) {
+                objectOneFieldValue = getFieldValue(objectOne, field);
+                objectTwoFieldValue = getFieldValue(objectTwo, field);
+                if (objectOneFieldValue instanceof Float) {
+                    objectOneFieldValue = (float) objectOneFieldValue + 0.0f;
+                    objectTwoFieldValue = (float) objectTwoFieldValue + 0.0f;
+                }
+                if (!Objects.equals(objectOneFieldValue, objectTwoFieldValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public static int hashcode(Object object) {
+        Field[] fieldVariables = object.getClass().getDeclaredFields();
+
+        final int prime = 31;
+        int result = 17;
+
+        Object objectFieldValue;
+        for (Field field : fieldVariables) {
+            objectFieldValue = getFieldValue(object, field);
+            if (objectFieldValue instanceof Float) {
+                objectFieldValue = (float) objectFieldValue + 0.0f;
+            }
+            result = result * prime +
+                    (objectFieldValue == null ? 0 : objectFieldValue.hashCode());
+        }
+
+        return result;
+    }
+
+    private static Object getFieldValue(Object object, Field field) {
+        field.setAccessible(true);
+        try {
+            Object value = field.get(object);
+            field.setAccessible(false);
+            return value;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.clowdy.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Generates a ComponentCopier for every concrete Component subclass being compiled. The generated copier creates
+ * the copy through the no-argument constructor and assigns each field directly, so copying a Component costs the
+ * same as writing the copy by hand.</p>
+ *
+ * <p>Fields are copied according to their type:</p>
+ * <ul>
+ *     <li>primitives, boxed primitives, Strings and enums are assigned;</li>
+ *     <li>primitive arrays are cloned;</li>
+ *     <li>vectors and matrices from the maths engine are copied through their copy constructor;</li>
+ *     <li>any other reference is deep cloned through ComponentCopiers.deepClone.</li>
+ * </ul>
+ *
+ * <p>No copier is generated for a Component that can not be copied by direct assignment, i.e. one that is
+ * generic, has no accessible no-argument constructor, or has a private, final or otherwise inaccessible instance
+ * field. Those Components are copied by the reflective fallback in ComponentCopiers instead.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentCopierProcessor extends AbstractProcessor {
+    // Fully qualified names of the types the generated code refers to.
+    private static final String COMPONENT = "org.clowdy.component.Component";
+    private static final String COPIER = "org.clowdy.component.ComponentCopier";
+    private static final String COPIERS = "org.clowdy.component.ComponentCopiers";
+    // Suffix of the generated copier class names.
+    private static final String SUFFIX = "_Copier";
+    // Maths engine types with a copy constructor.
+    private static final Set<String> COPY_CONSTRUCTIBLE = Set.of(
+            "org.clowdy.maths.vector.Vector2D", "org.clowdy.maths.vector.Vector3D",
+            "org.clowdy.maths.vector.Vector4D", "org.clowdy.maths.vector.Quaternion",
+            "org.clowdy.maths.matrix.Matrix3x3", "org.clowdy.maths.matrix.Matrix4x4");
+    // Types that are immutable and so can be shared between a Component and its copy.
+    private static final Set<String> IMMUTABLE = Set.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.util.UUID");
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        TypeElement component = elements.getTypeElement(COMPONENT);
+        if (component == null) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type, component.asType());
+        }
+        // Never claim annotations, other processors such as dagger must still see them.
+        return false;
+    }
+
+    // Generates a copier for the given type if it is a copyable Component, then visits its nested types.
+    private void processType(TypeElement type, TypeMirror component) {
+        if (type.getKind() == ElementKind.CLASS && types.isSubtype(types.erasure(type.asType()), component)
+                && !types.isSameType(types.erasure(type.asType()), component)) {
+            List<String> statements = copyStatements(type);
+            if (statements != null) {
+                writeCopier(type, statements);
+            }
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                processType(nested, component);
+            }
+        }
+    }
+
+    // Returns the statements copying each field of the given Component, or null if it can't be copied directly.
+    private List<String> copyStatements(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)
+                || !type.getTypeParameters().isEmpty() || !hasAccessibleConstructor(type)) {
+            return null;
+        }
+        PackageElement targetPackage = elements.getPackageOf(type);
+        List<String> statements = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(COMPONENT)) {
+            boolean samePackage = elements.getPackageOf(current).equals(targetPackage);
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> fieldModifiers = field.getModifiers();
+                if (fieldModifiers.contains(Modifier.STATIC)) {
+                    continue;
+                }
+                if (fieldModifiers.contains(Modifier.PRIVATE) || fieldModifiers.contains(Modifier.FINAL)
+                        || (!samePackage && !fieldModifiers.contains(Modifier.PUBLIC))) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No copier generated for "
+                            + type.getQualifiedName() + ", field " + field.getSimpleName()
+                            + " can not be assigned directly. The reflective fallback will be used.", field);
+                    return null;
+                }
+                statements.add(copyStatement(field));
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return statements;
+    }
+
+    // Returns true if the given type has a no-argument constructor the generated copier can call.
+    private boolean hasAccessibleConstructor(TypeElement type) {
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    // Returns the statement copying the given field from source into copy.
+    private String copyStatement(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        String source = "source." + name;
+        String target = "copy." + name + " = ";
+        if (fieldType.getKind().isPrimitive()) {
+            return target + source + ";";
+        }
+        if (fieldType.getKind() == TypeKind.ARRAY
+                && ((ArrayType) fieldType).getComponentType().getKind().isPrimitive()) {
+            return target + source + " == null ? null : " + source + ".clone();";
+        }
+        if (fieldType.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) fieldType).asElement();
+            String qualifiedName = element.getQualifiedName().toString();
+            if (element.getKind() == ElementKind.ENUM || IMMUTABLE.contains(qualifiedName)) {
+                return target + source + ";";
+            }
+            if (COPY_CONSTRUCTIBLE.contains(qualifiedName)) {
+                // A subclass instance would be sliced by the copy constructor, so it falls back to deep cloning.
+                return target + source + " == null || " + source + ".getClass() != " + qualifiedName
+                        + ".class ? " + COPIERS + ".deepClone(" + source + ") : new " + qualifiedName
+                        + "(" + source + ");";
+            }
+        }
+        return target + COPIERS + ".deepClone(" + source + ");";
+    }
+
+    // Writes the copier source file for the given type.
+    private void writeCopier(TypeElement type, List<String> statements) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String copierName = copierSimpleName(type);
+        String qualifiedCopierName = packageName.isEmpty() ? copierName : packageName + "." + copierName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedCopierName, type);
+            try (Writer writer = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+                writer.write("public final class " + copierName + " implements " + COPIER + "<" + typeName
+                        + "> {\n");
+                writer.write("    @Override\n");
+                writer.write("    public " + typeName + " copy(" + typeName + " source) {\n");
+                writer.write("        " + typeName + " copy = new " + typeName + "();\n");
+                for (String statement : statements) {
+                    writer.write("        " + statement + "\n");
+                }
+                writer.write("        return copy;\n");
+                writer.write("    }\n");
+                writer.write("}\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + qualifiedCopierName + ": " + e.getMessage(), type);
+        }
+    }
+
+    // Returns the copier name for the given type, nested type names are joined with underscores.
+    private static String copierSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+}
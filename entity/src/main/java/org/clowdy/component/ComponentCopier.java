@@ -0,0 +1,18 @@
+package org.clowdy.component;
+
+/**
+ * <p>Copies Components of a single type. Implementations are generated at compile time for each Component
+ * subclass whose fields can be assigned directly, and are looked up by ComponentCopiers.</p>
+ *
+ * @param <C> The type of Component copied.
+ * @author Dominic Cogan-Tucker
+ */
+public interface ComponentCopier<C extends Component> {
+    /**
+     * Returns a new Component equal to, and independent of, the given Component.
+     *
+     * @param source The Component to copy.
+     * @return The copy of the given Component.
+     */
+    C copy(C source);
+}
@@ -0,0 +1,87 @@
+package org.clowdy.component;
+
+import com.rits.cloning.Cloner;
+
+/**
+ * <p>Copies Components using the ComponentCopier generated for their class, falling back to reflective deep
+ * cloning for Components without one. The copier of each class is looked up once and cached, so copying a
+ * Component with a generated copier is a constructor call followed by direct field assignments.</p>
+ *
+ * <p>Generated copiers are named after the Component with a {@code _Copier} suffix, nested class names being joined
+ * with underscores, e.g. {@code Outer.InnerComponent} is copied by {@code Outer_InnerComponent_Copier}.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class ComponentCopiers {
+    // Shared deep cloner for the fallback and for fields the generated copiers can't copy directly.
+    private static final Cloner CLONER = new Cloner();
+
+    // Copier used for Components without a generated copier.
+    private static final ComponentCopier<Component> FALLBACK = CLONER::deepClone;
+
+    // Cached copier for each Component class.
+    private static final ClassValue<ComponentCopier<Component>> COPIERS = new ClassValue<>() {
+        @Override
+        protected ComponentCopier<Component> computeValue(Class<?> type) {
+            return findCopier(type);
+        }
+    };
+
+    private ComponentCopiers() {
+    }
+
+    /**
+     * Returns a deep copy of the given Component.
+     *
+     * @param component The Component to copy.
+     * @param <C>       The type of the Component.
+     * @return A copy of the given Component, or null if the given Component is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends Component> C copy(C component) {
+        if (component == null) {
+            return null;
+        }
+        return (C) COPIERS.get(component.getClass()).copy(component);
+    }
+
+    /**
+     * Returns true if the given Component class is copied by a generated copier rather than the reflective
+     * fallback.
+     *
+     * @param componentClass The Component class to check.
+     * @return true if the given Component class has a generated copier.
+     */
+    public static boolean hasGeneratedCopier(Class<? extends Component> componentClass) {
+        return COPIERS.get(componentClass) != FALLBACK;
+    }
+
+    /**
+     * Returns a deep clone of the given object. Used by generated copiers for fields that can't be copied by
+     * assignment.
+     *
+     * @param object The object to clone.
+     * @param <T>    The type of the object.
+     * @return A deep clone of the given object, or null if the given object is null.
+     */
+    public static <T> T deepClone(T object) {
+        return object == null ? null : CLONER.deepClone(object);
+    }
+
+    // Loads the generated copier of the given class, returning the fallback if there isn't one.
+    @SuppressWarnings("unchecked")
+    private static ComponentCopier<Component> findCopier(Class<?> type) {
+        String name = type.getName();
+        int packageEnd = name.lastIndexOf('.');
+        String copierName = name.substring(0, packageEnd + 1)
+                + name.substring(packageEnd + 1).replace('$', '_') + "_Copier";
+        try {
+            Class<?> copierClass = Class.forName(copierName, true, type.getClassLoader());
+            return (ComponentCopier<Component>) copierClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return FALLBACK;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the generated copier " + copierName, e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package org.clowdy.entity;
 
-import com.rits.cloning.Cloner;
 import org.clowdy.component.Component;
+import org.clowdy.component.ComponentCopiers;
 import org.clowdy.entity.Entity.ComponentManager;
 
 import javax.inject.Inject;
@@ -30,15 +30,15 @@ public class EntityBuilder {
     }
 
     /**
-     * Return this EntityBuilder after deep copying all Components of the given Entity.
+     * Return this EntityBuilder after deep copying all Components of the given Entity. Components are copied
+     * by their generated ComponentCopier where one exists.
      *
      * @param entity The Entity to copy.
      * @return This EntityBuilder.
      */
     public EntityBuilder copyEntity(Entity entity) {
-        Cloner cloner = new Cloner();
         entity.getAllComponents().forEach(component ->
-                COMPONENTS.put(component.getClass(), cloner.deepClone(component)));
+                COMPONENTS.put(component.getClass(), ComponentCopiers.copy(component)));
         return this;
     }
 
@@ -1,6 +1,7 @@
 package org.clowdy.util;
 
 import dagger.Component;
+import org.clowdy.entity.Entity.ComponentManager;
 import org.clowdy.entity.EntityBuilder;
 
 import javax.inject.Singleton;
@@ -9,4 +10,6 @@ import javax.inject.Singleton;
 @Component(modules = EntityUtilityModule.class)
 public interface EntityUtilityFactory {
     EntityBuilder getBuilder();
+
+    ComponentManager getComponentManager();
 }
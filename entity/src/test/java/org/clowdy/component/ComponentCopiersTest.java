@@ -0,0 +1,103 @@
+package org.clowdy.component;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ComponentCopiers Tests")
+public class ComponentCopiersTest {
+
+    @Test
+    @DisplayName("Component With Assignable Fields Has a Generated Copier")
+    void componentWithAssignableFieldsHasGeneratedCopier() {
+        assertTrue(ComponentCopiers.hasGeneratedCopier(TestPhysicsComponent.class));
+        assertTrue(ComponentCopiers.hasGeneratedCopier(TransformTestComponent.class));
+    }
+
+    @Test
+    @DisplayName("Component With a Private Field Uses the Fallback Copier")
+    void componentWithPrivateFieldUsesFallback() {
+        assertFalse(ComponentCopiers.hasGeneratedCopier(PrivateFieldComponent.class));
+    }
+
+    @Test
+    @DisplayName("Copy of a Component is Equal but Not the Same Instance")
+    void copyIsEqualButNotSame() {
+        TestPhysicsComponent component = new TestPhysicsComponent();
+        component.a = 3.5f;
+
+        TestPhysicsComponent copy = ComponentCopiers.copy(component);
+
+        assertNotSame(component, copy);
+        assertEquals(component, copy);
+    }
+
+    @Test
+    @DisplayName("Copy of a Component Deep Copies its Mutable Fields")
+    void copyDeepCopiesMutableFields() {
+        TransformTestComponent component = new TransformTestComponent();
+        component.position.set(1, 2, 3);
+        component.weights = new float[]{0.25f, 0.75f};
+        component.name = "crate";
+        component.state = TransformTestComponent.State.SLEEPING;
+
+        TransformTestComponent copy = ComponentCopiers.copy(component);
+
+        assertEquals(component.position, copy.position);
+        assertNotSame(component.position, copy.position);
+        assertNotSame(component.weights, copy.weights);
+        assertArrayEquals(component.weights, copy.weights);
+        assertEquals("crate", copy.name);
+        assertEquals(TransformTestComponent.State.SLEEPING, copy.state);
+    }
+
+    @Test
+    @DisplayName("Copy of a Component Using the Fallback is Equal but Not the Same Instance")
+    void fallbackCopyIsEqualButNotSame() {
+        PrivateFieldComponent component = new PrivateFieldComponent();
+        component.setValue(7);
+
+        PrivateFieldComponent copy = ComponentCopiers.copy(component);
+
+        assertNotSame(component, copy);
+        assertEquals(component, copy);
+    }
+
+    @Test
+    @DisplayName("Copy of Null Returns Null")
+    void copyOfNullReturnsNull() {
+        assertNull(ComponentCopiers.copy(null));
+    }
+
+    public static class TransformTestComponent extends Component {
+        public Vector3D position = new Vector3D();
+        public float[] weights;
+        public String name;
+        public State state = State.AWAKE;
+
+        @Override
+        protected PoolType[] setPoolTypes() {
+            return new PoolType[]{PoolType.TEST};
+        }
+
+        public enum State {
+            AWAKE,
+            SLEEPING
+        }
+    }
+
+    public static class PrivateFieldComponent extends Component {
+        private int value;
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+        @Override
+        protected PoolType[] setPoolTypes() {
+            return new PoolType[]{PoolType.TEST};
+        }
+    }
+}
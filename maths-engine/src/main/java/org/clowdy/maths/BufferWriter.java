@@ -0,0 +1,91 @@
+package org.clowdy.maths;
+
+import org.clowdy.maths.matrix.Matrix;
+import org.clowdy.maths.vector.Vector;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Writes arrays of vectors and matrices into NIO buffers back to back, for filling uniform and instance buffers in
+ * a single pass. Each method writes at an absolute index or offset, leaving the position of the buffer unchanged,
+ * and returns the index or offset just past the last value written so writes can be chained.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class BufferWriter {
+    // Private to prevent instantiation of a static utility class.
+    private BufferWriter() {
+    }
+
+    /**
+     * Writes the components of each of the given vectors into the buffer, starting at the given index.
+     *
+     * @param buffer  The buffer to write to.
+     * @param index   The index of the first component in the buffer.
+     * @param vectors The vectors to write.
+     * @return The index after the last component written.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every component.
+     */
+    public static int write(FloatBuffer buffer, int index, Vector<?>[] vectors) {
+        for (Vector<?> vector : vectors) {
+            vector.get(buffer, index);
+            index += vector.components();
+        }
+        return index;
+    }
+
+    /**
+     * Writes the components of each of the given vectors into the buffer, in the buffer's byte order, starting at
+     * the given byte offset.
+     *
+     * @param buffer  The buffer to write to.
+     * @param offset  The byte offset of the first component in the buffer.
+     * @param vectors The vectors to write.
+     * @return The byte offset after the last component written.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every component.
+     */
+    public static int write(ByteBuffer buffer, int offset, Vector<?>[] vectors) {
+        for (Vector<?> vector : vectors) {
+            vector.get(buffer, offset);
+            offset += vector.components() * Float.BYTES;
+        }
+        return offset;
+    }
+
+    /**
+     * Writes the elements of each of the given matrices into the buffer in column major order, starting at the
+     * given index.
+     *
+     * @param buffer   The buffer to write to.
+     * @param index    The index of the first element in the buffer.
+     * @param matrices The matrices to write.
+     * @return The index after the last element written.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element.
+     */
+    public static int write(FloatBuffer buffer, int index, Matrix<?>[] matrices) {
+        for (Matrix<?> matrix : matrices) {
+            matrix.get(buffer, index);
+            index += matrix.elements();
+        }
+        return index;
+    }
+
+    /**
+     * Writes the elements of each of the given matrices into the buffer in column major order, in the buffer's
+     * byte order, starting at the given byte offset.
+     *
+     * @param buffer   The buffer to write to.
+     * @param offset   The byte offset of the first element in the buffer.
+     * @param matrices The matrices to write.
+     * @return The byte offset after the last element written.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element.
+     */
+    public static int write(ByteBuffer buffer, int offset, Matrix<?>[] matrices) {
+        for (Matrix<?> matrix : matrices) {
+            matrix.get(buffer, offset);
+            offset += matrix.elements() * Float.BYTES;
+        }
+        return offset;
+    }
+}
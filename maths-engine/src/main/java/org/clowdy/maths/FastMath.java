@@ -0,0 +1,127 @@
+package org.clowdy.maths;
+
+/**
+ * <p>Approximations of the square root and trigonometric functions for code that calls them in bulk and can
+ * trade precision for speed, such as particle and flocking updates. Each method documents its worst case error
+ * against the exact function, and the bounds are asserted by FastMathTest. Where full precision matters use
+ * java.lang.Math, the fast versions are always opted into per call site.</p>
+ *
+ * <p>None of the methods check their input for speed, so arguments outside of a method's documented domain give
+ * an unspecified result rather than an exception.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class FastMath {
+    /**
+     * The largest relative error of invSqrt and sqrt.
+     */
+    public static final float INV_SQRT_ERROR = 0.0018f;
+
+    /**
+     * The largest absolute error of acos and asin, in radians.
+     */
+    public static final float ACOS_ERROR = 0.00007f;
+
+    /**
+     * The largest absolute error of sin and cos.
+     */
+    public static final float SIN_ERROR = 0.0000005f;
+
+    // The number of intervals of the sine table over one period, a power of 2 so indices wrap with a mask.
+    private static final int SIN_SIZE = 1 << 12;
+    private static final int SIN_MASK = SIN_SIZE - 1;
+    // Converts an angle in radians to a position in the sine table.
+    private static final double SIN_SCALE = SIN_SIZE / (2 * Math.PI);
+    // The sine at each table position, with the first repeated at the end so interpolation never wraps.
+    private static final float[] SIN_TABLE = new float[SIN_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIN_SIZE; i++) {
+            SIN_TABLE[i] = (float) Math.sin(i / SIN_SCALE);
+        }
+    }
+
+    private FastMath() {
+    }
+
+    /**
+     * Returns an approximation of 1 / sqrt(x), from an estimate built from the bits of x refined by one step of
+     * Newton's method. The relative error is at most INV_SQRT_ERROR for positive normal x.
+     *
+     * @param x A positive normal float.
+     * @return Approximately 1 / sqrt(x).
+     */
+    public static float invSqrt(float x) {
+        float y = Float.intBitsToFloat(0x5f375a86 - (Float.floatToRawIntBits(x) >> 1));
+        return y * (1.5f - 0.5f * x * y * y);
+    }
+
+    /**
+     * Returns an approximation of sqrt(x) as x * invSqrt(x). The relative error is at most INV_SQRT_ERROR for
+     * positive normal x, and the result is 0 for 0.
+     *
+     * @param x A positive normal float, or 0.
+     * @return Approximately sqrt(x).
+     */
+    public static float sqrt(float x) {
+        return x * invSqrt(x);
+    }
+
+    /**
+     * Returns an approximation of acos(x) in radians, from a cubic polynomial in x scaled by sqrt(1 - |x|)
+     * (Abramowitz and Stegun 4.4.45). The absolute error is at most ACOS_ERROR for x in [-1, 1].
+     *
+     * @param x A float in [-1, 1].
+     * @return Approximately acos(x), in [0, pi].
+     */
+    public static float acos(float x) {
+        float a = Math.abs(x);
+        float result = (float) Math.sqrt(1 - a)
+                * (1.5707288f + a * (-0.2121144f + a * (0.0742610f + a * -0.0187293f)));
+        return x < 0 ? (float) Math.PI - result : result;
+    }
+
+    /**
+     * Returns an approximation of asin(x) in radians, as pi / 2 - acos(x). The absolute error is at most
+     * ACOS_ERROR for x in [-1, 1].
+     *
+     * @param x A float in [-1, 1].
+     * @return Approximately asin(x), in [-pi / 2, pi / 2].
+     */
+    public static float asin(float x) {
+        return (float) (Math.PI / 2) - acos(x);
+    }
+
+    /**
+     * Returns an approximation of sin(x), linearly interpolated from a table of 4096 values over one period. The
+     * absolute error is at most SIN_ERROR for |x| up to 10000 radians, beyond which the error of reducing x to
+     * one period grows in proportion to |x|.
+     *
+     * @param x An angle in radians.
+     * @return Approximately sin(x).
+     */
+    public static float sin(float x) {
+        return lookup(x * SIN_SCALE);
+    }
+
+    /**
+     * Returns an approximation of cos(x), linearly interpolated from the sine table a quarter period on. The
+     * absolute error is at most SIN_ERROR for |x| up to 10000 radians, beyond which the error of reducing x to
+     * one period grows in proportion to |x|.
+     *
+     * @param x An angle in radians.
+     * @return Approximately cos(x).
+     */
+    public static float cos(float x) {
+        return lookup(x * SIN_SCALE + SIN_SIZE / 4);
+    }
+
+    /* Interpolates the sine table at the given position, wrapped into one period. */
+    private static float lookup(double position) {
+        double floor = Math.floor(position);
+        int index = (int) ((long) floor & SIN_MASK);
+        float fraction = (float) (position - floor);
+        float low = SIN_TABLE[index];
+        return low + (SIN_TABLE[index + 1] - low) * fraction;
+    }
+}
@@ -0,0 +1,290 @@
+package org.clowdy.maths;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector2D;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.maths.vector.Vector4D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>A frame scoped scratch allocator for temporary vectors and matrices. Instances are handed out from pools that
+ * grow as needed and are all reclaimed at once by reset, which costs the same however many instances were used.
+ * After the first few frames a steady workload allocates nothing.</p>
+ *
+ * <p>Every instance handed out is zeroed and belongs to the arena until the next reset, after which it may be
+ * handed out again. References to arena instances must therefore never outlive the frame they were obtained in.</p>
+ *
+ * <p>In debug mode instances are never reused. Instead reset poisons every instance handed out during the frame with
+ * NaN, so reading a stale instance produces NaN, and the next reset throws if any poisoned instance was written to.
+ * The arena also tracks which instances are live so that checkLive can catch a stale instance at the point of
+ * use.</p>
+ *
+ * <p>A FrameArena is not thread safe, each thread should use its own arena.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class FrameArena {
+    /**
+     * The pool of each type.
+     */
+    private final Pool<Vector2D> vector2Ds;
+    private final Pool<Vector3D> vector3Ds;
+    private final Pool<Vector4D> vector4Ds;
+    private final Pool<Matrix3x3> matrix3x3s;
+    private final Pool<Matrix4x4> matrix4x4s;
+
+    /**
+     * True if use after reset is being detected.
+     */
+    private final boolean debug;
+
+    /**
+     * In debug mode, the instances handed out since the last reset.
+     */
+    private final Set<Object> live;
+
+    /**
+     * Constructs a FrameArena that reuses its instances.
+     */
+    public FrameArena() {
+        this(false);
+    }
+
+    /**
+     * Constructs a FrameArena, in debug mode if requested.
+     *
+     * @param debug true to detect use of instances after reset, at the cost of allocating every instance.
+     */
+    public FrameArena(boolean debug) {
+        this.debug = debug;
+        live = debug ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+        vector2Ds = new Pool<>(Vector2D::new, Vector2D::set, new Vector2D(Float.NaN), debug);
+        vector3Ds = new Pool<>(Vector3D::new, Vector3D::set, new Vector3D(Float.NaN), debug);
+        vector4Ds = new Pool<>(Vector4D::new, Vector4D::set, new Vector4D(Float.NaN), debug);
+        matrix3x3s = new Pool<>(Matrix3x3::new, Matrix3x3::set, new Matrix3x3(Float.NaN), debug);
+        matrix4x4s = new Pool<>(Matrix4x4::new, Matrix4x4::set, new Matrix4x4(Float.NaN), debug);
+    }
+
+    /**
+     * Returns a zero Vector2D owned by this arena until the next reset.
+     *
+     * @return A zero Vector2D.
+     */
+    public Vector2D vector2D() {
+        return track(vector2Ds.next().set(0));
+    }
+
+    /**
+     * Returns a zero Vector3D owned by this arena until the next reset.
+     *
+     * @return A zero Vector3D.
+     */
+    public Vector3D vector3D() {
+        return track(vector3Ds.next().set(0));
+    }
+
+    /**
+     * Returns a Vector3D owned by this arena until the next reset, set as a copy of the given Vector3D.
+     *
+     * @param vector The Vector3D to copy.
+     * @return A copy of the given Vector3D.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public Vector3D vector3D(Vector3D vector) {
+        return track(vector3Ds.next().set(vector));
+    }
+
+    /**
+     * Returns a zero Vector4D owned by this arena until the next reset.
+     *
+     * @return A zero Vector4D.
+     */
+    public Vector4D vector4D() {
+        return track(vector4Ds.next().set(0));
+    }
+
+    /**
+     * Returns a zero Matrix3x3 owned by this arena until the next reset.
+     *
+     * @return A zero Matrix3x3.
+     */
+    public Matrix3x3 matrix3x3() {
+        return track(matrix3x3s.next().set(0));
+    }
+
+    /**
+     * Returns a Matrix3x3 owned by this arena until the next reset, set as a copy of the given Matrix3x3.
+     *
+     * @param matrix The Matrix3x3 to copy.
+     * @return A copy of the given Matrix3x3.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public Matrix3x3 matrix3x3(Matrix3x3 matrix) {
+        return track(matrix3x3s.next().set(matrix));
+    }
+
+    /**
+     * Returns a zero Matrix4x4 owned by this arena until the next reset.
+     *
+     * @return A zero Matrix4x4.
+     */
+    public Matrix4x4 matrix4x4() {
+        return track(matrix4x4s.next().set(0));
+    }
+
+    /**
+     * Returns a Matrix4x4 owned by this arena until the next reset, set as a copy of the given Matrix4x4.
+     *
+     * @param matrix The Matrix4x4 to copy.
+     * @return A copy of the given Matrix4x4.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public Matrix4x4 matrix4x4(Matrix4x4 matrix) {
+        return track(matrix4x4s.next().set(matrix));
+    }
+
+    /**
+     * Reclaims every instance handed out since the last reset. In debug mode the instances are poisoned rather
+     * than reclaimed.
+     *
+     * @throws IllegalStateException In debug mode, when an instance poisoned by the previous reset was written to.
+     */
+    public void reset() {
+        if (debug) {
+            live.clear();
+        }
+        // Every pool is reset before throwing, so one stale write is reported once and the arena stays usable.
+        String violation = first(vector2Ds.reset(), vector3Ds.reset(), vector4Ds.reset(), matrix3x3s.reset(),
+                matrix4x4s.reset());
+        if (violation != null) {
+            throw new IllegalStateException(violation);
+        }
+    }
+
+    /**
+     * Throws if the given instance was handed out by this arena before the last reset. Only instances are tracked
+     * in debug mode, otherwise this method does nothing.
+     *
+     * @param instance The arena instance about to be used.
+     * @throws IllegalStateException When the instance was handed out before the last reset.
+     */
+    public void checkLive(Object instance) {
+        if (debug && !live.contains(instance)) {
+            throw new IllegalStateException("The instance is not live in this frame of the arena.");
+        }
+    }
+
+    /**
+     * Returns true if this arena detects use after reset.
+     *
+     * @return true if in debug mode, false if not.
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Returns the number of instances handed out since the last reset.
+     *
+     * @return The number of live instances.
+     */
+    public int size() {
+        return vector2Ds.used + vector3Ds.used + vector4Ds.used + matrix3x3s.used + matrix4x4s.used;
+    }
+
+    // Records the given instance as live in debug mode.
+    private <T> T track(T instance) {
+        if (debug) {
+            live.add(instance);
+        }
+        return instance;
+    }
+
+    // Returns the first of the given messages that is not null, or null if all are.
+    private static String first(String... messages) {
+        for (String message : messages) {
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A growable pool of instances of a single type. The instances in use are always the first used elements of
+     * the items array, so reset only has to rewind the count.
+     *
+     * @param <T> The type of instance pooled.
+     */
+    private static final class Pool<T> {
+        private final Supplier<T> factory;
+        // Sets the first instance as a copy of the second.
+        private final BiConsumer<T, T> setter;
+        // NaN filled instance used to poison and verify reclaimed instances in debug mode.
+        private final T poison;
+        private final boolean debug;
+        // In debug mode, the instances poisoned by the last reset.
+        private final List<T> poisoned;
+        private Object[] items = new Object[16];
+        private int used;
+
+        private Pool(Supplier<T> factory, BiConsumer<T, T> setter, T poison, boolean debug) {
+            this.factory = factory;
+            this.setter = setter;
+            this.poison = poison;
+            this.debug = debug;
+            poisoned = debug ? new ArrayList<>() : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T next() {
+            if (used == items.length) {
+                items = Arrays.copyOf(items, used * 2);
+            }
+            Object item = items[used];
+            if (item == null) {
+                item = factory.get();
+                items[used] = item;
+            }
+            used++;
+            return (T) item;
+        }
+
+        /*
+         * Reclaims or poisons the instances of this pool, returning a message describing a poisoned instance that
+         * was written to, or null if none was.
+         */
+        @SuppressWarnings("unchecked")
+        private String reset() {
+            String violation = null;
+            if (debug) {
+                for (T instance : poisoned) {
+                    if (!instance.equals(poison)) {
+                        violation = "A " + instance.getClass().getSimpleName()
+                                + " was written to after the arena was reset.";
+                        break;
+                    }
+                }
+                poisoned.clear();
+                // Poison and forget the instances so they are never handed out again.
+                for (int i = 0; i < used; i++) {
+                    T instance = (T) items[i];
+                    setter.accept(instance, poison);
+                    poisoned.add(instance);
+                    items[i] = null;
+                }
+            }
+            used = 0;
+            return violation;
+        }
+    }
+}
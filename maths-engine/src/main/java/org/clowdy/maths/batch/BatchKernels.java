@@ -0,0 +1,105 @@
+package org.clowdy.maths.batch;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+
+/**
+ * <p>Bulk operations over VectorArrays. Each operation processes every vector of its arrays in a single call,
+ * rather than one call and one object per vector, which suits CPU-side skinning, particles and culling.</p>
+ *
+ * <p>The destination of each operation may be one of its sources. Every array passed to a single operation must
+ * have the same size, otherwise an IllegalArgumentException is thrown.</p>
+ *
+ * <p>The kernels returned by get are chosen once at runtime. On Java 17 or later, when the jdk.incubator.vector
+ * module has been added with --add-modules, the maths-engine jar provides kernels written with the Vector API.
+ * Otherwise, or when the system property clowdy.maths.simd is false, the scalar kernels are used, which are written
+ * as simple loops the JIT can auto-vectorise.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public interface BatchKernels {
+    /**
+     * Returns the fastest BatchKernels available to this runtime.
+     *
+     * @return The selected BatchKernels.
+     */
+    static BatchKernels get() {
+        return KernelSelector.SELECTED;
+    }
+
+    /**
+     * Returns the scalar BatchKernels, available on every runtime.
+     *
+     * @return The scalar BatchKernels.
+     */
+    static BatchKernels scalar() {
+        return ScalarBatchKernels.INSTANCE;
+    }
+
+    /**
+     * Transforms each vector of the source as a position, with a w component of 1, by the given Matrix and stores
+     * the result in the destination. The projective divide is not applied.
+     *
+     * @param matrix The Matrix to transform by.
+     * @param source The positions to transform.
+     * @param dest   The array to store the transformed positions in.
+     */
+    void transformPositions(Matrix4x4 matrix, Vector3Array source, Vector3Array dest);
+
+    /**
+     * Transforms each vector of the source as a direction, with a w component of 0, by the given Matrix and stores
+     * the result in the destination, so translation is ignored.
+     *
+     * @param matrix The Matrix to transform by.
+     * @param source The directions to transform.
+     * @param dest   The array to store the transformed directions in.
+     */
+    void transformDirections(Matrix4x4 matrix, Vector3Array source, Vector3Array dest);
+
+    /**
+     * Transforms each vector of the source by the given Matrix and stores the result in the destination.
+     *
+     * @param matrix The Matrix to transform by.
+     * @param source The vectors to transform.
+     * @param dest   The array to store the transformed vectors in.
+     */
+    void transform(Matrix4x4 matrix, Vector4Array source, Vector4Array dest);
+
+    /**
+     * Adds each vector of the right array to the respective vector of the left array and stores the sum in the
+     * destination.
+     *
+     * @param left  The left vectors.
+     * @param right The right vectors.
+     * @param dest  The array to store the sums in.
+     * @param <A>   The type of the arrays.
+     */
+    <A extends VectorArray<A>> void add(A left, A right, A dest);
+
+    /**
+     * Multiplies each vector of the source by the given scalar and stores the result in the destination.
+     *
+     * @param source The vectors to scale.
+     * @param scalar The scalar to multiply by.
+     * @param dest   The array to store the scaled vectors in.
+     * @param <A>    The type of the arrays.
+     */
+    <A extends VectorArray<A>> void scale(A source, float scalar, A dest);
+
+    /**
+     * Normalises each vector of the source and stores the result in the destination. Unlike Vector.normalise, zero
+     * vectors do not throw and are stored as zero vectors.
+     *
+     * @param source The vectors to normalise.
+     * @param dest   The array to store the normalised vectors in.
+     */
+    void normalise(Vector3Array source, Vector3Array dest);
+
+    /**
+     * Stores the dot product of each pair of respective vectors of the left and right arrays in the destination.
+     *
+     * @param left  The left vectors.
+     * @param right The right vectors.
+     * @param dest  The array to store the dot products in, of at least the size of the vector arrays.
+     */
+    void dot(Vector3Array left, Vector3Array right, float[] dest);
+}
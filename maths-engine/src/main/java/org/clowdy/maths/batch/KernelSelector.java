@@ -0,0 +1,34 @@
+package org.clowdy.maths.batch;
+
+/**
+ * Selects the BatchKernels implementation on first use.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+final class KernelSelector {
+    /*
+     * The Vector API implementation, only present in the Java 17 version of the multi-release jar.
+     */
+    private static final String VECTOR_KERNELS = "org.clowdy.maths.batch.VectorBatchKernels";
+
+    /*
+     * The BatchKernels returned by BatchKernels.get.
+     */
+    static final BatchKernels SELECTED = select();
+
+    private KernelSelector() {
+    }
+
+    private static BatchKernels select() {
+        if (!Boolean.parseBoolean(System.getProperty("clowdy.maths.simd", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarBatchKernels.INSTANCE;
+        }
+        try {
+            return (BatchKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Running from a plain class directory or a jar without the Java 17 version.
+            return ScalarBatchKernels.INSTANCE;
+        }
+    }
+}
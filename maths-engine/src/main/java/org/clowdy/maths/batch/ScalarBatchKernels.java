@@ -0,0 +1,148 @@
+package org.clowdy.maths.batch;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+
+/**
+ * BatchKernels written as plain loops. The element-wise operations run over the packed component arrays as a
+ * whole, which the JIT auto-vectorises. The range methods are also used by the Vector API kernels to process the
+ * vectors left over after their last full vector.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+class ScalarBatchKernels implements BatchKernels {
+    static final ScalarBatchKernels INSTANCE = new ScalarBatchKernels();
+
+    @Override
+    public void transformPositions(Matrix4x4 matrix, Vector3Array source, Vector3Array dest) {
+        check(matrix, source, dest);
+        transform3(matrix, source.data, dest.data, 1, 0, source.size);
+    }
+
+    @Override
+    public void transformDirections(Matrix4x4 matrix, Vector3Array source, Vector3Array dest) {
+        check(matrix, source, dest);
+        transform3(matrix, source.data, dest.data, 0, 0, source.size);
+    }
+
+    @Override
+    public void transform(Matrix4x4 matrix, Vector4Array source, Vector4Array dest) {
+        check(matrix, source, dest);
+        transform4(matrix, source.data, dest.data, 0, source.size);
+    }
+
+    @Override
+    public <A extends VectorArray<A>> void add(A left, A right, A dest) {
+        check(left, right, dest);
+        add(left.data, right.data, dest.data, 0, dest.data.length);
+    }
+
+    @Override
+    public <A extends VectorArray<A>> void scale(A source, float scalar, A dest) {
+        check(source, source, dest);
+        scale(source.data, scalar, dest.data, 0, dest.data.length);
+    }
+
+    @Override
+    public void normalise(Vector3Array source, Vector3Array dest) {
+        check(source, source, dest);
+        normalise(source.data, dest.data, 0, source.size);
+    }
+
+    @Override
+    public void dot(Vector3Array left, Vector3Array right, float[] dest) {
+        check(left, right, left);
+        checkDestination(dest, left.size);
+        dot(left.data, right.data, dest, 0, left.size);
+    }
+
+    // Transforms the vectors from index from to index to, w is 1 for positions and 0 for directions.
+    static void transform3(Matrix4x4 matrix, float[] source, float[] dest, float w, int from, int to) {
+        float m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2), m03 = matrix.get(0, 3) * w;
+        float m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2), m13 = matrix.get(1, 3) * w;
+        float m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2), m23 = matrix.get(2, 3) * w;
+        for (int i = from * 3; i < to * 3; i += 3) {
+            float x = source[i];
+            float y = source[i + 1];
+            float z = source[i + 2];
+            dest[i] = m00 * x + m01 * y + m02 * z + m03;
+            dest[i + 1] = m10 * x + m11 * y + m12 * z + m13;
+            dest[i + 2] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    static void transform4(Matrix4x4 matrix, float[] source, float[] dest, int from, int to) {
+        float m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2), m03 = matrix.get(0, 3);
+        float m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2), m13 = matrix.get(1, 3);
+        float m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2), m23 = matrix.get(2, 3);
+        float m30 = matrix.get(3, 0), m31 = matrix.get(3, 1), m32 = matrix.get(3, 2), m33 = matrix.get(3, 3);
+        for (int i = from * 4; i < to * 4; i += 4) {
+            float x = source[i];
+            float y = source[i + 1];
+            float z = source[i + 2];
+            float w = source[i + 3];
+            dest[i] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dest[i + 1] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dest[i + 2] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dest[i + 3] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    // The element-wise operations run over components, not vectors.
+    static void add(float[] left, float[] right, float[] dest, int from, int to) {
+        for (int i = from; i < to; i++) {
+            dest[i] = left[i] + right[i];
+        }
+    }
+
+    static void scale(float[] source, float scalar, float[] dest, int from, int to) {
+        for (int i = from; i < to; i++) {
+            dest[i] = source[i] * scalar;
+        }
+    }
+
+    static void normalise(float[] source, float[] dest, int from, int to) {
+        for (int i = from * 3; i < to * 3; i += 3) {
+            float x = source[i];
+            float y = source[i + 1];
+            float z = source[i + 2];
+            float lengthSquared = x * x + y * y + z * z;
+            float scale = lengthSquared == 0 ? 0 : (float) (1 / Math.sqrt(lengthSquared));
+            dest[i] = x * scale;
+            dest[i + 1] = y * scale;
+            dest[i + 2] = z * scale;
+        }
+    }
+
+    static void dot(float[] left, float[] right, float[] dest, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int offset = i * 3;
+            dest[i] = left[offset] * right[offset] + left[offset + 1] * right[offset + 1]
+                    + left[offset + 2] * right[offset + 2];
+        }
+    }
+
+    /*
+     * Auxiliary methods used to check the arguments of each operation, throwing an IllegalArgumentException if
+     * any are null or the arrays differ in size.
+     */
+    static <A extends VectorArray<A>> void check(Matrix4x4 matrix, A source, A dest) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        check(source, source, dest);
+    }
+
+    static <A extends VectorArray<A>> void check(A left, A right, A dest) {
+        if (left == null) {
+            throw new IllegalArgumentException("The input VectorArray can not be null.");
+        }
+        left.checkSize(right);
+        left.checkSize(dest);
+    }
+
+    static void checkDestination(float[] dest, int size) {
+        if (dest == null || dest.length < size) {
+            throw new IllegalArgumentException("The destination array must hold at least " + size + " values.");
+        }
+    }
+}
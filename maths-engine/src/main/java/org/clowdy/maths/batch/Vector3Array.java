@@ -0,0 +1,114 @@
+package org.clowdy.maths.batch;
+
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * A VectorArray of 3-dimensional vectors, packed as xyz triples.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Vector3Array extends VectorArray<Vector3Array> {
+    /**
+     * Constructs a Vector3Array of the given number of zero vectors.
+     *
+     * @param size The number of vectors.
+     * @throws IllegalArgumentException When the size is negative.
+     */
+    public Vector3Array(int size) {
+        super(size, 3);
+    }
+
+    @Override
+    public int components() {
+        return 3;
+    }
+
+    /**
+     * Returns this Vector3Array after setting the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @return This Vector3Array.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector3Array set(int index, float x, float y, float z) {
+        int offset = offset(index);
+        data[offset + 0] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = z;
+        return this;
+    }
+
+    /**
+     * Returns this Vector3Array after setting the vector at the given index to the given Vector3D.
+     *
+     * @param index  The index of the vector.
+     * @param vector The Vector3D to copy.
+     * @return This Vector3Array.
+     * @throws IllegalArgumentException  When the input Vector is null.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector3Array set(int index, Vector3D vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param dest  The Vector3D to store the vector in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException  When the destination Vector is null.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector3D get(int index, Vector3D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        int offset = offset(index);
+        return dest.set(data[offset + 0], data[offset + 1], data[offset + 2]);
+    }
+
+    /**
+     * Returns the x component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The x component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getX(int index) {
+        return data[offset(index) + 0];
+    }
+
+    /**
+     * Returns the y component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The y component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getY(int index) {
+        return data[offset(index) + 1];
+    }
+
+    /**
+     * Returns the z component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The z component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getZ(int index) {
+        return data[offset(index) + 2];
+    }
+
+    @Override
+    protected Vector3Array self() {
+        return this;
+    }
+}
@@ -0,0 +1,127 @@
+package org.clowdy.maths.batch;
+
+import org.clowdy.maths.vector.Vector4D;
+
+/**
+ * A VectorArray of 4-dimensional vectors, packed as xyzw quadruples.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Vector4Array extends VectorArray<Vector4Array> {
+    /**
+     * Constructs a Vector4Array of the given number of zero vectors.
+     *
+     * @param size The number of vectors.
+     * @throws IllegalArgumentException When the size is negative.
+     */
+    public Vector4Array(int size) {
+        super(size, 4);
+    }
+
+    @Override
+    public int components() {
+        return 4;
+    }
+
+    /**
+     * Returns this Vector4Array after setting the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param w The w component.
+     * @return This Vector4Array.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector4Array set(int index, float x, float y, float z, float w) {
+        int offset = offset(index);
+        data[offset + 0] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = z;
+        data[offset + 3] = w;
+        return this;
+    }
+
+    /**
+     * Returns this Vector4Array after setting the vector at the given index to the given Vector4D.
+     *
+     * @param index  The index of the vector.
+     * @param vector The Vector4D to copy.
+     * @return This Vector4Array.
+     * @throws IllegalArgumentException  When the input Vector is null.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector4Array set(int index, Vector4D vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return set(index, vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Returns the given Vector4D after setting it to the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param dest  The Vector4D to store the vector in.
+     * @return The given Vector4D.
+     * @throws IllegalArgumentException  When the destination Vector is null.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Vector4D get(int index, Vector4D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        int offset = offset(index);
+        return dest.set(data[offset + 0], data[offset + 1], data[offset + 2], data[offset + 3]);
+    }
+
+    /**
+     * Returns the x component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The x component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getX(int index) {
+        return data[offset(index) + 0];
+    }
+
+    /**
+     * Returns the y component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The y component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getY(int index) {
+        return data[offset(index) + 1];
+    }
+
+    /**
+     * Returns the z component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The z component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getZ(int index) {
+        return data[offset(index) + 2];
+    }
+
+    /**
+     * Returns the w component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @return The w component.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public float getW(int index) {
+        return data[offset(index) + 3];
+    }
+
+    @Override
+    protected Vector4Array self() {
+        return this;
+    }
+}
@@ -0,0 +1,114 @@
+package org.clowdy.maths.batch;
+
+import java.nio.FloatBuffer;
+
+/**
+ * <p>An array of vectors packed into a single float array, with the components of each vector stored next to each
+ * other. Packing the vectors avoids an object and its header per vector, keeps them contiguous in memory and lets
+ * BatchKernels process every vector in a single loop.</p>
+ *
+ * @param <A> The type that extends VectorArray, should be of the type of the implementation.
+ * @author Dominic Cogan-Tucker
+ */
+public abstract class VectorArray<A extends VectorArray<A>> {
+    /*
+     * The packed components, the i-th vector starting at i * components().
+     */
+    protected final float[] data;
+
+    /*
+     * The number of vectors.
+     */
+    protected final int size;
+
+    /*
+     * Constructs a zeroed VectorArray of the given size.
+     */
+    protected VectorArray(int size, int components) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size can not be negative.");
+        }
+        this.size = size;
+        data = new float[size * components];
+    }
+
+    /**
+     * Returns the number of vectors in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of components of each vector.
+     *
+     * @return The number of components.
+     */
+    public abstract int components();
+
+    /**
+     * Returns the backing array of packed components. Changes to the returned array are reflected in this
+     * VectorArray.
+     *
+     * @return The backing array.
+     */
+    public float[] data() {
+        return data;
+    }
+
+    /**
+     * Writes every packed component to the given buffer at its current position, advancing the position.
+     *
+     * @param buffer The buffer to write to.
+     * @return The given buffer.
+     * @throws java.nio.BufferOverflowException When the buffer does not have enough space remaining.
+     */
+    public FloatBuffer get(FloatBuffer buffer) {
+        return buffer.put(data, 0, data.length);
+    }
+
+    /**
+     * Returns this VectorArray after copying the packed components of the given VectorArray into it.
+     *
+     * @param array The VectorArray to copy.
+     * @return This VectorArray.
+     * @throws IllegalArgumentException When the given VectorArray is null or of a different size.
+     */
+    public A set(A array) {
+        checkSize(array);
+        System.arraycopy(array.data, 0, data, 0, data.length);
+        return self();
+    }
+
+    /*
+     * Auxiliary method used to check the given array is not null and has the same size as this one.
+     */
+    protected void checkSize(A array) {
+        if (array == null) {
+            throw new IllegalArgumentException("The input VectorArray can not be null.");
+        }
+        if (array.size != size) {
+            throw new IllegalArgumentException("The input VectorArray has size " + array.size + " but "
+                    + size + " was expected.");
+        }
+    }
+
+    /*
+     * Auxiliary method used to check the given index is in range and return the offset of its first component.
+     */
+    protected int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size + ".");
+        }
+        return index * components();
+    }
+
+    /**
+     * Should be implemented to return this instance of the calling type.
+     *
+     * @return Itself.
+     */
+    protected abstract A self();
+}
@@ -0,0 +1,55 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.util.ReflectionEqualsHelper;
+
+/**
+ * <p>An abstract FixedVector class providing the overridden methods for equals and hashCode, which compare the
+ * exact fixed point components.</p>
+ *
+ * @param <V> The type that extends FixedVector, should be of the type of the implementation.
+ * @author Dominic Cogan-Tucker
+ */
+public abstract class AbstractFixedVector<V extends AbstractFixedVector<V>> implements FixedVector<V> {
+    /**
+     * Returns true if the given vector is equal to this vector, false if not.
+     *
+     * @param vector The vector to check against.
+     * @return true if the given vector is equal to this vector, false if not.
+     */
+    @Override
+    public boolean equals(Object vector) {
+        if (vector instanceof FixedVector) {
+            return ReflectionEqualsHelper.areEquals(this, vector);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this vector.
+     *
+     * @return A hash code for this vector.
+     */
+    @Override
+    public int hashCode() {
+        return ReflectionEqualsHelper.hashcode(this);
+    }
+
+    /*
+     * Auxiliary method used to check if the input vector is equal to null, and if
+     * so throws an IllegalArgumentException with a relevant message.
+     */
+    protected void illegalArgumentCheck(V vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+    }
+
+    /*
+     * Auxiliary method used to check the divisor of divide is not 0.
+     */
+    protected static void divisorCheck(int scalar) {
+        if (scalar == 0) {
+            throw new IllegalArgumentException("Can't divide a vector by 0.");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.clowdy.maths.fixed;
+
+/**
+ * <p>Arithmetic on Q16.16 fixed point numbers stored in an int, 16 bits of integer and 16 bits of fraction, giving
+ * a range of about -32768 to 32768 with a resolution of 1/65536. Every operation is integer arithmetic, so its
+ * result is the same bit for bit on every platform, JVM and JIT compilation tier, unlike float arithmetic whose
+ * fused or reordered operations may differ between them. That determinism is what a lockstep simulation needs to
+ * send only inputs between peers.</p>
+ *
+ * <p>Products and quotients are rounded to the nearest value, halves of a product rounding up and halves of a
+ * quotient away from zero. Overflow wraps as int arithmetic does, which is still deterministic but should be
+ * avoided by keeping values within range. Converting from a float is deterministic too, so floats may be used for
+ * set up data but never for simulation state.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class Fixed {
+    /**
+     * The number of fractional bits.
+     */
+    public static final int FRACTION_BITS = 16;
+
+    /**
+     * The fixed point value of 1.
+     */
+    public static final int ONE = 1 << FRACTION_BITS;
+
+    /**
+     * The fixed point value of 0.5.
+     */
+    public static final int HALF = ONE >> 1;
+
+    /**
+     * The fixed point value closest to pi.
+     */
+    public static final int PI = 205887;
+
+    /**
+     * The fixed point value closest to 2 pi.
+     */
+    public static final int TWO_PI = 411775;
+
+    /**
+     * The fixed point value closest to pi / 2.
+     */
+    public static final int HALF_PI = 102944;
+
+    // Number of samples of a full turn in the sine table, a power of 2 so a position wraps with a mask.
+    private static final int SIN_TABLE_SIZE = 4096;
+    // Sine of each sample, with one extra to interpolate the last sample without wrapping.
+    private static final int[] SIN_TABLE = new int[SIN_TABLE_SIZE + 1];
+    // Table samples per radian in Q16.16, multiplying an angle by it gives a Q32.32 table position.
+    private static final long SAMPLES_PER_RADIAN = StrictMath.round(SIN_TABLE_SIZE / (2 * StrictMath.PI) * ONE);
+
+    static {
+        // StrictMath gives the same table on every platform, where Math.sin may differ in its last bit.
+        for (int i = 0; i <= SIN_TABLE_SIZE; i++) {
+            SIN_TABLE[i] = (int) StrictMath.round(StrictMath.sin(2 * StrictMath.PI * i / SIN_TABLE_SIZE) * ONE);
+        }
+    }
+
+    // Private to prevent instantiation of a static utility class.
+    private Fixed() {
+    }
+
+    /**
+     * Returns the fixed point value of the given int.
+     *
+     * @param value The int to convert.
+     * @return The fixed point value.
+     */
+    public static int fromInt(int value) {
+        return value << FRACTION_BITS;
+    }
+
+    /**
+     * Returns the fixed point value closest to the given float.
+     *
+     * @param value The float to convert.
+     * @return The fixed point value.
+     */
+    public static int fromFloat(float value) {
+        return Math.round(value * ONE);
+    }
+
+    /**
+     * Returns the fixed point value closest to the given fraction, without any floating point arithmetic.
+     *
+     * @param numerator   The numerator of the fraction.
+     * @param denominator The denominator of the fraction.
+     * @return The fixed point value.
+     * @throws ArithmeticException When the denominator is 0.
+     */
+    public static int fromRatio(int numerator, int denominator) {
+        return divide(fromInt(numerator), fromInt(denominator));
+    }
+
+    /**
+     * Returns the float closest to the given fixed point value, for presentation only.
+     *
+     * @param value The fixed point value.
+     * @return The float value.
+     */
+    public static float toFloat(int value) {
+        return value / (float) ONE;
+    }
+
+    /**
+     * Returns the largest int not greater than the given fixed point value.
+     *
+     * @param value The fixed point value.
+     * @return The floor of the value.
+     */
+    public static int toInt(int value) {
+        return value >> FRACTION_BITS;
+    }
+
+    /**
+     * Returns the product of two fixed point values.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     * @return The product a * b.
+     */
+    public static int multiply(int a, int b) {
+        return (int) (((long) a * b + HALF) >> FRACTION_BITS);
+    }
+
+    /**
+     * Returns the quotient of two fixed point values.
+     *
+     * @param a The dividend.
+     * @param b The divisor.
+     * @return The quotient a / b.
+     * @throws ArithmeticException When the divisor is 0.
+     */
+    public static int divide(int a, int b) {
+        long dividend = (long) a << FRACTION_BITS;
+        long quotient = dividend / b;
+        if (Math.abs(dividend % b) * 2 >= Math.abs((long) b)) {
+            quotient += (dividend ^ b) < 0 ? -1 : 1;
+        }
+        return (int) quotient;
+    }
+
+    /**
+     * Returns the square root of a fixed point value.
+     *
+     * @param value The value, not negative.
+     * @return The square root of the value, rounded down.
+     * @throws IllegalArgumentException When the value is negative.
+     */
+    public static int sqrt(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Can't take the square root of a negative value.");
+        }
+        return (int) sqrt((long) value << FRACTION_BITS);
+    }
+
+    /**
+     * Returns the sine of an angle.
+     *
+     * @param angle The fixed point angle in radians.
+     * @return The fixed point sine of the angle.
+     */
+    public static int sin(int angle) {
+        long position = angle * SAMPLES_PER_RADIAN;
+        int index = (int) (position >> 32) & (SIN_TABLE_SIZE - 1);
+        int fraction = (int) ((position >>> FRACTION_BITS) & (ONE - 1));
+        int from = SIN_TABLE[index];
+        return from + multiply(SIN_TABLE[index + 1] - from, fraction);
+    }
+
+    /**
+     * Returns the cosine of an angle.
+     *
+     * @param angle The fixed point angle in radians.
+     * @return The fixed point cosine of the angle.
+     */
+    public static int cos(int angle) {
+        return sin(angle + HALF_PI);
+    }
+
+    /**
+     * Returns the absolute value of a fixed point value.
+     *
+     * @param value The value.
+     * @return The absolute value.
+     */
+    public static int abs(int value) {
+        return Math.abs(value);
+    }
+
+    /*
+     * The integer square root of a non negative long, rounded down, calculated a bit at a time. Package private so
+     * the vectors can take the root of a squared length that does not fit in an int.
+     */
+    static long sqrt(long value) {
+        long root = 0;
+        long bit = 1L << 62;
+        while (bit > value) {
+            bit >>= 2;
+        }
+        while (bit != 0) {
+            if (value >= root + bit) {
+                value -= root + bit;
+                root = (root >> 1) + bit;
+            } else {
+                root >>= 1;
+            }
+            bit >>= 2;
+        }
+        return root;
+    }
+}
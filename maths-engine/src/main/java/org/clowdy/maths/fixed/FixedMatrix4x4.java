@@ -0,0 +1,620 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.util.StringFormatter;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>The fixed point counterpart of Matrix4x4, a 4x4 matrix of Q16.16 elements stored in column major order. Each
+ * element of a product is accumulated exactly in a long and rounded once, so products are deterministic and no
+ * less accurate than the resolution of the elements allows.</p>
+ *
+ * <p>The Matrix interface is written in floats, so this class follows its fluent API without implementing it,
+ * taking and returning Q16.16 ints wherever Matrix takes or returns a float.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class FixedMatrix4x4 {
+    /*
+     * The fixed point elements in column major order, element (r, c) at c * 4 + r.
+     */
+    private final int[] data = new int[16];
+
+    /**
+     * Constructs a zero matrix.
+     */
+    public FixedMatrix4x4() {
+    }
+
+    /**
+     * Constructs a FixedMatrix4x4 that clones the given FixedMatrix4x4.
+     *
+     * @param matrix The matrix to clone.
+     */
+    public FixedMatrix4x4(FixedMatrix4x4 matrix) {
+        set(matrix);
+    }
+
+    /**
+     * Constructs a FixedMatrix4x4 of the given fixed point elements, given a row at a time.
+     *
+     * @param m00 The element at row 0, column 0.
+     * @param m01 The element at row 0, column 1.
+     * @param m02 The element at row 0, column 2.
+     * @param m03 The element at row 0, column 3.
+     * @param m10 The element at row 1, column 0.
+     * @param m11 The element at row 1, column 1.
+     * @param m12 The element at row 1, column 2.
+     * @param m13 The element at row 1, column 3.
+     * @param m20 The element at row 2, column 0.
+     * @param m21 The element at row 2, column 1.
+     * @param m22 The element at row 2, column 2.
+     * @param m23 The element at row 2, column 3.
+     * @param m30 The element at row 3, column 0.
+     * @param m31 The element at row 3, column 1.
+     * @param m32 The element at row 3, column 2.
+     * @param m33 The element at row 3, column 3.
+     */
+    public FixedMatrix4x4(int m00, int m01, int m02, int m03, int m10, int m11, int m12, int m13,
+                          int m20, int m21, int m22, int m23, int m30, int m31, int m32, int m33) {
+        set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+    }
+
+    /**
+     * Returns this Matrix after setting its fixed point elements, given a row at a time.
+     *
+     * @param m00 The element at row 0, column 0.
+     * @param m01 The element at row 0, column 1.
+     * @param m02 The element at row 0, column 2.
+     * @param m03 The element at row 0, column 3.
+     * @param m10 The element at row 1, column 0.
+     * @param m11 The element at row 1, column 1.
+     * @param m12 The element at row 1, column 2.
+     * @param m13 The element at row 1, column 3.
+     * @param m20 The element at row 2, column 0.
+     * @param m21 The element at row 2, column 1.
+     * @param m22 The element at row 2, column 2.
+     * @param m23 The element at row 2, column 3.
+     * @param m30 The element at row 3, column 0.
+     * @param m31 The element at row 3, column 1.
+     * @param m32 The element at row 3, column 2.
+     * @param m33 The element at row 3, column 3.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 set(int m00, int m01, int m02, int m03, int m10, int m11, int m12, int m13,
+                              int m20, int m21, int m22, int m23, int m30, int m31, int m32, int m33) {
+        data[0] = m00;
+        data[1] = m10;
+        data[2] = m20;
+        data[3] = m30;
+        data[4] = m01;
+        data[5] = m11;
+        data[6] = m21;
+        data[7] = m31;
+        data[8] = m02;
+        data[9] = m12;
+        data[10] = m22;
+        data[11] = m32;
+        data[12] = m03;
+        data[13] = m13;
+        data[14] = m23;
+        data[15] = m33;
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after setting it as a clone of the given Matrix.
+     *
+     * @param matrix The Matrix to clone.
+     * @return This Matrix.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public FixedMatrix4x4 set(FixedMatrix4x4 matrix) {
+        illegalArgumentCheck(matrix);
+        System.arraycopy(matrix.data, 0, data, 0, 16);
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after setting it to the fixed point values closest to the given Matrix4x4.
+     *
+     * @param matrix The Matrix4x4 to convert.
+     * @return This Matrix.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public FixedMatrix4x4 set(Matrix4x4 matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        for (int c = 0; c < 4; c++) {
+            for (int r = 0; r < 4; r++) {
+                data[c * 4 + r] = Fixed.fromFloat(matrix.get(r, c));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the given Matrix4x4 after setting it to the float values of this Matrix, e.g. for rendering.
+     *
+     * @param dest The Matrix4x4 to store the values in.
+     * @return The given Matrix4x4.
+     * @throws IllegalArgumentException When the destination Matrix is null.
+     */
+    public Matrix4x4 get(Matrix4x4 dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Matrix can not be null.");
+        }
+        for (int c = 0; c < 4; c++) {
+            for (int r = 0; r < 4; r++) {
+                dest.set(r, c, Fixed.toFloat(data[c * 4 + r]));
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the fixed point element at the given row and column.
+     *
+     * @param row    The row of the element, starting from 0.
+     * @param column The column of the element, starting from 0.
+     * @return The element at the given row and column.
+     * @throws IndexOutOfBoundsException When the row or column is outside this Matrix.
+     */
+    public int get(int row, int column) {
+        return data[index(row, column)];
+    }
+
+    /**
+     * Returns this Matrix after setting the fixed point element at the given row and column.
+     *
+     * @param row    The row of the element, starting from 0.
+     * @param column The column of the element, starting from 0.
+     * @param value  The value to set the element to.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the row or column is outside this Matrix.
+     */
+    public FixedMatrix4x4 set(int row, int column, int value) {
+        data[index(row, column)] = value;
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after setting it as the identity matrix.
+     *
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 identity() {
+        int one = Fixed.ONE;
+        return set(one, 0, 0, 0, 0, one, 0, 0, 0, 0, one, 0, 0, 0, 0, one);
+    }
+
+    /**
+     * Returns this Matrix after setting it as a translation by the given fixed point offsets.
+     *
+     * @param x The translation along x.
+     * @param y The translation along y.
+     * @param z The translation along z.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 translation(int x, int y, int z) {
+        int one = Fixed.ONE;
+        return set(one, 0, 0, x, 0, one, 0, y, 0, 0, one, z, 0, 0, 0, one);
+    }
+
+    /**
+     * Returns this Matrix after setting it as a rotation about the x axis by the given fixed point angle.
+     *
+     * @param angle The angle in radians.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 rotationX(int angle) {
+        int one = Fixed.ONE, sin = Fixed.sin(angle), cos = Fixed.cos(angle);
+        return set(one, 0, 0, 0, 0, cos, -sin, 0, 0, sin, cos, 0, 0, 0, 0, one);
+    }
+
+    /**
+     * Returns this Matrix after setting it as a rotation about the y axis by the given fixed point angle.
+     *
+     * @param angle The angle in radians.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 rotationY(int angle) {
+        int one = Fixed.ONE, sin = Fixed.sin(angle), cos = Fixed.cos(angle);
+        return set(cos, 0, sin, 0, 0, one, 0, 0, -sin, 0, cos, 0, 0, 0, 0, one);
+    }
+
+    /**
+     * Returns this Matrix after setting it as a rotation about the z axis by the given fixed point angle.
+     *
+     * @param angle The angle in radians.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 rotationZ(int angle) {
+        int one = Fixed.ONE, sin = Fixed.sin(angle), cos = Fixed.cos(angle);
+        return set(cos, -sin, 0, 0, sin, cos, 0, 0, 0, 0, one, 0, 0, 0, 0, one);
+    }
+
+    /**
+     * Returns this Matrix after multiplying it on the right by the given Matrix.
+     *
+     * @param matrix The Matrix to multiply by.
+     * @return This Matrix.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public FixedMatrix4x4 multiply(FixedMatrix4x4 matrix) {
+        return multiply(this, matrix, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the product of the left and right Matrices. The
+     * destination may be either input.
+     *
+     * @param left  The left Matrix of the product.
+     * @param right The right Matrix of the product.
+     * @param dest  The Matrix to store the product in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When any of the Matrices are null.
+     */
+    public static FixedMatrix4x4 multiply(FixedMatrix4x4 left, FixedMatrix4x4 right, FixedMatrix4x4 dest) {
+        if (left == null || right == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        int[] a = left.data;
+        int[] b = right.data;
+        int[] product = dest == left || dest == right ? new int[16] : dest.data;
+        for (int c = 0; c < 16; c += 4) {
+            for (int r = 0; r < 4; r++) {
+                product[c + r] = (int) (((long) a[r] * b[c] + (long) a[4 + r] * b[c + 1]
+                        + (long) a[8 + r] * b[c + 2] + (long) a[12 + r] * b[c + 3] + Fixed.HALF)
+                        >> Fixed.FRACTION_BITS);
+            }
+        }
+        if (product != dest.data) {
+            System.arraycopy(product, 0, dest.data, 0, 16);
+        }
+        return dest;
+    }
+
+    /**
+     * Returns this Matrix after adding the given Matrix to it.
+     *
+     * @param matrix The Matrix to add.
+     * @return This Matrix.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public FixedMatrix4x4 add(FixedMatrix4x4 matrix) {
+        illegalArgumentCheck(matrix);
+        for (int i = 0; i < 16; i++) {
+            data[i] += matrix.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after subtracting the given Matrix from it.
+     *
+     * @param matrix The Matrix to subtract.
+     * @return This Matrix.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public FixedMatrix4x4 subtract(FixedMatrix4x4 matrix) {
+        illegalArgumentCheck(matrix);
+        for (int i = 0; i < 16; i++) {
+            data[i] -= matrix.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after multiplying each element by the given fixed point scalar.
+     *
+     * @param scalar The scalar to multiply by.
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 multiply(int scalar) {
+        for (int i = 0; i < 16; i++) {
+            data[i] = Fixed.multiply(data[i], scalar);
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after transposing it.
+     *
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 transpose() {
+        for (int c = 1; c < 4; c++) {
+            for (int r = 0; r < c; r++) {
+                int temp = data[c * 4 + r];
+                data[c * 4 + r] = data[r * 4 + c];
+                data[r * 4 + c] = temp;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the fixed point determinant of this Matrix. It is expanded from the twelve 2x2 minors of the top and
+     * bottom two rows, each rounded to fixed point in a long, so the result is the same on every platform.
+     *
+     * @return The determinant of this Matrix.
+     */
+    public int determinant() {
+        long[] minors = minors();
+        return (int) determinant(minors);
+    }
+
+    /**
+     * Returns this Matrix after setting it as its adjugate.
+     *
+     * @return This Matrix.
+     */
+    public FixedMatrix4x4 adjugate() {
+        long[] adjugate = adjugate(minors());
+        for (int i = 0; i < 16; i++) {
+            data[i] = (int) adjugate[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after setting it as its inverse. Each element of the adjugate is divided by the
+     * determinant and rounded once, rather than multiplied by a rounded reciprocal.
+     *
+     * @return This Matrix.
+     * @throws IllegalStateException When this Matrix doesn't have an inverse at fixed point resolution.
+     */
+    public FixedMatrix4x4 inverse() {
+        long[] minors = minors();
+        long det = determinant(minors);
+        if (det == 0) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        long[] adjugate = adjugate(minors);
+        for (int i = 0; i < 16; i++) {
+            data[i] = divide(adjugate[i], det);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the fixed point elements of this Matrix into the given buffer in column major order, starting at the
+     * given index. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param index  The index of the first element in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element at the index.
+     */
+    public IntBuffer get(IntBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 16);
+        for (int i = 0; i < 16; i++) {
+            buffer.put(index + i, data[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes the fixed point elements of this Matrix into the given buffer in column major order, in the buffer's
+     * byte order, starting at the given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param offset The byte offset of the first element in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element at the offset.
+     */
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 16 * Integer.BYTES);
+        for (int i = 0; i < 16; i++) {
+            buffer.putInt(offset + i * Integer.BYTES, data[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns this Matrix after reading its fixed point elements in column major order from the given buffer,
+     * starting at the given index. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param index  The index of the first element in the buffer.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every element at the index.
+     */
+    public FixedMatrix4x4 load(IntBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 16);
+        for (int i = 0; i < 16; i++) {
+            data[i] = buffer.get(index + i);
+        }
+        return this;
+    }
+
+    /**
+     * Returns this Matrix after reading its fixed point elements in column major order from the given buffer, in
+     * the buffer's byte order, starting at the given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param offset The byte offset of the first element in the buffer.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every element at the offset.
+     */
+    public FixedMatrix4x4 load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 16 * Integer.BYTES);
+        for (int i = 0; i < 16; i++) {
+            data[i] = buffer.getInt(offset + i * Integer.BYTES);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the given point after transforming it by this Matrix, including its translation and assuming the
+     * bottom row is (0, 0, 0, 1).
+     *
+     * @param point The point to transform.
+     * @return The given point.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public FixedVector3 transformPoint(FixedVector3 point) {
+        return transform(point, 1);
+    }
+
+    /**
+     * Returns the given direction after transforming it by the upper 3x3 of this Matrix, ignoring its
+     * translation.
+     *
+     * @param direction The direction to transform.
+     * @return The given direction.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public FixedVector3 transformDirection(FixedVector3 direction) {
+        return transform(direction, 0);
+    }
+
+    /**
+     * Returns true if the given matrix has exactly the same elements as this matrix, false if not.
+     *
+     * @param other The matrix to check against.
+     * @return true if the given matrix is equal to this matrix, false if not.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FixedMatrix4x4 && Arrays.equals(data, ((FixedMatrix4x4) other).data);
+    }
+
+    /**
+     * Returns a hash code for this matrix.
+     *
+     * @return A hash code for this matrix.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    /**
+     * Returns the String form of this matrix in decimal, a row per line.
+     *
+     * @return The String form of this matrix.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int r = 0; r < 4; r++) {
+            builder.append(r == 0 ? "[" : " ");
+            for (int c = 0; c < 4; c++) {
+                builder.append(StringFormatter.removeTrailingZero(Fixed.toFloat(data[c * 4 + r])));
+                builder.append(c == 3 ? (r == 3 ? "]" : "\n") : ", ");
+            }
+        }
+        return builder.toString();
+    }
+
+    /*
+     * Transforms the given vector with the given w of 1 for a point or 0 for a direction.
+     */
+    private FixedVector3 transform(FixedVector3 vector, int w) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        long x = vector.x, y = vector.y, z = vector.z;
+        return vector.set(transformRow(0, x, y, z, w), transformRow(1, x, y, z, w), transformRow(2, x, y, z, w));
+    }
+
+    private int transformRow(int r, long x, long y, long z, int w) {
+        long translation = w == 0 ? 0 : (long) data[12 + r] << Fixed.FRACTION_BITS;
+        return (int) ((data[r] * x + data[4 + r] * y + data[8 + r] * z + translation + Fixed.HALF)
+                >> Fixed.FRACTION_BITS);
+    }
+
+    /*
+     * Returns the 2x2 minors of the top two rows, s0 to s5, followed by those of the bottom two rows, c0 to c5,
+     * each rounded to fixed point.
+     */
+    private long[] minors() {
+        int[] m = data;
+        return new long[]{
+                minor(m[0], m[5], m[1], m[4]), minor(m[0], m[9], m[1], m[8]), minor(m[0], m[13], m[1], m[12]),
+                minor(m[4], m[9], m[5], m[8]), minor(m[4], m[13], m[5], m[12]), minor(m[8], m[13], m[9], m[12]),
+                minor(m[2], m[7], m[3], m[6]), minor(m[2], m[11], m[3], m[10]), minor(m[2], m[15], m[3], m[14]),
+                minor(m[6], m[11], m[7], m[10]), minor(m[6], m[15], m[7], m[14]), minor(m[10], m[15], m[11], m[14])
+        };
+    }
+
+    private static long minor(long a, long d, long b, long c) {
+        return (a * d - b * c + Fixed.HALF) >> Fixed.FRACTION_BITS;
+    }
+
+    private static long determinant(long[] k) {
+        return (k[0] * k[11] - k[1] * k[10] + k[2] * k[9] + k[3] * k[8] - k[4] * k[7] + k[5] * k[6] + Fixed.HALF)
+                >> Fixed.FRACTION_BITS;
+    }
+
+    /*
+     * Returns the adjugate in column major order from the minors, each element rounded once from the sum of its
+     * three products.
+     */
+    private long[] adjugate(long[] k) {
+        int[] m = data;
+        long s0 = k[0], s1 = k[1], s2 = k[2], s3 = k[3], s4 = k[4], s5 = k[5];
+        long c0 = k[6], c1 = k[7], c2 = k[8], c3 = k[9], c4 = k[10], c5 = k[11];
+        long a00 = m[0], a10 = m[1], a20 = m[2], a30 = m[3], a01 = m[4], a11 = m[5], a21 = m[6], a31 = m[7];
+        long a02 = m[8], a12 = m[9], a22 = m[10], a32 = m[11], a03 = m[12], a13 = m[13], a23 = m[14], a33 = m[15];
+        return new long[]{
+                round(a11 * c5 - a12 * c4 + a13 * c3), round(-a10 * c5 + a12 * c2 - a13 * c1),
+                round(a10 * c4 - a11 * c2 + a13 * c0), round(-a10 * c3 + a11 * c1 - a12 * c0),
+                round(-a01 * c5 + a02 * c4 - a03 * c3), round(a00 * c5 - a02 * c2 + a03 * c1),
+                round(-a00 * c4 + a01 * c2 - a03 * c0), round(a00 * c3 - a01 * c1 + a02 * c0),
+                round(a31 * s5 - a32 * s4 + a33 * s3), round(-a30 * s5 + a32 * s2 - a33 * s1),
+                round(a30 * s4 - a31 * s2 + a33 * s0), round(-a30 * s3 + a31 * s1 - a32 * s0),
+                round(-a21 * s5 + a22 * s4 - a23 * s3), round(a20 * s5 - a22 * s2 + a23 * s1),
+                round(-a20 * s4 + a21 * s2 - a23 * s0), round(a20 * s3 - a21 * s1 + a22 * s0)
+        };
+    }
+
+    private static long round(long product) {
+        return (product + Fixed.HALF) >> Fixed.FRACTION_BITS;
+    }
+
+    /*
+     * Divides two fixed point longs, rounding half away from zero as Fixed.divide does.
+     */
+    private static int divide(long a, long b) {
+        long dividend = a << Fixed.FRACTION_BITS;
+        long quotient = dividend / b;
+        if (Math.abs(dividend % b) * 2 >= Math.abs(b)) {
+            quotient += (dividend ^ b) < 0 ? -1 : 1;
+        }
+        return (int) quotient;
+    }
+
+    /*
+     * Checks the whole of this matrix fits in a buffer at the given start, so it is never partially written.
+     */
+    private static void checkRange(int limit, int start, int length) {
+        if (start < 0 || start > limit - length) {
+            throw new IndexOutOfBoundsException("A matrix of " + length + " at " + start
+                    + " does not fit in a buffer with limit " + limit + ".");
+        }
+    }
+
+    private static int index(int row, int column) {
+        if (row < 0 || row >= 4 || column < 0 || column >= 4) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + column + ") is outside a 4x4 matrix.");
+        }
+        return column * 4 + row;
+    }
+
+    /*
+     * Auxiliary method used to check if the input matrix is equal to null, and if
+     * so throws an IllegalArgumentException.
+     */
+    private static void illegalArgumentCheck(FixedMatrix4x4 matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.clowdy.maths.fixed;
+
+/**
+ * <p>The root interface of the fixed point Vector hierarchy, the deterministic counterpart of the Vector interface.
+ * Every component and scalar is a Q16.16 fixed point int as described by Fixed, so a simulation built on fixed
+ * point vectors produces bit for bit the same state on every platform.</p>
+ *
+ * <p>As with Vector, operations modify and return the Vector they are called on so they can be chained, and never
+ * modify an input Vector.</p>
+ *
+ * @param <V> A type that extends FixedVector. In practice this should be the class of the implementation.
+ * @author Dominic Cogan-Tucker
+ */
+public interface FixedVector<V extends FixedVector<V>> {
+    /**
+     * Return this Vector after setting it as a clone of the given Vector.
+     *
+     * @param vector The vector to clone.
+     * @return This Vector.
+     */
+    V set(V vector);
+
+    /**
+     * Return this Vector after setting every component equal to the given fixed point value.
+     *
+     * @param value The value to set all components.
+     * @return This Vector.
+     */
+    V set(int value);
+
+    /**
+     * Return this Vector after adding the given Vector to it.
+     *
+     * @param vector The Vector to add.
+     * @return This Vector.
+     */
+    V add(V vector);
+
+    /**
+     * Return this Vector after subtracting the given Vector from it.
+     *
+     * @param vector The Vector to subtract.
+     * @return This Vector.
+     */
+    V subtract(V vector);
+
+    /**
+     * Return this Vector after multiplying it by the given fixed point scalar.
+     *
+     * @param scalar The scalar value to multiply by.
+     * @return This Vector.
+     */
+    V multiply(int scalar);
+
+    /**
+     * Return this Vector after dividing it by the given fixed point scalar.
+     *
+     * @param scalar The scalar to divide by.
+     * @return This Vector.
+     * @throws IllegalArgumentException When the given scalar is 0.
+     */
+    V divide(int scalar);
+
+    /**
+     * Return the fixed point dot product of this Vector with the given Vector, rounded once from the exact sum.
+     *
+     * @param vector The Vector to dot with.
+     * @return The dot product of this Vector and the given Vector.
+     */
+    int dot(V vector);
+
+    /**
+     * Returns the fixed point length of this Vector, rounded down. The length is taken from the exact squared
+     * length, so it does not overflow even where lengthSquared does.
+     *
+     * @return The length of this Vector.
+     */
+    int length();
+
+    /**
+     * Returns the fixed point square of the length of this Vector, which overflows for lengths beyond about 181.
+     *
+     * @return The squared length of this Vector.
+     */
+    int lengthSquared();
+
+    /**
+     * Returns the number of components of this Vector.
+     *
+     * @return The number of components of this Vector.
+     */
+    int components();
+
+    /**
+     * Return this Vector after negating its direction.
+     *
+     * @return This Vector.
+     */
+    default V negate() {
+        return multiply(-Fixed.ONE);
+    }
+
+    /**
+     * Return this Vector after it has been normalised.
+     *
+     * @return This Vector.
+     * @throws IllegalStateException When this Vector has a length of 0.
+     */
+    default V normalise() {
+        int length = length();
+        if (length == 0) {
+            throw new IllegalStateException("Can not normalise a vector of zero length.");
+        }
+        return divide(length);
+    }
+}
@@ -0,0 +1,187 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.maths.vector.Vector2D;
+import org.clowdy.util.StringFormatter;
+
+/**
+ * The fixed point counterpart of Vector2D, a vector in 2-dimensional Euclidean Space with Q16.16 x and y
+ * components.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class FixedVector2 extends AbstractFixedVector<FixedVector2> {
+    /**
+     * The fixed point x component of this Vector.
+     */
+    public int x;
+
+    /**
+     * The fixed point y component of this Vector.
+     */
+    public int y;
+
+    /**
+     * Construct a zero vector.
+     */
+    public FixedVector2() {
+    }
+
+    /**
+     * Construct a FixedVector2 that clones a given FixedVector2.
+     *
+     * @param vector The FixedVector2 to clone.
+     */
+    public FixedVector2(FixedVector2 vector) {
+        set(vector);
+    }
+
+    /**
+     * Constructs a FixedVector2 where both components are equal to the given fixed point value.
+     *
+     * @param value The fixed point value to set x and y.
+     */
+    public FixedVector2(int value) {
+        set(value);
+    }
+
+    /**
+     * Constructs a FixedVector2 with the given fixed point components.
+     *
+     * @param x The value to set x.
+     * @param y The value to set y.
+     */
+    public FixedVector2(int x, int y) {
+        set(x, y);
+    }
+
+    /**
+     * Return this Vector after setting the x and y components with the given fixed point values.
+     *
+     * @param x The value to set x.
+     * @param y The value to set y.
+     * @return This Vector.
+     */
+    public FixedVector2 set(int x, int y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector2 set(FixedVector2 vector) {
+        illegalArgumentCheck(vector);
+        return set(vector.x, vector.y);
+    }
+
+    @Override
+    public FixedVector2 set(int value) {
+        return set(value, value);
+    }
+
+    /**
+     * Return this Vector after setting it to the fixed point values closest to the given Vector2D.
+     *
+     * @param vector The Vector2D to convert.
+     * @return This Vector.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public FixedVector2 set(Vector2D vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return set(Fixed.fromFloat(vector.x), Fixed.fromFloat(vector.y));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector2 add(FixedVector2 vector) {
+        illegalArgumentCheck(vector);
+        x += vector.x;
+        y += vector.y;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector2 subtract(FixedVector2 vector) {
+        illegalArgumentCheck(vector);
+        x -= vector.x;
+        y -= vector.y;
+        return this;
+    }
+
+    @Override
+    public FixedVector2 multiply(int scalar) {
+        return set(Fixed.multiply(x, scalar), Fixed.multiply(y, scalar));
+    }
+
+    @Override
+    public FixedVector2 divide(int scalar) {
+        divisorCheck(scalar);
+        return set(Fixed.divide(x, scalar), Fixed.divide(y, scalar));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public int dot(FixedVector2 vector) {
+        illegalArgumentCheck(vector);
+        return (int) (((long) x * vector.x + (long) y * vector.y + Fixed.HALF) >> Fixed.FRACTION_BITS);
+    }
+
+    @Override
+    public int length() {
+        return (int) Fixed.sqrt((long) x * x + (long) y * y);
+    }
+
+    @Override
+    public int lengthSquared() {
+        return (int) (((long) x * x + (long) y * y + Fixed.HALF) >> Fixed.FRACTION_BITS);
+    }
+
+    @Override
+    public int components() {
+        return 2;
+    }
+
+    /**
+     * Returns the given Vector2D after setting it to the float values of this Vector, for presentation only.
+     *
+     * @param dest The Vector2D to store the values in.
+     * @return The given Vector2D.
+     * @throws IllegalArgumentException When the destination Vector is null.
+     */
+    public Vector2D get(Vector2D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        return dest.set(Fixed.toFloat(x), Fixed.toFloat(y));
+    }
+
+    /**
+     * Return the String form of this FixedVector2 in decimal. e.g. (1, 2.5).
+     *
+     * @return The String form of this FixedVector2.
+     */
+    @Override
+    public String toString() {
+        return "(" + StringFormatter.removeTrailingZero(Fixed.toFloat(x)) + ", "
+                + StringFormatter.removeTrailingZero(Fixed.toFloat(y)) + ")";
+    }
+}
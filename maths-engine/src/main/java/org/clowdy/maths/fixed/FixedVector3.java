@@ -0,0 +1,219 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.util.StringFormatter;
+
+/**
+ * The fixed point counterpart of Vector3D, a vector in 3-dimensional Euclidean Space with Q16.16 x, y and z
+ * components.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class FixedVector3 extends AbstractFixedVector<FixedVector3> {
+    /**
+     * The fixed point x component of this Vector.
+     */
+    public int x;
+
+    /**
+     * The fixed point y component of this Vector.
+     */
+    public int y;
+
+    /**
+     * The fixed point z component of this Vector.
+     */
+    public int z;
+
+    /**
+     * Construct a zero vector.
+     */
+    public FixedVector3() {
+    }
+
+    /**
+     * Construct a FixedVector3 that clones a given FixedVector3.
+     *
+     * @param vector The FixedVector3 to clone.
+     */
+    public FixedVector3(FixedVector3 vector) {
+        set(vector);
+    }
+
+    /**
+     * Constructs a FixedVector3 where every component is equal to the given fixed point value.
+     *
+     * @param value The fixed point value to set x, y and z.
+     */
+    public FixedVector3(int value) {
+        set(value);
+    }
+
+    /**
+     * Constructs a FixedVector3 with the given fixed point components.
+     *
+     * @param x The value to set x.
+     * @param y The value to set y.
+     * @param z The value to set z.
+     */
+    public FixedVector3(int x, int y, int z) {
+        set(x, y, z);
+    }
+
+    /**
+     * Return this Vector after setting the x, y and z components with the given fixed point values.
+     *
+     * @param x The value to set x.
+     * @param y The value to set y.
+     * @param z The value to set z.
+     * @return This Vector.
+     */
+    public FixedVector3 set(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector3 set(FixedVector3 vector) {
+        illegalArgumentCheck(vector);
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    @Override
+    public FixedVector3 set(int value) {
+        return set(value, value, value);
+    }
+
+    /**
+     * Return this Vector after setting it to the fixed point values closest to the given Vector3D.
+     *
+     * @param vector The Vector3D to convert.
+     * @return This Vector.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public FixedVector3 set(Vector3D vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return set(Fixed.fromFloat(vector.x), Fixed.fromFloat(vector.y), Fixed.fromFloat(vector.z));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector3 add(FixedVector3 vector) {
+        illegalArgumentCheck(vector);
+        x += vector.x;
+        y += vector.y;
+        z += vector.z;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public FixedVector3 subtract(FixedVector3 vector) {
+        illegalArgumentCheck(vector);
+        x -= vector.x;
+        y -= vector.y;
+        z -= vector.z;
+        return this;
+    }
+
+    @Override
+    public FixedVector3 multiply(int scalar) {
+        return set(Fixed.multiply(x, scalar), Fixed.multiply(y, scalar), Fixed.multiply(z, scalar));
+    }
+
+    @Override
+    public FixedVector3 divide(int scalar) {
+        divisorCheck(scalar);
+        return set(Fixed.divide(x, scalar), Fixed.divide(y, scalar), Fixed.divide(z, scalar));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public int dot(FixedVector3 vector) {
+        illegalArgumentCheck(vector);
+        return (int) (((long) x * vector.x + (long) y * vector.y + (long) z * vector.z + Fixed.HALF)
+                >> Fixed.FRACTION_BITS);
+    }
+
+    @Override
+    public int length() {
+        return (int) Fixed.sqrt((long) x * x + (long) y * y + (long) z * z);
+    }
+
+    @Override
+    public int lengthSquared() {
+        return (int) (((long) x * x + (long) y * y + (long) z * z + Fixed.HALF) >> Fixed.FRACTION_BITS);
+    }
+
+    /**
+     * Returns this Vector after setting it as the cross product of itself with the given Vector.
+     *
+     * @param vector The Vector to cross with.
+     * @return This Vector.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public FixedVector3 cross(FixedVector3 vector) {
+        illegalArgumentCheck(vector);
+        return set(crossTerm(y, vector.z, z, vector.y), crossTerm(z, vector.x, x, vector.z),
+                crossTerm(x, vector.y, y, vector.x));
+    }
+
+    @Override
+    public int components() {
+        return 3;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the float values of this Vector, for presentation only.
+     *
+     * @param dest The Vector3D to store the values in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException When the destination Vector is null.
+     */
+    public Vector3D get(Vector3D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        return dest.set(Fixed.toFloat(x), Fixed.toFloat(y), Fixed.toFloat(z));
+    }
+
+    /**
+     * Return the String form of this FixedVector3 in decimal. e.g. (1, 2.5, 3).
+     *
+     * @return The String form of this FixedVector3.
+     */
+    @Override
+    public String toString() {
+        return "(" + StringFormatter.removeTrailingZero(Fixed.toFloat(x)) + ", "
+                + StringFormatter.removeTrailingZero(Fixed.toFloat(y)) + ", "
+                + StringFormatter.removeTrailingZero(Fixed.toFloat(z)) + ")";
+    }
+
+    /*
+     * a * b - c * d rounded once from the exact difference.
+     */
+    private static int crossTerm(int a, int b, int c, int d) {
+        return (int) (((long) a * b - (long) c * d + Fixed.HALF) >> Fixed.FRACTION_BITS);
+    }
+}
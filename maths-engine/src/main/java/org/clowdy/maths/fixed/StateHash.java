@@ -0,0 +1,106 @@
+package org.clowdy.maths.fixed;
+
+/**
+ * <p>A running 64-bit FNV-1a hash of simulation state, fed one int at a time. Peers of a lockstep simulation
+ * exchange the hash of each step alongside their inputs; as fixed point state is identical bit for bit on every
+ * peer, a differing hash pinpoints the first step at which they desynchronised.</p>
+ *
+ * <p>The hash is order dependent, so state must be added in the same order on every peer, e.g. by entity id rather
+ * than by iteration order of a hash map.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class StateHash {
+    // The FNV-1a 64-bit offset basis and prime.
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    /**
+     * Returns this StateHash after adding the given int.
+     *
+     * @param value The value to add.
+     * @return This StateHash.
+     */
+    public StateHash add(int value) {
+        hash = (hash ^ (value & 0xffffffffL)) * PRIME;
+        return this;
+    }
+
+    /**
+     * Returns this StateHash after adding the given long.
+     *
+     * @param value The value to add.
+     * @return This StateHash.
+     */
+    public StateHash add(long value) {
+        return add((int) (value >>> 32)).add((int) value);
+    }
+
+    /**
+     * Returns this StateHash after adding the components of the given Vector.
+     *
+     * @param vector The Vector to add.
+     * @return This StateHash.
+     * @throws IllegalArgumentException When the Vector is null.
+     */
+    public StateHash add(FixedVector2 vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return add(vector.x).add(vector.y);
+    }
+
+    /**
+     * Returns this StateHash after adding the components of the given Vector.
+     *
+     * @param vector The Vector to add.
+     * @return This StateHash.
+     * @throws IllegalArgumentException When the Vector is null.
+     */
+    public StateHash add(FixedVector3 vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return add(vector.x).add(vector.y).add(vector.z);
+    }
+
+    /**
+     * Returns this StateHash after adding the elements of the given Matrix in column major order.
+     *
+     * @param matrix The Matrix to add.
+     * @return This StateHash.
+     * @throws IllegalArgumentException When the Matrix is null.
+     */
+    public StateHash add(FixedMatrix4x4 matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        for (int c = 0; c < 4; c++) {
+            for (int r = 0; r < 4; r++) {
+                add(matrix.get(r, c));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the hash of everything added since construction or the last reset.
+     *
+     * @return The hash.
+     */
+    public long value() {
+        return hash;
+    }
+
+    /**
+     * Returns this StateHash after discarding everything added to it.
+     *
+     * @return This StateHash.
+     */
+    public StateHash reset() {
+        hash = OFFSET_BASIS;
+        return this;
+    }
+}
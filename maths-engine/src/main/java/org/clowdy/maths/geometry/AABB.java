@@ -0,0 +1,233 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * An axis aligned bounding box, the region between a minimum and a maximum corner. A box whose minimum is greater
+ * than its maximum on any axis is empty; the no argument constructor creates an empty box that any point can be
+ * included into.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class AABB {
+    /**
+     * The minimum corner of this AABB.
+     */
+    public final Vector3D min = new Vector3D();
+
+    /**
+     * The maximum corner of this AABB.
+     */
+    public final Vector3D max = new Vector3D();
+
+    /**
+     * Constructs an empty AABB.
+     */
+    public AABB() {
+        empty();
+    }
+
+    /**
+     * Constructs an AABB that clones the given AABB.
+     *
+     * @param box The AABB to clone.
+     */
+    public AABB(AABB box) {
+        set(box);
+    }
+
+    /**
+     * Constructs an AABB between the given corners.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     */
+    public AABB(Vector3D min, Vector3D max) {
+        set(min, max);
+    }
+
+    /**
+     * Returns this AABB after setting its corners.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     * @return This AABB.
+     * @throws IllegalArgumentException When either Vector is null.
+     */
+    public AABB set(Vector3D min, Vector3D max) {
+        this.min.set(min);
+        this.max.set(max);
+        return this;
+    }
+
+    /**
+     * Returns this AABB after setting it as a clone of the given AABB.
+     *
+     * @param box The AABB to clone.
+     * @return This AABB.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public AABB set(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        return set(box.min, box.max);
+    }
+
+    /**
+     * Returns this AABB after setting it as empty, such that including any point makes it contain only that point.
+     *
+     * @return This AABB.
+     */
+    public AABB empty() {
+        min.set(Float.POSITIVE_INFINITY);
+        max.set(Float.NEGATIVE_INFINITY);
+        return this;
+    }
+
+    /**
+     * Returns true if this AABB contains no points.
+     *
+     * @return true if this AABB is empty, false if not.
+     */
+    public boolean isEmpty() {
+        return min.x > max.x || min.y > max.y || min.z > max.z;
+    }
+
+    /**
+     * Returns this AABB after growing it to include the given point.
+     *
+     * @param point The point to include.
+     * @return This AABB.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public AABB include(Vector3D point) {
+        if (point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        min.set(Math.min(min.x, point.x), Math.min(min.y, point.y), Math.min(min.z, point.z));
+        max.set(Math.max(max.x, point.x), Math.max(max.y, point.y), Math.max(max.z, point.z));
+        return this;
+    }
+
+    /**
+     * Returns this AABB after growing it to include the given AABB.
+     *
+     * @param box The AABB to include.
+     * @return This AABB.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public AABB include(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        min.set(Math.min(min.x, box.min.x), Math.min(min.y, box.min.y), Math.min(min.z, box.min.z));
+        max.set(Math.max(max.x, box.max.x), Math.max(max.y, box.max.y), Math.max(max.z, box.max.z));
+        return this;
+    }
+
+    /**
+     * Returns true if the given point is inside or on the boundary of this AABB.
+     *
+     * @param point The point to test.
+     * @return true if this AABB contains the point, false if not.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public boolean contains(Vector3D point) {
+        if (point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return point.x >= min.x && point.x <= max.x && point.y >= min.y && point.y <= max.y
+                && point.z >= min.z && point.z <= max.z;
+    }
+
+    /**
+     * Returns true if this AABB and the given AABB overlap or touch.
+     *
+     * @param box The AABB to test.
+     * @return true if the boxes intersect, false if not.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public boolean intersects(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        return min.x <= box.max.x && max.x >= box.min.x && min.y <= box.max.y && max.y >= box.min.y
+                && min.z <= box.max.z && max.z >= box.min.z;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it as the centre of this AABB.
+     *
+     * @param dest The Vector3D to store the centre in.
+     * @return The given Vector3D.
+     */
+    public Vector3D getCentre(Vector3D dest) {
+        return dest.set((min.x + max.x) * 0.5f, (min.y + max.y) * 0.5f, (min.z + max.z) * 0.5f);
+    }
+
+    /**
+     * Returns the given Vector3D after setting it as the half extents of this AABB, the distance from the centre
+     * to the faces on each axis.
+     *
+     * @param dest The Vector3D to store the half extents in.
+     * @return The given Vector3D.
+     */
+    public Vector3D getExtents(Vector3D dest) {
+        return dest.set((max.x - min.x) * 0.5f, (max.y - min.y) * 0.5f, (max.z - min.z) * 0.5f);
+    }
+
+    /**
+     * Returns the given destination AABB after setting it as the smallest AABB containing this AABB transformed
+     * by the given affine Matrix. The destination may be this AABB.
+     *
+     * @param matrix The affine transformation.
+     * @param dest   The AABB to store the result in.
+     * @return The destination AABB.
+     * @throws IllegalArgumentException When the Matrix or destination is null.
+     */
+    public AABB transform(Matrix4x4 matrix, AABB dest) {
+        if (matrix == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix and AABB can not be null.");
+        }
+        float cx = (min.x + max.x) * 0.5f, cy = (min.y + max.y) * 0.5f, cz = (min.z + max.z) * 0.5f;
+        float ex = (max.x - min.x) * 0.5f, ey = (max.y - min.y) * 0.5f, ez = (max.z - min.z) * 0.5f;
+        // The transformed centre, and the extents projected onto each axis through the absolute matrix.
+        float ncx = matrix.get(0, 0) * cx + matrix.get(0, 1) * cy + matrix.get(0, 2) * cz + matrix.get(0, 3);
+        float ncy = matrix.get(1, 0) * cx + matrix.get(1, 1) * cy + matrix.get(1, 2) * cz + matrix.get(1, 3);
+        float ncz = matrix.get(2, 0) * cx + matrix.get(2, 1) * cy + matrix.get(2, 2) * cz + matrix.get(2, 3);
+        float nex = Math.abs(matrix.get(0, 0)) * ex + Math.abs(matrix.get(0, 1)) * ey
+                + Math.abs(matrix.get(0, 2)) * ez;
+        float ney = Math.abs(matrix.get(1, 0)) * ex + Math.abs(matrix.get(1, 1)) * ey
+                + Math.abs(matrix.get(1, 2)) * ez;
+        float nez = Math.abs(matrix.get(2, 0)) * ex + Math.abs(matrix.get(2, 1)) * ey
+                + Math.abs(matrix.get(2, 2)) * ez;
+        dest.min.set(ncx - nex, ncy - ney, ncz - nez);
+        dest.max.set(ncx + nex, ncy + ney, ncz + nez);
+        return dest;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof AABB) {
+            return min.equals(((AABB) other).min) && max.equals(((AABB) other).max);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min.hashCode() + max.hashCode();
+    }
+
+    /**
+     * Return the String form of this AABB as its corners e.g. [(0, 0, 0), (1, 1, 1)].
+     *
+     * @return The String form of this AABB.
+     */
+    @Override
+    public String toString() {
+        return "[" + min + ", " + max + "]";
+    }
+}
@@ -0,0 +1,101 @@
+package org.clowdy.maths.geometry;
+
+/**
+ * A fixed number of axis aligned bounding boxes packed as a structure of arrays. Each box is stored by its centre
+ * and half extents rather than its corners, which is the form the frustum test consumes, so culling needs no
+ * conversion per box and runs over plain float arrays the JIT can unroll and vectorise.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class AABBArray {
+    // The centre components of each box.
+    final float[] centreX;
+    final float[] centreY;
+    final float[] centreZ;
+    // The half extents of each box on each axis.
+    final float[] extentX;
+    final float[] extentY;
+    final float[] extentZ;
+
+    /**
+     * Constructs an AABBArray holding the given number of boxes, each a point at the origin.
+     *
+     * @param size The number of boxes.
+     * @throws IllegalArgumentException When the size is negative.
+     */
+    public AABBArray(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size can not be negative.");
+        }
+        centreX = new float[size];
+        centreY = new float[size];
+        centreZ = new float[size];
+        extentX = new float[size];
+        extentY = new float[size];
+        extentZ = new float[size];
+    }
+
+    /**
+     * Returns the number of boxes in this AABBArray.
+     *
+     * @return The number of boxes.
+     */
+    public int size() {
+        return centreX.length;
+    }
+
+    /**
+     * Returns this AABBArray after setting the box at the given index from its corners.
+     *
+     * @param index The index of the box.
+     * @param minX  The x component of the minimum corner.
+     * @param minY  The y component of the minimum corner.
+     * @param minZ  The z component of the minimum corner.
+     * @param maxX  The x component of the maximum corner.
+     * @param maxY  The y component of the maximum corner.
+     * @param maxZ  The z component of the maximum corner.
+     * @return This AABBArray.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public AABBArray set(int index, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        centreX[index] = (minX + maxX) * 0.5f;
+        centreY[index] = (minY + maxY) * 0.5f;
+        centreZ[index] = (minZ + maxZ) * 0.5f;
+        extentX[index] = (maxX - minX) * 0.5f;
+        extentY[index] = (maxY - minY) * 0.5f;
+        extentZ[index] = (maxZ - minZ) * 0.5f;
+        return this;
+    }
+
+    /**
+     * Returns this AABBArray after setting the box at the given index from an AABB.
+     *
+     * @param index The index of the box.
+     * @param box   The AABB to copy.
+     * @return This AABBArray.
+     * @throws IllegalArgumentException  When the input AABB is null.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public AABBArray set(int index, AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        return set(index, box.min.x, box.min.y, box.min.z, box.max.x, box.max.y, box.max.z);
+    }
+
+    /**
+     * Returns the given AABB after setting it as the box at the given index.
+     *
+     * @param index The index of the box.
+     * @param dest  The AABB to store the box in.
+     * @return The given AABB.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public AABB get(int index, AABB dest) {
+        dest.min.set(centreX[index] - extentX[index], centreY[index] - extentY[index],
+                centreZ[index] - extentZ[index]);
+        dest.max.set(centreX[index] + extentX[index], centreY[index] + extentY[index],
+                centreZ[index] + extentZ[index]);
+        return dest;
+    }
+}
@@ -0,0 +1,171 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.util.StringFormatter;
+
+/**
+ * A sphere bounding a volume, given by its centre and radius. Spheres are cheaper to test than boxes and are not
+ * affected by rotation, at the cost of fitting elongated objects loosely.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class BoundingSphere {
+    /**
+     * The centre of this BoundingSphere.
+     */
+    public final Vector3D centre = new Vector3D();
+
+    /**
+     * The radius of this BoundingSphere.
+     */
+    public float radius;
+
+    /**
+     * Constructs a BoundingSphere of zero radius at the origin.
+     */
+    public BoundingSphere() {
+    }
+
+    /**
+     * Constructs a BoundingSphere that clones the given BoundingSphere.
+     *
+     * @param sphere The BoundingSphere to clone.
+     */
+    public BoundingSphere(BoundingSphere sphere) {
+        set(sphere);
+    }
+
+    /**
+     * Constructs a BoundingSphere with the given centre and radius.
+     *
+     * @param centre The centre of the sphere.
+     * @param radius The radius of the sphere.
+     */
+    public BoundingSphere(Vector3D centre, float radius) {
+        set(centre, radius);
+    }
+
+    /**
+     * Returns this BoundingSphere after setting its centre and radius.
+     *
+     * @param centre The centre of the sphere.
+     * @param radius The radius of the sphere.
+     * @return This BoundingSphere.
+     * @throws IllegalArgumentException When the centre is null or the radius is negative.
+     */
+    public BoundingSphere set(Vector3D centre, float radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("The radius can not be negative.");
+        }
+        this.centre.set(centre);
+        this.radius = radius;
+        return this;
+    }
+
+    /**
+     * Returns this BoundingSphere after setting it as a clone of the given BoundingSphere.
+     *
+     * @param sphere The BoundingSphere to clone.
+     * @return This BoundingSphere.
+     * @throws IllegalArgumentException When the input BoundingSphere is null.
+     */
+    public BoundingSphere set(BoundingSphere sphere) {
+        if (sphere == null) {
+            throw new IllegalArgumentException("The input BoundingSphere cannot be null.");
+        }
+        return set(sphere.centre, sphere.radius);
+    }
+
+    /**
+     * Returns this BoundingSphere after setting it as the smallest sphere centred on the given AABB that contains
+     * it.
+     *
+     * @param box The AABB to enclose.
+     * @return This BoundingSphere.
+     * @throws IllegalArgumentException When the input AABB is null or empty.
+     */
+    public BoundingSphere set(AABB box) {
+        if (box == null || box.isEmpty()) {
+            throw new IllegalArgumentException("The input AABB can not be null or empty.");
+        }
+        box.getCentre(centre);
+        float ex = (box.max.x - box.min.x) * 0.5f;
+        float ey = (box.max.y - box.min.y) * 0.5f;
+        float ez = (box.max.z - box.min.z) * 0.5f;
+        radius = (float) Math.sqrt(ex * ex + ey * ey + ez * ez);
+        return this;
+    }
+
+    /**
+     * Returns true if the given point is inside or on the surface of this BoundingSphere.
+     *
+     * @param point The point to test.
+     * @return true if this BoundingSphere contains the point, false if not.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public boolean contains(Vector3D point) {
+        if (point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        float dx = point.x - centre.x, dy = point.y - centre.y, dz = point.z - centre.z;
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Returns true if this BoundingSphere and the given BoundingSphere overlap or touch.
+     *
+     * @param sphere The BoundingSphere to test.
+     * @return true if the spheres intersect, false if not.
+     * @throws IllegalArgumentException When the input BoundingSphere is null.
+     */
+    public boolean intersects(BoundingSphere sphere) {
+        if (sphere == null) {
+            throw new IllegalArgumentException("The input BoundingSphere cannot be null.");
+        }
+        float dx = sphere.centre.x - centre.x, dy = sphere.centre.y - centre.y, dz = sphere.centre.z - centre.z;
+        float radii = radius + sphere.radius;
+        return dx * dx + dy * dy + dz * dz <= radii * radii;
+    }
+
+    /**
+     * Returns true if this BoundingSphere and the given AABB overlap or touch, by testing the distance to the
+     * point of the box closest to the centre of the sphere.
+     *
+     * @param box The AABB to test.
+     * @return true if the sphere and box intersect, false if not.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public boolean intersects(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        float dx = centre.x - Math.max(box.min.x, Math.min(centre.x, box.max.x));
+        float dy = centre.y - Math.max(box.min.y, Math.min(centre.y, box.max.y));
+        float dz = centre.z - Math.max(box.min.z, Math.min(centre.z, box.max.z));
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof BoundingSphere) {
+            BoundingSphere sphere = (BoundingSphere) other;
+            return centre.equals(sphere.centre) && Float.compare(radius + 0.0f, sphere.radius + 0.0f) == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * centre.hashCode() + Float.hashCode(radius + 0.0f);
+    }
+
+    /**
+     * Return the String form of this BoundingSphere as its centre and radius e.g. [(0, 0, 0), 1].
+     *
+     * @return The String form of this BoundingSphere.
+     */
+    @Override
+    public String toString() {
+        return "[" + centre + ", " + StringFormatter.removeTrailingZero(radius) + "]";
+    }
+}
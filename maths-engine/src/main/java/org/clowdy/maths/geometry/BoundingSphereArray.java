@@ -0,0 +1,90 @@
+package org.clowdy.maths.geometry;
+
+/**
+ * A fixed number of bounding spheres packed as a structure of arrays, one float array per component. Keeping each
+ * component contiguous lets the culling loops in Frustum run over plain float arrays, which the JIT can unroll and
+ * vectorise, instead of chasing a BoundingSphere object per bound.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class BoundingSphereArray {
+    // The centre components and radius of each sphere.
+    final float[] x;
+    final float[] y;
+    final float[] z;
+    final float[] radius;
+
+    /**
+     * Constructs a BoundingSphereArray holding the given number of spheres, each of zero radius at the origin.
+     *
+     * @param size The number of spheres.
+     * @throws IllegalArgumentException When the size is negative.
+     */
+    public BoundingSphereArray(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size can not be negative.");
+        }
+        x = new float[size];
+        y = new float[size];
+        z = new float[size];
+        radius = new float[size];
+    }
+
+    /**
+     * Returns the number of spheres in this BoundingSphereArray.
+     *
+     * @return The number of spheres.
+     */
+    public int size() {
+        return radius.length;
+    }
+
+    /**
+     * Returns this BoundingSphereArray after setting the sphere at the given index.
+     *
+     * @param index  The index of the sphere.
+     * @param x      The x component of the centre.
+     * @param y      The y component of the centre.
+     * @param z      The z component of the centre.
+     * @param radius The radius.
+     * @return This BoundingSphereArray.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public BoundingSphereArray set(int index, float x, float y, float z, float radius) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.radius[index] = radius;
+        return this;
+    }
+
+    /**
+     * Returns this BoundingSphereArray after setting the sphere at the given index from a BoundingSphere.
+     *
+     * @param index  The index of the sphere.
+     * @param sphere The BoundingSphere to copy.
+     * @return This BoundingSphereArray.
+     * @throws IllegalArgumentException  When the input BoundingSphere is null.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public BoundingSphereArray set(int index, BoundingSphere sphere) {
+        if (sphere == null) {
+            throw new IllegalArgumentException("The input BoundingSphere cannot be null.");
+        }
+        return set(index, sphere.centre.x, sphere.centre.y, sphere.centre.z, sphere.radius);
+    }
+
+    /**
+     * Returns the given BoundingSphere after setting it as the sphere at the given index.
+     *
+     * @param index The index of the sphere.
+     * @param dest  The BoundingSphere to store the sphere in.
+     * @return The given BoundingSphere.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public BoundingSphere get(int index, BoundingSphere dest) {
+        dest.centre.set(x[index], y[index], z[index]);
+        dest.radius = radius[index];
+        return dest;
+    }
+}
@@ -0,0 +1,290 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * <p>A view frustum as six inward facing planes, extracted from a view-projection matrix. A point is inside the
+ * frustum when it is on the positive side of every plane.</p>
+ *
+ * <p>Besides testing single bounds, a Frustum culls packed BoundingSphereArray and AABBArray instances in bulk,
+ * writing one visibility bit per bound into a long bitmask. The planes are held in locals for the whole call and
+ * each bound is tested against all six without branching, reading only contiguous floats from the packed arrays,
+ * and the results of 64 bounds are collected into one bitmask word before it is stored. Bulk culling writes no
+ * state of the Frustum, so disjoint ranges of whole words can be culled on different threads at once.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Frustum {
+    /**
+     * The indices of the planes of a Frustum.
+     */
+    public static final int LEFT = 0, RIGHT = 1, BOTTOM = 2, TOP = 3, NEAR = 4, FAR = 5;
+
+    // The number of bounds culled per bitmask word.
+    private static final int BLOCK = Long.SIZE;
+
+    // The inward facing planes, with normals of unit length.
+    private final Plane[] planes = new Plane[6];
+
+    /**
+     * Constructs a Frustum with every plane unset, which contains nothing until set.
+     */
+    public Frustum() {
+        for (int i = 0; i < planes.length; i++) {
+            planes[i] = new Plane();
+        }
+    }
+
+    /**
+     * Constructs a Frustum extracted from the given view-projection matrix.
+     *
+     * @param viewProjection The view-projection matrix.
+     */
+    public Frustum(Matrix4x4 viewProjection) {
+        this();
+        set(viewProjection);
+    }
+
+    /**
+     * Returns this Frustum after extracting its planes from the given view-projection matrix, which maps world
+     * space to clip space with the visible region in -w &lt;= x, y, z &lt;= w. Each plane is the sum or difference
+     * of the last row and one of the others, normalised.
+     * <p>
+     * A plane with no normal, such as the far plane of an infinite far perspective projection, is set to
+     * (0, 0, 0, 1) so every point passes it, or to (0, 0, 0, -1) so none do if its distance was negative.
+     *
+     * @param viewProjection The view-projection matrix.
+     * @return This Frustum.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public Frustum set(Matrix4x4 viewProjection) {
+        if (viewProjection == null) {
+            throw new IllegalArgumentException("The input Matrix cannot be null.");
+        }
+        Matrix4x4 m = viewProjection;
+        float w0 = m.get(3, 0), w1 = m.get(3, 1), w2 = m.get(3, 2), w3 = m.get(3, 3);
+        for (int axis = 0; axis < 3; axis++) {
+            float r0 = m.get(axis, 0), r1 = m.get(axis, 1), r2 = m.get(axis, 2), r3 = m.get(axis, 3);
+            setPlane(planes[axis * 2], w0 + r0, w1 + r1, w2 + r2, w3 + r3);
+            setPlane(planes[axis * 2 + 1], w0 - r0, w1 - r1, w2 - r2, w3 - r3);
+        }
+        return this;
+    }
+
+    // Sets and normalises the given plane, or makes it pass or reject everything when it has no normal.
+    private static void setPlane(Plane plane, float a, float b, float c, float d) {
+        if (a == 0 && b == 0 && c == 0) {
+            plane.set(0, 0, 0, d < 0 ? -1 : 1);
+        } else {
+            plane.set(a, b, c, d).normalise();
+        }
+    }
+
+    /**
+     * Returns the plane at the given index, one of LEFT, RIGHT, BOTTOM, TOP, NEAR or FAR. The Plane is the
+     * Frustum's own, changing it changes the Frustum.
+     *
+     * @param index The index of the plane.
+     * @return The plane.
+     * @throws IndexOutOfBoundsException When the index is not a plane index.
+     */
+    public Plane getPlane(int index) {
+        return planes[index];
+    }
+
+    /**
+     * Returns true if the given point is inside or on the boundary of this Frustum.
+     *
+     * @param point The point to test.
+     * @return true if the point is inside, false if not.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public boolean contains(Vector3D point) {
+        if (point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        for (Plane plane : planes) {
+            if (plane.distance(point.x, point.y, point.z) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given BoundingSphere is at least partly inside this Frustum. Spheres near a corner of
+     * the frustum may be reported visible when they are not, which is conservative.
+     *
+     * @param sphere The BoundingSphere to test.
+     * @return true if the sphere may be visible, false if it is certainly not.
+     * @throws IllegalArgumentException When the input BoundingSphere is null.
+     */
+    public boolean intersects(BoundingSphere sphere) {
+        if (sphere == null) {
+            throw new IllegalArgumentException("The input BoundingSphere cannot be null.");
+        }
+        for (Plane plane : planes) {
+            if (plane.distance(sphere.centre.x, sphere.centre.y, sphere.centre.z) < -sphere.radius) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given AABB is at least partly inside this Frustum. Boxes near a corner of the frustum
+     * may be reported visible when they are not, which is conservative.
+     *
+     * @param box The AABB to test.
+     * @return true if the box may be visible, false if it is certainly not.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public boolean intersects(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        for (Plane plane : planes) {
+            // The corner furthest along the normal.
+            float x = plane.a >= 0 ? box.max.x : box.min.x;
+            float y = plane.b >= 0 ? box.max.y : box.min.y;
+            float z = plane.c >= 0 ? box.max.z : box.min.z;
+            if (plane.distance(x, y, z) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Culls every sphere of the given array against this Frustum, see cull(BoundingSphereArray, int, int, long[]).
+     *
+     * @param spheres    The spheres to cull.
+     * @param visibility The bitmask to write, of at least (size + 63) / 64 words.
+     * @return The number of visible spheres.
+     */
+    public int cull(BoundingSphereArray spheres, long[] visibility) {
+        return cull(spheres, 0, spheres.size(), visibility);
+    }
+
+    /**
+     * Culls the spheres in the given range against this Frustum, setting bit i % 64 of word i / 64 of the
+     * bitmask when sphere i may be visible and clearing it when it is certainly not. The range must start on a
+     * word boundary, a multiple of 64, so that ranges culled on different threads never share a word. Bits of the
+     * last word past the end of the range are cleared.
+     *
+     * @param spheres    The spheres to cull.
+     * @param from       The index of the first sphere, a multiple of 64.
+     * @param to         The index after the last sphere.
+     * @param visibility The bitmask to write.
+     * @return The number of visible spheres in the range.
+     * @throws IllegalArgumentException  When an input is null or the range does not start on a word.
+     * @throws IndexOutOfBoundsException When the range is outside the array or the bitmask is too short.
+     */
+    public int cull(BoundingSphereArray spheres, int from, int to, long[] visibility) {
+        if (spheres == null) {
+            throw new IllegalArgumentException("The input BoundingSphereArray cannot be null.");
+        }
+        checkRange(spheres.size(), from, to, visibility);
+        float[] xs = spheres.x, ys = spheres.y, zs = spheres.z, radii = spheres.radius;
+        Plane p0 = planes[0], p1 = planes[1], p2 = planes[2], p3 = planes[3], p4 = planes[4], p5 = planes[5];
+        float a0 = p0.a, b0 = p0.b, c0 = p0.c, d0 = p0.d, a1 = p1.a, b1 = p1.b, c1 = p1.c, d1 = p1.d;
+        float a2 = p2.a, b2 = p2.b, c2 = p2.c, d2 = p2.d, a3 = p3.a, b3 = p3.b, c3 = p3.c, d3 = p3.d;
+        float a4 = p4.a, b4 = p4.b, c4 = p4.c, d4 = p4.d, a5 = p5.a, b5 = p5.b, c5 = p5.c, d5 = p5.d;
+        int visible = 0;
+        for (int start = from; start < to; start += BLOCK) {
+            int end = Math.min(start + BLOCK, to);
+            long bits = 0;
+            for (int i = start; i < end; i++) {
+                float x = xs[i], y = ys[i], z = zs[i], r = -radii[i];
+                // Non short-circuit ands keep the loop free of branches.
+                boolean inside = a0 * x + b0 * y + c0 * z + d0 >= r & a1 * x + b1 * y + c1 * z + d1 >= r
+                        & a2 * x + b2 * y + c2 * z + d2 >= r & a3 * x + b3 * y + c3 * z + d3 >= r
+                        & a4 * x + b4 * y + c4 * z + d4 >= r & a5 * x + b5 * y + c5 * z + d5 >= r;
+                bits |= (inside ? 1L : 0L) << i;
+            }
+            visibility[start / BLOCK] = bits;
+            visible += Long.bitCount(bits);
+        }
+        return visible;
+    }
+
+    /**
+     * Culls every box of the given array against this Frustum, see cull(AABBArray, int, int, long[]).
+     *
+     * @param boxes      The boxes to cull.
+     * @param visibility The bitmask to write, of at least (size + 63) / 64 words.
+     * @return The number of visible boxes.
+     */
+    public int cull(AABBArray boxes, long[] visibility) {
+        return cull(boxes, 0, boxes.size(), visibility);
+    }
+
+    /**
+     * Culls the boxes in the given range against this Frustum, setting bit i % 64 of word i / 64 of the bitmask
+     * when box i may be visible and clearing it when it is certainly not. Each box is tested as its centre's
+     * distance from a plane against the projection of its half extents onto the plane normal. The range must
+     * start on a word boundary, a multiple of 64, so that ranges culled on different threads never share a word.
+     * Bits of the last word past the end of the range are cleared.
+     *
+     * @param boxes      The boxes to cull.
+     * @param from       The index of the first box, a multiple of 64.
+     * @param to         The index after the last box.
+     * @param visibility The bitmask to write.
+     * @return The number of visible boxes in the range.
+     * @throws IllegalArgumentException  When an input is null or the range does not start on a word.
+     * @throws IndexOutOfBoundsException When the range is outside the array or the bitmask is too short.
+     */
+    public int cull(AABBArray boxes, int from, int to, long[] visibility) {
+        if (boxes == null) {
+            throw new IllegalArgumentException("The input AABBArray cannot be null.");
+        }
+        checkRange(boxes.size(), from, to, visibility);
+        float[] cxs = boxes.centreX, cys = boxes.centreY, czs = boxes.centreZ;
+        float[] exs = boxes.extentX, eys = boxes.extentY, ezs = boxes.extentZ;
+        Plane p0 = planes[0], p1 = planes[1], p2 = planes[2], p3 = planes[3], p4 = planes[4], p5 = planes[5];
+        float a0 = p0.a, b0 = p0.b, c0 = p0.c, d0 = p0.d, a1 = p1.a, b1 = p1.b, c1 = p1.c, d1 = p1.d;
+        float a2 = p2.a, b2 = p2.b, c2 = p2.c, d2 = p2.d, a3 = p3.a, b3 = p3.b, c3 = p3.c, d3 = p3.d;
+        float a4 = p4.a, b4 = p4.b, c4 = p4.c, d4 = p4.d, a5 = p5.a, b5 = p5.b, c5 = p5.c, d5 = p5.d;
+        int visible = 0;
+        for (int start = from; start < to; start += BLOCK) {
+            int end = Math.min(start + BLOCK, to);
+            long bits = 0;
+            for (int i = start; i < end; i++) {
+                float x = cxs[i], y = cys[i], z = czs[i], ex = exs[i], ey = eys[i], ez = ezs[i];
+                // Non short-circuit ands keep the loop free of branches.
+                boolean inside = above(a0, b0, c0, d0, x, y, z, ex, ey, ez)
+                        & above(a1, b1, c1, d1, x, y, z, ex, ey, ez) & above(a2, b2, c2, d2, x, y, z, ex, ey, ez)
+                        & above(a3, b3, c3, d3, x, y, z, ex, ey, ez) & above(a4, b4, c4, d4, x, y, z, ex, ey, ez)
+                        & above(a5, b5, c5, d5, x, y, z, ex, ey, ez);
+                bits |= (inside ? 1L : 0L) << i;
+            }
+            visibility[start / BLOCK] = bits;
+            visible += Long.bitCount(bits);
+        }
+        return visible;
+    }
+
+    /* Returns true if a box with the given centre and half extents is not wholly behind the given plane. */
+    private static boolean above(float a, float b, float c, float d, float x, float y, float z,
+                                 float ex, float ey, float ez) {
+        return a * x + b * y + c * z + d >= -(Math.abs(a) * ex + Math.abs(b) * ey + Math.abs(c) * ez);
+    }
+
+    /* Checks a cull range against the number of bounds and the length of the bitmask. */
+    private static void checkRange(int size, int from, int to, long[] visibility) {
+        if (visibility == null) {
+            throw new IllegalArgumentException("The visibility bitmask cannot be null.");
+        }
+        if (from % BLOCK != 0) {
+            throw new IllegalArgumentException("The range must start on a multiple of " + BLOCK + ".");
+        }
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for " + size + ".");
+        }
+        if ((to + BLOCK - 1) / BLOCK > visibility.length) {
+            throw new IndexOutOfBoundsException("The visibility bitmask needs " + (to + BLOCK - 1) / BLOCK
+                    + " words for the range.");
+        }
+    }
+}
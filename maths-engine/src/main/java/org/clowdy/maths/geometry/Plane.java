@@ -0,0 +1,175 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.util.ReflectionEqualsHelper;
+import org.clowdy.util.StringFormatter;
+
+/**
+ * A Plane in 3-dimensional Euclidean Space, the points (x, y, z) satisfying ax + by + cz + d = 0. The normal
+ * (a, b, c) points to the positive side of the plane. When the normal is of unit length the signed distance of a
+ * point from the plane is ax + by + cz + d.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Plane {
+    /**
+     * The x component of the normal of this Plane.
+     */
+    public float a;
+
+    /**
+     * The y component of the normal of this Plane.
+     */
+    public float b;
+
+    /**
+     * The z component of the normal of this Plane.
+     */
+    public float c;
+
+    /**
+     * The constant term of this Plane, the negated distance from the origin along the normal when the normal is
+     * of unit length.
+     */
+    public float d;
+
+    /**
+     * Constructs a Plane with every coefficient set to 0.
+     */
+    public Plane() {
+    }
+
+    /**
+     * Constructs a Plane that clones the given Plane.
+     *
+     * @param plane The Plane to clone.
+     */
+    public Plane(Plane plane) {
+        set(plane);
+    }
+
+    /**
+     * Constructs a Plane with the given coefficients.
+     *
+     * @param a The x component of the normal.
+     * @param b The y component of the normal.
+     * @param c The z component of the normal.
+     * @param d The constant term.
+     */
+    public Plane(float a, float b, float c, float d) {
+        set(a, b, c, d);
+    }
+
+    /**
+     * Constructs a Plane with the given normal passing through the given point.
+     *
+     * @param normal The normal of the Plane.
+     * @param point  A point on the Plane.
+     * @throws IllegalArgumentException When either Vector is null.
+     */
+    public Plane(Vector3D normal, Vector3D point) {
+        if (normal == null || point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        set(normal.x, normal.y, normal.z, -normal.dot(point));
+    }
+
+    /**
+     * Returns this Plane after setting its coefficients.
+     *
+     * @param a The x component of the normal.
+     * @param b The y component of the normal.
+     * @param c The z component of the normal.
+     * @param d The constant term.
+     * @return This Plane.
+     */
+    public Plane set(float a, float b, float c, float d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        return this;
+    }
+
+    /**
+     * Returns this Plane after setting it as a clone of the given Plane.
+     *
+     * @param plane The Plane to clone.
+     * @return This Plane.
+     * @throws IllegalArgumentException When the input Plane is null.
+     */
+    public Plane set(Plane plane) {
+        if (plane == null) {
+            throw new IllegalArgumentException("The input Plane cannot be null.");
+        }
+        return set(plane.a, plane.b, plane.c, plane.d);
+    }
+
+    /**
+     * Returns this Plane after scaling its coefficients so its normal is of unit length. The Plane itself is
+     * unchanged, but distance then returns true distances.
+     *
+     * @return This Plane.
+     * @throws IllegalStateException When the normal is of zero length.
+     */
+    public Plane normalise() {
+        float length = (float) Math.sqrt(a * a + b * b + c * c);
+        if (length == 0) {
+            throw new IllegalStateException("Can not normalise a plane with a normal of zero length.");
+        }
+        float scale = 1 / length;
+        return set(a * scale, b * scale, c * scale, d * scale);
+    }
+
+    /**
+     * Returns the signed distance of the given point from this Plane, positive on the side the normal points to.
+     * The distance is only a true distance when the normal is of unit length.
+     *
+     * @param x The x component of the point.
+     * @param y The y component of the point.
+     * @param z The z component of the point.
+     * @return The signed distance of the point.
+     */
+    public float distance(float x, float y, float z) {
+        return a * x + b * y + c * z + d;
+    }
+
+    /**
+     * Returns the signed distance of the given point from this Plane, positive on the side the normal points to.
+     * The distance is only a true distance when the normal is of unit length.
+     *
+     * @param point The point.
+     * @return The signed distance of the point.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public float distance(Vector3D point) {
+        if (point == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return distance(point.x, point.y, point.z);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof Plane) {
+            return ReflectionEqualsHelper.areEquals(this, other);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return ReflectionEqualsHelper.hashcode(this);
+    }
+
+    /**
+     * Return the String form of this Plane as its coefficients e.g. (0, 1, 0, -2).
+     *
+     * @return The String form of this Plane.
+     */
+    @Override
+    public String toString() {
+        return "(" + StringFormatter.removeTrailingZero(a) + ", " + StringFormatter.removeTrailingZero(b) + ", "
+                + StringFormatter.removeTrailingZero(c) + ", " + StringFormatter.removeTrailingZero(d) + ")";
+    }
+}
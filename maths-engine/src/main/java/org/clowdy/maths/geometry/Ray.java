@@ -0,0 +1,381 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * <p>A ray from an origin along a direction, the points origin + t * direction for t &gt;= 0. The direction need
+ * not be normalised, distances along the ray are measured in multiples of it. A segment from a to b is the ray
+ * from a along b - a limited to a distance of 1, which is how line of sight checks are expressed.</p>
+ *
+ * <p>The intersection tests return the distance to the first point of a primitive on the ray, 0 when the origin
+ * is inside a volume, or MISS when the ray does not hit it. The batch queries test the ray against every
+ * primitive of a packed array without allocating: nearest finds the closest hit, any stops at the first hit and
+ * so is the cheaper query for occlusion. Rays exactly grazing a face or edge may be reported either way.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Ray {
+    /**
+     * The distance returned by the intersection tests when the ray misses.
+     */
+    public static final float MISS = Float.POSITIVE_INFINITY;
+
+    /**
+     * The origin of this Ray.
+     */
+    public final Vector3D origin = new Vector3D();
+
+    /**
+     * The direction of this Ray.
+     */
+    public final Vector3D direction = new Vector3D();
+
+    /**
+     * Constructs a Ray at the origin with a direction of zero, which hits nothing until set.
+     */
+    public Ray() {
+    }
+
+    /**
+     * Constructs a Ray from the given origin along the given direction.
+     *
+     * @param origin    The origin of the ray.
+     * @param direction The direction of the ray.
+     */
+    public Ray(Vector3D origin, Vector3D direction) {
+        set(origin, direction);
+    }
+
+    /**
+     * Returns this Ray after setting its origin and direction.
+     *
+     * @param origin    The origin of the ray.
+     * @param direction The direction of the ray.
+     * @return This Ray.
+     * @throws IllegalArgumentException When either Vector is null.
+     */
+    public Ray set(Vector3D origin, Vector3D direction) {
+        this.origin.set(origin);
+        this.direction.set(direction);
+        return this;
+    }
+
+    /**
+     * Returns this Ray after setting it as the segment from one point to another, with the target at a distance
+     * of 1.
+     *
+     * @param from The origin of the segment.
+     * @param to   The end of the segment.
+     * @return This Ray.
+     * @throws IllegalArgumentException When either Vector is null.
+     */
+    public Ray setSegment(Vector3D from, Vector3D to) {
+        origin.set(from);
+        direction.set(to).subtract(from);
+        return this;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it as the point at the given distance along this Ray.
+     *
+     * @param distance The distance along the ray, in multiples of its direction.
+     * @param dest     The Vector3D to store the point in.
+     * @return The given Vector3D.
+     */
+    public Vector3D getPoint(float distance, Vector3D dest) {
+        return dest.set(origin.x + direction.x * distance, origin.y + direction.y * distance,
+                origin.z + direction.z * distance);
+    }
+
+    /**
+     * Returns the distance along this Ray to the given AABB, found by clipping the ray against the slab between
+     * each pair of faces.
+     *
+     * @param box The AABB to test.
+     * @return The distance to the box, 0 if the origin is inside it, or MISS.
+     * @throws IllegalArgumentException When the input AABB is null.
+     */
+    public float intersect(AABB box) {
+        if (box == null) {
+            throw new IllegalArgumentException("The input AABB cannot be null.");
+        }
+        float ix = 1 / direction.x, iy = 1 / direction.y, iz = 1 / direction.z;
+        return slab(origin.x, origin.y, origin.z, ix, iy, iz, Math.copySign(1, ix), Math.copySign(1, iy),
+                Math.copySign(1, iz),
+                (box.min.x + box.max.x) * 0.5f, (box.min.y + box.max.y) * 0.5f, (box.min.z + box.max.z) * 0.5f,
+                (box.max.x - box.min.x) * 0.5f, (box.max.y - box.min.y) * 0.5f, (box.max.z - box.min.z) * 0.5f);
+    }
+
+    /**
+     * Returns the distance along this Ray to the given BoundingSphere.
+     *
+     * @param sphere The BoundingSphere to test.
+     * @return The distance to the sphere, 0 if the origin is inside it, or MISS.
+     * @throws IllegalArgumentException When the input BoundingSphere is null.
+     */
+    public float intersect(BoundingSphere sphere) {
+        if (sphere == null) {
+            throw new IllegalArgumentException("The input BoundingSphere cannot be null.");
+        }
+        return sphere(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z,
+                direction.lengthSquared(), sphere.centre.x, sphere.centre.y, sphere.centre.z, sphere.radius);
+    }
+
+    /**
+     * Returns the distance along this Ray to the triangle with the given vertices, by the Moller-Trumbore
+     * algorithm. Both sides of the triangle are hit.
+     *
+     * @param a The first vertex.
+     * @param b The second vertex.
+     * @param c The third vertex.
+     * @return The distance to the triangle, or MISS.
+     * @throws IllegalArgumentException When any vertex is null.
+     */
+    public float intersect(Vector3D a, Vector3D b, Vector3D c) {
+        if (a == null || b == null || c == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return triangle(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, a.x, a.y, a.z,
+                b.x - a.x, b.y - a.y, b.z - a.z, c.x - a.x, c.y - a.y, c.z - a.z);
+    }
+
+    /**
+     * Finds the nearest box of the given array hit by this Ray closer than the given distance.
+     *
+     * @param boxes       The boxes to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @param hit         The RayHit to store the nearest hit in, cleared if there is none.
+     * @return true if a box was hit, false if not.
+     * @throws IllegalArgumentException When the boxes or the RayHit are null.
+     */
+    public boolean nearest(AABBArray boxes, float maxDistance, RayHit hit) {
+        if (boxes == null || hit == null) {
+            throw new IllegalArgumentException("The input AABBArray and RayHit can not be null.");
+        }
+        float ox = origin.x, oy = origin.y, oz = origin.z;
+        float ix = 1 / direction.x, iy = 1 / direction.y, iz = 1 / direction.z;
+        float sx = Math.copySign(1, ix), sy = Math.copySign(1, iy), sz = Math.copySign(1, iz);
+        float[] cx = boxes.centreX, cy = boxes.centreY, cz = boxes.centreZ;
+        float[] ex = boxes.extentX, ey = boxes.extentY, ez = boxes.extentZ;
+        int index = -1;
+        float nearest = maxDistance;
+        for (int i = 0; i < cx.length; i++) {
+            float t = slab(ox, oy, oz, ix, iy, iz, sx, sy, sz, cx[i], cy[i], cz[i], ex[i], ey[i], ez[i]);
+            if (t < nearest) {
+                nearest = t;
+                index = i;
+            }
+        }
+        return store(hit, index, nearest);
+    }
+
+    /**
+     * Returns true if this Ray hits any box of the given array closer than the given distance, stopping at the
+     * first box hit.
+     *
+     * @param boxes       The boxes to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @return true if a box was hit, false if not.
+     * @throws IllegalArgumentException When the boxes are null.
+     */
+    public boolean any(AABBArray boxes, float maxDistance) {
+        if (boxes == null) {
+            throw new IllegalArgumentException("The input AABBArray cannot be null.");
+        }
+        float ox = origin.x, oy = origin.y, oz = origin.z;
+        float ix = 1 / direction.x, iy = 1 / direction.y, iz = 1 / direction.z;
+        float sx = Math.copySign(1, ix), sy = Math.copySign(1, iy), sz = Math.copySign(1, iz);
+        float[] cx = boxes.centreX, cy = boxes.centreY, cz = boxes.centreZ;
+        float[] ex = boxes.extentX, ey = boxes.extentY, ez = boxes.extentZ;
+        for (int i = 0; i < cx.length; i++) {
+            if (slab(ox, oy, oz, ix, iy, iz, sx, sy, sz, cx[i], cy[i], cz[i], ex[i], ey[i], ez[i]) < maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the nearest sphere of the given array hit by this Ray closer than the given distance.
+     *
+     * @param spheres     The spheres to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @param hit         The RayHit to store the nearest hit in, cleared if there is none.
+     * @return true if a sphere was hit, false if not.
+     * @throws IllegalArgumentException When the spheres or the RayHit are null.
+     */
+    public boolean nearest(BoundingSphereArray spheres, float maxDistance, RayHit hit) {
+        if (spheres == null || hit == null) {
+            throw new IllegalArgumentException("The input BoundingSphereArray and RayHit can not be null.");
+        }
+        float ox = origin.x, oy = origin.y, oz = origin.z;
+        float dx = direction.x, dy = direction.y, dz = direction.z, dd = direction.lengthSquared();
+        float[] x = spheres.x, y = spheres.y, z = spheres.z, radius = spheres.radius;
+        int index = -1;
+        float nearest = maxDistance;
+        for (int i = 0; i < x.length; i++) {
+            float t = sphere(ox, oy, oz, dx, dy, dz, dd, x[i], y[i], z[i], radius[i]);
+            if (t < nearest) {
+                nearest = t;
+                index = i;
+            }
+        }
+        return store(hit, index, nearest);
+    }
+
+    /**
+     * Returns true if this Ray hits any sphere of the given array closer than the given distance, stopping at
+     * the first sphere hit.
+     *
+     * @param spheres     The spheres to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @return true if a sphere was hit, false if not.
+     * @throws IllegalArgumentException When the spheres are null.
+     */
+    public boolean any(BoundingSphereArray spheres, float maxDistance) {
+        if (spheres == null) {
+            throw new IllegalArgumentException("The input BoundingSphereArray cannot be null.");
+        }
+        float ox = origin.x, oy = origin.y, oz = origin.z;
+        float dx = direction.x, dy = direction.y, dz = direction.z, dd = direction.lengthSquared();
+        float[] x = spheres.x, y = spheres.y, z = spheres.z, radius = spheres.radius;
+        for (int i = 0; i < x.length; i++) {
+            if (sphere(ox, oy, oz, dx, dy, dz, dd, x[i], y[i], z[i], radius[i]) < maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the nearest triangle of the given array hit by this Ray closer than the given distance.
+     *
+     * @param triangles   The triangles to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @param hit         The RayHit to store the nearest hit in, cleared if there is none.
+     * @return true if a triangle was hit, false if not.
+     * @throws IllegalArgumentException When the triangles or the RayHit are null.
+     */
+    public boolean nearest(TriangleArray triangles, float maxDistance, RayHit hit) {
+        if (triangles == null || hit == null) {
+            throw new IllegalArgumentException("The input TriangleArray and RayHit can not be null.");
+        }
+        TriangleArray t = triangles;
+        float ox = origin.x, oy = origin.y, oz = origin.z, dx = direction.x, dy = direction.y, dz = direction.z;
+        int index = -1;
+        float nearest = maxDistance;
+        for (int i = 0; i < t.x.length; i++) {
+            float distance = triangle(ox, oy, oz, dx, dy, dz, t.x[i], t.y[i], t.z[i],
+                    t.edge1X[i], t.edge1Y[i], t.edge1Z[i], t.edge2X[i], t.edge2Y[i], t.edge2Z[i]);
+            if (distance < nearest) {
+                nearest = distance;
+                index = i;
+            }
+        }
+        return store(hit, index, nearest);
+    }
+
+    /**
+     * Returns true if this Ray hits any triangle of the given array closer than the given distance, stopping at
+     * the first triangle hit.
+     *
+     * @param triangles   The triangles to test.
+     * @param maxDistance The distance to search up to, exclusive.
+     * @return true if a triangle was hit, false if not.
+     * @throws IllegalArgumentException When the triangles are null.
+     */
+    public boolean any(TriangleArray triangles, float maxDistance) {
+        if (triangles == null) {
+            throw new IllegalArgumentException("The input TriangleArray cannot be null.");
+        }
+        TriangleArray t = triangles;
+        float ox = origin.x, oy = origin.y, oz = origin.z, dx = direction.x, dy = direction.y, dz = direction.z;
+        for (int i = 0; i < t.x.length; i++) {
+            if (triangle(ox, oy, oz, dx, dy, dz, t.x[i], t.y[i], t.z[i], t.edge1X[i], t.edge1Y[i],
+                    t.edge1Z[i], t.edge2X[i], t.edge2Y[i], t.edge2Z[i]) < maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the String form of this Ray as its origin and direction e.g. [(0, 0, 0), (0, 0, -1)].
+     *
+     * @return The String form of this Ray.
+     */
+    @Override
+    public String toString() {
+        return "[" + origin + ", " + direction + "]";
+    }
+
+    /* Stores the result of a nearest query in the given RayHit, returning true if there was a hit. */
+    private static boolean store(RayHit hit, int index, float distance) {
+        hit.index = index;
+        hit.distance = index < 0 ? MISS : distance;
+        return index >= 0;
+    }
+
+    /*
+     * Clips the ray against the slabs of a box given by its centre and half extents, given the reciprocal of the
+     * direction and its sign. The ray enters the slab of each axis through the face at c - sign * e and leaves
+     * through c + sign * e, so no per axis ordering is needed. A zero direction component gives an infinite
+     * reciprocal, so the slab of that axis either contains the whole ray or none of it. Plain comparisons are
+     * used rather than Math.min and Math.max, whose handling of NaN and -0 costs more than the rest of the test.
+     */
+    private static float slab(float ox, float oy, float oz, float ix, float iy, float iz, float sx, float sy,
+                              float sz, float cx, float cy, float cz, float ex, float ey, float ez) {
+        float px = sx * ex, py = sy * ey, pz = sz * ez;
+        float near = (cx - px - ox) * ix, far = (cx + px - ox) * ix;
+        float yNear = (cy - py - oy) * iy, yFar = (cy + py - oy) * iy;
+        float zNear = (cz - pz - oz) * iz, zFar = (cz + pz - oz) * iz;
+        near = near > yNear ? near : yNear;
+        near = near > zNear ? near : zNear;
+        near = near > 0 ? near : 0;
+        far = far < yFar ? far : yFar;
+        far = far < zFar ? far : zFar;
+        return near <= far ? near : MISS;
+    }
+
+    /* Solves |o + t * d - c|^2 = r^2 for the smallest t >= 0, given dd = d . d. */
+    private static float sphere(float ox, float oy, float oz, float dx, float dy, float dz, float dd,
+                                float cx, float cy, float cz, float radius) {
+        float px = ox - cx, py = oy - cy, pz = oz - cz;
+        float b = px * dx + py * dy + pz * dz;
+        float c = px * px + py * py + pz * pz - radius * radius;
+        if (c <= 0) {
+            return 0;
+        }
+        float discriminant = b * b - dd * c;
+        if (b >= 0 || discriminant < 0) {
+            // Outside and either facing away or passing the sphere by.
+            return MISS;
+        }
+        return (-b - (float) Math.sqrt(discriminant)) / dd;
+    }
+
+    /* Moller-Trumbore, solving for the barycentric coordinates of the hit and its distance together. */
+    private static float triangle(float ox, float oy, float oz, float dx, float dy, float dz,
+                                  float ax, float ay, float az, float e1x, float e1y, float e1z,
+                                  float e2x, float e2y, float e2z) {
+        float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        float determinant = e1x * px + e1y * py + e1z * pz;
+        if (determinant == 0) {
+            // The ray is parallel to the plane of the triangle.
+            return MISS;
+        }
+        float inverse = 1 / determinant;
+        float tx = ox - ax, ty = oy - ay, tz = oz - az;
+        float u = (tx * px + ty * py + tz * pz) * inverse;
+        if (u < 0 || u > 1) {
+            return MISS;
+        }
+        float qx = ty * e1z - tz * e1y, qy = tz * e1x - tx * e1z, qz = tx * e1y - ty * e1x;
+        float v = (dx * qx + dy * qy + dz * qz) * inverse;
+        if (v < 0 || u + v > 1) {
+            return MISS;
+        }
+        float t = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+        return t >= 0 ? t : MISS;
+    }
+}
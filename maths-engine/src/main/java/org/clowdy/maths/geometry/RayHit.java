@@ -0,0 +1,38 @@
+package org.clowdy.maths.geometry;
+
+/**
+ * The nearest hit found by a batch ray query, the index of the primitive hit and the distance along the ray to
+ * it. A RayHit is written by the query rather than returned, so one instance can be reused for every query.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class RayHit {
+    /**
+     * The index of the primitive hit in the array queried, or -1 if nothing was hit.
+     */
+    public int index = -1;
+
+    /**
+     * The distance along the ray to the hit in multiples of the ray's direction, or Ray.MISS if nothing was hit.
+     */
+    public float distance = Ray.MISS;
+
+    /**
+     * Returns true if this RayHit holds a hit.
+     *
+     * @return true if something was hit, false if not.
+     */
+    public boolean isHit() {
+        return index >= 0;
+    }
+
+    /**
+     * Return the String form of this RayHit as its index and distance e.g. [3, 1.5].
+     *
+     * @return The String form of this RayHit.
+     */
+    @Override
+    public String toString() {
+        return "[" + index + ", " + distance + "]";
+    }
+}
@@ -0,0 +1,97 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * A fixed number of triangles packed as a structure of arrays. Each triangle is stored as its first vertex and
+ * the two edges from it to the others, which is the form the Moller-Trumbore test in Ray consumes, so casting
+ * against a mesh needs no subtraction per triangle.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class TriangleArray {
+    // The first vertex of each triangle.
+    final float[] x;
+    final float[] y;
+    final float[] z;
+    // The edge from the first vertex to the second.
+    final float[] edge1X;
+    final float[] edge1Y;
+    final float[] edge1Z;
+    // The edge from the first vertex to the third.
+    final float[] edge2X;
+    final float[] edge2Y;
+    final float[] edge2Z;
+
+    /**
+     * Constructs a TriangleArray holding the given number of triangles, each degenerate at the origin.
+     *
+     * @param size The number of triangles.
+     * @throws IllegalArgumentException When the size is negative.
+     */
+    public TriangleArray(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size can not be negative.");
+        }
+        x = new float[size];
+        y = new float[size];
+        z = new float[size];
+        edge1X = new float[size];
+        edge1Y = new float[size];
+        edge1Z = new float[size];
+        edge2X = new float[size];
+        edge2Y = new float[size];
+        edge2Z = new float[size];
+    }
+
+    /**
+     * Returns the number of triangles in this TriangleArray.
+     *
+     * @return The number of triangles.
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Returns this TriangleArray after setting the triangle at the given index from its vertices.
+     *
+     * @param index The index of the triangle.
+     * @param a     The first vertex.
+     * @param b     The second vertex.
+     * @param c     The third vertex.
+     * @return This TriangleArray.
+     * @throws IllegalArgumentException  When any vertex is null.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public TriangleArray set(int index, Vector3D a, Vector3D b, Vector3D c) {
+        if (a == null || b == null || c == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        x[index] = a.x;
+        y[index] = a.y;
+        z[index] = a.z;
+        edge1X[index] = b.x - a.x;
+        edge1Y[index] = b.y - a.y;
+        edge1Z[index] = b.z - a.z;
+        edge2X[index] = c.x - a.x;
+        edge2Y[index] = c.y - a.y;
+        edge2Z[index] = c.z - a.z;
+        return this;
+    }
+
+    /**
+     * Sets the given vectors as the vertices of the triangle at the given index.
+     *
+     * @param index The index of the triangle.
+     * @param a     The Vector3D to store the first vertex in.
+     * @param b     The Vector3D to store the second vertex in.
+     * @param c     The Vector3D to store the third vertex in.
+     * @throws IndexOutOfBoundsException When the index is outside of the array.
+     */
+    public void get(int index, Vector3D a, Vector3D b, Vector3D c) {
+        a.set(x[index], y[index], z[index]);
+        b.set(x[index] + edge1X[index], y[index] + edge1Y[index], z[index] + edge1Z[index]);
+        c.set(x[index] + edge2X[index], y[index] + edge2Y[index], z[index] + edge2Z[index]);
+    }
+}
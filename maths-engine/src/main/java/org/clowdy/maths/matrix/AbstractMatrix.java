@@ -1,5 +1,7 @@
 package org.clowdy.maths.matrix;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 
 /**
@@ -55,22 +57,30 @@ public abstract class AbstractMatrix<M extends AbstractMatrix<M>> implements Mat
 
     /**
      * {@inheritDoc}
+     * <p>
+     * This generic implementation works for any size and calculates the product a row at a time, so it only
+     * allocates a single row. Implementations of a fixed size should override it with an unrolled product.
      *
      * @throws IllegalArgumentException When the input Matrix is null.
      */
     @Override
     public M multiply(M matrix) {
         illegalArgumentCheck(matrix);
-        float[] temp = new float[data.length];
-        int sqrt = (int) Math.sqrt(data.length);
-        for (int i = 0; i < data.length; i++) {
-            temp[i] = 0;
-            for (int j = 0; j < sqrt; j++) {
-                temp[i] += data[(i % sqrt) + (j * sqrt)]
-                        * matrix.data[((i / sqrt) * sqrt) + j];
+        int n = order();
+        float[] right = matrix == this ? data.clone() : matrix.data;
+        float[] row = new float[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                float sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += data[k * n + r] * right[c * n + k];
+                }
+                row[c] = sum;
+            }
+            for (int c = 0; c < n; c++) {
+                data[c * n + r] = row[c];
             }
         }
-        data = temp;
         return self();
     }
 
@@ -84,23 +94,133 @@ public abstract class AbstractMatrix<M extends AbstractMatrix<M>> implements Mat
 
     @Override
     public M identity() {
-        for (int i = 0; i < data.length; i++) {
-            data[i] = (i % (Math.sqrt(data.length) + 1)) == 0 ? 1 : 0;
+        int n = order();
+        Arrays.fill(data, 0);
+        for (int i = 0; i < data.length; i += n + 1) {
+            data[i] = 1;
         }
         return self();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The transpose is calculated in place by swapping the elements either side of the diagonal.
+     */
     @Override
     public M transpose() {
-        float[] temp = new float[data.length];
-        int sqr = (int) Math.sqrt(data.length);
+        int n = order();
+        for (int c = 1; c < n; c++) {
+            for (int r = 0; r < c; r++) {
+                int upper = c * n + r;
+                int lower = r * n + c;
+                float temp = data[upper];
+                data[upper] = data[lower];
+                data[lower] = temp;
+            }
+        }
+        return self();
+    }
+
+    @Override
+    public int elements() {
+        return data.length;
+    }
+
+    @Override
+    public FloatBuffer get(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, data.length);
+        for (int i = 0; i < data.length; i++) {
+            buffer.put(index + i, data[i]);
+        }
+        return buffer;
+    }
+
+    @Override
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, data.length * Float.BYTES);
         for (int i = 0; i < data.length; i++) {
-            temp[i] = data[((i % sqr) * sqr) + (i / sqr)];
+            buffer.putFloat(offset + i * Float.BYTES, data[i]);
+        }
+        return buffer;
+    }
+
+    @Override
+    public M load(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, data.length);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = buffer.get(index + i);
         }
-        data = temp;
         return self();
     }
 
+    @Override
+    public M load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, data.length * Float.BYTES);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = buffer.getFloat(offset + i * Float.BYTES);
+        }
+        return self();
+    }
+
+    /**
+     * Returns the element at the given row and column of this Matrix.
+     *
+     * @param row    The row of the element, starting from 0.
+     * @param column The column of the element, starting from 0.
+     * @return The element at the given row and column.
+     * @throws IndexOutOfBoundsException When the row or column is outside this Matrix.
+     */
+    public float get(int row, int column) {
+        return data[index(row, column)];
+    }
+
+    /**
+     * Returns this Matrix after setting the element at the given row and column.
+     *
+     * @param row    The row of the element, starting from 0.
+     * @param column The column of the element, starting from 0.
+     * @param value  The value to set the element to.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the row or column is outside this Matrix.
+     */
+    public M set(int row, int column, float value) {
+        data[index(row, column)] = value;
+        return self();
+    }
+
+    /**
+     * Returns the number of rows, equal to the number of columns, of this Matrix. Implementations of a fixed size
+     * should override this to return a constant.
+     *
+     * @return The number of rows of this Matrix.
+     */
+    protected int order() {
+        return (int) Math.sqrt(data.length);
+    }
+
+    /*
+     * Checks the whole of this matrix fits in a buffer at the given start, so it is never partially written.
+     */
+    private static void checkRange(int limit, int start, int length) {
+        if (start < 0 || start > limit - length) {
+            throw new IndexOutOfBoundsException("A matrix of " + length + " at " + start
+                    + " does not fit in a buffer with limit " + limit + ".");
+        }
+    }
+
+    /*
+     * Returns the index into the column major data of the given row and column, checking both are in range.
+     */
+    private int index(int row, int column) {
+        int n = order();
+        if (row < 0 || row >= n || column < 0 || column >= n) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + column + ") is outside a " + n + "x" + n
+                    + " matrix.");
+        }
+        return column * n + row;
+    }
+
     /**
      * Returns true if the given matrix is equal to this matrix, false if not.
      *
@@ -0,0 +1,119 @@
+package org.clowdy.maths.matrix;
+
+/**
+ * <p>The Cholesky decomposition of a symmetric positive definite MatrixN, A = LL^T where L is lower triangular.
+ * It takes half the work of an LUDecomposition and needs no pivoting, which suits the mass and constraint
+ * matrices of physics solvers. Only the lower triangle of the matrix is read.</p>
+ *
+ * <p>The decomposition is calculated on a copy of the matrix, in place in the same column major layout, so every
+ * update runs down a contiguous column.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class CholeskyDecomposition {
+    // L on and below the diagonal, column major. Above the diagonal is unused.
+    private final float[] l;
+    private final int n;
+
+    /**
+     * Constructs the Cholesky decomposition of the given MatrixN, which is not modified.
+     *
+     * @param matrix The symmetric positive definite MatrixN to decompose.
+     * @throws IllegalArgumentException When the matrix is null or not positive definite.
+     */
+    public CholeskyDecomposition(MatrixN matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        n = matrix.getOrder();
+        l = matrix.data.clone();
+        for (int j = 0; j < n; j++) {
+            int column = j * n;
+            float diagonal = l[column + j];
+            if (!(diagonal > 0)) {
+                throw new IllegalArgumentException("The matrix is not positive definite.");
+            }
+            diagonal = (float) Math.sqrt(diagonal);
+            l[column + j] = diagonal;
+            float inverse = 1 / diagonal;
+            for (int r = j + 1; r < n; r++) {
+                l[column + r] *= inverse;
+            }
+            // Subtract the outer product of the finished column from the lower triangle of the remainder.
+            for (int k = j + 1; k < n; k++) {
+                int target = k * n;
+                float factor = l[column + k];
+                for (int r = k; r < n; r++) {
+                    l[target + r] -= l[column + r] * factor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the determinant of the decomposed matrix, the square of the product of the diagonal of L.
+     *
+     * @return The determinant.
+     */
+    public float determinant() {
+        float product = 1;
+        for (int i = 0; i < n; i++) {
+            product *= l[i * n + i];
+        }
+        return product * product;
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the lower triangular factor L.
+     *
+     * @param dest The MatrixN to store L in, of the same order.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When the destination is null or of a different order.
+     */
+    public MatrixN getL(MatrixN dest) {
+        if (dest == null || dest.getOrder() != n) {
+            throw new IllegalArgumentException("The destination must be a " + n + "x" + n + " matrix.");
+        }
+        for (int c = 0; c < n; c++) {
+            for (int r = 0; r < n; r++) {
+                dest.data[c * n + r] = r >= c ? l[c * n + r] : 0;
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the given array after setting it as the solution x of Ax = b, where A is the decomposed matrix. The
+     * solution may be written over b.
+     *
+     * @param b The right hand side, of n elements.
+     * @param x The array to store the solution in, of n elements.
+     * @return The given solution array.
+     * @throws IllegalArgumentException When either array is null or not of n elements.
+     */
+    public float[] solve(float[] b, float[] x) {
+        if (b == null || x == null || b.length != n || x.length != n) {
+            throw new IllegalArgumentException("The input arrays must both have " + n + " elements.");
+        }
+        System.arraycopy(b, 0, x, 0, n);
+        // Forward substitution with L, a column at a time.
+        for (int k = 0; k < n; k++) {
+            int column = k * n;
+            float value = x[k] / l[column + k];
+            x[k] = value;
+            for (int r = k + 1; r < n; r++) {
+                x[r] -= l[column + r] * value;
+            }
+        }
+        // Back substitution with L^T, whose rows are the contiguous columns of L.
+        for (int k = n - 1; k >= 0; k--) {
+            int column = k * n;
+            float sum = x[k];
+            for (int r = k + 1; r < n; r++) {
+                sum -= l[column + r] * x[r];
+            }
+            x[k] = sum / l[column + k];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,187 @@
+package org.clowdy.maths.matrix;
+
+/**
+ * <p>The LU decomposition of a square MatrixN with partial pivoting, PA = LU where P permutes the rows, L is
+ * lower triangular with a unit diagonal and U is upper triangular. Once decomposed, systems Ax = b are solved by
+ * forward and back substitution in O(n^2), and the determinant is the signed product of the diagonal of U.</p>
+ *
+ * <p>The decomposition is calculated on a copy of the matrix, in place in the same column major layout, so the
+ * elimination and the substitutions run down contiguous columns. A matrix with a zero pivot is singular: its
+ * determinant is 0 and solving with it throws.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class LUDecomposition {
+    // L below the diagonal and U on and above it, column major.
+    private final float[] lu;
+    // The row of the original matrix at each row of the decomposition.
+    private final int[] pivots;
+    private final int n;
+    // 1 or -1 for an even or odd number of row swaps.
+    private final int sign;
+    private final boolean singular;
+
+    /**
+     * Constructs the LU decomposition of the given MatrixN, which is not modified.
+     *
+     * @param matrix The MatrixN to decompose.
+     * @throws IllegalArgumentException When the matrix is null.
+     */
+    public LUDecomposition(MatrixN matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        n = matrix.getOrder();
+        lu = matrix.data.clone();
+        pivots = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivots[i] = i;
+        }
+        int swaps = 1;
+        boolean zeroPivot = false;
+        for (int k = 0; k < n; k++) {
+            int column = k * n;
+            int pivot = k;
+            float largest = Math.abs(lu[column + k]);
+            for (int r = k + 1; r < n; r++) {
+                float value = Math.abs(lu[column + r]);
+                if (value > largest) {
+                    largest = value;
+                    pivot = r;
+                }
+            }
+            if (pivot != k) {
+                for (int c = 0; c < n; c++) {
+                    float temp = lu[c * n + k];
+                    lu[c * n + k] = lu[c * n + pivot];
+                    lu[c * n + pivot] = temp;
+                }
+                int temp = pivots[k];
+                pivots[k] = pivots[pivot];
+                pivots[pivot] = temp;
+                swaps = -swaps;
+            }
+            float diagonal = lu[column + k];
+            if (diagonal == 0) {
+                zeroPivot = true;
+                continue;
+            }
+            float inverse = 1 / diagonal;
+            for (int r = k + 1; r < n; r++) {
+                lu[column + r] *= inverse;
+            }
+            // Eliminate below the pivot in each later column, down the contiguous column.
+            for (int c = k + 1; c < n; c++) {
+                int target = c * n;
+                float factor = lu[target + k];
+                if (factor != 0) {
+                    for (int r = k + 1; r < n; r++) {
+                        lu[target + r] -= lu[column + r] * factor;
+                    }
+                }
+            }
+        }
+        sign = swaps;
+        singular = zeroPivot;
+    }
+
+    /**
+     * Returns true if the decomposed matrix is singular, i.e. it has no inverse.
+     *
+     * @return true if the matrix is singular, false if not.
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Returns the determinant of the decomposed matrix.
+     *
+     * @return The determinant.
+     */
+    public float determinant() {
+        float determinant = sign;
+        for (int i = 0; i < n; i++) {
+            determinant *= lu[i * n + i];
+        }
+        return determinant;
+    }
+
+    /**
+     * Returns the given array after setting it as the solution x of Ax = b, where A is the decomposed matrix. The
+     * solution may be written over b.
+     *
+     * @param b The right hand side, of n elements.
+     * @param x The array to store the solution in, of n elements.
+     * @return The given solution array.
+     * @throws IllegalArgumentException When either array is null or not of n elements.
+     * @throws IllegalStateException    When the matrix is singular.
+     */
+    public float[] solve(float[] b, float[] x) {
+        if (b == null || x == null || b.length != n || x.length != n) {
+            throw new IllegalArgumentException("The input arrays must both have " + n + " elements.");
+        }
+        if (singular) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        if (x == b) {
+            b = b.clone();
+        }
+        for (int i = 0; i < n; i++) {
+            x[i] = b[pivots[i]];
+        }
+        substitute(x, 0);
+        return x;
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the inverse of the decomposed matrix. The
+     * destination may be the decomposed matrix.
+     *
+     * @param dest The MatrixN to store the inverse in, of the same order.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When the destination is null or of a different order.
+     * @throws IllegalStateException    When the matrix is singular.
+     */
+    public MatrixN inverse(MatrixN dest) {
+        if (dest == null || dest.getOrder() != n) {
+            throw new IllegalArgumentException("The destination must be a " + n + "x" + n + " matrix.");
+        }
+        if (singular) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        float[] inverse = dest.data;
+        for (int c = 0; c < n; c++) {
+            int column = c * n;
+            for (int r = 0; r < n; r++) {
+                inverse[column + r] = pivots[r] == c ? 1 : 0;
+            }
+            substitute(inverse, column);
+        }
+        return dest;
+    }
+
+    /*
+     * Solves LUx = y in place for the n elements of the given array starting at the given offset, by forward then
+     * back substitution a column at a time.
+     */
+    private void substitute(float[] x, int offset) {
+        for (int k = 0; k < n; k++) {
+            float value = x[offset + k];
+            if (value != 0) {
+                int column = k * n;
+                for (int r = k + 1; r < n; r++) {
+                    x[offset + r] -= lu[column + r] * value;
+                }
+            }
+        }
+        for (int k = n - 1; k >= 0; k--) {
+            int column = k * n;
+            float value = x[offset + k] / lu[column + k];
+            x[offset + k] = value;
+            for (int r = 0; r < k; r++) {
+                x[offset + r] -= lu[column + r] * value;
+            }
+        }
+    }
+}
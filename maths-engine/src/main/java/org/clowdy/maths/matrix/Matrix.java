@@ -1,5 +1,8 @@
 package org.clowdy.maths.matrix;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * <p>This is the root interface to the Matrix hierarchy. A Matrix is a rectangular array
  * of values for which mathematical operations such as addition and multiplication are
@@ -105,6 +108,57 @@ public interface Matrix<M extends Matrix<M>> {
      */
     M adjugate();
 
+    /**
+     * Returns the number of elements of this Matrix, which is the number of floats it writes to a buffer.
+     *
+     * @return The number of elements of this Matrix.
+     */
+    int elements();
+
+    /**
+     * Writes the elements of this Matrix into the given buffer in column major order, the layout expected by
+     * OpenGL, starting at the given index. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param index  The index of the first element in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element at the index.
+     */
+    FloatBuffer get(FloatBuffer buffer, int index);
+
+    /**
+     * Writes the elements of this Matrix into the given buffer in column major order, in the buffer's byte order,
+     * starting at the given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param offset The byte offset of the first element in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every element at the offset.
+     */
+    ByteBuffer get(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns this Matrix after reading its elements in column major order from the given buffer, starting at the
+     * given index. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param index  The index of the first element in the buffer.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every element at the index.
+     */
+    M load(FloatBuffer buffer, int index);
+
+    /**
+     * Returns this Matrix after reading its elements in column major order from the given buffer, in the buffer's
+     * byte order, starting at the given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param offset The byte offset of the first element in the buffer.
+     * @return This Matrix.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every element at the offset.
+     */
+    M load(ByteBuffer buffer, int offset);
+
     /**
      * Return this Matrix after dividing it by the given scalar.
      *
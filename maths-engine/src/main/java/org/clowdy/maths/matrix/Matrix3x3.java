@@ -119,6 +119,82 @@ public class Matrix3x3 extends AbstractMatrix<Matrix3x3> {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    @Override
+    public Matrix3x3 multiply(Matrix3x3 matrix) {
+        illegalArgumentCheck(matrix);
+        return multiply(this, matrix, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the product of the left and right Matrices. Every
+     * element is read before any is written, so the destination may be either input, and no objects are allocated.
+     *
+     * @param left  The left Matrix of the product.
+     * @param right The right Matrix of the product.
+     * @param dest  The Matrix to store the product in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When any of the Matrices are null.
+     */
+    public static Matrix3x3 multiply(Matrix3x3 left, Matrix3x3 right, Matrix3x3 dest) {
+        if (left == null || right == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        float a00 = left.data[0], a01 = left.data[3], a02 = left.data[6];
+        float a10 = left.data[1], a11 = left.data[4], a12 = left.data[7];
+        float a20 = left.data[2], a21 = left.data[5], a22 = left.data[8];
+        float b00 = right.data[0], b01 = right.data[3], b02 = right.data[6];
+        float b10 = right.data[1], b11 = right.data[4], b12 = right.data[7];
+        float b20 = right.data[2], b21 = right.data[5], b22 = right.data[8];
+        return dest.set(a00 * b00 + a01 * b10 + a02 * b20,
+                a00 * b01 + a01 * b11 + a02 * b21,
+                a00 * b02 + a01 * b12 + a02 * b22,
+                a10 * b00 + a11 * b10 + a12 * b20,
+                a10 * b01 + a11 * b11 + a12 * b21,
+                a10 * b02 + a11 * b12 + a12 * b22,
+                a20 * b00 + a21 * b10 + a22 * b20,
+                a20 * b01 + a21 * b11 + a22 * b21,
+                a20 * b02 + a21 * b12 + a22 * b22);
+    }
+
+    @Override
+    public Matrix3x3 identity() {
+        return set(1, 0, 0, 0, 1, 0, 0, 0, 1);
+    }
+
+    @Override
+    public Matrix3x3 transpose() {
+        return transpose(this, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the transpose of the source Matrix. The destination
+     * may be the source, and no objects are allocated.
+     *
+     * @param source The Matrix to transpose.
+     * @param dest   The Matrix to store the transpose in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When either Matrix is null.
+     */
+    public static Matrix3x3 transpose(Matrix3x3 source, Matrix3x3 dest) {
+        if (source == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        float m00 = source.data[0], m01 = source.data[3], m02 = source.data[6];
+        float m10 = source.data[1], m11 = source.data[4], m12 = source.data[7];
+        float m20 = source.data[2], m21 = source.data[5], m22 = source.data[8];
+        return dest.set(m00, m10, m20, m01, m11, m21, m02, m12, m22);
+    }
+
+    @Override
+    protected int order() {
+        return 3;
+    }
+
     /**
      * Calculates the value of the determinant of this matrix and returns it.
      *
@@ -138,19 +214,43 @@ public class Matrix3x3 extends AbstractMatrix<Matrix3x3> {
      */
     @Override
     public Matrix3x3 adjugate() {
-        transpose();
-        float[] temp = new float[9];
-        temp[0] = data[4] * data[8] - data[5] * data[7];
-        temp[1] = -(data[3] * data[8] - data[5] * data[6]);
-        temp[2] = data[3] * data[7] - data[4] * data[6];
-        temp[3] = -(data[1] * data[8] - data[2] * data[7]);
-        temp[4] = data[0] * data[8] - data[2] * data[6];
-        temp[5] = -(data[0] * data[7] - data[1] * data[6]);
-        temp[6] = data[1] * data[5] - data[2] * data[4];
-        temp[7] = -(data[0] * data[5] - data[2] * data[3]);
-        temp[8] = data[0] * data[4] - data[1] * data[3];
-        data = temp;
-        return this;
+        return cofactors(false);
+    }
+
+    /**
+     * Returns this Matrix after setting it as its inverse. The inverse is calculated in place from the cofactors,
+     * which are shared with the determinant, so no objects are allocated.
+     *
+     * @return This Matrix.
+     * @throws IllegalStateException When this Matrix doesn't have an inverse.
+     */
+    @Override
+    public Matrix3x3 inverse() {
+        return cofactors(true);
+    }
+
+    /*
+     * Sets this matrix as its adjugate, the transpose of its cofactor matrix, divided by the determinant when
+     * inverting.
+     */
+    private Matrix3x3 cofactors(boolean invert) {
+        float m00 = data[0], m01 = data[3], m02 = data[6];
+        float m10 = data[1], m11 = data[4], m12 = data[7];
+        float m20 = data[2], m21 = data[5], m22 = data[8];
+        float c00 = m11 * m22 - m12 * m21;
+        float c01 = m12 * m20 - m10 * m22;
+        float c02 = m10 * m21 - m11 * m20;
+        float scale = 1;
+        if (invert) {
+            float det = m00 * c00 + m01 * c01 + m02 * c02;
+            if (det == 0) {
+                throw new IllegalStateException("This matrix does not have an inverse.");
+            }
+            scale = 1 / det;
+        }
+        return set(c00 * scale, (m02 * m21 - m01 * m22) * scale, (m01 * m12 - m02 * m11) * scale,
+                c01 * scale, (m00 * m22 - m02 * m20) * scale, (m02 * m10 - m00 * m12) * scale,
+                c02 * scale, (m01 * m20 - m00 * m21) * scale, (m00 * m11 - m01 * m10) * scale);
     }
 
     @Override
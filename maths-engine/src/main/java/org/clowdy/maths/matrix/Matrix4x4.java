@@ -141,6 +141,92 @@ public class Matrix4x4 extends AbstractMatrix<Matrix4x4> {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    @Override
+    public Matrix4x4 multiply(Matrix4x4 matrix) {
+        illegalArgumentCheck(matrix);
+        return multiply(this, matrix, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the product of the left and right Matrices. Every
+     * element is read before any is written, so the destination may be either input, and no objects are allocated.
+     *
+     * @param left  The left Matrix of the product.
+     * @param right The right Matrix of the product.
+     * @param dest  The Matrix to store the product in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When any of the Matrices are null.
+     */
+    public static Matrix4x4 multiply(Matrix4x4 left, Matrix4x4 right, Matrix4x4 dest) {
+        if (left == null || right == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        float a00 = left.data[0], a01 = left.data[4], a02 = left.data[8], a03 = left.data[12];
+        float a10 = left.data[1], a11 = left.data[5], a12 = left.data[9], a13 = left.data[13];
+        float a20 = left.data[2], a21 = left.data[6], a22 = left.data[10], a23 = left.data[14];
+        float a30 = left.data[3], a31 = left.data[7], a32 = left.data[11], a33 = left.data[15];
+        float b00 = right.data[0], b01 = right.data[4], b02 = right.data[8], b03 = right.data[12];
+        float b10 = right.data[1], b11 = right.data[5], b12 = right.data[9], b13 = right.data[13];
+        float b20 = right.data[2], b21 = right.data[6], b22 = right.data[10], b23 = right.data[14];
+        float b30 = right.data[3], b31 = right.data[7], b32 = right.data[11], b33 = right.data[15];
+        return dest.set(a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30,
+                a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31,
+                a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32,
+                a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33,
+                a10 * b00 + a11 * b10 + a12 * b20 + a13 * b30,
+                a10 * b01 + a11 * b11 + a12 * b21 + a13 * b31,
+                a10 * b02 + a11 * b12 + a12 * b22 + a13 * b32,
+                a10 * b03 + a11 * b13 + a12 * b23 + a13 * b33,
+                a20 * b00 + a21 * b10 + a22 * b20 + a23 * b30,
+                a20 * b01 + a21 * b11 + a22 * b21 + a23 * b31,
+                a20 * b02 + a21 * b12 + a22 * b22 + a23 * b32,
+                a20 * b03 + a21 * b13 + a22 * b23 + a23 * b33,
+                a30 * b00 + a31 * b10 + a32 * b20 + a33 * b30,
+                a30 * b01 + a31 * b11 + a32 * b21 + a33 * b31,
+                a30 * b02 + a31 * b12 + a32 * b22 + a33 * b32,
+                a30 * b03 + a31 * b13 + a32 * b23 + a33 * b33);
+    }
+
+    @Override
+    public Matrix4x4 identity() {
+        return set(1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+    }
+
+    @Override
+    public Matrix4x4 transpose() {
+        return transpose(this, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the transpose of the source Matrix. The destination
+     * may be the source, and no objects are allocated.
+     *
+     * @param source The Matrix to transpose.
+     * @param dest   The Matrix to store the transpose in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When either Matrix is null.
+     */
+    public static Matrix4x4 transpose(Matrix4x4 source, Matrix4x4 dest) {
+        if (source == null || dest == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        float m00 = source.data[0], m01 = source.data[4], m02 = source.data[8], m03 = source.data[12];
+        float m10 = source.data[1], m11 = source.data[5], m12 = source.data[9], m13 = source.data[13];
+        float m20 = source.data[2], m21 = source.data[6], m22 = source.data[10], m23 = source.data[14];
+        float m30 = source.data[3], m31 = source.data[7], m32 = source.data[11], m33 = source.data[15];
+        return dest.set(m00, m10, m20, m30, m01, m11, m21, m31, m02, m12, m22, m32, m03, m13, m23, m33);
+    }
+
+    @Override
+    protected int order() {
+        return 4;
+    }
+
     /**
      * Calculates the value of the determinant of this matrix and returns it.
      *
@@ -148,18 +234,16 @@ public class Matrix4x4 extends AbstractMatrix<Matrix4x4> {
      */
     @Override
     public float determinant() {
-        return data[0]
-                * new Matrix3x3(data[5], data[9], data[13], data[6], data[10],
-                data[14], data[7], data[11], data[15]).determinant()
-                - data[4] * new Matrix3x3(data[1], data[9], data[13], data[2],
-                data[10], data[14], data[3], data[11], data[15])
-                .determinant()
-                + data[8] * new Matrix3x3(data[1], data[5], data[13], data[2],
-                data[6], data[14], data[3], data[7], data[15])
-                .determinant()
-                - data[12] * new Matrix3x3(data[1], data[5], data[9], data[2],
-                data[6], data[10], data[3], data[7], data[11])
-                .determinant();
+        float m00 = data[0], m01 = data[4], m02 = data[8], m03 = data[12];
+        float m10 = data[1], m11 = data[5], m12 = data[9], m13 = data[13];
+        float m20 = data[2], m21 = data[6], m22 = data[10], m23 = data[14];
+        float m30 = data[3], m31 = data[7], m32 = data[11], m33 = data[15];
+        return (m00 * m11 - m01 * m10) * (m22 * m33 - m23 * m32)
+                - (m00 * m12 - m02 * m10) * (m21 * m33 - m23 * m31)
+                + (m00 * m13 - m03 * m10) * (m21 * m32 - m22 * m31)
+                + (m01 * m12 - m02 * m11) * (m20 * m33 - m23 * m30)
+                - (m01 * m13 - m03 * m11) * (m20 * m32 - m22 * m30)
+                + (m02 * m13 - m03 * m12) * (m20 * m31 - m21 * m30);
     }
 
     /**
@@ -174,26 +258,138 @@ public class Matrix4x4 extends AbstractMatrix<Matrix4x4> {
      */
     @Override
     public Matrix4x4 adjugate() {
-        transpose();
-        float[] temp = new float[16];
-        temp[0] = new Matrix3x3(data[5], data[9], data[13], data[6], data[10], data[14], data[7], data[11], data[15]).determinant();
-        temp[1] = -new Matrix3x3(data[4], data[8], data[12], data[6], data[10], data[14], data[7], data[11], data[15]).determinant();
-        temp[2] = new Matrix3x3(data[4], data[8], data[12], data[5], data[9], data[13], data[7], data[11], data[15]).determinant();
-        temp[3] = -new Matrix3x3(data[4], data[8], data[12], data[5], data[9], data[13], data[6], data[10], data[14]).determinant();
-        temp[4] = -new Matrix3x3(data[1], data[9], data[13], data[2], data[10], data[14], data[3], data[11], data[15]).determinant();
-        temp[5] = new Matrix3x3(data[0], data[8], data[12], data[2], data[10], data[14], data[3], data[11], data[15]).determinant();
-        temp[6] = -new Matrix3x3(data[0], data[8], data[12], data[1], data[9], data[13], data[3], data[11], data[15]).determinant();
-        temp[7] = new Matrix3x3(data[0], data[8], data[12], data[1], data[9], data[13], data[2], data[10], data[14]).determinant();
-        temp[8] = new Matrix3x3(data[1], data[5], data[13], data[2], data[6], data[14], data[3], data[7], data[15]).determinant();
-        temp[9] = -new Matrix3x3(data[0], data[4], data[12], data[2], data[6], data[14], data[3], data[7], data[15]).determinant();
-        temp[10] = new Matrix3x3(data[0], data[4], data[12], data[1], data[5], data[13], data[3], data[7], data[15]).determinant();
-        temp[11] = -new Matrix3x3(data[0], data[4], data[12], data[1], data[5], data[13], data[2], data[6], data[14]).determinant();
-        temp[12] = -new Matrix3x3(data[1], data[5], data[9], data[2], data[6], data[10], data[3], data[7], data[11]).determinant();
-        temp[13] = new Matrix3x3(data[0], data[4], data[8], data[2], data[6], data[10], data[3], data[7], data[11]).determinant();
-        temp[14] = -new Matrix3x3(data[0], data[4], data[8], data[1], data[5], data[9], data[3], data[7], data[11]).determinant();
-        temp[15] = new Matrix3x3(data[0], data[4], data[8], data[1], data[5], data[9], data[2], data[6], data[10]).determinant();
-        data = temp;
-        return this;
+        return cofactors(false);
+    }
+
+    /**
+     * Returns this Matrix after setting it as its inverse. The inverse is calculated in place by cofactor
+     * expansion, with the 2x2 sub-determinants shared between the determinant and the adjugate, so no objects are
+     * allocated.
+     *
+     * @return This Matrix.
+     * @throws IllegalStateException When this Matrix doesn't have an inverse.
+     */
+    @Override
+    public Matrix4x4 inverse() {
+        return cofactors(true);
+    }
+
+    /**
+     * Returns this Matrix after setting it as its inverse, assuming it is an affine transformation, i.e. that its
+     * bottom row is (0, 0, 0, 1). Such a matrix is a linear transformation, such as a rotation and scale, followed
+     * by a translation, and its inverse only requires inverting the upper 3x3 and transforming the translation.
+     * The result is undefined if the bottom row is not (0, 0, 0, 1).
+     *
+     * @return This Matrix.
+     * @throws IllegalStateException When this Matrix doesn't have an inverse.
+     */
+    public Matrix4x4 inverseAffine() {
+        float m00 = data[0], m01 = data[4], m02 = data[8];
+        float m10 = data[1], m11 = data[5], m12 = data[9];
+        float m20 = data[2], m21 = data[6], m22 = data[10];
+        float c00 = m11 * m22 - m12 * m21;
+        float c01 = m12 * m20 - m10 * m22;
+        float c02 = m10 * m21 - m11 * m20;
+        float det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        float invDet = 1 / det;
+        float i00 = c00 * invDet;
+        float i01 = (m02 * m21 - m01 * m22) * invDet;
+        float i02 = (m01 * m12 - m02 * m11) * invDet;
+        float i10 = c01 * invDet;
+        float i11 = (m00 * m22 - m02 * m20) * invDet;
+        float i12 = (m02 * m10 - m00 * m12) * invDet;
+        float i20 = c02 * invDet;
+        float i21 = (m01 * m20 - m00 * m21) * invDet;
+        float i22 = (m00 * m11 - m01 * m10) * invDet;
+        float tx = data[12], ty = data[13], tz = data[14];
+        return set(i00, i01, i02, -(i00 * tx + i01 * ty + i02 * tz),
+                i10, i11, i12, -(i10 * tx + i11 * ty + i12 * tz),
+                i20, i21, i22, -(i20 * tx + i21 * ty + i22 * tz),
+                0, 0, 0, 1);
+    }
+
+    /**
+     * Returns the given Matrix3x3 after setting it as the normal matrix of this Matrix, the inverse transpose of
+     * its upper 3x3. Normals transformed by the normal matrix stay perpendicular to their surface under
+     * non-uniform scaling. This Matrix is not modified.
+     *
+     * @param dest The Matrix3x3 to store the normal matrix in.
+     * @return The given Matrix3x3.
+     * @throws IllegalArgumentException When the destination Matrix is null.
+     * @throws IllegalStateException When the upper 3x3 of this Matrix doesn't have an inverse.
+     */
+    public Matrix3x3 normal(Matrix3x3 dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Matrix can not be null.");
+        }
+        float m00 = data[0], m01 = data[4], m02 = data[8];
+        float m10 = data[1], m11 = data[5], m12 = data[9];
+        float m20 = data[2], m21 = data[6], m22 = data[10];
+        float c00 = m11 * m22 - m12 * m21;
+        float c01 = m12 * m20 - m10 * m22;
+        float c02 = m10 * m21 - m11 * m20;
+        float det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0) {
+            throw new IllegalStateException("This matrix does not have an inverse.");
+        }
+        float invDet = 1 / det;
+        // The inverse transpose is the cofactor matrix divided by the determinant.
+        return dest.set(c00 * invDet, c01 * invDet, c02 * invDet,
+                (m02 * m21 - m01 * m22) * invDet, (m00 * m22 - m02 * m20) * invDet, (m01 * m20 - m00 * m21) * invDet,
+                (m01 * m12 - m02 * m11) * invDet, (m02 * m10 - m00 * m12) * invDet, (m00 * m11 - m01 * m10) * invDet);
+    }
+
+    /*
+     * Sets this matrix as its adjugate, divided by the determinant when inverting. Each cofactor is a combination
+     * of 2x2 sub-determinants of the top two and bottom two rows, so the twelve sub-determinants are calculated
+     * once and shared between every cofactor and the determinant.
+     */
+    private Matrix4x4 cofactors(boolean invert) {
+        float m00 = data[0], m01 = data[4], m02 = data[8], m03 = data[12];
+        float m10 = data[1], m11 = data[5], m12 = data[9], m13 = data[13];
+        float m20 = data[2], m21 = data[6], m22 = data[10], m23 = data[14];
+        float m30 = data[3], m31 = data[7], m32 = data[11], m33 = data[15];
+        // Sub-determinants of the top two rows.
+        float a = m00 * m11 - m01 * m10;
+        float b = m00 * m12 - m02 * m10;
+        float c = m00 * m13 - m03 * m10;
+        float d = m01 * m12 - m02 * m11;
+        float e = m01 * m13 - m03 * m11;
+        float f = m02 * m13 - m03 * m12;
+        // Sub-determinants of the bottom two rows.
+        float g = m20 * m31 - m21 * m30;
+        float h = m20 * m32 - m22 * m30;
+        float i = m20 * m33 - m23 * m30;
+        float j = m21 * m32 - m22 * m31;
+        float k = m21 * m33 - m23 * m31;
+        float l = m22 * m33 - m23 * m32;
+        float scale = 1;
+        if (invert) {
+            float det = a * l - b * k + c * j + d * i - e * h + f * g;
+            if (det == 0) {
+                throw new IllegalStateException("This matrix does not have an inverse.");
+            }
+            scale = 1 / det;
+        }
+        return set((m11 * l - m12 * k + m13 * j) * scale,
+                (-m01 * l + m02 * k - m03 * j) * scale,
+                (m31 * f - m32 * e + m33 * d) * scale,
+                (-m21 * f + m22 * e - m23 * d) * scale,
+                (-m10 * l + m12 * i - m13 * h) * scale,
+                (m00 * l - m02 * i + m03 * h) * scale,
+                (-m30 * f + m32 * c - m33 * b) * scale,
+                (m20 * f - m22 * c + m23 * b) * scale,
+                (m10 * k - m11 * i + m13 * g) * scale,
+                (-m00 * k + m01 * i - m03 * g) * scale,
+                (m30 * e - m31 * c + m33 * a) * scale,
+                (-m20 * e + m21 * c - m23 * a) * scale,
+                (-m10 * j + m11 * h - m12 * g) * scale,
+                (m00 * j - m01 * h + m02 * g) * scale,
+                (-m30 * d + m31 * b - m32 * a) * scale,
+                (m20 * d - m21 * b + m22 * a) * scale);
     }
 
     /**
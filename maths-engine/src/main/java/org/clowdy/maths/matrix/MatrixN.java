@@ -0,0 +1,328 @@
+package org.clowdy.maths.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>This class extends the abstract Matrix class creating a dense n x n Matrix of any order, for workloads such
+ * as constraint solvers and inverse kinematics that outgrow the fixed size matrices. The n^2 elements are stored
+ * in the same column major layout as the fixed size matrices, so the generic implementations of AbstractMatrix
+ * all apply.</p>
+ *
+ * <p>The product is cache blocked: the inner loop adds a multiple of a column of the left matrix to a column of
+ * the product, which is contiguous in the column major layout, and the loops over the shared dimension and the
+ * rows are tiled so a block of the left matrix stays in cache while every column of the product uses it. From
+ * PARALLEL_THRESHOLD rows the columns of the product are split between the tasks of a ForkJoinPool.</p>
+ *
+ * <p>The determinant, adjugate and inverse are found through an LUDecomposition, use LUDecomposition or
+ * CholeskyDecomposition directly to solve systems without forming the inverse.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class MatrixN extends AbstractMatrix<MatrixN> {
+    /**
+     * The order from which multiply splits the product between the tasks of a ForkJoinPool.
+     */
+    public static final int PARALLEL_THRESHOLD = 128;
+
+    // The side of the square tiles of the left matrix kept in cache, 64 x 64 floats is 16 KiB.
+    private static final int BLOCK = 64;
+    // The fewest columns of the product given to a single task.
+    private static final int TASK_COLUMNS = 16;
+
+    // The number of rows and columns.
+    private final int n;
+
+    /**
+     * Constructs an n x n matrix where every element is 0.
+     *
+     * @param n The number of rows and columns.
+     * @throws IllegalArgumentException When n is not positive.
+     */
+    public MatrixN(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("The order of a matrix must be positive.");
+        }
+        this.n = n;
+        data = new float[n * n];
+    }
+
+    /**
+     * Constructs an n x n matrix where every element is set to the given value.
+     *
+     * @param n     The number of rows and columns.
+     * @param value The float value to set all the elements of the matrix to.
+     * @throws IllegalArgumentException When n is not positive.
+     */
+    public MatrixN(int n, float value) {
+        this(n);
+        set(value);
+    }
+
+    /**
+     * Constructs a matrix as a clone of a given existing MatrixN, of the same order.
+     *
+     * @param matrix The MatrixN to clone.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public MatrixN(MatrixN matrix) {
+        this(orderOf(matrix));
+        set(matrix);
+    }
+
+    /**
+     * Returns the number of rows, equal to the number of columns, of this MatrixN.
+     *
+     * @return The order of this MatrixN.
+     */
+    public int getOrder() {
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Matrix is null or of a different order.
+     */
+    @Override
+    public MatrixN set(MatrixN matrix) {
+        checkOrder(matrix);
+        System.arraycopy(matrix.data, 0, data, 0, data.length);
+        return this;
+    }
+
+    @Override
+    public MatrixN set(float value) {
+        Arrays.fill(data, value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Matrix is null or of a different order.
+     */
+    @Override
+    public MatrixN add(MatrixN matrix) {
+        checkOrder(matrix);
+        return super.add(matrix);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Matrix is null or of a different order.
+     */
+    @Override
+    public MatrixN subtract(MatrixN matrix) {
+        checkOrder(matrix);
+        return super.subtract(matrix);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The product is cache blocked and, from PARALLEL_THRESHOLD rows, split between the tasks of the common
+     * ForkJoinPool. It is calculated into a new array that then replaces the elements of this matrix.
+     *
+     * @throws IllegalArgumentException When the input Matrix is null or of a different order.
+     */
+    @Override
+    public MatrixN multiply(MatrixN matrix) {
+        return multiply(this, matrix, this);
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the product of left and right. The destination may
+     * be either operand, in which case the product is calculated into a new array first. From PARALLEL_THRESHOLD
+     * rows the product is split between the tasks of the common ForkJoinPool.
+     *
+     * @param left  The left Matrix of the product.
+     * @param right The right Matrix of the product.
+     * @param dest  The Matrix to store the product in.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When any Matrix is null or the orders differ.
+     */
+    public static MatrixN multiply(MatrixN left, MatrixN right, MatrixN dest) {
+        return multiply(left, right, dest, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the given destination Matrix after setting it as the product of left and right, splitting the
+     * product between the tasks of the given pool from PARALLEL_THRESHOLD rows. The destination may be either
+     * operand, in which case the product is calculated into a new array first.
+     *
+     * @param left  The left Matrix of the product.
+     * @param right The right Matrix of the product.
+     * @param dest  The Matrix to store the product in.
+     * @param pool  The pool to run the tasks of a parallel product on.
+     * @return The destination Matrix.
+     * @throws IllegalArgumentException When any Matrix or the pool is null, or the orders differ.
+     */
+    public static MatrixN multiply(MatrixN left, MatrixN right, MatrixN dest, ForkJoinPool pool) {
+        if (left == null || pool == null) {
+            throw new IllegalArgumentException("The input Matrix and pool can not be null.");
+        }
+        left.checkOrder(right);
+        left.checkOrder(dest);
+        int n = left.n;
+        boolean aliased = dest == left || dest == right;
+        float[] product = aliased ? new float[n * n] : dest.data;
+        if (!aliased) {
+            Arrays.fill(product, 0);
+        }
+        if (n >= PARALLEL_THRESHOLD) {
+            pool.invoke(new MultiplyTask(left.data, right.data, product, n, 0, n));
+        } else {
+            multiplyColumns(left.data, right.data, product, n, 0, n);
+        }
+        if (aliased) {
+            dest.data = product;
+        }
+        return dest;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The determinant is the product of the pivots of an LUDecomposition, which is calculated on a copy of this
+     * matrix.
+     */
+    @Override
+    public float determinant() {
+        return new LUDecomposition(this).determinant();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The adjugate is calculated as the determinant times the inverse, so this MatrixN must be invertible.
+     *
+     * @throws IllegalStateException When this Matrix doesn't have an inverse.
+     */
+    @Override
+    public MatrixN adjugate() {
+        LUDecomposition lu = new LUDecomposition(this);
+        float determinant = lu.determinant();
+        return lu.inverse(this).multiply(determinant);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The inverse is found by solving for each column of the identity through an LUDecomposition.
+     */
+    @Override
+    public MatrixN inverse() {
+        return new LUDecomposition(this).inverse(this);
+    }
+
+    /**
+     * Return the String form of this MatrixN, each row on its own line.
+     *
+     * @return The String form of this MatrixN.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("(");
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                builder.append(data[c * n + r]).append(c < n - 1 ? ", " : r < n - 1 ? ",\n" : ")");
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    protected int order() {
+        return n;
+    }
+
+    /**
+     * Returns itself.
+     *
+     * @return This MatrixN.
+     */
+    @Override
+    protected MatrixN self() {
+        return this;
+    }
+
+    /*
+     * Returns the order of the given matrix, checking it is not null before a constructor uses it.
+     */
+    private static int orderOf(MatrixN matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        return matrix.n;
+    }
+
+    /*
+     * Throws an IllegalArgumentException if the given matrix is null or not of the same order as this one.
+     */
+    void checkOrder(MatrixN matrix) {
+        illegalArgumentCheck(matrix);
+        if (matrix.n != n) {
+            throw new IllegalArgumentException("A " + matrix.n + "x" + matrix.n + " matrix can not be used with a "
+                    + n + "x" + n + " matrix.");
+        }
+    }
+
+    /*
+     * Adds the product of left and right to the given columns of the zeroed product, tiling the shared dimension
+     * and the rows so each tile of the left matrix is reused by every column while it is in cache.
+     */
+    private static void multiplyColumns(float[] left, float[] right, float[] product, int n, int from, int to) {
+        for (int kBlock = 0; kBlock < n; kBlock += BLOCK) {
+            int kEnd = Math.min(kBlock + BLOCK, n);
+            for (int rBlock = 0; rBlock < n; rBlock += BLOCK) {
+                int rEnd = Math.min(rBlock + BLOCK, n);
+                for (int c = from; c < to; c++) {
+                    int column = c * n;
+                    for (int k = kBlock; k < kEnd; k++) {
+                        float scale = right[column + k];
+                        int leftColumn = k * n;
+                        for (int r = rBlock; r < rEnd; r++) {
+                            product[column + r] += left[leftColumn + r] * scale;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates a range of columns of a product, splitting the range in half until it is TASK_COLUMNS wide.
+     * Columns of the product are independent so the tasks never write the same element.
+     */
+    private static final class MultiplyTask extends RecursiveAction {
+        private final float[] left;
+        private final float[] right;
+        private final float[] product;
+        private final int n;
+        private final int from;
+        private final int to;
+
+        private MultiplyTask(float[] left, float[] right, float[] product, int n, int from, int to) {
+            this.left = left;
+            this.right = right;
+            this.product = product;
+            this.n = n;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_COLUMNS) {
+                multiplyColumns(left, right, product, n, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MultiplyTask(left, right, product, n, from, middle),
+                        new MultiplyTask(left, right, product, n, middle, to));
+            }
+        }
+    }
+}
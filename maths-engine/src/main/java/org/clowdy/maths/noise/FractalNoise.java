@@ -0,0 +1,133 @@
+package org.clowdy.maths.noise;
+
+/**
+ * <p>Fractal noise, the sum of octaves of a base Noise at increasing frequency and decreasing amplitude. Each octave
+ * multiplies the frequency by the lacunarity and the amplitude by the gain, so the first octave gives the broad
+ * shape and later octaves add finer detail.</p>
+ *
+ * <p>Two combinations are provided:</p>
+ * <ul>
+ *     <li>fbm, fractional Brownian motion, sums the octaves as they are, for rolling hills and clouds;</li>
+ *     <li>ridged sums one minus the absolute value of each octave squared, turning the zero crossings of the base
+ *     noise into sharp ridges, for mountain ranges.</li>
+ * </ul>
+ *
+ * <p>Both are normalised by the sum of the amplitudes, so stay approximately in [-1, 1]. Each octave is offset so
+ * the zeros of a gradient noise at the lattice points don't line up between octaves.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class FractalNoise implements Noise {
+    // The offset of each octave from the last.
+    private static final float OCTAVE_OFFSET = 19.19f;
+
+    private final Noise base;
+    private final int octaves;
+    private final float lacunarity;
+    private final float gain;
+    private final boolean ridged;
+    // The reciprocal of the sum of the amplitudes of the octaves.
+    private final float normaliser;
+
+    private FractalNoise(Noise base, int octaves, float lacunarity, float gain, boolean ridged) {
+        if (base == null) {
+            throw new IllegalArgumentException("The base Noise can not be null.");
+        }
+        if (octaves < 1) {
+            throw new IllegalArgumentException("There must be at least one octave.");
+        }
+        if (!(lacunarity > 0) || !(gain > 0)) {
+            throw new IllegalArgumentException("The lacunarity and gain must be positive.");
+        }
+        this.base = base;
+        this.octaves = octaves;
+        this.lacunarity = lacunarity;
+        this.gain = gain;
+        this.ridged = ridged;
+        float amplitude = 1;
+        float sum = 0;
+        for (int i = 0; i < octaves; i++) {
+            sum += amplitude;
+            amplitude *= gain;
+        }
+        this.normaliser = 1 / sum;
+    }
+
+    /**
+     * Returns fractional Brownian motion of the given base noise.
+     *
+     * @param base       The noise of each octave.
+     * @param octaves    The number of octaves.
+     * @param lacunarity The multiplier of the frequency from one octave to the next, usually 2.
+     * @param gain       The multiplier of the amplitude from one octave to the next, usually 0.5.
+     * @return The fractal noise.
+     * @throws IllegalArgumentException When the base is null, there are no octaves, or the lacunarity or gain is
+     *                                  not positive.
+     */
+    public static FractalNoise fbm(Noise base, int octaves, float lacunarity, float gain) {
+        return new FractalNoise(base, octaves, lacunarity, gain, false);
+    }
+
+    /**
+     * Returns ridged multifractal noise of the given base noise.
+     *
+     * @param base       The noise of each octave.
+     * @param octaves    The number of octaves.
+     * @param lacunarity The multiplier of the frequency from one octave to the next, usually 2.
+     * @param gain       The multiplier of the amplitude from one octave to the next, usually 0.5.
+     * @return The fractal noise.
+     * @throws IllegalArgumentException When the base is null, there are no octaves, or the lacunarity or gain is
+     *                                  not positive.
+     */
+    public static FractalNoise ridged(Noise base, int octaves, float lacunarity, float gain) {
+        return new FractalNoise(base, octaves, lacunarity, gain, true);
+    }
+
+    @Override
+    public float sample(float x, float y) {
+        float sum = 0;
+        float amplitude = 1;
+        float frequency = 1;
+        for (int i = 0; i < octaves; i++) {
+            float offset = i * OCTAVE_OFFSET;
+            sum += amplitude * octave(base.sample(x * frequency + offset, y * frequency + offset));
+            amplitude *= gain;
+            frequency *= lacunarity;
+        }
+        return normalise(sum);
+    }
+
+    @Override
+    public float sample(float x, float y, float z) {
+        float sum = 0;
+        float amplitude = 1;
+        float frequency = 1;
+        for (int i = 0; i < octaves; i++) {
+            float offset = i * OCTAVE_OFFSET;
+            sum += amplitude * octave(base.sample(x * frequency + offset, y * frequency + offset,
+                    z * frequency + offset));
+            amplitude *= gain;
+            frequency *= lacunarity;
+        }
+        return normalise(sum);
+    }
+
+    /*
+     * Returns the contribution of an octave of the given value, before its amplitude.
+     */
+    private float octave(float value) {
+        if (!ridged) {
+            return value;
+        }
+        float ridge = 1 - Math.abs(value);
+        return ridge * ridge;
+    }
+
+    /*
+     * Maps the weighted sum of the octaves into [-1, 1]. The ridged octaves are in [0, 1] so are stretched.
+     */
+    private float normalise(float sum) {
+        float value = sum * normaliser;
+        return ridged ? value * 2 - 1 : value;
+    }
+}
@@ -0,0 +1,89 @@
+package org.clowdy.maths.noise;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>An abstract Noise based on an integer lattice, providing the seeded permutation table that hashes lattice
+ * points along with the helpers shared by the lattice noises.</p>
+ *
+ * <p>The permutation is a shuffle of 0 to 255 repeated twice, so a hash can be chained over each coordinate as
+ * perm[perm[x] + y] without wrapping. The noise therefore repeats every 256 units along each axis.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public abstract class LatticeNoise implements Noise {
+    // The number of lattice points along each axis before the noise repeats, a power of 2 to wrap with a mask.
+    static final int PERIOD = 256;
+    static final int MASK = PERIOD - 1;
+
+    /*
+     * The seeded permutation of the lattice, repeated twice.
+     */
+    protected final int[] perm = new int[PERIOD * 2];
+
+    /**
+     * Initialises the permutation table from the given seed, so noises of the same seed are equal.
+     *
+     * @param seed The seed of the noise.
+     */
+    protected LatticeNoise(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < PERIOD; i++) {
+            perm[i] = i;
+        }
+        for (int i = PERIOD - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = perm[i];
+            perm[i] = perm[j];
+            perm[j] = temp;
+        }
+        System.arraycopy(perm, 0, perm, PERIOD, PERIOD);
+    }
+
+    /*
+     * Returns the largest int less than or equal to x, faster than Math.floor as it stays in int.
+     */
+    static int floor(float x) {
+        int i = (int) x;
+        return x < i ? i - 1 : i;
+    }
+
+    /*
+     * The quintic fade curve 6t^5 - 15t^4 + 10t^3, which has zero first and second derivatives at 0 and 1 so the
+     * interpolated noise is smooth across cells.
+     */
+    static float fade(float t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    static float lerp(float t, float a, float b) {
+        return a + t * (b - a);
+    }
+
+    /*
+     * Returns the dot product of the offset with one of eight gradients, the axes and diagonals, chosen by the hash.
+     */
+    static float gradient(int hash, float x, float y) {
+        switch (hash & 7) {
+            case 0: return x + y;
+            case 1: return -x + y;
+            case 2: return x - y;
+            case 3: return -x - y;
+            case 4: return x;
+            case 5: return -x;
+            case 6: return y;
+            default: return -y;
+        }
+    }
+
+    /*
+     * Returns the dot product of the offset with one of the twelve edge gradients of a cube chosen by the hash,
+     * the four of the last sixteen cases repeat edges so the choice is a mask.
+     */
+    static float gradient(int hash, float x, float y, float z) {
+        int h = hash & 15;
+        float u = h < 8 ? x : y;
+        float v = h < 4 ? y : h == 12 || h == 14 ? x : z;
+        return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
+    }
+}
@@ -0,0 +1,32 @@
+package org.clowdy.maths.noise;
+
+/**
+ * <p>A coherent noise function: a pseudo random function of position that varies smoothly, so nearby positions
+ * have similar values. Noise is used to generate terrain heightmaps, textures and other natural looking detail.</p>
+ *
+ * <p>Implementations are deterministic, the same position always gives the same value, and are safe to sample from
+ * many threads at once so a grid can be filled in parallel by NoiseGrid. Values are approximately in [-1, 1] with
+ * features about one unit apart, so positions are usually scaled by a frequency before sampling.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public interface Noise {
+    /**
+     * Returns the value of the noise at the given 2-dimensional position.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The noise at the position, approximately in [-1, 1].
+     */
+    float sample(float x, float y);
+
+    /**
+     * Returns the value of the noise at the given 3-dimensional position.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The noise at the position, approximately in [-1, 1].
+     */
+    float sample(float x, float y, float z);
+}
@@ -0,0 +1,66 @@
+package org.clowdy.maths.noise;
+
+/**
+ * Improved Perlin gradient noise. Each lattice point has a pseudo random gradient, and the noise in a cell is the
+ * interpolation of the gradients of its corners dotted with the offset from each corner, faded by a quintic curve.
+ * The noise is zero at every lattice point.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class PerlinNoise extends LatticeNoise {
+    /**
+     * Constructs a PerlinNoise with the given seed.
+     *
+     * @param seed The seed of the noise.
+     */
+    public PerlinNoise(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public float sample(float x, float y) {
+        int x0 = floor(x);
+        int y0 = floor(y);
+        float fx = x - x0;
+        float fy = y - y0;
+        int i = x0 & MASK;
+        int j = y0 & MASK;
+        int a = perm[i] + j;
+        int b = perm[i + 1] + j;
+        float u = fade(fx);
+        float v = fade(fy);
+        return lerp(v,
+                lerp(u, gradient(perm[a], fx, fy), gradient(perm[b], fx - 1, fy)),
+                lerp(u, gradient(perm[a + 1], fx, fy - 1), gradient(perm[b + 1], fx - 1, fy - 1)));
+    }
+
+    @Override
+    public float sample(float x, float y, float z) {
+        int x0 = floor(x);
+        int y0 = floor(y);
+        int z0 = floor(z);
+        float fx = x - x0;
+        float fy = y - y0;
+        float fz = z - z0;
+        int i = x0 & MASK;
+        int j = y0 & MASK;
+        int k = z0 & MASK;
+        int a = perm[i] + j;
+        int aa = perm[a] + k;
+        int ab = perm[a + 1] + k;
+        int b = perm[i + 1] + j;
+        int ba = perm[b] + k;
+        int bb = perm[b + 1] + k;
+        float u = fade(fx);
+        float v = fade(fy);
+        float w = fade(fz);
+        return lerp(w,
+                lerp(v,
+                        lerp(u, gradient(perm[aa], fx, fy, fz), gradient(perm[ba], fx - 1, fy, fz)),
+                        lerp(u, gradient(perm[ab], fx, fy - 1, fz), gradient(perm[bb], fx - 1, fy - 1, fz))),
+                lerp(v,
+                        lerp(u, gradient(perm[aa + 1], fx, fy, fz - 1), gradient(perm[ba + 1], fx - 1, fy, fz - 1)),
+                        lerp(u, gradient(perm[ab + 1], fx, fy - 1, fz - 1),
+                                gradient(perm[bb + 1], fx - 1, fy - 1, fz - 1))));
+    }
+}
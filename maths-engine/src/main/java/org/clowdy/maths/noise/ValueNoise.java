@@ -0,0 +1,64 @@
+package org.clowdy.maths.noise;
+
+/**
+ * Value noise, the cheapest lattice noise. Each lattice point has a pseudo random value in [-1, 1], and the noise
+ * in a cell is the interpolation of the values at its corners, faded by a quintic curve. It is blockier than the
+ * gradient noises, as its features line up with the lattice.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class ValueNoise extends LatticeNoise {
+    // Maps a permutation entry in [0, 255] onto [-1, 1].
+    private static final float VALUE_SCALE = 2f / MASK;
+
+    /**
+     * Constructs a ValueNoise with the given seed.
+     *
+     * @param seed The seed of the noise.
+     */
+    public ValueNoise(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public float sample(float x, float y) {
+        int x0 = floor(x);
+        int y0 = floor(y);
+        float u = fade(x - x0);
+        float v = fade(y - y0);
+        int i = x0 & MASK;
+        int j = y0 & MASK;
+        int a = perm[i] + j;
+        int b = perm[i + 1] + j;
+        return lerp(v, lerp(u, value(a), value(b)), lerp(u, value(a + 1), value(b + 1)));
+    }
+
+    @Override
+    public float sample(float x, float y, float z) {
+        int x0 = floor(x);
+        int y0 = floor(y);
+        int z0 = floor(z);
+        float u = fade(x - x0);
+        float v = fade(y - y0);
+        float w = fade(z - z0);
+        int i = x0 & MASK;
+        int j = y0 & MASK;
+        int k = z0 & MASK;
+        int a = perm[i] + j;
+        int aa = perm[a] + k;
+        int ab = perm[a + 1] + k;
+        int b = perm[i + 1] + j;
+        int ba = perm[b] + k;
+        int bb = perm[b + 1] + k;
+        return lerp(w,
+                lerp(v, lerp(u, value(aa), value(ba)), lerp(u, value(ab), value(bb))),
+                lerp(v, lerp(u, value(aa + 1), value(ba + 1)), lerp(u, value(ab + 1), value(bb + 1))));
+    }
+
+    /*
+     * Returns the value of the lattice point with the given partial hash.
+     */
+    private float value(int hash) {
+        return perm[hash] * VALUE_SCALE - 1;
+    }
+}
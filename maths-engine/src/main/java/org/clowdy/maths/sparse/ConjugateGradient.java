@@ -0,0 +1,146 @@
+package org.clowdy.maths.sparse;
+
+/**
+ * <p>A Jacobi preconditioned conjugate gradient solver for Ax = b where A is a symmetric positive definite
+ * SparseMatrix, such as the system of an unbounded set of joint constraints. Each iteration costs one sparse
+ * product and a few passes over the vectors, and in exact arithmetic the solve converges within n iterations.</p>
+ *
+ * <p>The solution array is used as the initial guess, so the solution of the previous frame warm starts the solve.
+ * The work vectors are kept between solves and only grown, so solving each frame does not allocate; as a result an
+ * instance must not be shared between threads.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class ConjugateGradient {
+    private final int maxIterations;
+    private final float tolerance;
+    // Work vectors: the residual, the preconditioned residual, the search direction, its product with A and the
+    // inverse of the diagonal of A as the Jacobi preconditioner.
+    private float[] residual = new float[0];
+    private float[] preconditioned = new float[0];
+    private float[] direction = new float[0];
+    private float[] product = new float[0];
+    private float[] inverseDiagonal = new float[0];
+    // The relative residual at the end of the last solve.
+    private float lastResidual;
+
+    /**
+     * Constructs a ConjugateGradient solver.
+     *
+     * @param maxIterations The maximum number of iterations of each solve.
+     * @param tolerance     The norm of the residual relative to the norm of b at which a solve stops.
+     * @throws IllegalArgumentException When the maximum number of iterations is not positive or the tolerance is
+     *                                  negative.
+     */
+    public ConjugateGradient(int maxIterations, float tolerance) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("The maximum number of iterations must be positive.");
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("The tolerance can not be negative.");
+        }
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Solves Ax = b.
+     *
+     * @param matrix The symmetric positive definite matrix A.
+     * @param b      The right hand side.
+     * @param x      The initial guess, overwritten with the solution.
+     * @return The number of iterations taken, 0 if the initial guess was already within tolerance, and the maximum
+     * if the solve did not converge.
+     * @throws IllegalArgumentException When an input is null or of the wrong size, or the diagonal of the matrix is
+     *                                  not positive.
+     */
+    public int solve(SparseMatrix matrix, float[] b, float[] x) {
+        if (matrix == null || b == null || x == null) {
+            throw new IllegalArgumentException("The matrix, right hand side and solution can not be null.");
+        }
+        matrix.checkPositiveDiagonal();
+        int n = matrix.getRows();
+        if (b.length != n || x.length != n) {
+            throw new IllegalArgumentException("The input arrays must have " + n + " elements.");
+        }
+        if (residual.length != n) {
+            residual = new float[n];
+            preconditioned = new float[n];
+            direction = new float[n];
+            product = new float[n];
+            inverseDiagonal = new float[n];
+        }
+        float[] r = residual;
+        float[] z = preconditioned;
+        float[] p = direction;
+        float[] q = product;
+        float[] m = matrix.diagonal(inverseDiagonal);
+        for (int i = 0; i < n; i++) {
+            m[i] = 1 / m[i];
+        }
+        double bNorm = Math.sqrt(dot(b, b, n));
+        if (bNorm == 0) {
+            bNorm = 1;
+        }
+        double threshold = tolerance * bNorm;
+        matrix.multiply(x, q);
+        double rz = 0;
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - q[i];
+            z[i] = r[i] * m[i];
+            p[i] = z[i];
+            rz += r[i] * z[i];
+        }
+        double rNorm = Math.sqrt(dot(r, r, n));
+        int iteration = 0;
+        while (rNorm > threshold && iteration < maxIterations) {
+            iteration++;
+            matrix.multiply(p, q);
+            double pq = dot(p, q, n);
+            if (pq <= 0) {
+                // The direction has no curvature, A is not positive definite or the residual is round off.
+                break;
+            }
+            float alpha = (float) (rz / pq);
+            double rr = 0;
+            double rzNext = 0;
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                float ri = r[i] - alpha * q[i];
+                float zi = ri * m[i];
+                r[i] = ri;
+                z[i] = zi;
+                rr += ri * ri;
+                rzNext += ri * zi;
+            }
+            float beta = (float) (rzNext / rz);
+            rz = rzNext;
+            for (int i = 0; i < n; i++) {
+                p[i] = z[i] + beta * p[i];
+            }
+            rNorm = Math.sqrt(rr);
+        }
+        lastResidual = (float) (rNorm / bNorm);
+        return iteration;
+    }
+
+    /**
+     * Returns the norm of the residual b - Ax relative to the norm of b at the end of the last solve.
+     *
+     * @return The relative residual of the last solve.
+     */
+    public float getResidual() {
+        return lastResidual;
+    }
+
+    /*
+     * The dot product of the first n elements of two arrays, accumulated in double precision.
+     */
+    private static double dot(float[] a, float[] b, int n) {
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
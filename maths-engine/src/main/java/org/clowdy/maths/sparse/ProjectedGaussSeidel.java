@@ -0,0 +1,183 @@
+package org.clowdy.maths.sparse;
+
+/**
+ * <p>A projected Gauss-Seidel solver for the bounded linear complementarity problems of contact and joint
+ * constraints: find x with Ax = b where each x[i] is clamped to [lower[i], upper[i]]. Each iteration sweeps the rows
+ * in order, solving each for its own unknown with the latest values of the others, then clamping it, so a
+ * non-penetration impulse can be bounded below by 0 and a friction impulse kept within its cone.</p>
+ *
+ * <p>The bounds of a row may depend on another unknown: when dependent[i] is not -1 the bounds of row i are
+ * lower[i] * x[dependent[i]] and upper[i] * x[dependent[i]], e.g. friction limited to -mu and mu times the normal
+ * impulse of its contact.</p>
+ *
+ * <p>The solution array is used as the initial guess, so passing the impulses of the previous frame warm starts
+ * the solve and a persistent stack of contacts converges in a few iterations. The solver holds no state between
+ * solves other than its settings, so one instance may be shared between threads.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class ProjectedGaussSeidel {
+    private final int maxIterations;
+    private final float tolerance;
+    private final float relaxation;
+
+    /**
+     * Constructs a ProjectedGaussSeidel solver without over relaxation.
+     *
+     * @param maxIterations The maximum number of sweeps of each solve.
+     * @param tolerance     The largest change of any unknown in a sweep at which a solve stops.
+     * @throws IllegalArgumentException When the maximum number of iterations is not positive or the tolerance is
+     *                                  negative.
+     */
+    public ProjectedGaussSeidel(int maxIterations, float tolerance) {
+        this(maxIterations, tolerance, 1);
+    }
+
+    /**
+     * Constructs a ProjectedGaussSeidel solver with the given successive over relaxation factor.
+     *
+     * @param maxIterations The maximum number of sweeps of each solve.
+     * @param tolerance     The largest change of any unknown in a sweep at which a solve stops.
+     * @param relaxation    The factor each change is scaled by, in (0, 2). Above 1 can speed up convergence.
+     * @throws IllegalArgumentException When the maximum number of iterations is not positive, the tolerance is
+     *                                  negative or the relaxation is outside (0, 2).
+     */
+    public ProjectedGaussSeidel(int maxIterations, float tolerance, float relaxation) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("The maximum number of iterations must be positive.");
+        }
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException("The tolerance can not be negative.");
+        }
+        if (!(relaxation > 0 && relaxation < 2)) {
+            throw new IllegalArgumentException("The relaxation must be between 0 and 2.");
+        }
+        this.maxIterations = maxIterations;
+        this.tolerance = tolerance;
+        this.relaxation = relaxation;
+    }
+
+    /**
+     * Solves Ax = b without bounds, i.e. by plain Gauss-Seidel, which converges for a symmetric positive definite
+     * or diagonally dominant matrix.
+     *
+     * @param matrix The square matrix A, with a positive diagonal.
+     * @param b      The right hand side.
+     * @param x      The initial guess, overwritten with the solution.
+     * @return The number of sweeps taken, the maximum if the solve did not converge.
+     * @throws IllegalArgumentException When an input is null or of the wrong size, or the diagonal of the matrix is
+     *                                  not positive.
+     */
+    public int solve(SparseMatrix matrix, float[] b, float[] x) {
+        return solve(matrix, b, null, null, null, x);
+    }
+
+    /**
+     * Solves Ax = b with each unknown clamped to its bounds.
+     *
+     * @param matrix The square matrix A, with a positive diagonal.
+     * @param b      The right hand side.
+     * @param lower  The lower bound of each unknown, may use Float.NEGATIVE_INFINITY.
+     * @param upper  The upper bound of each unknown, may use Float.POSITIVE_INFINITY.
+     * @param x      The initial guess, overwritten with the solution.
+     * @return The number of sweeps taken, the maximum if the solve did not converge.
+     * @throws IllegalArgumentException When an input is null or of the wrong size, or the diagonal of the matrix is
+     *                                  not positive.
+     */
+    public int solve(SparseMatrix matrix, float[] b, float[] lower, float[] upper, float[] x) {
+        if (lower == null || upper == null) {
+            throw new IllegalArgumentException("The bounds can not be null.");
+        }
+        return solve(matrix, b, lower, upper, null, x);
+    }
+
+    /**
+     * Solves Ax = b with each unknown clamped to its bounds, scaled by the unknown it depends on when there is one.
+     *
+     * @param matrix    The square matrix A, with a positive diagonal.
+     * @param b         The right hand side.
+     * @param lower     The lower bound, or bound factor, of each unknown.
+     * @param upper     The upper bound, or bound factor, of each unknown.
+     * @param dependent The unknown each row's bounds are scaled by, or -1 for fixed bounds. May be null if no
+     *                  bounds are scaled.
+     * @param x         The initial guess, overwritten with the solution.
+     * @return The number of sweeps taken, the maximum if the solve did not converge.
+     * @throws IllegalArgumentException When an input is null or of the wrong size, a dependent index is out of
+     *                                  range, or the diagonal of the matrix is not positive.
+     */
+    public int solve(SparseMatrix matrix, float[] b, float[] lower, float[] upper, int[] dependent, float[] x) {
+        if (matrix == null || b == null || x == null) {
+            throw new IllegalArgumentException("The matrix, right hand side and solution can not be null.");
+        }
+        matrix.checkPositiveDiagonal();
+        int n = matrix.getRows();
+        checkLength(b, n);
+        checkLength(x, n);
+        boolean bounded = lower != null;
+        if (bounded) {
+            checkLength(lower, n);
+            checkLength(upper, n);
+        }
+        if (dependent != null) {
+            checkLength(dependent.length, n);
+            for (int index : dependent) {
+                if (index < -1 || index >= n) {
+                    throw new IllegalArgumentException("A dependent index must be -1 or a row of the matrix.");
+                }
+            }
+        }
+        int[] rowStart = matrix.rowStart;
+        int[] columns = matrix.columnIndices;
+        float[] values = matrix.values;
+        for (int iteration = 1; iteration <= maxIterations; iteration++) {
+            float largestChange = 0;
+            for (int r = 0; r < n; r++) {
+                float residual = b[r];
+                float diagonal = 0;
+                // The diagonal is read during the sweep of its row rather than copied out, so a solve allocates
+                // nothing and the solver stays stateless.
+                for (int i = rowStart[r], end = rowStart[r + 1]; i < end; i++) {
+                    int column = columns[i];
+                    if (column == r) {
+                        diagonal = values[i];
+                    }
+                    residual -= values[i] * x[column];
+                }
+                float previous = x[r];
+                float value = previous + relaxation * residual / diagonal;
+                if (bounded) {
+                    float low = lower[r];
+                    float high = upper[r];
+                    if (dependent != null && dependent[r] != -1) {
+                        float scale = x[dependent[r]];
+                        low *= scale;
+                        high *= scale;
+                    }
+                    value = value < low ? low : value > high ? high : value;
+                }
+                x[r] = value;
+                float change = Math.abs(value - previous);
+                if (change > largestChange) {
+                    largestChange = change;
+                }
+            }
+            if (largestChange <= tolerance) {
+                return iteration;
+            }
+        }
+        return maxIterations;
+    }
+
+    /*
+     * Checks an input array has one element per row of the matrix.
+     */
+    private static void checkLength(float[] array, int n) {
+        checkLength(array == null ? -1 : array.length, n);
+    }
+
+    private static void checkLength(int length, int n) {
+        if (length != n) {
+            throw new IllegalArgumentException("The input arrays must have " + n + " elements.");
+        }
+    }
+}
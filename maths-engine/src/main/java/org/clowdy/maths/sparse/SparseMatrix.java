@@ -0,0 +1,319 @@
+package org.clowdy.maths.sparse;
+
+import java.util.Arrays;
+
+/**
+ * <p>A sparse matrix of any number of rows and columns stored in compressed sparse row (CSR) form. The non zero
+ * elements of each row are stored next to each other, ordered by column, in a values array alongside their column
+ * indices, and the elements of row i are those from rowStart[i] up to rowStart[i + 1].</p>
+ *
+ * <p>Only the non zero elements are stored and visited, so a product with a vector costs O(nnz) rather than
+ * O(rows * columns). The sparsity pattern is fixed once constructed, but the values may be updated in place through
+ * the backing array, e.g. to refresh the constraint matrix of a frame whose contacts have not changed.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class SparseMatrix {
+    private final int rows;
+    private final int columns;
+    // Start of each row in the column indices and values, with a final entry of the number of non zeros.
+    final int[] rowStart;
+    // Column of each non zero, ascending within each row.
+    final int[] columnIndices;
+    final float[] values;
+
+    /**
+     * Constructs a SparseMatrix from the given compressed sparse row arrays, which are used directly rather than
+     * copied.
+     *
+     * @param rows          The number of rows.
+     * @param columns       The number of columns.
+     * @param rowStart      The start of each row, of rows + 1 elements, ending with the number of non zeros.
+     * @param columnIndices The column of each non zero, strictly ascending within each row.
+     * @param values        The value of each non zero.
+     * @throws IllegalArgumentException When any array is null or the arrays do not describe a valid matrix of the
+     *                                  given size.
+     */
+    public SparseMatrix(int rows, int columns, int[] rowStart, int[] columnIndices, float[] values) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("The number of rows and columns can not be negative.");
+        }
+        if (rowStart == null || columnIndices == null || values == null) {
+            throw new IllegalArgumentException("The input arrays can not be null.");
+        }
+        if (rowStart.length != rows + 1 || rowStart[0] != 0 || columnIndices.length != values.length
+                || rowStart[rows] != values.length) {
+            throw new IllegalArgumentException("The row starts must have " + (rows + 1)
+                    + " elements from 0 to the number of non zeros.");
+        }
+        for (int r = 0; r < rows; r++) {
+            if (rowStart[r + 1] < rowStart[r]) {
+                throw new IllegalArgumentException("The row starts must not decrease.");
+            }
+            for (int i = rowStart[r]; i < rowStart[r + 1]; i++) {
+                int column = columnIndices[i];
+                if (column < 0 || column >= columns || (i > rowStart[r] && column <= columnIndices[i - 1])) {
+                    throw new IllegalArgumentException("The columns of row " + r
+                            + " must be in range and strictly ascending.");
+                }
+            }
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowStart = rowStart;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Returns a new Builder for a SparseMatrix of the given size.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @return A new Builder.
+     * @throws IllegalArgumentException When the number of rows or columns is negative.
+     */
+    public static Builder builder(int rows, int columns) {
+        return new Builder(rows, columns);
+    }
+
+    /**
+     * Returns the number of rows of this SparseMatrix.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this SparseMatrix.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of stored, non zero, elements of this SparseMatrix.
+     *
+     * @return The number of non zeros.
+     */
+    public int nonZeros() {
+        return values.length;
+    }
+
+    /**
+     * Returns the backing array of non zero values, in row then column order. Changes to the returned array are
+     * reflected in this SparseMatrix.
+     *
+     * @return The backing array.
+     */
+    public float[] values() {
+        return values;
+    }
+
+    /**
+     * Returns the element at the given row and column, 0 if it is not stored.
+     *
+     * @param row    The row of the element, starting from 0.
+     * @param column The column of the element, starting from 0.
+     * @return The element at the given row and column.
+     * @throws IndexOutOfBoundsException When the row or column is outside this SparseMatrix.
+     */
+    public float get(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + column + ") is outside a " + rows + "x"
+                    + columns + " matrix.");
+        }
+        int i = Arrays.binarySearch(columnIndices, rowStart[row], rowStart[row + 1], column);
+        return i < 0 ? 0 : values[i];
+    }
+
+    /**
+     * Returns the given destination array after setting it to the product of this SparseMatrix and the given
+     * vector, y = Ax.
+     *
+     * @param x    The vector to multiply, of one element per column.
+     * @param dest The array to store the product in, of one element per row. Must not be x.
+     * @return The destination array.
+     * @throws IllegalArgumentException When either array is null or of the wrong length, or they are the same array.
+     */
+    public float[] multiply(float[] x, float[] dest) {
+        if (x == null || dest == null || x.length != columns || dest.length != rows) {
+            throw new IllegalArgumentException("The vector must have " + columns + " elements and the destination "
+                    + rows + ".");
+        }
+        if (x == dest) {
+            throw new IllegalArgumentException("The destination can not be the vector being multiplied.");
+        }
+        for (int r = 0; r < rows; r++) {
+            float sum = 0;
+            for (int i = rowStart[r], end = rowStart[r + 1]; i < end; i++) {
+                sum += values[i] * x[columnIndices[i]];
+            }
+            dest[r] = sum;
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the given destination array after setting it to the diagonal of this SparseMatrix, 0 where a diagonal
+     * element is not stored.
+     *
+     * @param dest The array to store the diagonal in, of min(rows, columns) elements.
+     * @return The destination array.
+     * @throws IllegalArgumentException When the destination is null or of the wrong length.
+     */
+    public float[] diagonal(float[] dest) {
+        int n = Math.min(rows, columns);
+        if (dest == null || dest.length != n) {
+            throw new IllegalArgumentException("The destination must have " + n + " elements.");
+        }
+        for (int r = 0; r < n; r++) {
+            int i = Arrays.binarySearch(columnIndices, rowStart[r], rowStart[r + 1], r);
+            dest[r] = i < 0 ? 0 : values[i];
+        }
+        return dest;
+    }
+
+    /*
+     * Checks this matrix is square and every diagonal element is stored and positive, as the solvers divide by
+     * them, without allocating.
+     */
+    void checkPositiveDiagonal() {
+        if (rows != columns) {
+            throw new IllegalArgumentException("The matrix must be square, not " + rows + "x" + columns + ".");
+        }
+        for (int r = 0; r < rows; r++) {
+            int i = Arrays.binarySearch(columnIndices, rowStart[r], rowStart[r + 1], r);
+            if (i < 0 || !(values[i] > 0)) {
+                throw new IllegalArgumentException("The diagonal element of row " + r + " must be positive.");
+            }
+        }
+    }
+
+    /**
+     * Builder for a SparseMatrix, accumulating elements in any order. Elements added more than once at the same row
+     * and column are summed, as when assembling the contributions of several constraints, and zeros are dropped.
+     * A Builder may be cleared and reused so its arrays are only grown, never reallocated each frame.
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int columns;
+        private int[] elementRows = new int[16];
+        private int[] elementColumns = new int[16];
+        private float[] elementValues = new float[16];
+        private int size;
+
+        private Builder(int rows, int columns) {
+            if (rows < 0 || columns < 0) {
+                throw new IllegalArgumentException("The number of rows and columns can not be negative.");
+            }
+            this.rows = rows;
+            this.columns = columns;
+        }
+
+        /**
+         * Adds the given value to the element at the given row and column.
+         *
+         * @param row    The row of the element, starting from 0.
+         * @param column The column of the element, starting from 0.
+         * @param value  The value to add.
+         * @return This Builder.
+         * @throws IndexOutOfBoundsException When the row or column is outside the matrix.
+         */
+        public Builder add(int row, int column, float value) {
+            if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                throw new IndexOutOfBoundsException("(" + row + ", " + column + ") is outside a " + rows + "x"
+                        + columns + " matrix.");
+            }
+            if (size == elementValues.length) {
+                elementRows = Arrays.copyOf(elementRows, size * 2);
+                elementColumns = Arrays.copyOf(elementColumns, size * 2);
+                elementValues = Arrays.copyOf(elementValues, size * 2);
+            }
+            elementRows[size] = row;
+            elementColumns[size] = column;
+            elementValues[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Removes every element added to this Builder, keeping its capacity.
+         *
+         * @return This Builder.
+         */
+        public Builder clear() {
+            size = 0;
+            return this;
+        }
+
+        /**
+         * Returns a new SparseMatrix of the elements added to this Builder. The Builder is left unchanged.
+         *
+         * @return A new SparseMatrix.
+         */
+        public SparseMatrix build() {
+            // Counting sort of the elements by row.
+            int[] rowStart = new int[rows + 1];
+            for (int i = 0; i < size; i++) {
+                rowStart[elementRows[i] + 1]++;
+            }
+            for (int r = 0; r < rows; r++) {
+                rowStart[r + 1] += rowStart[r];
+            }
+            int[] next = Arrays.copyOf(rowStart, rows);
+            int[] sortedColumns = new int[size];
+            float[] sortedValues = new float[size];
+            for (int i = 0; i < size; i++) {
+                int position = next[elementRows[i]]++;
+                sortedColumns[position] = elementColumns[i];
+                sortedValues[position] = elementValues[i];
+            }
+            // Sort each row by column, summing duplicates and dropping zeros as the rows are compacted.
+            int count = 0;
+            int start = 0;
+            for (int r = 0; r < rows; r++) {
+                int end = rowStart[r + 1];
+                sortRow(sortedColumns, sortedValues, start, end);
+                rowStart[r] = count;
+                for (int i = start; i < end; ) {
+                    int column = sortedColumns[i];
+                    float sum = 0;
+                    for (; i < end && sortedColumns[i] == column; i++) {
+                        sum += sortedValues[i];
+                    }
+                    if (sum != 0) {
+                        sortedColumns[count] = column;
+                        sortedValues[count] = sum;
+                        count++;
+                    }
+                }
+                start = end;
+            }
+            rowStart[rows] = count;
+            return new SparseMatrix(rows, columns, rowStart, Arrays.copyOf(sortedColumns, count),
+                    Arrays.copyOf(sortedValues, count));
+        }
+
+        /*
+         * Insertion sort of a single row by column, rows of a constraint matrix only hold a handful of elements.
+         */
+        private static void sortRow(int[] columns, float[] values, int start, int end) {
+            for (int i = start + 1; i < end; i++) {
+                int column = columns[i];
+                float value = values[i];
+                int j = i - 1;
+                for (; j >= start && columns[j] > column; j--) {
+                    columns[j + 1] = columns[j];
+                    values[j + 1] = values[j];
+                }
+                columns[j + 1] = column;
+                values[j + 1] = value;
+            }
+        }
+    }
+}
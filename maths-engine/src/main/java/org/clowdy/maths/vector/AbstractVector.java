@@ -25,6 +25,17 @@ public abstract class AbstractVector<V extends AbstractVector<V>> implements Vec
         return Vector.super.angle(vector);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    @Override
+    public float angleFast(V vector) {
+        illegalArgumentCheck(vector);
+        return Vector.super.angleFast(vector);
+    }
+
     /**
      * Returns true if the given vector is equal to this vector, false if not.
      *
@@ -59,6 +70,16 @@ public abstract class AbstractVector<V extends AbstractVector<V>> implements Vec
         }
     }
 
+    /*
+     * Checks every component of this vector fits in a buffer at the given start, so it is never partially written.
+     */
+    protected static void checkRange(int limit, int start, int length) {
+        if (start < 0 || start > limit - length) {
+            throw new IndexOutOfBoundsException("A vector of " + length + " at " + start
+                    + " does not fit in a buffer with limit " + limit + ".");
+        }
+    }
+
     /*
      * Setter for making generalised test cases.
      */
@@ -0,0 +1,523 @@
+package org.clowdy.maths.vector;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.util.StringFormatter;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * <p>Extending the abstract Vector class, Quaternion represents a rotation in 3-dimensional Euclidean Space as a
+ * unit quaternion x<i>i</i> + y<i>j</i> + z<i>k</i> + w. A rotation takes 4 floats rather than the 9 or 16 of a
+ * matrix, composes without drifting away from a rotation once normalised, and interpolates smoothly.</p>
+ *
+ * <p>Unlike the other vectors, the no argument constructor creates the identity rotation rather than a zero
+ * vector. Every operation modifies and returns this Quaternion, or the given destination, without allocating.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class Quaternion extends AbstractVector<Quaternion> {
+    /*
+     * Above this cosine of the angle between two rotations slerp falls back to nlerp, as the sine of the angle
+     * becomes too small to divide by accurately.
+     */
+    private static final float SLERP_THRESHOLD = 0.9995f;
+
+    /**
+     * The x component of the vector part of this Quaternion.
+     */
+    public float x;
+
+    /**
+     * The y component of the vector part of this Quaternion.
+     */
+    public float y;
+
+    /**
+     * The z component of the vector part of this Quaternion.
+     */
+    public float z;
+
+    /**
+     * The scalar part of this Quaternion.
+     */
+    public float w;
+
+    /**
+     * Constructs an identity Quaternion, representing no rotation.
+     */
+    public Quaternion() {
+        identity();
+    }
+
+    /**
+     * Constructs a Quaternion that clones a given Quaternion.
+     *
+     * @param quaternion The Quaternion to clone.
+     */
+    public Quaternion(Quaternion quaternion) {
+        set(quaternion);
+    }
+
+    /**
+     * Constructs a Quaternion where the x, y, z and w components are equal to the given value.
+     *
+     * @param value The value to set x, y, z and w.
+     */
+    public Quaternion(float value) {
+        set(value);
+    }
+
+    /**
+     * Constructs a Quaternion with the given x, y, z and w components.
+     *
+     * @param x The x value of the Quaternion.
+     * @param y The y value of the Quaternion.
+     * @param z The z value of the Quaternion.
+     * @param w The w value of the Quaternion.
+     */
+    public Quaternion(float x, float y, float z, float w) {
+        set(x, y, z, w);
+    }
+
+    /**
+     * Returns this Quaternion after setting the x, y, z and w components with the given values.
+     *
+     * @param x The value to set x.
+     * @param y The value to set y.
+     * @param z The value to set z.
+     * @param w The value to set w.
+     * @return This Quaternion.
+     */
+    public Quaternion set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    @Override
+    public Quaternion set(float value) {
+        return set(value, value, value, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Quaternion is null.
+     */
+    @Override
+    public Quaternion set(Quaternion quaternion) {
+        illegalArgumentCheck(quaternion);
+        return set(quaternion.x, quaternion.y, quaternion.z, quaternion.w);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as the identity, representing no rotation.
+     *
+     * @return This Quaternion.
+     */
+    public Quaternion identity() {
+        return set(0, 0, 0, 1);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as a rotation of the given angle about the given axis.
+     *
+     * @param axis  The axis to rotate about, need not be normalised.
+     * @param angle The angle to rotate by in radians, anticlockwise looking down the axis.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the axis is null or of zero length.
+     */
+    public Quaternion fromAxisAngle(Vector3D axis, float angle) {
+        if (axis == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return fromAxisAngle(axis.x, axis.y, axis.z, angle);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as a rotation of the given angle about the axis with the given
+     * components.
+     *
+     * @param axisX The x component of the axis.
+     * @param axisY The y component of the axis.
+     * @param axisZ The z component of the axis.
+     * @param angle The angle to rotate by in radians, anticlockwise looking down the axis.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the axis is of zero length.
+     */
+    public Quaternion fromAxisAngle(float axisX, float axisY, float axisZ, float angle) {
+        float length = (float) Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+        if (length == 0) {
+            throw new IllegalArgumentException("Can not rotate about an axis of zero length.");
+        }
+        float halfAngle = angle * 0.5f;
+        float scale = (float) Math.sin(halfAngle) / length;
+        return set(axisX * scale, axisY * scale, axisZ * scale, (float) Math.cos(halfAngle));
+    }
+
+    /**
+     * Returns the angle this Quaternion rotates by, assuming it is normalised.
+     *
+     * @return The angle in radians, between 0 and 2 pi.
+     */
+    public float getAngle() {
+        return 2 * (float) Math.acos(Math.max(-1, Math.min(1, w)));
+    }
+
+    /**
+     * Returns the given Vector3D after setting it as the normalised axis this Quaternion rotates about, assuming
+     * it is normalised. The identity has no axis of rotation, so the x axis is returned for it.
+     *
+     * @param dest The Vector3D to store the axis in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException When the destination Vector is null.
+     */
+    public Vector3D getAxis(Vector3D dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        float sinSquared = 1 - w * w;
+        if (sinSquared <= 0) {
+            return dest.set(1, 0, 0);
+        }
+        float scale = 1 / (float) Math.sqrt(sinSquared);
+        return dest.set(x * scale, y * scale, z * scale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Quaternion is null.
+     */
+    @Override
+    public Quaternion add(Quaternion quaternion) {
+        illegalArgumentCheck(quaternion);
+        return set(x + quaternion.x, y + quaternion.y, z + quaternion.z, w + quaternion.w);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Quaternion is null.
+     */
+    @Override
+    public Quaternion subtract(Quaternion quaternion) {
+        illegalArgumentCheck(quaternion);
+        return set(x - quaternion.x, y - quaternion.y, z - quaternion.z, w - quaternion.w);
+    }
+
+    @Override
+    public Quaternion multiply(float scalar) {
+        return set(x * scalar, y * scalar, z * scalar, w * scalar);
+    }
+
+    /**
+     * Returns this Quaternion after multiplying it by the given Quaternion, such that the result applies the given
+     * rotation first and then this rotation.
+     *
+     * @param quaternion The Quaternion to multiply by.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the input Quaternion is null.
+     */
+    public Quaternion multiply(Quaternion quaternion) {
+        illegalArgumentCheck(quaternion);
+        return multiply(this, quaternion, this);
+    }
+
+    /**
+     * Returns the given destination Quaternion after setting it as the Hamilton product of the left and right
+     * Quaternions. The destination may be either input.
+     *
+     * @param left  The left Quaternion of the product, applied second.
+     * @param right The right Quaternion of the product, applied first.
+     * @param dest  The Quaternion to store the product in.
+     * @return The destination Quaternion.
+     * @throws IllegalArgumentException When any of the Quaternions are null.
+     */
+    public static Quaternion multiply(Quaternion left, Quaternion right, Quaternion dest) {
+        if (left == null || right == null || dest == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        float x1 = left.x, y1 = left.y, z1 = left.z, w1 = left.w;
+        float x2 = right.x, y2 = right.y, z2 = right.z, w2 = right.w;
+        return dest.set(w1 * x2 + x1 * w2 + y1 * z2 - z1 * y2,
+                w1 * y2 - x1 * z2 + y1 * w2 + z1 * x2,
+                w1 * z2 + x1 * y2 - y1 * x2 + z1 * w2,
+                w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as its conjugate. The conjugate of a normalised Quaternion is its
+     * inverse rotation.
+     *
+     * @return This Quaternion.
+     */
+    public Quaternion conjugate() {
+        return set(-x, -y, -z, w);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as its inverse.
+     *
+     * @return This Quaternion.
+     * @throws IllegalStateException When this Quaternion is of zero length.
+     */
+    public Quaternion inverse() {
+        float lengthSquared = x * x + y * y + z * z + w * w;
+        if (lengthSquared == 0) {
+            throw new IllegalStateException("A quaternion of zero length does not have an inverse.");
+        }
+        float scale = 1 / lengthSquared;
+        return set(-x * scale, -y * scale, -z * scale, w * scale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException When the input Quaternion is null.
+     */
+    @Override
+    public float dot(Quaternion quaternion) {
+        illegalArgumentCheck(quaternion);
+        return x * quaternion.x + y * quaternion.y + z * quaternion.z + w * quaternion.w;
+    }
+
+    @Override
+    public float length() {
+        return (float) Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    @Override
+    public float lengthSquared() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /**
+     * Returns this Quaternion after linearly interpolating towards the given Quaternion along the shortest path
+     * and normalising the result. Nlerp is cheaper than slerp but does not rotate at a constant angular velocity.
+     *
+     * @param target The Quaternion to interpolate towards.
+     * @param t      The interpolation factor, 0 giving this Quaternion and 1 the target.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the target Quaternion is null.
+     */
+    public Quaternion nlerp(Quaternion target, float t) {
+        illegalArgumentCheck(target);
+        // q and -q are the same rotation, negating the target when needed takes the shorter path.
+        float targetScale = dot(target) < 0 ? -t : t;
+        float scale = 1 - t;
+        set(x * scale + target.x * targetScale, y * scale + target.y * targetScale,
+                z * scale + target.z * targetScale, w * scale + target.w * targetScale);
+        float length = length();
+        return length == 0 ? this : multiply(1 / length);
+    }
+
+    /**
+     * Returns this Quaternion after spherically interpolating towards the given Quaternion along the shortest
+     * path, rotating at a constant angular velocity. Both Quaternions should be normalised.
+     *
+     * @param target The Quaternion to interpolate towards.
+     * @param t      The interpolation factor, 0 giving this Quaternion and 1 the target.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the target Quaternion is null.
+     */
+    public Quaternion slerp(Quaternion target, float t) {
+        illegalArgumentCheck(target);
+        float cos = dot(target);
+        float sign = 1;
+        if (cos < 0) {
+            cos = -cos;
+            sign = -1;
+        }
+        if (cos > SLERP_THRESHOLD) {
+            return nlerp(target, t);
+        }
+        float angle = (float) Math.acos(cos);
+        float inverseSin = 1 / (float) Math.sin(angle);
+        float scale = (float) Math.sin((1 - t) * angle) * inverseSin;
+        float targetScale = sign * (float) Math.sin(t * angle) * inverseSin;
+        return set(x * scale + target.x * targetScale, y * scale + target.y * targetScale,
+                z * scale + target.z * targetScale, w * scale + target.w * targetScale);
+    }
+
+    /**
+     * Returns the given Vector3D after rotating it by this Quaternion, assuming it is normalised.
+     *
+     * @param vector The Vector3D to rotate.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException When the input Vector is null.
+     */
+    public Vector3D rotate(Vector3D vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        // v' = v + 2w(q x v) + 2(q x (q x v)), with q the vector part of this Quaternion.
+        float tx = 2 * (y * vector.z - z * vector.y);
+        float ty = 2 * (z * vector.x - x * vector.z);
+        float tz = 2 * (x * vector.y - y * vector.x);
+        return vector.set(vector.x + w * tx + y * tz - z * ty,
+                vector.y + w * ty + z * tx - x * tz,
+                vector.z + w * tz + x * ty - y * tx);
+    }
+
+    /**
+     * Returns the given Matrix3x3 after setting it as the rotation matrix of this Quaternion, assuming it is
+     * normalised.
+     *
+     * @param dest The Matrix3x3 to store the rotation in.
+     * @return The given Matrix3x3.
+     * @throws IllegalArgumentException When the destination Matrix is null.
+     */
+    public Matrix3x3 toMatrix(Matrix3x3 dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Matrix can not be null.");
+        }
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float xw = x * w, yw = y * w, zw = z * w;
+        return dest.set(1 - 2 * (yy + zz), 2 * (xy - zw), 2 * (xz + yw),
+                2 * (xy + zw), 1 - 2 * (xx + zz), 2 * (yz - xw),
+                2 * (xz - yw), 2 * (yz + xw), 1 - 2 * (xx + yy));
+    }
+
+    /**
+     * Returns the given Matrix4x4 after setting it as the rotation matrix of this Quaternion, assuming it is
+     * normalised, with no translation.
+     *
+     * @param dest The Matrix4x4 to store the rotation in.
+     * @return The given Matrix4x4.
+     * @throws IllegalArgumentException When the destination Matrix is null.
+     */
+    public Matrix4x4 toMatrix(Matrix4x4 dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Matrix can not be null.");
+        }
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float xw = x * w, yw = y * w, zw = z * w;
+        return dest.set(1 - 2 * (yy + zz), 2 * (xy - zw), 2 * (xz + yw), 0,
+                2 * (xy + zw), 1 - 2 * (xx + zz), 2 * (yz - xw), 0,
+                2 * (xz - yw), 2 * (yz + xw), 1 - 2 * (xx + yy), 0,
+                0, 0, 0, 1);
+    }
+
+    /**
+     * Returns this Quaternion after setting it as the rotation of the given rotation matrix.
+     *
+     * @param matrix The rotation matrix, without scale.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public Quaternion fromMatrix(Matrix3x3 matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        return fromRotation(matrix.get(0, 0), matrix.get(0, 1), matrix.get(0, 2),
+                matrix.get(1, 0), matrix.get(1, 1), matrix.get(1, 2),
+                matrix.get(2, 0), matrix.get(2, 1), matrix.get(2, 2));
+    }
+
+    /**
+     * Returns this Quaternion after setting it as the rotation of the upper 3x3 of the given matrix.
+     *
+     * @param matrix The transformation matrix, without scale.
+     * @return This Quaternion.
+     * @throws IllegalArgumentException When the input Matrix is null.
+     */
+    public Quaternion fromMatrix(Matrix4x4 matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("The input Matrix can not be null.");
+        }
+        return fromRotation(matrix.get(0, 0), matrix.get(0, 1), matrix.get(0, 2),
+                matrix.get(1, 0), matrix.get(1, 1), matrix.get(1, 2),
+                matrix.get(2, 0), matrix.get(2, 1), matrix.get(2, 2));
+    }
+
+    /*
+     * Sets this quaternion from the given rotation matrix elements, taking the square root of whichever of the
+     * trace or diagonal elements is largest to keep the division accurate.
+     */
+    private Quaternion fromRotation(float m00, float m01, float m02, float m10, float m11, float m12,
+                                    float m20, float m21, float m22) {
+        float trace = m00 + m11 + m22;
+        if (trace > 0) {
+            float s = (float) Math.sqrt(trace + 1) * 2;
+            return set((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, 0.25f * s);
+        } else if (m00 > m11 && m00 > m22) {
+            float s = (float) Math.sqrt(1 + m00 - m11 - m22) * 2;
+            return set(0.25f * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        } else if (m11 > m22) {
+            float s = (float) Math.sqrt(1 + m11 - m00 - m22) * 2;
+            return set((m01 + m10) / s, 0.25f * s, (m12 + m21) / s, (m02 - m20) / s);
+        }
+        float s = (float) Math.sqrt(1 + m22 - m00 - m11) * 2;
+        return set((m02 + m20) / s, (m12 + m21) / s, 0.25f * s, (m10 - m01) / s);
+    }
+
+    @Override
+    public int components() {
+        return 4;
+    }
+
+    @Override
+    public FloatBuffer get(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 4);
+        buffer.put(index, x);
+        buffer.put(index + 1, y);
+        buffer.put(index + 2, z);
+        buffer.put(index + 3, w);
+        return buffer;
+    }
+
+    @Override
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 4 * Float.BYTES);
+        buffer.putFloat(offset, x);
+        buffer.putFloat(offset + 4, y);
+        buffer.putFloat(offset + 8, z);
+        buffer.putFloat(offset + 12, w);
+        return buffer;
+    }
+
+    @Override
+    public Quaternion load(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 4);
+        return set(buffer.get(index), buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3));
+    }
+
+    @Override
+    public Quaternion load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 4 * Float.BYTES);
+        return set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12));
+    }
+
+    /**
+     * Return the String form of this Quaternion e.g. (1, 2, 3, 4).
+     *
+     * @return The String form of this Quaternion.
+     */
+    @Override
+    public String toString() {
+        String xString = StringFormatter.removeTrailingZero(x);
+        String yString = StringFormatter.removeTrailingZero(y);
+        String zString = StringFormatter.removeTrailingZero(z);
+        String wString = StringFormatter.removeTrailingZero(w);
+        return "(" + xString + ", " + yString +
+                ", " + zString + ", " + wString + ")";
+    }
+
+    /*
+     * Setter for testing
+     */
+    protected Quaternion set(float... values) {
+        x = values.length > 0 ? values[0] : 0;
+        y = values.length > 1 ? values[1] : 0;
+        z = values.length > 2 ? values[2] : 0;
+        w = values.length > 3 ? values[3] : 0;
+        return this;
+    }
+}
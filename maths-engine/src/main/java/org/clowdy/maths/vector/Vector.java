@@ -1,5 +1,10 @@
 package org.clowdy.maths.vector;
 
+import org.clowdy.maths.FastMath;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * <p>This is the root interface to the Vector hierarchy. A Vector represents a quantity
  * in a vector space with a direction an magnitude. Vectors in a vector space of
@@ -84,6 +89,64 @@ public interface Vector<V extends Vector<V>> {
      */
     float length();
 
+    /**
+     * Returns the square of the length of this Vector, which needs no square root.
+     *
+     * @return The squared length of this vector as a float.
+     */
+    float lengthSquared();
+
+    /**
+     * Returns the number of components of this Vector, which is the number of floats it writes to a buffer.
+     *
+     * @return The number of components of this Vector.
+     */
+    int components();
+
+    /**
+     * Writes the components of this Vector into the given buffer, starting at the given index. The position of
+     * the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param index  The index of the first component in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every component at the index.
+     */
+    FloatBuffer get(FloatBuffer buffer, int index);
+
+    /**
+     * Writes the components of this Vector into the given buffer, in the buffer's byte order, starting at the
+     * given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to write to.
+     * @param offset The byte offset of the first component in the buffer.
+     * @return The given buffer.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every component at the offset.
+     */
+    ByteBuffer get(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns this Vector after reading its components from the given buffer, starting at the given index. The
+     * position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param index  The index of the first component in the buffer.
+     * @return This Vector.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every component at the index.
+     */
+    V load(FloatBuffer buffer, int index);
+
+    /**
+     * Returns this Vector after reading its components from the given buffer, in the buffer's byte order,
+     * starting at the given byte offset. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer to read from.
+     * @param offset The byte offset of the first component in the buffer.
+     * @return This Vector.
+     * @throws IndexOutOfBoundsException When the buffer does not hold every component at the offset.
+     */
+    V load(ByteBuffer buffer, int offset);
+
     /**
      * Return this Vector after negating it's direction.
      *
@@ -116,11 +179,35 @@ public interface Vector<V extends Vector<V>> {
         float length = length();
         if (length == 0)
             throw new IllegalStateException("Can not normalise a vector of zero length.");
-        return divide(length());
+        return divide(length);
+    }
+
+    /**
+     * Return this Vector after it has been approximately normalised through FastMath.invSqrt. The length of the
+     * result differs from 1 by at most FastMath.INV_SQRT_ERROR.
+     *
+     * @return This Vector
+     * @throws IllegalStateException When this Vector has a length of 0.
+     */
+    default V normaliseFast() {
+        float lengthSquared = lengthSquared();
+        if (lengthSquared == 0)
+            throw new IllegalStateException("Can not normalise a vector of zero length.");
+        return multiply(FastMath.invSqrt(lengthSquared));
+    }
+
+    /**
+     * Returns an approximation of the length of this Vector through FastMath.sqrt, with a relative error of at
+     * most FastMath.INV_SQRT_ERROR.
+     *
+     * @return The approximate length of this vector as a float.
+     */
+    default float lengthFast() {
+        return FastMath.sqrt(lengthSquared());
     }
 
     /**
-     * Return the angle between this Vector and the given Vector in degrees.
+     * Return the angle between this Vector and the given Vector in radians.
      *
      * @param vector The other Vector.
      * @return The angel between this Vector and the given Vector as a float.
@@ -139,4 +226,26 @@ public interface Vector<V extends Vector<V>> {
 
         return (float) Math.acos(result);
     }
+
+    /**
+     * Return an approximation of the angle between this Vector and the given Vector in radians, taking a single
+     * square root and FastMath.acos in place of Math.acos. The error is at most FastMath.ACOS_ERROR beyond that
+     * of angle.
+     *
+     * @param vector The other Vector.
+     * @return The approximate angle between this Vector and the given Vector as a float.
+     * @throws IllegalArgumentException When this Vector or the given Vector have a length of 0.
+     */
+    default float angleFast(V vector) {
+        float lengths = lengthSquared() * vector.lengthSquared();
+        if (lengths == 0) {
+            throw new IllegalArgumentException("Can't find angle when one or both vectors have length of 0.");
+        }
+        float result = dot(vector) / (float) Math.sqrt(lengths);
+
+        // Clamp value between -1 and 1.
+        result = Math.max(-1, Math.min(1, result));
+
+        return FastMath.acos(result);
+    }
 }
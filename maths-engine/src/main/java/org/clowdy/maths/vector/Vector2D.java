@@ -2,6 +2,9 @@ package org.clowdy.maths.vector;
 
 import org.clowdy.util.StringFormatter;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Extending the abstract Vector class, Vector2D represents a Vector in 2-dimensional
  * Euclidean Space. The vector contains an x and y component corresponding to the
@@ -133,6 +136,44 @@ public class Vector2D extends AbstractVector<Vector2D> {
         return (float) Math.sqrt(x * x + y * y);
     }
 
+    @Override
+    public float lengthSquared() {
+        return x * x + y * y;
+    }
+
+    @Override
+    public int components() {
+        return 2;
+    }
+
+    @Override
+    public FloatBuffer get(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 2);
+        buffer.put(index, x);
+        buffer.put(index + 1, y);
+        return buffer;
+    }
+
+    @Override
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 2 * Float.BYTES);
+        buffer.putFloat(offset, x);
+        buffer.putFloat(offset + 4, y);
+        return buffer;
+    }
+
+    @Override
+    public Vector2D load(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 2);
+        return set(buffer.get(index), buffer.get(index + 1));
+    }
+
+    @Override
+    public Vector2D load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 2 * Float.BYTES);
+        return set(buffer.getFloat(offset), buffer.getFloat(offset + 4));
+    }
+
     /**
      * Return the String form of this Vector2D. e.g. (1, 2).
      *
@@ -149,8 +190,8 @@ public class Vector2D extends AbstractVector<Vector2D> {
      * Setter for testing
      */
     protected Vector2D set(float... values) {
-        x = values.length > 1 ? values[0] : 0;
-        y = values.length > 2 ? values[1] : 0;
+        x = values.length > 0 ? values[0] : 0;
+        y = values.length > 1 ? values[1] : 0;
         return this;
     }
 }
@@ -2,6 +2,9 @@ package org.clowdy.maths.vector;
 
 import org.clowdy.util.StringFormatter;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Extending the abstract Vector class, Vector3D represents a Vector in 3-dimensional
  * Euclidean Space. The vector contains an x, y and z component corresponding to the
@@ -145,6 +148,11 @@ public class Vector3D extends AbstractVector<Vector3D> {
         return (float) Math.sqrt(x * x + y * y + z * z);
     }
 
+    @Override
+    public float lengthSquared() {
+        return x * x + y * y + z * z;
+    }
+
     /**
      * Returns this vector after crossing it with a given Vector.
      *
@@ -154,11 +162,44 @@ public class Vector3D extends AbstractVector<Vector3D> {
      */
     public Vector3D cross(Vector3D vector) {
         illegalArgumentCheck(vector);
-        Vector3D result = new Vector3D();
-        result.x = y * vector.z - z * vector.y;
-        result.y = z * vector.x - x * vector.z;
-        result.z = x * vector.y - y * vector.x;
-        return set(result);
+        return set(y * vector.z - z * vector.y,
+                z * vector.x - x * vector.z,
+                x * vector.y - y * vector.x);
+    }
+
+    @Override
+    public int components() {
+        return 3;
+    }
+
+    @Override
+    public FloatBuffer get(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 3);
+        buffer.put(index, x);
+        buffer.put(index + 1, y);
+        buffer.put(index + 2, z);
+        return buffer;
+    }
+
+    @Override
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 3 * Float.BYTES);
+        buffer.putFloat(offset, x);
+        buffer.putFloat(offset + 4, y);
+        buffer.putFloat(offset + 8, z);
+        return buffer;
+    }
+
+    @Override
+    public Vector3D load(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 3);
+        return set(buffer.get(index), buffer.get(index + 1), buffer.get(index + 2));
+    }
+
+    @Override
+    public Vector3D load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 3 * Float.BYTES);
+        return set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8));
     }
 
     /**
@@ -178,9 +219,9 @@ public class Vector3D extends AbstractVector<Vector3D> {
      * Setter for testing
      */
     protected Vector3D set(float... values) {
-        x = values.length > 1 ? values[0] : 0;
-        y = values.length > 2 ? values[1] : 0;
-        x = values.length > 3 ? values[2] : 0;
+        x = values.length > 0 ? values[0] : 0;
+        y = values.length > 1 ? values[1] : 0;
+        z = values.length > 2 ? values[2] : 0;
         return this;
     }
 }
@@ -2,6 +2,9 @@ package org.clowdy.maths.vector;
 
 import org.clowdy.util.StringFormatter;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Extending the abstract Vector class, Vector4D represents a Vector in 4-dimensional
  * Euclidean Space. The vector contains an x, y, z and w component corresponding to
@@ -156,6 +159,48 @@ public class Vector4D extends AbstractVector<Vector4D> {
         return (float) Math.sqrt(x * x + y * y + z * z + w * w);
     }
 
+    @Override
+    public float lengthSquared() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    @Override
+    public int components() {
+        return 4;
+    }
+
+    @Override
+    public FloatBuffer get(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 4);
+        buffer.put(index, x);
+        buffer.put(index + 1, y);
+        buffer.put(index + 2, z);
+        buffer.put(index + 3, w);
+        return buffer;
+    }
+
+    @Override
+    public ByteBuffer get(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 4 * Float.BYTES);
+        buffer.putFloat(offset, x);
+        buffer.putFloat(offset + 4, y);
+        buffer.putFloat(offset + 8, z);
+        buffer.putFloat(offset + 12, w);
+        return buffer;
+    }
+
+    @Override
+    public Vector4D load(FloatBuffer buffer, int index) {
+        checkRange(buffer.limit(), index, 4);
+        return set(buffer.get(index), buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3));
+    }
+
+    @Override
+    public Vector4D load(ByteBuffer buffer, int offset) {
+        checkRange(buffer.limit(), offset, 4 * Float.BYTES);
+        return set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12));
+    }
+
     /**
      * Return the String form of this Vector4D e.g. (1, 2, 3, 4).
      *
@@ -175,11 +220,10 @@ public class Vector4D extends AbstractVector<Vector4D> {
      * Setter for testing
      */
     protected Vector4D set(float... values) {
-        x = values.length > 1 ? values[0] : 0;
-        y = values.length > 2 ? values[1] : 0;
-        z = values.length > 3 ? values[2] : 0;
-        w = values.length > 4 ? values[3] : 0;
-
+        x = values.length > 0 ? values[0] : 0;
+        y = values.length > 1 ? values[1] : 0;
+        z = values.length > 2 ? values[2] : 0;
+        w = values.length > 3 ? values[3] : 0;
         return this;
     }
 }
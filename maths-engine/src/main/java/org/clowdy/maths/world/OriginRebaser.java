@@ -0,0 +1,259 @@
+package org.clowdy.maths.world;
+
+import org.clowdy.maths.batch.Vector3Array;
+import org.clowdy.maths.vector.Vector3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Keeps float positions precise in a large world by storing them relative to a double precision origin, and
+ * moving that origin to follow a focus such as the camera. When the focus gets further than the threshold from the
+ * origin, the origin is moved to the focus and every registered position is shifted back by the same amount, so
+ * positions near the focus always have the full precision of a float.</p>
+ *
+ * <p>Positions are registered as packed Vector3Arrays, which are shifted in one pass over their data. From
+ * PARALLEL_THRESHOLD vectors the pass is split between the tasks of a ForkJoinPool. Positions held elsewhere, such
+ * as in components or the camera, are shifted by a RebaseListener, which is called after the arrays.</p>
+ *
+ * <p>The origin is only ever moved by multiples of the cell size, which should be a power of two. The shift is then
+ * exact in float as well as double, so rebasing never adds error to the origin and only rounds the positions being
+ * shifted once. As every position is relative to the origin, rendering takes the camera relative offset directly
+ * in float with WorldPosition.relativeTo or by subtracting the local camera position.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class OriginRebaser {
+    /**
+     * The number of vectors from which a rebase is split between the tasks of a ForkJoinPool.
+     */
+    public static final int PARALLEL_THRESHOLD = 16384;
+
+    // The number of vectors each task shifts once the range is split.
+    private static final int VECTORS_PER_TASK = 4096;
+
+    // The world position of the origin every local position is relative to.
+    private final WorldPosition origin = new WorldPosition();
+    // The arrays of local positions shifted on a rebase.
+    private final List<Vector3Array> arrays = new ArrayList<>();
+    // The listeners told of each rebase.
+    private final List<RebaseListener> listeners = new ArrayList<>();
+    private final float threshold;
+    private final float cellSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs an OriginRebaser at the world origin that shifts large batches on the common ForkJoinPool.
+     *
+     * @param threshold The distance of the focus from the origin at which the origin is moved.
+     * @param cellSize  The size the shift of the origin is rounded to, ideally a power of two.
+     * @throws IllegalArgumentException When the threshold or cell size is not positive.
+     */
+    public OriginRebaser(float threshold, float cellSize) {
+        this(threshold, cellSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an OriginRebaser at the world origin that shifts large batches on the given pool.
+     *
+     * @param threshold The distance of the focus from the origin at which the origin is moved.
+     * @param cellSize  The size the shift of the origin is rounded to, ideally a power of two.
+     * @param pool      The pool to run the tasks of a parallel rebase on.
+     * @throws IllegalArgumentException When the threshold or cell size is not positive, or the pool is null.
+     */
+    public OriginRebaser(float threshold, float cellSize, ForkJoinPool pool) {
+        if (!(threshold > 0) || !(cellSize > 0)) {
+            throw new IllegalArgumentException("The threshold and cell size must be positive.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("The pool cannot be null.");
+        }
+        this.threshold = threshold;
+        this.cellSize = cellSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the world position of the origin. It must not be modified.
+     *
+     * @return The origin.
+     */
+    public WorldPosition getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Registers an array of positions relative to the origin to be shifted on each rebase.
+     *
+     * @param positions The positions to shift.
+     * @throws IllegalArgumentException When the array is null.
+     */
+    public void register(Vector3Array positions) {
+        if (positions == null) {
+            throw new IllegalArgumentException("The input Vector3Array cannot be null.");
+        }
+        arrays.add(positions);
+    }
+
+    /**
+     * Stops shifting the given array of positions, returning true if it was registered.
+     *
+     * @param positions The positions to stop shifting.
+     * @return true if the array was registered, false if not.
+     */
+    public boolean unregister(Vector3Array positions) {
+        return arrays.remove(positions);
+    }
+
+    /**
+     * Adds a listener to be told of each rebase.
+     *
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException When the listener is null.
+     */
+    public void addListener(RebaseListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The listener cannot be null.");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener, returning true if it was added.
+     *
+     * @param listener The listener to remove.
+     * @return true if the listener was added, false if not.
+     */
+    public boolean removeListener(RebaseListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Rebases the origin onto the focus if the focus is further than the threshold from it, returning true if it
+     * did. The focus is itself a local position, so must be shifted by a registered array or a listener.
+     *
+     * @param focus The local position to keep near the origin, usually the camera.
+     * @return true if the origin was moved, false if not.
+     * @throws IllegalArgumentException When the focus is null.
+     */
+    public boolean update(Vector3D focus) {
+        if (focus == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        if (focus.lengthSquared() <= threshold * threshold) {
+            return false;
+        }
+        return rebase(snap(focus.x), snap(focus.y), snap(focus.z));
+    }
+
+    /**
+     * Moves the origin by the given shift, subtracting it from every registered position and then telling each
+     * listener. Returns false without doing anything if the shift is zero.
+     *
+     * @param x The shift along x.
+     * @param y The shift along y.
+     * @param z The shift along z.
+     * @return true if the origin was moved, false if not.
+     */
+    public boolean rebase(float x, float y, float z) {
+        if (x == 0 && y == 0 && z == 0) {
+            return false;
+        }
+        origin.add(x, y, z);
+        for (Vector3Array array : arrays) {
+            int size = array.size();
+            if (size >= PARALLEL_THRESHOLD) {
+                pool.invoke(new ShiftTask(array.data(), x, y, z, 0, size));
+            } else {
+                shift(array.data(), x, y, z, 0, size);
+            }
+        }
+        for (RebaseListener listener : listeners) {
+            listener.onRebase(x, y, z);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the local position of the given world position.
+     *
+     * @param position The world position.
+     * @param dest     The Vector3D to store the local position in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException When either input is null.
+     */
+    public Vector3D toLocal(WorldPosition position, Vector3D dest) {
+        if (position == null) {
+            throw new IllegalArgumentException("The input WorldPosition cannot be null.");
+        }
+        return position.relativeTo(origin, dest);
+    }
+
+    /**
+     * Returns the given WorldPosition after setting it to the world position of the given local position.
+     *
+     * @param local The local position.
+     * @param dest  The WorldPosition to store the world position in.
+     * @return The given WorldPosition.
+     * @throws IllegalArgumentException When either input is null.
+     */
+    public WorldPosition toWorld(Vector3D local, WorldPosition dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination WorldPosition cannot be null.");
+        }
+        return dest.set(origin).add(local);
+    }
+
+    /*
+     * Rounds a component of the focus to the nearest multiple of the cell size.
+     */
+    private float snap(float value) {
+        return Math.round(value / cellSize) * cellSize;
+    }
+
+    /*
+     * Subtracts the shift from the packed xyz triples in the given range of vectors.
+     */
+    private static void shift(float[] data, float x, float y, float z, int from, int to) {
+        for (int i = from * 3, end = to * 3; i < end; i += 3) {
+            data[i] -= x;
+            data[i + 1] -= y;
+            data[i + 2] -= z;
+        }
+    }
+
+    /**
+     * Shifts a range of vectors, splitting the range in half until it is VECTORS_PER_TASK long. The ranges are
+     * disjoint so the tasks never write the same element.
+     */
+    private static final class ShiftTask extends RecursiveAction {
+        private final float[] data;
+        private final float x;
+        private final float y;
+        private final float z;
+        private final int from;
+        private final int to;
+
+        private ShiftTask(float[] data, float x, float y, float z, int from, int to) {
+            this.data = data;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= VECTORS_PER_TASK) {
+                shift(data, x, y, z, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ShiftTask(data, x, y, z, from, middle),
+                        new ShiftTask(data, x, y, z, middle, to));
+            }
+        }
+    }
+}
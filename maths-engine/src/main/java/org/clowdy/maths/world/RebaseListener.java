@@ -0,0 +1,20 @@
+package org.clowdy.maths.world;
+
+/**
+ * Receives each shift of the origin of an OriginRebaser, to move local positions that are not held in a registered
+ * Vector3Array, e.g. those of a camera or of individual components.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@FunctionalInterface
+public interface RebaseListener {
+    /**
+     * Called after the origin has moved by the given shift. Local positions must have the shift subtracted from
+     * them to keep their world position.
+     *
+     * @param x The shift of the origin along x.
+     * @param y The shift of the origin along y.
+     * @param z The shift of the origin along z.
+     */
+    void onRebase(float x, float y, float z);
+}
@@ -0,0 +1,212 @@
+package org.clowdy.maths.world;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.util.ReflectionEqualsHelper;
+import org.clowdy.util.StringFormatter;
+
+/**
+ * <p>A position in a large world stored in double precision. A float only has 24 bits of mantissa, so a few
+ * kilometres from the origin its resolution is coarser than a millimetre and objects visibly jitter; a double
+ * keeps sub-millimetre resolution across the whole solar system.</p>
+ *
+ * <p>WorldPositions are used for the authoritative position of things that must be placed anywhere in the world,
+ * such as the origin of an OriginRebaser and streamed world cells. Simulation and rendering keep working in float
+ * offsets relative to a nearby origin, converted with relativeTo and add.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class WorldPosition {
+    /**
+     * The x coordinate of this position.
+     */
+    public double x;
+
+    /**
+     * The y coordinate of this position.
+     */
+    public double y;
+
+    /**
+     * The z coordinate of this position.
+     */
+    public double z;
+
+    /**
+     * Constructs a WorldPosition at the origin.
+     */
+    public WorldPosition() {
+    }
+
+    /**
+     * Constructs a WorldPosition that clones the given WorldPosition.
+     *
+     * @param position The WorldPosition to clone.
+     */
+    public WorldPosition(WorldPosition position) {
+        set(position);
+    }
+
+    /**
+     * Constructs a WorldPosition at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     */
+    public WorldPosition(double x, double y, double z) {
+        set(x, y, z);
+    }
+
+    /**
+     * Returns this WorldPosition after setting its coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return This WorldPosition.
+     */
+    public WorldPosition set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Returns this WorldPosition after setting it as a clone of the given WorldPosition.
+     *
+     * @param position The WorldPosition to clone.
+     * @return This WorldPosition.
+     * @throws IllegalArgumentException When the input WorldPosition is null.
+     */
+    public WorldPosition set(WorldPosition position) {
+        illegalArgumentCheck(position);
+        return set(position.x, position.y, position.z);
+    }
+
+    /**
+     * Returns this WorldPosition after moving it by the given offsets.
+     *
+     * @param x The offset along x.
+     * @param y The offset along y.
+     * @param z The offset along z.
+     * @return This WorldPosition.
+     */
+    public WorldPosition add(double x, double y, double z) {
+        return set(this.x + x, this.y + y, this.z + z);
+    }
+
+    /**
+     * Returns this WorldPosition after moving it by the given float offset, e.g. the local position of an object
+     * relative to this position.
+     *
+     * @param offset The offset to move by.
+     * @return This WorldPosition.
+     * @throws IllegalArgumentException When the offset is null.
+     */
+    public WorldPosition add(Vector3D offset) {
+        if (offset == null) {
+            throw new IllegalArgumentException("The input Vector cannot be null.");
+        }
+        return add(offset.x, offset.y, offset.z);
+    }
+
+    /**
+     * Returns this WorldPosition after subtracting the given WorldPosition, leaving the offset from it.
+     *
+     * @param position The WorldPosition to subtract.
+     * @return This WorldPosition.
+     * @throws IllegalArgumentException When the input WorldPosition is null.
+     */
+    public WorldPosition subtract(WorldPosition position) {
+        illegalArgumentCheck(position);
+        return set(x - position.x, y - position.y, z - position.z);
+    }
+
+    /**
+     * Returns the distance between this WorldPosition and the given WorldPosition.
+     *
+     * @param position The other WorldPosition.
+     * @return The distance between them.
+     * @throws IllegalArgumentException When the input WorldPosition is null.
+     */
+    public double distance(WorldPosition position) {
+        return Math.sqrt(distanceSquared(position));
+    }
+
+    /**
+     * Returns the square of the distance between this WorldPosition and the given WorldPosition.
+     *
+     * @param position The other WorldPosition.
+     * @return The squared distance between them.
+     * @throws IllegalArgumentException When the input WorldPosition is null.
+     */
+    public double distanceSquared(WorldPosition position) {
+        illegalArgumentCheck(position);
+        double dx = x - position.x, dy = y - position.y, dz = z - position.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the given Vector3D after setting it to the offset of this WorldPosition from the given origin. The
+     * difference is taken in double precision and only then rounded to float, so the offset is as precise as a
+     * float near the origin allows however far from the world origin both are.
+     *
+     * @param origin The origin to take the offset from, e.g. the rebased origin or the camera.
+     * @param dest   The Vector3D to store the offset in.
+     * @return The given Vector3D.
+     * @throws IllegalArgumentException When either input is null.
+     */
+    public Vector3D relativeTo(WorldPosition origin, Vector3D dest) {
+        illegalArgumentCheck(origin);
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination Vector cannot be null.");
+        }
+        return dest.set((float) (x - origin.x), (float) (y - origin.y), (float) (z - origin.z));
+    }
+
+    /**
+     * Returns true if the given position is equal to this position, false if not.
+     *
+     * @param position The position to check against.
+     * @return true if the given position is equal to this position, false if not.
+     */
+    @Override
+    public boolean equals(Object position) {
+        if (position instanceof WorldPosition) {
+            return ReflectionEqualsHelper.areEquals(this, position);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this position.
+     *
+     * @return A hash code for this position.
+     */
+    @Override
+    public int hashCode() {
+        return ReflectionEqualsHelper.hashcode(this);
+    }
+
+    /**
+     * Return the String form of this WorldPosition. e.g. (1, 2.5, 3).
+     *
+     * @return The String form of this WorldPosition.
+     */
+    @Override
+    public String toString() {
+        return "(" + StringFormatter.removeTrailingZero(x) + ", " + StringFormatter.removeTrailingZero(y) + ", "
+                + StringFormatter.removeTrailingZero(z) + ")";
+    }
+
+    /*
+     * Auxiliary method used to check if the input position is equal to null, and if
+     * so throws an IllegalArgumentException with a relevant message.
+     */
+    private static void illegalArgumentCheck(WorldPosition position) {
+        if (position == null) {
+            throw new IllegalArgumentException("The input WorldPosition cannot be null.");
+        }
+    }
+}
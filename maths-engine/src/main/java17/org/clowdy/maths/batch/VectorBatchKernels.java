@@ -0,0 +1,159 @@
+package org.clowdy.maths.batch;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.clowdy.maths.matrix.Matrix4x4;
+
+/**
+ * BatchKernels written with the incubating Vector API, processing as many vectors per instruction as the
+ * preferred species has lanes. The components of packed vectors are gathered into one register per component,
+ * so the interleaved layout of VectorArray is kept. The vectors left over after the last full register are
+ * processed by the scalar kernels.
+ * <p>
+ * Only compiled into the Java 17 version of the multi-release jar and loaded reflectively by KernelSelector when
+ * the jdk.incubator.vector module is present.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+final class VectorBatchKernels implements BatchKernels {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /*
+     * Offsets of the first component of each lane's vector, for vectors of 3 and 4 components.
+     */
+    private static final int[] STRIDE_3 = stride(3);
+    private static final int[] STRIDE_4 = stride(4);
+
+    private static int[] stride(int components) {
+        int[] offsets = new int[LANES];
+        for (int i = 0; i < LANES; i++) {
+            offsets[i] = i * components;
+        }
+        return offsets;
+    }
+
+    @Override
+    public void transformPositions(Matrix4x4 matrix, Vector3Array source, Vector3Array dest) {
+        ScalarBatchKernels.check(matrix, source, dest);
+        transform3(matrix, source, dest, 1);
+    }
+
+    @Override
+    public void transformDirections(Matrix4x4 matrix, Vector3Array source, Vector3Array dest) {
+        ScalarBatchKernels.check(matrix, source, dest);
+        transform3(matrix, source, dest, 0);
+    }
+
+    private void transform3(Matrix4x4 matrix, Vector3Array source, Vector3Array dest, float w) {
+        float[] in = source.data;
+        float[] out = dest.data;
+        float m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2), m03 = matrix.get(0, 3) * w;
+        float m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2), m13 = matrix.get(1, 3) * w;
+        float m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2), m23 = matrix.get(2, 3) * w;
+        int bound = SPECIES.loopBound(source.size);
+        for (int i = 0; i < bound; i += LANES) {
+            int offset = i * 3;
+            FloatVector x = FloatVector.fromArray(SPECIES, in, offset, STRIDE_3, 0);
+            FloatVector y = FloatVector.fromArray(SPECIES, in, offset + 1, STRIDE_3, 0);
+            FloatVector z = FloatVector.fromArray(SPECIES, in, offset + 2, STRIDE_3, 0);
+            x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).add(m03).intoArray(out, offset, STRIDE_3, 0);
+            x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).add(m13).intoArray(out, offset + 1, STRIDE_3, 0);
+            x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).add(m23).intoArray(out, offset + 2, STRIDE_3, 0);
+        }
+        ScalarBatchKernels.transform3(matrix, in, out, w, bound, source.size);
+    }
+
+    @Override
+    public void transform(Matrix4x4 matrix, Vector4Array source, Vector4Array dest) {
+        ScalarBatchKernels.check(matrix, source, dest);
+        float[] in = source.data;
+        float[] out = dest.data;
+        float m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2), m03 = matrix.get(0, 3);
+        float m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2), m13 = matrix.get(1, 3);
+        float m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2), m23 = matrix.get(2, 3);
+        float m30 = matrix.get(3, 0), m31 = matrix.get(3, 1), m32 = matrix.get(3, 2), m33 = matrix.get(3, 3);
+        int bound = SPECIES.loopBound(source.size);
+        for (int i = 0; i < bound; i += LANES) {
+            int offset = i * 4;
+            FloatVector x = FloatVector.fromArray(SPECIES, in, offset, STRIDE_4, 0);
+            FloatVector y = FloatVector.fromArray(SPECIES, in, offset + 1, STRIDE_4, 0);
+            FloatVector z = FloatVector.fromArray(SPECIES, in, offset + 2, STRIDE_4, 0);
+            FloatVector w = FloatVector.fromArray(SPECIES, in, offset + 3, STRIDE_4, 0);
+            x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).add(w.mul(m03)).intoArray(out, offset, STRIDE_4, 0);
+            x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).add(w.mul(m13)).intoArray(out, offset + 1, STRIDE_4, 0);
+            x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).add(w.mul(m23)).intoArray(out, offset + 2, STRIDE_4, 0);
+            x.mul(m30).add(y.mul(m31)).add(z.mul(m32)).add(w.mul(m33)).intoArray(out, offset + 3, STRIDE_4, 0);
+        }
+        ScalarBatchKernels.transform4(matrix, in, out, bound, source.size);
+    }
+
+    @Override
+    public <A extends VectorArray<A>> void add(A left, A right, A dest) {
+        ScalarBatchKernels.check(left, right, dest);
+        float[] out = dest.data;
+        int bound = SPECIES.loopBound(out.length);
+        for (int i = 0; i < bound; i += LANES) {
+            FloatVector.fromArray(SPECIES, left.data, i)
+                    .add(FloatVector.fromArray(SPECIES, right.data, i))
+                    .intoArray(out, i);
+        }
+        ScalarBatchKernels.add(left.data, right.data, out, bound, out.length);
+    }
+
+    @Override
+    public <A extends VectorArray<A>> void scale(A source, float scalar, A dest) {
+        ScalarBatchKernels.check(source, source, dest);
+        float[] out = dest.data;
+        int bound = SPECIES.loopBound(out.length);
+        for (int i = 0; i < bound; i += LANES) {
+            FloatVector.fromArray(SPECIES, source.data, i).mul(scalar).intoArray(out, i);
+        }
+        ScalarBatchKernels.scale(source.data, scalar, out, bound, out.length);
+    }
+
+    @Override
+    public void normalise(Vector3Array source, Vector3Array dest) {
+        ScalarBatchKernels.check(source, source, dest);
+        float[] in = source.data;
+        float[] out = dest.data;
+        FloatVector zero = FloatVector.zero(SPECIES);
+        FloatVector one = FloatVector.broadcast(SPECIES, 1);
+        int bound = SPECIES.loopBound(source.size);
+        for (int i = 0; i < bound; i += LANES) {
+            int offset = i * 3;
+            FloatVector x = FloatVector.fromArray(SPECIES, in, offset, STRIDE_3, 0);
+            FloatVector y = FloatVector.fromArray(SPECIES, in, offset + 1, STRIDE_3, 0);
+            FloatVector z = FloatVector.fromArray(SPECIES, in, offset + 2, STRIDE_3, 0);
+            FloatVector lengthSquared = x.mul(x).add(y.mul(y)).add(z.mul(z));
+            // Zero vectors scale by zero rather than dividing by a zero length.
+            FloatVector scale = one.div(lengthSquared.sqrt())
+                    .blend(zero, lengthSquared.compare(VectorOperators.EQ, 0));
+            x.mul(scale).intoArray(out, offset, STRIDE_3, 0);
+            y.mul(scale).intoArray(out, offset + 1, STRIDE_3, 0);
+            z.mul(scale).intoArray(out, offset + 2, STRIDE_3, 0);
+        }
+        ScalarBatchKernels.normalise(in, out, bound, source.size);
+    }
+
+    @Override
+    public void dot(Vector3Array left, Vector3Array right, float[] dest) {
+        ScalarBatchKernels.check(left, right, left);
+        ScalarBatchKernels.checkDestination(dest, left.size);
+        float[] a = left.data;
+        float[] b = right.data;
+        int bound = SPECIES.loopBound(left.size);
+        for (int i = 0; i < bound; i += LANES) {
+            int offset = i * 3;
+            FloatVector.fromArray(SPECIES, a, offset, STRIDE_3, 0)
+                    .mul(FloatVector.fromArray(SPECIES, b, offset, STRIDE_3, 0))
+                    .add(FloatVector.fromArray(SPECIES, a, offset + 1, STRIDE_3, 0)
+                            .mul(FloatVector.fromArray(SPECIES, b, offset + 1, STRIDE_3, 0)))
+                    .add(FloatVector.fromArray(SPECIES, a, offset + 2, STRIDE_3, 0)
+                            .mul(FloatVector.fromArray(SPECIES, b, offset + 2, STRIDE_3, 0)))
+                    .intoArray(dest, i);
+        }
+        ScalarBatchKernels.dot(a, b, dest, bound, left.size);
+    }
+}
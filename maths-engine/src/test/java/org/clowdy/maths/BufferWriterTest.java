@@ -0,0 +1,49 @@
+package org.clowdy.maths;
+
+import org.clowdy.maths.matrix.Matrix;
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector;
+import org.clowdy.maths.vector.Vector2D;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferWriterTest {
+    @Test
+    public void writeVectorsPacksThemBackToBack() {
+        Vector<?>[] vectors = {new Vector3D(1, 2, 3), new Vector2D(4, 5), new Vector3D(6, 7, 8)};
+        FloatBuffer buffer = FloatBuffer.allocate(9);
+
+        int end = BufferWriter.write(buffer, 1, vectors);
+
+        assertEquals(9, end);
+        assertArrayEquals(new float[]{0, 1, 2, 3, 4, 5, 6, 7, 8}, buffer.array());
+    }
+
+    @Test
+    public void writeMatricesToByteBufferReturnsOffsetAfterLast() {
+        Matrix<?>[] matrices = {new Matrix4x4().identity(), new Matrix3x3(2)};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(100).order(ByteOrder.nativeOrder());
+
+        int end = BufferWriter.write(buffer, 0, matrices);
+
+        assertEquals(100, end);
+        assertEquals(1, buffer.getFloat(60));
+        assertEquals(2, buffer.getFloat(64));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void writeWithoutRoomThrowsIndexOutOfBoundsException() {
+        Matrix<?>[] matrices = {new Matrix4x4(), new Matrix4x4()};
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> BufferWriter.write(FloatBuffer.allocate(20), 0, matrices));
+    }
+}
@@ -0,0 +1,67 @@
+package org.clowdy.maths;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FastMathTest {
+    private static final int SAMPLES = 1_000_000;
+
+    private final Random random = new Random(3);
+
+    @Test
+    public void invSqrtIsWithinRelativeErrorBound() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // Log uniform over many orders of magnitude, so every mantissa and exponent parity is covered.
+            float x = (float) Math.exp(random.nextDouble() * 160 - 80);
+            double expected = 1 / Math.sqrt(x);
+            assertTrue(Math.abs(FastMath.invSqrt(x) - expected) / expected <= FastMath.INV_SQRT_ERROR, "x = " + x);
+        }
+    }
+
+    @Test
+    public void sqrtIsWithinRelativeErrorBound() {
+        assertEquals(0, FastMath.sqrt(0));
+        for (int i = 0; i < SAMPLES; i++) {
+            float x = (float) Math.exp(random.nextDouble() * 160 - 80);
+            double expected = Math.sqrt(x);
+            assertTrue(Math.abs(FastMath.sqrt(x) - expected) / expected <= FastMath.INV_SQRT_ERROR, "x = " + x);
+        }
+    }
+
+    @Test
+    public void acosAndAsinAreWithinAbsoluteErrorBound() {
+        for (int i = -SAMPLES; i <= SAMPLES; i++) {
+            float x = (float) i / SAMPLES;
+            assertEquals(Math.acos(x), FastMath.acos(x), FastMath.ACOS_ERROR, "x = " + x);
+            assertEquals(Math.asin(x), FastMath.asin(x), FastMath.ACOS_ERROR, "x = " + x);
+        }
+    }
+
+    @Test
+    public void acosIsExactEnoughAtTheEnds() {
+        assertEquals(0, FastMath.acos(1), FastMath.ACOS_ERROR);
+        assertEquals(Math.PI, FastMath.acos(-1), FastMath.ACOS_ERROR);
+        assertEquals(Math.PI / 2, FastMath.acos(0), FastMath.ACOS_ERROR);
+    }
+
+    @Test
+    public void sinAndCosAreWithinAbsoluteErrorBound() {
+        for (int i = 0; i < SAMPLES; i++) {
+            float x = (float) (random.nextDouble() * 20000 - 10000);
+            assertEquals(Math.sin(x), FastMath.sin(x), FastMath.SIN_ERROR, "x = " + x);
+            assertEquals(Math.cos(x), FastMath.cos(x), FastMath.SIN_ERROR, "x = " + x);
+        }
+    }
+
+    @Test
+    public void sinAndCosAreExactEnoughAtTableBoundaries() {
+        for (int i = -8; i <= 8; i++) {
+            float x = (float) (i * Math.PI / 4);
+            assertEquals(Math.sin(x), FastMath.sin(x), FastMath.SIN_ERROR, "x = " + x);
+            assertEquals(Math.cos(x), FastMath.cos(x), FastMath.SIN_ERROR, "x = " + x);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.clowdy.maths;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameArenaTest {
+    @Test
+    public void instancesAreZeroedAndReusedAfterReset() {
+        FrameArena arena = new FrameArena();
+        Vector3D first = arena.vector3D().set(1, 2, 3);
+        Matrix4x4 matrix = arena.matrix4x4(new Matrix4x4(5));
+        assertEquals(new Matrix4x4(5), matrix);
+        assertEquals(2, arena.size());
+
+        arena.reset();
+        assertEquals(0, arena.size());
+        Vector3D second = arena.vector3D();
+        assertSame(first, second);
+        assertEquals(new Vector3D(), second);
+    }
+
+    @Test
+    public void poolGrowsBeyondInitialCapacity() {
+        FrameArena arena = new FrameArena();
+        Vector3D[] vectors = new Vector3D[100];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = arena.vector3D().set(i);
+        }
+        for (int i = 0; i < vectors.length; i++) {
+            assertEquals(new Vector3D(i), vectors[i]);
+        }
+        assertEquals(100, arena.size());
+    }
+
+    @Test
+    public void debugArenaPoisonsAndDoesNotReuseInstances() {
+        FrameArena arena = new FrameArena(true);
+        Vector3D stale = arena.vector3D().set(1);
+        arena.checkLive(stale);
+        arena.reset();
+
+        assertTrue(Float.isNaN(stale.x));
+        assertNotSame(stale, arena.vector3D());
+        assertThrows(IllegalStateException.class, () -> arena.checkLive(stale));
+    }
+
+    @Test
+    public void debugArenaDetectsWriteAfterReset() {
+        FrameArena arena = new FrameArena(true);
+        Matrix4x4 stale = arena.matrix4x4();
+        arena.reset();
+        stale.identity();
+        Vector3D live = arena.vector3D();
+
+        assertThrows(IllegalStateException.class, arena::reset);
+        // Every pool was still reset, and the stale write is only reported once.
+        assertEquals(0, arena.size());
+        assertTrue(Float.isNaN(live.x));
+        arena.matrix4x4();
+        arena.reset();
+    }
+
+    @Test
+    public void crossDoesNotAliasInput() {
+        Vector3D vector = new Vector3D(1, 0, 0);
+        assertEquals(new Vector3D(0, 0, 0), vector.cross(vector));
+    }
+}
@@ -0,0 +1,145 @@
+package org.clowdy.maths.batch;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.maths.vector.Vector4D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class BatchKernelsTest {
+    private static final float PRECISION = 0.0001f;
+    // Not a multiple of any vector width, so the scalar tail is exercised.
+    private static final int SIZE = 37;
+
+    private final Matrix4x4 matrix = new Matrix4x4(
+            0, -2, 0, 5,
+            3, 0, 1, -1,
+            0, 1, 0.5f, 7,
+            0.25f, 0, 0, 1);
+    private Vector3Array positions;
+    private Vector4Array vectors;
+
+    @BeforeEach
+    public void setUp() {
+        Random random = new Random(7);
+        positions = new Vector3Array(SIZE);
+        vectors = new Vector4Array(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            positions.set(i, random.nextFloat() * 10 - 5, random.nextFloat() * 10 - 5, random.nextFloat() * 10 - 5);
+            vectors.set(i, random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat());
+        }
+        positions.set(3, 0, 0, 0);
+    }
+
+    @Test
+    public void transformPositionsMatchesPerVectorTransform() {
+        for (BatchKernels kernels : kernels()) {
+            Vector3Array dest = new Vector3Array(SIZE);
+            kernels.transformPositions(matrix, positions, dest);
+            for (int i = 0; i < SIZE; i++) {
+                Vector4D expected = transform(positions.get(i, new Vector3D()), 1);
+                assertEquals(expected.x, dest.getX(i), PRECISION);
+                assertEquals(expected.y, dest.getY(i), PRECISION);
+                assertEquals(expected.z, dest.getZ(i), PRECISION);
+            }
+        }
+    }
+
+    @Test
+    public void transformDirectionsIgnoresTranslationInPlace() {
+        for (BatchKernels kernels : kernels()) {
+            Vector3Array dest = new Vector3Array(SIZE).set(positions);
+            kernels.transformDirections(matrix, dest, dest);
+            for (int i = 0; i < SIZE; i++) {
+                Vector4D expected = transform(positions.get(i, new Vector3D()), 0);
+                assertEquals(expected.x, dest.getX(i), PRECISION);
+                assertEquals(expected.z, dest.getZ(i), PRECISION);
+            }
+        }
+    }
+
+    @Test
+    public void transformVector4MatchesPerVectorTransform() {
+        for (BatchKernels kernels : kernels()) {
+            Vector4Array dest = new Vector4Array(SIZE);
+            kernels.transform(matrix, vectors, dest);
+            for (int i = 0; i < SIZE; i++) {
+                Vector4D vector = vectors.get(i, new Vector4D());
+                for (int row = 0; row < 4; row++) {
+                    float expected = matrix.get(row, 0) * vector.x + matrix.get(row, 1) * vector.y
+                            + matrix.get(row, 2) * vector.z + matrix.get(row, 3) * vector.w;
+                    assertEquals(expected, dest.data()[i * 4 + row], PRECISION);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void addScaleNormaliseAndDotMatchVectorOperations() {
+        for (BatchKernels kernels : kernels()) {
+            Vector3Array sum = new Vector3Array(SIZE);
+            Vector3Array scaled = new Vector3Array(SIZE);
+            Vector3Array normalised = new Vector3Array(SIZE);
+            float[] dots = new float[SIZE];
+            kernels.add(positions, positions, sum);
+            kernels.scale(positions, -3, scaled);
+            kernels.normalise(positions, normalised);
+            kernels.dot(positions, sum, dots);
+            for (int i = 0; i < SIZE; i++) {
+                Vector3D vector = positions.get(i, new Vector3D());
+                assertEquals(new Vector3D(vector).multiply(2), sum.get(i, new Vector3D()));
+                assertEquals(new Vector3D(vector).multiply(-3), scaled.get(i, new Vector3D()));
+                assertEquals(vector.dot(new Vector3D(vector).multiply(2)), dots[i], PRECISION);
+                if (vector.length() == 0) {
+                    assertEquals(new Vector3D(), normalised.get(i, new Vector3D()));
+                } else {
+                    assertEquals(1, normalised.get(i, new Vector3D()).length(), PRECISION);
+                    assertEquals(new Vector3D(vector).normalise().x, normalised.getX(i), PRECISION);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void mismatchedSizesThrowIllegalArgumentException() {
+        for (BatchKernels kernels : kernels()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> kernels.add(positions, positions, new Vector3Array(SIZE - 1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> kernels.dot(positions, positions, new float[SIZE - 1]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> kernels.transformPositions(null, positions, positions));
+        }
+    }
+
+    @Test
+    public void vectorArrayIndexOutOfRangeThrowsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> positions.getX(SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> vectors.set(-1, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void vectorKernelsAreSelectedWhenTheModuleIsAdded() {
+        // Set by the vector-api profile, so the comparisons above are known to cover the Vector API kernels.
+        assumeTrue(Boolean.getBoolean("clowdy.maths.simd.expected"));
+        assertEquals("VectorBatchKernels", BatchKernels.get().getClass().getSimpleName());
+    }
+
+    private static BatchKernels[] kernels() {
+        return new BatchKernels[]{BatchKernels.scalar(), BatchKernels.get()};
+    }
+
+    private Vector4D transform(Vector3D vector, float w) {
+        float[] result = new float[4];
+        for (int row = 0; row < 4; row++) {
+            result[row] = matrix.get(row, 0) * vector.x + matrix.get(row, 1) * vector.y
+                    + matrix.get(row, 2) * vector.z + matrix.get(row, 3) * w;
+        }
+        return new Vector4D(result[0], result[1], result[2], result[3]);
+    }
+}
@@ -0,0 +1,120 @@
+package org.clowdy.maths.fixed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Cross checks that a fixed point simulation produces bit for bit the same state hashes when run twice: once cold,
+ * while the JIT is still interpreting it, and once on another thread after enough runs for it to be compiled by
+ * every tier. The hash of the final state is also pinned, so a change to the fixed point arithmetic, or a platform
+ * that produces different results, fails the test.
+ */
+public class DeterminismTest {
+    private static final int BODIES = 64;
+    private static final int STEPS = 600;
+    private static final long EXPECTED_FINAL_HASH = 0x9ecdb05ef9a24cb2L;
+
+    /*
+     * Bodies falling under gravity, bouncing off the floor and each other, each spinning about y with its
+     * orientation kept as a matrix. Fed the same inputs, it must produce the same hash every step.
+     */
+    private static final class Simulation {
+        private static final int STEP = Fixed.fromRatio(1, 60);
+        private static final int RADIUS = Fixed.HALF;
+        private static final int RESTITUTION = Fixed.fromRatio(4, 5);
+
+        private final FixedVector3[] positions = new FixedVector3[BODIES];
+        private final FixedVector3[] velocities = new FixedVector3[BODIES];
+        private final FixedMatrix4x4[] orientations = new FixedMatrix4x4[BODIES];
+        private final int[] spins = new int[BODIES];
+        private final FixedVector3 gravity = new FixedVector3(0, Fixed.fromFloat(-9.81f), 0);
+        private final FixedVector3 scratch = new FixedVector3();
+        private final FixedMatrix4x4 rotation = new FixedMatrix4x4();
+        private final StateHash hash = new StateHash();
+
+        private Simulation() {
+            // A linear congruential generator, so the initial state doesn't depend on java.util.Random.
+            int seed = 12345;
+            for (int i = 0; i < BODIES; i++) {
+                seed = seed * 1103515245 + 12345;
+                int x = (seed >> 8) % Fixed.fromInt(10);
+                seed = seed * 1103515245 + 12345;
+                int z = (seed >> 8) % Fixed.fromInt(10);
+                positions[i] = new FixedVector3(x, Fixed.fromInt(2 + i % 8), z);
+                velocities[i] = new FixedVector3(z >> 4, 0, -x >> 4);
+                orientations[i] = new FixedMatrix4x4().identity();
+                spins[i] = Fixed.fromRatio(i % 7 - 3, 60);
+            }
+        }
+
+        private long step() {
+            for (int i = 0; i < BODIES; i++) {
+                FixedVector3 position = positions[i];
+                FixedVector3 velocity = velocities[i];
+                velocity.add(scratch.set(gravity).multiply(STEP));
+                position.add(scratch.set(velocity).multiply(STEP));
+                if (position.y < RADIUS && velocity.y < 0) {
+                    position.y = RADIUS;
+                    velocity.y = Fixed.multiply(-velocity.y, RESTITUTION);
+                }
+                orientations[i].multiply(rotation.rotationY(spins[i]));
+            }
+            for (int i = 0; i < BODIES; i++) {
+                for (int j = i + 1; j < BODIES; j++) {
+                    FixedVector3 offset = scratch.set(positions[j]).subtract(positions[i]);
+                    int distance = offset.length();
+                    if (distance > 0 && distance < 2 * RADIUS) {
+                        offset.multiply(Fixed.divide(2 * RADIUS - distance, 2 * distance));
+                        positions[j].add(offset);
+                        positions[i].subtract(offset);
+                    }
+                }
+            }
+            hash.reset();
+            for (int i = 0; i < BODIES; i++) {
+                hash.add(positions[i]).add(velocities[i]).add(orientations[i]);
+            }
+            return hash.value();
+        }
+
+        private long[] run() {
+            long[] hashes = new long[STEPS];
+            for (int step = 0; step < STEPS; step++) {
+                hashes[step] = step();
+            }
+            return hashes;
+        }
+    }
+
+    @Test
+    public void coldAndCompiledRunsProduceIdenticalHashes() throws Exception {
+        long[] cold = new Simulation().run();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<long[]> compiled = executor.submit(() -> {
+                long[] hashes = null;
+                for (int run = 0; run < 30; run++) {
+                    hashes = new Simulation().run();
+                }
+                return hashes;
+            });
+            long[] warm = compiled.get();
+            for (int step = 0; step < STEPS; step++) {
+                assertEquals(cold[step], warm[step], "The simulation desynchronised at step " + step + ".");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void finalStateMatchesPinnedHash() {
+        long[] hashes = new Simulation().run();
+        assertEquals(EXPECTED_FINAL_HASH, hashes[STEPS - 1], Long.toHexString(hashes[STEPS - 1]));
+    }
+}
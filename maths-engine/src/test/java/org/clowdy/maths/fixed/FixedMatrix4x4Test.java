@@ -0,0 +1,109 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedMatrix4x4Test {
+    private static final float PRECISION = 0.0005f;
+
+    private final Matrix4x4 left = new Matrix4x4(1, 2, 0, 5, -1, 0.5f, 3, 1, 0, 2, 1, -2, 0, 0, 0, 1);
+    private final Matrix4x4 right = new Matrix4x4(0, 1, 2, -1, 4, 0.25f, 1, 0, 1, 1, -3, 2, 0, 0, 0, 1);
+
+    private static void assertMatrixEquals(Matrix4x4 expected, FixedMatrix4x4 actual) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                assertEquals(expected.get(r, c), Fixed.toFloat(actual.get(r, c)), PRECISION);
+            }
+        }
+    }
+
+    @Test
+    public void multiplyMatchesFloatMatrix() {
+        FixedMatrix4x4 product = new FixedMatrix4x4().set(left).multiply(new FixedMatrix4x4().set(right));
+        assertMatrixEquals(new Matrix4x4(left).multiply(right), product);
+    }
+
+    @Test
+    public void multiplyIntoEitherOperand() {
+        FixedMatrix4x4 a = new FixedMatrix4x4().set(left);
+        FixedMatrix4x4 b = new FixedMatrix4x4().set(right);
+        FixedMatrix4x4 expected = FixedMatrix4x4.multiply(a, b, new FixedMatrix4x4());
+        assertEquals(expected, FixedMatrix4x4.multiply(a, b, new FixedMatrix4x4(b)));
+        assertEquals(expected, FixedMatrix4x4.multiply(new FixedMatrix4x4(a), b, b));
+        assertEquals(new FixedMatrix4x4().set(left), new FixedMatrix4x4(a).multiply(new FixedMatrix4x4().identity()));
+    }
+
+    @Test
+    public void rotationsAndTransformsMatchFloats() {
+        int angle = Fixed.fromFloat(0.7f);
+        FixedMatrix4x4 transform = new FixedMatrix4x4().translation(Fixed.fromInt(1), Fixed.fromInt(2), 0)
+                .multiply(new FixedMatrix4x4().rotationZ(angle));
+        FixedVector3 point = transform.transformPoint(new FixedVector3(Fixed.ONE, 0, 0));
+        assertEquals(1 + Math.cos(0.7), Fixed.toFloat(point.x), PRECISION);
+        assertEquals(2 + Math.sin(0.7), Fixed.toFloat(point.y), PRECISION);
+        FixedVector3 direction = new FixedMatrix4x4().rotationX(Fixed.HALF_PI)
+                .transformDirection(new FixedVector3(0, Fixed.ONE, 0));
+        assertEquals(0, Fixed.toFloat(direction.y), PRECISION);
+        assertEquals(1, Fixed.toFloat(direction.z), PRECISION);
+        FixedVector3 y = new FixedMatrix4x4().rotationY(Fixed.HALF_PI).transformDirection(
+                new FixedVector3(0, 0, Fixed.ONE));
+        assertEquals(1, Fixed.toFloat(y.x), PRECISION);
+        assertEquals(0, Fixed.toFloat(y.z), PRECISION);
+    }
+
+    @Test
+    public void transposeAndConversions() {
+        FixedMatrix4x4 matrix = new FixedMatrix4x4().set(left).transpose();
+        assertMatrixEquals(new Matrix4x4(left).transpose(), matrix);
+        assertEquals(new Matrix4x4(left).transpose(), matrix.get(new Matrix4x4()));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> matrix.multiply(null));
+    }
+
+    @Test
+    public void determinantAdjugateAndInverseMatchFloatMatrix() {
+        Matrix4x4 general = new Matrix4x4(2, -1, 0, 3, 1, 4, -2, 0.5f, 0, 1, 3, -1, 1.5f, 0, 1, 2);
+        for (Matrix4x4 matrix : new Matrix4x4[]{left, right, general}) {
+            FixedMatrix4x4 fixed = new FixedMatrix4x4().set(matrix);
+            assertEquals(new Matrix4x4(matrix).determinant(), Fixed.toFloat(fixed.determinant()), PRECISION);
+            assertMatrixEquals(new Matrix4x4(matrix).adjugate(), new FixedMatrix4x4(fixed).adjugate());
+            assertMatrixEquals(new Matrix4x4(matrix).inverse(), new FixedMatrix4x4(fixed).inverse());
+            assertMatrixEquals(new Matrix4x4().identity(), new FixedMatrix4x4(fixed).inverse().multiply(fixed));
+        }
+        FixedMatrix4x4 singular = new FixedMatrix4x4().set(left).set(0, 0, 0).set(0, 1, 0).set(0, 2, 0).set(0, 3, 0);
+        assertEquals(0, singular.determinant());
+        assertThrows(IllegalStateException.class, singular::inverse);
+    }
+
+    @Test
+    public void addSubtractAndScale() {
+        FixedMatrix4x4 sum = new FixedMatrix4x4().set(left).add(new FixedMatrix4x4().set(right));
+        assertMatrixEquals(new Matrix4x4(left).add(right), sum);
+        assertEquals(new FixedMatrix4x4().set(left), sum.subtract(new FixedMatrix4x4().set(right)));
+        assertMatrixEquals(new Matrix4x4(left).multiply(-2.5f),
+                new FixedMatrix4x4().set(left).multiply(Fixed.fromFloat(-2.5f)));
+        assertThrows(IllegalArgumentException.class, () -> sum.add(null));
+        assertThrows(IllegalArgumentException.class, () -> sum.subtract(null));
+    }
+
+    @Test
+    public void buffersRoundTripTheFixedElements() {
+        FixedMatrix4x4 matrix = new FixedMatrix4x4().set(left);
+        IntBuffer ints = matrix.get(IntBuffer.allocate(18), 2);
+        assertEquals(matrix.get(1, 0), ints.get(3));
+        assertEquals(matrix, new FixedMatrix4x4().load(ints, 2));
+        ByteBuffer bytes = matrix.get(ByteBuffer.allocate(68), 4);
+        assertEquals(matrix, new FixedMatrix4x4().load(bytes, 4));
+        assertEquals(0, bytes.position());
+        // Nothing is written when the matrix does not fit.
+        IntBuffer small = IntBuffer.allocate(16);
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(small, 1));
+        assertEquals(0, small.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.load(ByteBuffer.allocate(64), -1));
+    }
+}
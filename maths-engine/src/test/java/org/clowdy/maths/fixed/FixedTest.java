@@ -0,0 +1,50 @@
+package org.clowdy.maths.fixed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTest {
+    private static final float RESOLUTION = 1f / Fixed.ONE;
+
+    @Test
+    public void conversionsRoundTrip() {
+        assertEquals(3 * Fixed.ONE, Fixed.fromInt(3));
+        assertEquals(-Fixed.HALF, Fixed.fromFloat(-0.5f));
+        assertEquals(1.25f, Fixed.toFloat(Fixed.fromFloat(1.25f)));
+        assertEquals(-2, Fixed.toInt(Fixed.fromFloat(-1.5f)));
+        assertEquals(Fixed.fromFloat(1 / 3f), Fixed.fromRatio(1, 3));
+        assertEquals(Fixed.PI, Fixed.fromFloat((float) Math.PI));
+    }
+
+    @Test
+    public void multiplyAndDivideRoundToNearest() {
+        assertEquals(Fixed.fromFloat(-3.75f), Fixed.multiply(Fixed.fromFloat(2.5f), Fixed.fromFloat(-1.5f)));
+        assertEquals(1, Fixed.multiply(1, Fixed.HALF));
+        assertEquals(0, Fixed.multiply(-1, Fixed.HALF));
+        assertEquals(Fixed.fromFloat(-2.5f), Fixed.divide(Fixed.fromInt(5), Fixed.fromInt(-2)));
+        assertEquals(1, Fixed.divide(1, Fixed.fromInt(2)));
+        assertEquals(-1, Fixed.divide(-1, Fixed.fromInt(2)));
+        assertThrows(ArithmeticException.class, () -> Fixed.divide(Fixed.ONE, 0));
+    }
+
+    @Test
+    public void sqrtIsExactForSquares() {
+        assertEquals(Fixed.fromInt(3), Fixed.sqrt(Fixed.fromInt(9)));
+        assertEquals(Fixed.fromFloat(0.5f), Fixed.sqrt(Fixed.fromFloat(0.25f)));
+        assertEquals(Math.sqrt(2), Fixed.toFloat(Fixed.sqrt(Fixed.fromInt(2))), RESOLUTION);
+        assertEquals(0, Fixed.sqrt(0));
+        assertThrows(IllegalArgumentException.class, () -> Fixed.sqrt(-1));
+    }
+
+    @Test
+    public void sinAndCosAreWithinTwoUnitsOfResolution() {
+        for (int angle = -4 * Fixed.TWO_PI; angle < 4 * Fixed.TWO_PI; angle += 997) {
+            double radians = Fixed.toFloat(angle);
+            assertEquals(Math.sin(radians), Fixed.toFloat(Fixed.sin(angle)), 2 * RESOLUTION);
+            assertEquals(Math.cos(radians), Fixed.toFloat(Fixed.cos(angle)), 2 * RESOLUTION);
+        }
+        assertEquals(Fixed.ONE, Fixed.sin(Fixed.HALF_PI));
+        assertEquals(0, Fixed.sin(0));
+    }
+}
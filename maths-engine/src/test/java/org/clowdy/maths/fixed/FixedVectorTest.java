@@ -0,0 +1,55 @@
+package org.clowdy.maths.fixed;
+
+import org.clowdy.maths.vector.Vector2D;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedVectorTest {
+    private static final float PRECISION = 0.0001f;
+
+    private static FixedVector3 vector(float x, float y, float z) {
+        return new FixedVector3().set(new Vector3D(x, y, z));
+    }
+
+    @Test
+    public void operationsMatchFloatVectors() {
+        FixedVector3 a = vector(1.5f, -2, 3.25f);
+        FixedVector3 b = vector(-0.5f, 4, 2);
+        assertEquals(vector(1, 2, 5.25f), new FixedVector3(a).add(b));
+        assertEquals(vector(2, -6, 1.25f), new FixedVector3(a).subtract(b));
+        assertEquals(vector(3, -4, 6.5f), new FixedVector3(a).multiply(Fixed.fromInt(2)));
+        assertEquals(vector(0.75f, -1, 1.625f), new FixedVector3(a).divide(Fixed.fromInt(2)));
+        assertEquals(vector(-1.5f, 2, -3.25f), new FixedVector3(a).negate());
+        assertEquals(-2.25f, Fixed.toFloat(a.dot(b)), PRECISION);
+        Vector3D expected = new Vector3D(1.5f, -2, 3.25f).cross(new Vector3D(-0.5f, 4, 2));
+        assertEquals(expected, new FixedVector3(a).cross(b).get(new Vector3D()));
+    }
+
+    @Test
+    public void lengthDoesNotOverflowBeyondLengthSquared() {
+        FixedVector3 vector = new FixedVector3(Fixed.fromInt(3000), Fixed.fromInt(4000), 0);
+        assertEquals(Fixed.fromInt(5000), vector.length());
+        assertEquals(Fixed.fromInt(25), new FixedVector2(Fixed.fromInt(3), Fixed.fromInt(4)).lengthSquared());
+    }
+
+    @Test
+    public void normaliseGivesUnitLength() {
+        FixedVector3 vector = vector(3, -4, 12).normalise();
+        assertEquals(1, Fixed.toFloat(vector.length()), 2f / Fixed.ONE);
+        Vector2D unit = new FixedVector2().set(new Vector2D(3, 4)).normalise().get(new Vector2D());
+        assertEquals(0.6f, unit.x, PRECISION);
+        assertEquals(0.8f, unit.y, PRECISION);
+        assertThrows(IllegalStateException.class, () -> new FixedVector3().normalise());
+        assertThrows(IllegalArgumentException.class, () -> new FixedVector2().divide(0));
+    }
+
+    @Test
+    public void equalsComparesExactComponents() {
+        assertEquals(vector(1, 2, 3), new FixedVector3(Fixed.ONE, 2 * Fixed.ONE, 3 * Fixed.ONE));
+        assertNotEquals(vector(1, 2, 3), new FixedVector3(Fixed.ONE, 2 * Fixed.ONE, 3 * Fixed.ONE + 1));
+        assertEquals(vector(1, 2, 3).hashCode(), vector(1, 2, 3).hashCode());
+        assertEquals("(1, -2.5)", new FixedVector2(Fixed.ONE, Fixed.fromFloat(-2.5f)).toString());
+    }
+}
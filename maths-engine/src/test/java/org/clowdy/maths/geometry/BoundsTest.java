@@ -0,0 +1,90 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundsTest {
+    private static final float PRECISION = 0.0001f;
+
+    @Test
+    public void emptyAABBIncludesPoints() {
+        AABB box = new AABB();
+        assertTrue(box.isEmpty());
+        box.include(new Vector3D(1, -2, 3)).include(new Vector3D(-1, 4, 0));
+        assertFalse(box.isEmpty());
+        assertEquals(new AABB(new Vector3D(-1, -2, 0), new Vector3D(1, 4, 3)), box);
+        assertEquals(new Vector3D(0, 1, 1.5f), box.getCentre(new Vector3D()));
+        assertEquals(new Vector3D(1, 3, 1.5f), box.getExtents(new Vector3D()));
+    }
+
+    @Test
+    public void aabbContainsAndIntersects() {
+        AABB box = new AABB(new Vector3D(0, 0, 0), new Vector3D(2, 2, 2));
+        assertTrue(box.contains(new Vector3D(2, 1, 0)));
+        assertFalse(box.contains(new Vector3D(2.1f, 1, 0)));
+        assertTrue(box.intersects(new AABB(new Vector3D(2, 2, 2), new Vector3D(3, 3, 3))));
+        assertFalse(box.intersects(new AABB(new Vector3D(1, 1, 2.5f), new Vector3D(3, 3, 3))));
+        assertThrows(IllegalArgumentException.class, () -> box.intersects(null));
+    }
+
+    @Test
+    public void aabbTransformBoundsTheTransformedCorners() {
+        AABB box = new AABB(new Vector3D(-1, -2, -3), new Vector3D(1, 2, 3));
+        // A 90 degree rotation about z followed by a translation.
+        Matrix4x4 matrix = new Matrix4x4(
+                0, -1, 0, 10,
+                1, 0, 0, 0,
+                0, 0, 1, -5,
+                0, 0, 0, 1);
+        AABB result = box.transform(matrix, new AABB());
+        assertEquals(8, result.min.x, PRECISION);
+        assertEquals(-1, result.min.y, PRECISION);
+        assertEquals(-8, result.min.z, PRECISION);
+        assertEquals(12, result.max.x, PRECISION);
+        assertEquals(1, result.max.y, PRECISION);
+        assertEquals(-2, result.max.z, PRECISION);
+    }
+
+    @Test
+    public void sphereEnclosesAABB() {
+        AABB box = new AABB(new Vector3D(0, 0, 0), new Vector3D(2, 2, 2));
+        BoundingSphere sphere = new BoundingSphere().set(box);
+        assertEquals(new Vector3D(1, 1, 1), sphere.centre);
+        assertEquals((float) Math.sqrt(3), sphere.radius, PRECISION);
+        assertTrue(sphere.contains(new Vector3D(0, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new BoundingSphere().set(new AABB()));
+    }
+
+    @Test
+    public void sphereIntersects() {
+        BoundingSphere sphere = new BoundingSphere(new Vector3D(0, 0, 0), 1);
+        assertTrue(sphere.intersects(new BoundingSphere(new Vector3D(2, 0, 0), 1)));
+        assertFalse(sphere.intersects(new BoundingSphere(new Vector3D(2, 0.1f, 0), 1)));
+        assertTrue(sphere.intersects(new AABB(new Vector3D(0.5f, 0.5f, 0.5f), new Vector3D(3, 3, 3))));
+        assertFalse(sphere.intersects(new AABB(new Vector3D(0.6f, 0.6f, 0.6f), new Vector3D(3, 3, 3))));
+        assertThrows(IllegalArgumentException.class, () -> new BoundingSphere(new Vector3D(), -1));
+    }
+
+    @Test
+    public void planeDistanceIsSigned() {
+        Plane plane = new Plane(new Vector3D(0, 2, 0), new Vector3D(0, 3, 0)).normalise();
+        assertEquals(new Plane(0, 1, 0, -3), plane);
+        assertEquals(2, plane.distance(new Vector3D(5, 5, 5)), PRECISION);
+        assertEquals(-3, plane.distance(0, 0, 0), PRECISION);
+        assertThrows(IllegalStateException.class, () -> new Plane().normalise());
+    }
+
+    @Test
+    public void packedArraysRoundTrip() {
+        AABB box = new AABB(new Vector3D(-1, 0, 2), new Vector3D(3, 4, 6));
+        AABBArray boxes = new AABBArray(2).set(1, box);
+        assertEquals(box, boxes.get(1, new AABB()));
+        BoundingSphere sphere = new BoundingSphere(new Vector3D(1, 2, 3), 4);
+        BoundingSphereArray spheres = new BoundingSphereArray(2).set(1, sphere);
+        assertEquals(sphere, spheres.get(1, new BoundingSphere()));
+        assertThrows(IndexOutOfBoundsException.class, () -> spheres.set(2, sphere));
+    }
+}
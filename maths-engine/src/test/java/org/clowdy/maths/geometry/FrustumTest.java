@@ -0,0 +1,157 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrustumTest {
+    private static final float PRECISION = 0.0001f;
+    // Not a multiple of 64, so the last partial word is exercised.
+    private static final int SIZE = 200;
+
+    // A 90 degree perspective projection from the origin looking down -z, with near 1 and far 100.
+    private final Matrix4x4 projection = new Matrix4x4(
+            1, 0, 0, 0,
+            0, 1, 0, 0,
+            0, 0, -101f / 99, -200f / 99,
+            0, 0, -1, 0);
+    private Frustum frustum;
+    private BoundingSphereArray spheres;
+    private AABBArray boxes;
+
+    @BeforeEach
+    public void setUp() {
+        frustum = new Frustum(projection);
+        Random random = new Random(11);
+        spheres = new BoundingSphereArray(SIZE);
+        boxes = new AABBArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            float x = random.nextFloat() * 240 - 120, y = random.nextFloat() * 240 - 120;
+            float z = random.nextFloat() * 240 - 120, size = random.nextFloat() * 10;
+            spheres.set(i, x, y, z, size);
+            boxes.set(i, x - size, y - size * 0.5f, z - size * 2, x + size, y + size * 0.5f, z + size * 2);
+        }
+    }
+
+    @Test
+    public void planesAreExtractedFromTheViewProjection() {
+        assertPlane(frustum.getPlane(Frustum.LEFT), 1, 0, -1, 0);
+        assertPlane(frustum.getPlane(Frustum.RIGHT), -1, 0, -1, 0);
+        assertPlane(frustum.getPlane(Frustum.BOTTOM), 0, 1, -1, 0);
+        assertPlane(frustum.getPlane(Frustum.TOP), 0, -1, -1, 0);
+        assertEquals(-1, frustum.getPlane(Frustum.NEAR).distance(0, 0, 0), PRECISION);
+        assertEquals(0, frustum.getPlane(Frustum.NEAR).distance(0, 0, -1), PRECISION);
+        assertEquals(0, frustum.getPlane(Frustum.FAR).distance(0, 0, -100), 0.001f);
+        assertEquals(1, frustum.getPlane(Frustum.FAR).distance(0, 0, -99), 0.001f);
+    }
+
+    @Test
+    public void infiniteFarProjectionHasAnAlwaysPassingFarPlane() {
+        // The limit of the projection above as far goes to infinity, its far plane has no normal.
+        Frustum infinite = new Frustum(new Matrix4x4(
+                1, 0, 0, 0,
+                0, 1, 0, 0,
+                0, 0, -1, -2,
+                0, 0, -1, 0));
+        Plane far = infinite.getPlane(Frustum.FAR);
+        assertEquals(0, far.a);
+        assertEquals(0, far.b);
+        assertEquals(0, far.c);
+        assertEquals(1, far.d);
+        assertPlane(infinite.getPlane(Frustum.NEAR), 0, 0, -1, -1);
+        assertTrue(infinite.contains(new Vector3D(0, 0, -1e6f)));
+        assertFalse(infinite.contains(new Vector3D(0, 0, -0.5f)));
+        long[] visibility = new long[(SIZE + 63) / 64];
+        infinite.cull(spheres, visibility);
+        BoundingSphere sphere = new BoundingSphere();
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(infinite.intersects(spheres.get(i, sphere)), isSet(visibility, i), "sphere " + i);
+        }
+    }
+
+    @Test
+    public void containsPointsInsideTheFrustumOnly() {
+        assertTrue(frustum.contains(new Vector3D(0, 0, -10)));
+        assertTrue(frustum.contains(new Vector3D(9, -9, -10)));
+        assertFalse(frustum.contains(new Vector3D(0, 0, 10)));
+        assertFalse(frustum.contains(new Vector3D(0, 0, -0.5f)));
+        assertFalse(frustum.contains(new Vector3D(0, 0, -101)));
+        assertFalse(frustum.contains(new Vector3D(11, 0, -10)));
+    }
+
+    @Test
+    public void boundsStraddlingAPlaneIntersect() {
+        assertTrue(frustum.intersects(new BoundingSphere(new Vector3D(12, 0, -10), 2)));
+        assertFalse(frustum.intersects(new BoundingSphere(new Vector3D(12, 0, -10), 1)));
+        assertTrue(frustum.intersects(new AABB(new Vector3D(10.5f, -1, -11), new Vector3D(12, 1, -9))));
+        assertFalse(frustum.intersects(new AABB(new Vector3D(11.5f, -1, -10.5f), new Vector3D(12, 1, -10))));
+    }
+
+    @Test
+    public void cullSpheresMatchesPerObjectTest() {
+        long[] visibility = new long[(SIZE + 63) / 64];
+        int visible = frustum.cull(spheres, visibility);
+        BoundingSphere sphere = new BoundingSphere();
+        int expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            boolean intersects = frustum.intersects(spheres.get(i, sphere));
+            assertEquals(intersects, isSet(visibility, i), "sphere " + i);
+            expected += intersects ? 1 : 0;
+        }
+        assertEquals(expected, visible);
+        assertTrue(visible > 0 && visible < SIZE);
+        assertEquals(0, visibility[visibility.length - 1] >>> (SIZE % 64));
+    }
+
+    @Test
+    public void cullBoxesMatchesPerObjectTest() {
+        long[] visibility = new long[(SIZE + 63) / 64];
+        int visible = frustum.cull(boxes, visibility);
+        AABB box = new AABB();
+        int expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            boolean intersects = frustum.intersects(boxes.get(i, box));
+            assertEquals(intersects, isSet(visibility, i), "box " + i);
+            expected += intersects ? 1 : 0;
+        }
+        assertEquals(expected, visible);
+        assertTrue(visible > 0 && visible < SIZE);
+    }
+
+    @Test
+    public void cullRangeOnlyWritesItsWords() {
+        long[] visibility = {-1, -1, -1, -1};
+        long[] whole = new long[4];
+        frustum.cull(spheres, whole);
+        frustum.cull(spheres, 64, 128, visibility);
+        assertEquals(-1, visibility[0]);
+        assertEquals(whole[1], visibility[1]);
+        assertEquals(-1, visibility[2]);
+    }
+
+    @Test
+    public void cullRejectsInvalidRanges() {
+        long[] visibility = new long[4];
+        assertThrows(IllegalArgumentException.class, () -> frustum.cull(spheres, 10, 64, visibility));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.cull(spheres, 0, SIZE + 1, visibility));
+        assertThrows(IndexOutOfBoundsException.class, () -> frustum.cull(boxes, new long[3]));
+        assertThrows(IllegalArgumentException.class, () -> frustum.cull(boxes, null));
+    }
+
+    private static boolean isSet(long[] visibility, int index) {
+        return (visibility[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void assertPlane(Plane plane, float a, float b, float c, float d) {
+        float scale = (float) (1 / Math.sqrt(a * a + b * b + c * c));
+        assertEquals(a * scale, plane.a, PRECISION);
+        assertEquals(b * scale, plane.b, PRECISION);
+        assertEquals(c * scale, plane.c, PRECISION);
+        assertEquals(d * scale, plane.d, PRECISION);
+    }
+}
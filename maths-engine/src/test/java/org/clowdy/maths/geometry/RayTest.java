@@ -0,0 +1,139 @@
+package org.clowdy.maths.geometry;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RayTest {
+    private static final float PRECISION = 0.0001f;
+    private static final int SIZE = 300;
+
+    private final Ray ray = new Ray(new Vector3D(0, 0, 0), new Vector3D(0, 0, -2));
+
+    @Test
+    public void rayHitsAABBAtNearFace() {
+        AABB box = new AABB(new Vector3D(-1, -1, -6), new Vector3D(1, 1, -4));
+        assertEquals(2, ray.intersect(box), PRECISION);
+        assertEquals(new Vector3D(0, 0, -4), ray.getPoint(2, new Vector3D()));
+    }
+
+    @Test
+    public void rayMissesAABBBesideOrBehindIt() {
+        assertEquals(Ray.MISS, ray.intersect(new AABB(new Vector3D(1.5f, -1, -6), new Vector3D(3, 1, -4))));
+        assertEquals(Ray.MISS, ray.intersect(new AABB(new Vector3D(-1, -1, 4), new Vector3D(1, 1, 6))));
+    }
+
+    @Test
+    public void axisParallelRayOnlyHitsBoxesSpanningItsOtherAxes() {
+        Ray parallel = new Ray(new Vector3D(0, 1, 0), new Vector3D(-1, 0, 0));
+        assertEquals(4, parallel.intersect(new AABB(new Vector3D(-5, 0, -1), new Vector3D(-4, 3, 1))), PRECISION);
+        assertEquals(Ray.MISS, parallel.intersect(new AABB(new Vector3D(-5, 2, -1), new Vector3D(-4, 3, 1))));
+        AABBArray boxes = new AABBArray(2).set(0, -5, 2, -1, -4, 3, 1).set(1, -8, -1, -1, -7, 0.5f, 1);
+        assertFalse(parallel.any(boxes, Ray.MISS));
+        boxes.set(1, -8, -1, -1, -7, 1.5f, 1);
+        RayHit hit = new RayHit();
+        assertTrue(parallel.nearest(boxes, Ray.MISS, hit));
+        assertEquals(1, hit.index);
+        assertEquals(7, hit.distance, PRECISION);
+    }
+
+    @Test
+    public void rayFromInsideAABBHitsAtZero() {
+        assertEquals(0, ray.intersect(new AABB(new Vector3D(-1, -1, -1), new Vector3D(1, 1, 1))));
+    }
+
+    @Test
+    public void rayHitsSphere() {
+        assertEquals(2, ray.intersect(new BoundingSphere(new Vector3D(0, 0, -5), 1)), PRECISION);
+        assertEquals(0, ray.intersect(new BoundingSphere(new Vector3D(0, 0, 0.5f), 1)));
+        assertEquals(Ray.MISS, ray.intersect(new BoundingSphere(new Vector3D(0, 0, 5), 1)));
+        assertEquals(Ray.MISS, ray.intersect(new BoundingSphere(new Vector3D(0, 1.5f, -5), 1)));
+    }
+
+    @Test
+    public void rayHitsEitherSideOfTriangle() {
+        Vector3D a = new Vector3D(-1, -1, -4), b = new Vector3D(1, -1, -4), c = new Vector3D(0, 1, -4);
+        assertEquals(2, ray.intersect(a, b, c), PRECISION);
+        assertEquals(2, ray.intersect(a, c, b), PRECISION);
+        assertEquals(Ray.MISS, ray.intersect(new Vector3D(1, -1, -4), new Vector3D(3, -1, -4),
+                new Vector3D(2, 1, -4)));
+        assertEquals(Ray.MISS, ray.intersect(new Vector3D(-1, -1, 4), new Vector3D(1, -1, 4),
+                new Vector3D(0, 1, 4)));
+        Ray parallel = new Ray(new Vector3D(0, 0, 0), new Vector3D(1, 0, 0));
+        assertEquals(Ray.MISS, parallel.intersect(a, b, c));
+    }
+
+    @Test
+    public void segmentOnlyHitsBeforeItsEnd() {
+        Ray segment = new Ray().setSegment(new Vector3D(0, 0, 0), new Vector3D(0, 0, -10));
+        AABBArray boxes = new AABBArray(1).set(0, -1, -1, -12, 1, 1, -11);
+        assertFalse(segment.any(boxes, 1));
+        boxes.set(0, -1, -1, -9, 1, 1, -8);
+        assertTrue(segment.any(boxes, 1));
+    }
+
+    @Test
+    public void batchQueriesMatchSingleTests() {
+        Random random = new Random(5);
+        AABBArray boxes = new AABBArray(SIZE);
+        BoundingSphereArray spheres = new BoundingSphereArray(SIZE);
+        TriangleArray triangles = new TriangleArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Vector3D centre = new Vector3D(random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10,
+                    random.nextFloat() * 40 - 30);
+            float size = random.nextFloat() * 2;
+            boxes.set(i, centre.x - size, centre.y - size, centre.z - size,
+                    centre.x + size, centre.y + size, centre.z + size);
+            spheres.set(i, centre.x, centre.y, centre.z, size);
+            triangles.set(i, new Vector3D(centre).add(new Vector3D(-size, -size, 0)),
+                    new Vector3D(centre).add(new Vector3D(size, -size, size)),
+                    new Vector3D(centre).add(new Vector3D(0, size, -size)));
+        }
+        Ray cast = new Ray(new Vector3D(0.5f, -0.25f, 5), new Vector3D(-0.02f, 0.03f, -1));
+        RayHit hit = new RayHit();
+        AABB box = new AABB();
+        BoundingSphere sphere = new BoundingSphere();
+        Vector3D a = new Vector3D(), b = new Vector3D(), c = new Vector3D();
+
+        float expected = Ray.MISS;
+        for (int i = 0; i < SIZE; i++) {
+            expected = Math.min(expected, cast.intersect(boxes.get(i, box)));
+        }
+        assertTrue(cast.nearest(boxes, Ray.MISS, hit));
+        assertEquals(expected, hit.distance, PRECISION);
+        assertEquals(expected, cast.intersect(boxes.get(hit.index, box)), PRECISION);
+        assertTrue(cast.any(boxes, expected + PRECISION));
+        assertFalse(cast.any(boxes, expected - PRECISION));
+
+        expected = Ray.MISS;
+        for (int i = 0; i < SIZE; i++) {
+            expected = Math.min(expected, cast.intersect(spheres.get(i, sphere)));
+        }
+        assertTrue(cast.nearest(spheres, Ray.MISS, hit));
+        assertEquals(expected, hit.distance, PRECISION);
+        assertEquals(expected, cast.intersect(spheres.get(hit.index, sphere)), PRECISION);
+        assertFalse(cast.any(spheres, expected - PRECISION));
+
+        expected = Ray.MISS;
+        for (int i = 0; i < SIZE; i++) {
+            triangles.get(i, a, b, c);
+            expected = Math.min(expected, cast.intersect(a, b, c));
+        }
+        assertTrue(cast.nearest(triangles, Ray.MISS, hit));
+        assertEquals(expected, hit.distance, PRECISION);
+        assertFalse(cast.any(triangles, expected - PRECISION));
+    }
+
+    @Test
+    public void nearestClearsHitWhenNothingIsHit() {
+        RayHit hit = new RayHit();
+        hit.index = 4;
+        AABBArray boxes = new AABBArray(1).set(0, 5, 5, 5, 6, 6, 6);
+        assertFalse(ray.nearest(boxes, Ray.MISS, hit));
+        assertFalse(hit.isHit());
+        assertEquals(Ray.MISS, hit.distance);
+    }
+}
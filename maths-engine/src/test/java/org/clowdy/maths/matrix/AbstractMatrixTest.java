@@ -0,0 +1,75 @@
+package org.clowdy.maths.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class AbstractMatrixTest extends MatrixTest<AbstractMatrixTest.Matrix2x2> {
+    @Override
+    protected Matrix2x2 newMatrixInstance() {
+        return new Matrix2x2();
+    }
+
+    @Test
+    public void genericMultiplyReturnsProduct() {
+        matrix.data = new float[]{1, 3, 2, 4};
+        Matrix2x2 other = new Matrix2x2();
+        other.data = new float[]{5, 7, 6, 8};
+
+        assertArrayEquals(new float[]{19, 43, 22, 50}, matrix.multiply(other).data);
+    }
+
+    @Test
+    public void genericMultiplyBySelfReturnsSquare() {
+        matrix.data = new float[]{1, 3, 2, 4};
+
+        assertArrayEquals(new float[]{7, 15, 10, 22}, matrix.multiply(matrix).data);
+    }
+
+    @Test
+    public void genericTransposeAndIdentity() {
+        matrix.data = new float[]{1, 3, 2, 4};
+
+        assertArrayEquals(new float[]{1, 2, 3, 4}, matrix.transpose().data);
+        assertArrayEquals(new float[]{1, 0, 0, 1}, matrix.identity().data);
+    }
+
+    /*
+     * A matrix relying only on the generic implementations of AbstractMatrix.
+     */
+    static class Matrix2x2 extends AbstractMatrix<Matrix2x2> {
+        {
+            data = new float[4];
+        }
+
+        @Override
+        public Matrix2x2 set(Matrix2x2 matrix) {
+            data = matrix.data.clone();
+            return this;
+        }
+
+        @Override
+        public Matrix2x2 set(float value) {
+            Arrays.fill(data, value);
+            return this;
+        }
+
+        @Override
+        public float determinant() {
+            return data[0] * data[3] - data[2] * data[1];
+        }
+
+        @Override
+        public Matrix2x2 adjugate() {
+            data = new float[]{data[3], -data[1], -data[2], data[0]};
+            return this;
+        }
+
+        @Override
+        protected Matrix2x2 self() {
+            return this;
+        }
+    }
+}
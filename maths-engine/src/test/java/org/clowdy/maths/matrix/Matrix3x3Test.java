@@ -0,0 +1,94 @@
+package org.clowdy.maths.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Matrix3x3Test extends MatrixTest<Matrix3x3> {
+    private static final float PRECISION = 0.0001f;
+
+    @Override
+    protected Matrix3x3 newMatrixInstance() {
+        return new Matrix3x3();
+    }
+
+    @Test
+    public void adjugateOfMatrixReturnsAdjugate() {
+        matrix.set(1, 2, 3,
+                0, 1, 4,
+                5, 6, 0);
+
+        Matrix3x3 expected = new Matrix3x3(-24, 18, 5,
+                20, -15, -4,
+                -5, 4, 1);
+
+        assertArrayEquals(expected.data, matrix.adjugate().data, PRECISION);
+    }
+
+    @Test
+    public void inverseOfMatrixReturnsInverse() {
+        matrix.set(1, 2, 3,
+                0, 1, 4,
+                5, 6, 0);
+
+        Matrix3x3 expected = new Matrix3x3(-24, 18, 5,
+                20, -15, -4,
+                -5, 4, 1);
+
+        assertArrayEquals(expected.data, matrix.inverse().data, PRECISION);
+    }
+
+    @Test
+    public void inverseOfSingularMatrixThrowsIllegalStateException() {
+        matrix.set(1, 2, 3,
+                2, 4, 6,
+                0, 1, 0);
+
+        assertThrows(IllegalStateException.class, () -> matrix.inverse());
+    }
+
+    @Test
+    public void multiplyMatrixByOtherMatrixReturnsProduct() {
+        matrix.set(1, 2, 3,
+                4, 5, 6,
+                7, 8, 9);
+        Matrix3x3 other = new Matrix3x3(1, 0, 2,
+                0, 1, 0,
+                3, 0, 1);
+
+        Matrix3x3 expected = new Matrix3x3(10, 2, 5,
+                22, 5, 14,
+                34, 8, 23);
+
+        assertEquals(expected, matrix.multiply(other));
+    }
+
+    @Test
+    public void multiplyMatrixBySelfReturnsSquare() {
+        matrix.set(1, 2, 3,
+                4, 5, 6,
+                7, 8, 9);
+
+        Matrix3x3 expected = new Matrix3x3(30, 36, 42,
+                66, 81, 96,
+                102, 126, 150);
+
+        assertEquals(expected, Matrix3x3.multiply(matrix, matrix, matrix));
+    }
+
+    @Test
+    public void transposeOfMatrixReturnsTranspose() {
+        matrix.set(1, 2, 3,
+                4, 5, 6,
+                7, 8, 9);
+
+        assertEquals(new Matrix3x3(1, 4, 7, 2, 5, 8, 3, 6, 9), matrix.transpose());
+    }
+
+    @Test
+    public void identityReturnsIdentityMatrix() {
+        matrix.set(7);
+
+        assertEquals(new Matrix3x3(1, 0, 0, 0, 1, 0, 0, 0, 1), matrix.identity());
+    }
+}
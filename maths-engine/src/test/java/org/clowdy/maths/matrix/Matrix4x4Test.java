@@ -0,0 +1,185 @@
+package org.clowdy.maths.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Matrix4x4Test extends MatrixTest<Matrix4x4> {
+    private static final float PRECISION = 0.0001f;
+
+    @Override
+    protected Matrix4x4 newMatrixInstance() {
+        return new Matrix4x4();
+    }
+
+    @Test
+    public void determinantOfMatrixReturnsFloatValue() {
+        matrix.set(1, 0, 2, -1,
+                3, 0, 0, 5,
+                2, 1, 4, -3,
+                1, 0, 5, 0);
+
+        assertEquals(30, matrix.determinant(), PRECISION);
+    }
+
+    @Test
+    public void matrixMultipliedByAdjugateIsDeterminantTimesIdentity() {
+        matrix.set(2, -1, 0, 3,
+                1, 4, -2, 0,
+                0, 5, 1, -1,
+                3, 0, 2, 6);
+        float determinant = matrix.determinant();
+
+        Matrix4x4 actual = new Matrix4x4(matrix).multiply(new Matrix4x4(matrix).adjugate());
+
+        assertArrayEquals(new Matrix4x4().identity().multiply(determinant).data, actual.data, PRECISION);
+    }
+
+    @Test
+    public void matrixMultipliedByInverseIsIdentity() {
+        matrix.set(2, -1, 0, 3,
+                1, 4, -2, 0,
+                0, 5, 1, -1,
+                3, 0, 2, 6);
+
+        Matrix4x4 actual = new Matrix4x4(matrix).multiply(new Matrix4x4(matrix).inverse());
+
+        assertArrayEquals(new Matrix4x4().identity().data, actual.data, PRECISION);
+    }
+
+    @Test
+    public void inverseOfSingularMatrixThrowsIllegalStateException() {
+        matrix.set(1, 2, 3, 4,
+                2, 4, 6, 8,
+                0, 1, 0, 1,
+                5, 0, 2, 1);
+
+        assertThrows(IllegalStateException.class, () -> matrix.inverse());
+    }
+
+    @Test
+    public void inverseAffineOfAffineMatrixEqualsInverse() {
+        matrix.set(0, -2, 0, 5,
+                3, 0, 0, -1,
+                0, 0, 0.5f, 7,
+                0, 0, 0, 1);
+
+        Matrix4x4 expected = new Matrix4x4(matrix).inverse();
+
+        assertArrayEquals(expected.data, matrix.inverseAffine().data, PRECISION);
+    }
+
+    @Test
+    public void normalMatrixIsInverseTransposeOfUpper3x3() {
+        matrix.set(2, 1, 0, 5,
+                0, 3, 1, -1,
+                1, 0, 4, 7,
+                0, 0, 0, 1);
+
+        Matrix3x3 expected = new Matrix3x3(2, 1, 0, 0, 3, 1, 1, 0, 4).inverse().transpose();
+        Matrix3x3 actual = matrix.normal(new Matrix3x3());
+
+        assertArrayEquals(expected.data, actual.data, PRECISION);
+    }
+
+    @Test
+    public void multiplyMatrixByOtherMatrixReturnsProduct() {
+        matrix.set(1, 2, 3, 4,
+                5, 6, 7, 8,
+                9, 10, 11, 12,
+                13, 14, 15, 16);
+        Matrix4x4 other = new Matrix4x4(1, 0, 2, 0,
+                0, 1, 0, 3,
+                4, 0, 1, 0,
+                0, 5, 0, 1);
+
+        Matrix4x4 expected = new Matrix4x4(13, 22, 5, 10,
+                33, 46, 17, 26,
+                53, 70, 29, 42,
+                73, 94, 41, 58);
+
+        assertEquals(expected, matrix.multiply(other));
+    }
+
+    @Test
+    public void multiplyIntoDestinationAliasingAnInputReturnsProduct() {
+        matrix.set(1, 2, 3, 4,
+                5, 6, 7, 8,
+                9, 10, 11, 12,
+                13, 14, 15, 16);
+        Matrix4x4 other = new Matrix4x4(1, 0, 2, 0,
+                0, 1, 0, 3,
+                4, 0, 1, 0,
+                0, 5, 0, 1);
+        Matrix4x4 expected = new Matrix4x4(matrix).multiply(other);
+
+        assertEquals(expected, Matrix4x4.multiply(new Matrix4x4(matrix), other, new Matrix4x4()));
+        assertEquals(expected, Matrix4x4.multiply(matrix, other, matrix));
+        Matrix4x4 self = new Matrix4x4(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+        assertEquals(new Matrix4x4(90, 100, 110, 120,
+                202, 228, 254, 280,
+                314, 356, 398, 440,
+                426, 484, 542, 600), Matrix4x4.multiply(self, self, self));
+    }
+
+    @Test
+    public void multiplyWithNullThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> matrix.multiply((Matrix4x4) null));
+        assertThrows(IllegalArgumentException.class, () -> Matrix4x4.multiply(matrix, matrix, null));
+    }
+
+    @Test
+    public void transposeOfMatrixReturnsTranspose() {
+        matrix.set(1, 2, 3, 4,
+                5, 6, 7, 8,
+                9, 10, 11, 12,
+                13, 14, 15, 16);
+
+        Matrix4x4 expected = new Matrix4x4(1, 5, 9, 13,
+                2, 6, 10, 14,
+                3, 7, 11, 15,
+                4, 8, 12, 16);
+
+        assertEquals(expected, Matrix4x4.transpose(matrix, new Matrix4x4()));
+        assertEquals(expected, matrix.transpose());
+    }
+
+    @Test
+    public void identityReturnsIdentityMatrix() {
+        matrix.set(7);
+
+        assertEquals(new Matrix4x4(1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1), matrix.identity());
+    }
+
+    @Test
+    public void getIntoBufferWritesColumnMajorElements() {
+        matrix.set(1, 2, 3, 4,
+                5, 6, 7, 8,
+                9, 10, 11, 12,
+                13, 14, 15, 16);
+        FloatBuffer floats = FloatBuffer.allocate(20);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(64).order(ByteOrder.nativeOrder());
+
+        matrix.get(floats, 4);
+        matrix.get(bytes, 0);
+
+        assertEquals(1, floats.get(4));
+        assertEquals(5, floats.get(5));
+        assertEquals(2, floats.get(8));
+        assertEquals(16, bytes.getFloat(60));
+        assertEquals(matrix, new Matrix4x4().load(floats, 4));
+        assertEquals(matrix, new Matrix4x4().load(bytes, 0));
+    }
+
+    @Test
+    public void getIntoBufferWithoutRoomThrowsWithoutWriting() {
+        FloatBuffer buffer = FloatBuffer.allocate(16);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.identity().get(buffer, 1));
+        assertEquals(0, buffer.get(1));
+    }
+}
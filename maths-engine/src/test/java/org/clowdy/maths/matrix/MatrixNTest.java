@@ -0,0 +1,198 @@
+package org.clowdy.maths.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatrixNTest extends MatrixTest<MatrixN> {
+    private static final float PRECISION = 0.001f;
+
+    private final Random random = new Random(9);
+
+    @Override
+    protected MatrixN newMatrixInstance() {
+        return new MatrixN(5);
+    }
+
+    @Test
+    public void multiplyMatchesFixedSizeMatrix() {
+        Matrix4x4 left = new Matrix4x4(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+        Matrix4x4 right = new Matrix4x4(2, 0, 1, 0, 0, 3, 0, 1, 1, 0, 4, 0, 0, 1, 0, 5);
+        MatrixN product = toMatrixN(left).multiply(toMatrixN(right));
+
+        assertMatrixEquals(new Matrix4x4(left).multiply(right), product, 0);
+    }
+
+    @Test
+    public void blockedAndParallelMultiplyMatchNaiveProduct() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int n : new int[]{1, 63, 65, MatrixN.PARALLEL_THRESHOLD + 3}) {
+                MatrixN left = randomMatrix(n), right = randomMatrix(n);
+                MatrixN product = MatrixN.multiply(left, right, new MatrixN(n, 7), pool);
+                for (int r = 0; r < n; r++) {
+                    for (int c = 0; c < n; c++) {
+                        double sum = 0;
+                        for (int k = 0; k < n; k++) {
+                            sum += left.get(r, k) * right.get(k, c);
+                        }
+                        assertEquals(sum, product.get(r, c), PRECISION, "n = " + n);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void multiplyIntoAnOperand() {
+        MatrixN left = randomMatrix(10), right = randomMatrix(10);
+        MatrixN expected = MatrixN.multiply(left, right, new MatrixN(10));
+        MatrixN square = MatrixN.multiply(left, left, new MatrixN(10));
+
+        assertEquals(expected, new MatrixN(left).multiply(right));
+        assertEquals(expected, MatrixN.multiply(left, new MatrixN(right), right));
+        MatrixN self = new MatrixN(left);
+        assertEquals(square, self.multiply(self));
+    }
+
+    @Test
+    public void mismatchedOrdersThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> matrix.multiply(new MatrixN(4)));
+        assertThrows(IllegalArgumentException.class, () -> matrix.add(new MatrixN(4)));
+        assertThrows(IllegalArgumentException.class, () -> matrix.set(new MatrixN(6)));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixN(0));
+        assertThrows(IllegalArgumentException.class, () -> new MatrixN((MatrixN) null));
+    }
+
+    @Test
+    public void genericOperationsUseTheOrder() {
+        matrix.set(2, 3, 4);
+        assertEquals(4, matrix.get(2, 3));
+        assertEquals(4, matrix.transpose().get(3, 2));
+        assertEquals(1, matrix.identity().get(4, 4));
+        assertEquals(25, matrix.elements());
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(5, 0));
+    }
+
+    @Test
+    public void determinantAndInverseMatchFixedSizeMatrix() {
+        Matrix4x4 fixed = new Matrix4x4(2, -1, 0.5f, 3, 0.25f, 3, -2, 1, 1, 0.5f, 4, -1, 0.5f, 0, 1, 2);
+        MatrixN general = toMatrixN(fixed);
+
+        assertEquals(fixed.determinant(), general.determinant(), PRECISION);
+        assertMatrixEquals(new Matrix4x4(fixed).inverse(), new MatrixN(general).inverse(), PRECISION);
+        assertMatrixEquals(new Matrix4x4(fixed).adjugate(), new MatrixN(general).adjugate(), PRECISION);
+    }
+
+    @Test
+    public void inverseTimesMatrixIsIdentity() {
+        MatrixN a = randomMatrix(40);
+        MatrixN product = new MatrixN(a).inverse().multiply(a);
+        MatrixN identity = new MatrixN(40).identity();
+        for (int r = 0; r < 40; r++) {
+            for (int c = 0; c < 40; c++) {
+                assertEquals(identity.get(r, c), product.get(r, c), PRECISION);
+            }
+        }
+    }
+
+    @Test
+    public void luSolvesLinearSystem() {
+        MatrixN a = randomMatrix(30);
+        float[] expected = new float[30];
+        for (int i = 0; i < 30; i++) {
+            expected[i] = random.nextFloat() * 2 - 1;
+        }
+        float[] b = multiply(a, expected);
+
+        float[] x = new LUDecomposition(a).solve(b, b);
+        assertArrayEquals(expected, x, PRECISION);
+    }
+
+    @Test
+    public void singularMatrixHasZeroDeterminantAndNoInverse() {
+        MatrixN singular = new MatrixN(3, 1);
+        LUDecomposition lu = new LUDecomposition(singular);
+
+        assertTrue(lu.isSingular());
+        assertEquals(0, lu.determinant());
+        assertThrows(IllegalStateException.class, () -> lu.solve(new float[3], new float[3]));
+        assertThrows(IllegalStateException.class, singular::inverse);
+    }
+
+    @Test
+    public void choleskySolvesSymmetricPositiveDefiniteSystem() {
+        // A^T A + nI is symmetric positive definite.
+        MatrixN a = randomMatrix(25);
+        MatrixN spd = MatrixN.multiply(new MatrixN(a).transpose(), a, new MatrixN(25))
+                .add(new MatrixN(25).identity().multiply(25));
+        float[] expected = new float[25];
+        for (int i = 0; i < 25; i++) {
+            expected[i] = random.nextFloat() * 2 - 1;
+        }
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(spd);
+
+        assertArrayEquals(expected, cholesky.solve(multiply(spd, expected), new float[25]), PRECISION);
+        MatrixN l = cholesky.getL(new MatrixN(25));
+        MatrixN product = MatrixN.multiply(l, new MatrixN(l).transpose(), new MatrixN(25));
+        for (int r = 0; r < 25; r++) {
+            for (int c = 0; c < 25; c++) {
+                assertEquals(spd.get(r, c), product.get(r, c), 0.01f);
+            }
+        }
+        assertEquals(new LUDecomposition(spd).determinant(), cholesky.determinant(),
+                Math.abs(cholesky.determinant()) * 0.001f);
+    }
+
+    @Test
+    public void choleskyRejectsIndefiniteMatrix() {
+        MatrixN indefinite = new MatrixN(2);
+        indefinite.set(0, 0, 1).set(0, 1, 2).set(1, 0, 2).set(1, 1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new CholeskyDecomposition(indefinite));
+    }
+
+    private MatrixN randomMatrix(int n) {
+        MatrixN result = new MatrixN(n);
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                result.set(r, c, random.nextFloat() * 2 - 1);
+            }
+        }
+        return result;
+    }
+
+    private static float[] multiply(MatrixN a, float[] x) {
+        int n = a.getOrder();
+        float[] result = new float[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                result[r] += a.get(r, c) * x[c];
+            }
+        }
+        return result;
+    }
+
+    private static MatrixN toMatrixN(Matrix4x4 fixed) {
+        MatrixN result = new MatrixN(4);
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                result.set(r, c, fixed.get(r, c));
+            }
+        }
+        return result;
+    }
+
+    private static void assertMatrixEquals(Matrix4x4 expected, MatrixN actual, float precision) {
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                assertEquals(expected.get(r, c), actual.get(r, c), precision);
+            }
+        }
+    }
+}
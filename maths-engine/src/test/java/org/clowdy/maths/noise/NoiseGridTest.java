@@ -0,0 +1,71 @@
+package org.clowdy.maths.noise;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoiseGridTest {
+    private final Noise noise = FractalNoise.fbm(new SimplexNoise(11), 4, 2, 0.5f);
+
+    @Test
+    public void fillSamplesEachPositionRowMajor() {
+        float[] grid = NoiseGrid.fill(noise, new float[12], 4, 3, -1, 2, 0.25f);
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 4; column++) {
+                assertEquals(noise.sample(-1 + column * 0.25f, 2 + row * 0.25f), grid[row * 4 + column]);
+            }
+        }
+    }
+
+    @Test
+    public void fillSliceSamplesThreeDimensions() {
+        float[] grid = NoiseGrid.fill(noise, new float[6], 3, 2, 0, 0, 5, 0.5f);
+        for (int row = 0; row < 2; row++) {
+            for (int column = 0; column < 3; column++) {
+                assertEquals(noise.sample(column * 0.5f, row * 0.5f, 5), grid[row * 3 + column]);
+            }
+        }
+    }
+
+    @Test
+    public void parallelFillMatchesSequential() {
+        int width = 300;
+        int height = 200;
+        assertTrue(width * height >= NoiseGrid.PARALLEL_THRESHOLD);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            float[] parallel = NoiseGrid.fill(noise, new float[width * height], width, height, 10, -20, 0.01f, pool);
+            float[] slice = NoiseGrid.fill(noise, new float[width * height], width, height, 10, -20, 1, 0.01f, pool);
+            for (int row = 0; row < height; row++) {
+                float[] sequential = NoiseGrid.fill(noise, new float[width], width, 1, 10, -20 + row * 0.01f, 0.01f);
+                for (int column = 0; column < width; column++) {
+                    assertEquals(sequential[column], parallel[row * width + column]);
+                    assertEquals(noise.sample(10 + column * 0.01f, -20 + row * 0.01f, 1),
+                            slice[row * width + column]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void fillLeavesTheRestOfTheArray() {
+        float[] grid = new float[10];
+        grid[9] = 5;
+        NoiseGrid.fill(noise, grid, 3, 3, 0, 0, 1);
+        assertEquals(5, grid[9]);
+    }
+
+    @Test
+    public void invalidFillsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> NoiseGrid.fill(null, new float[4], 2, 2, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> NoiseGrid.fill(noise, null, 2, 2, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> NoiseGrid.fill(noise, new float[4], -1, 2, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> NoiseGrid.fill(noise, new float[4], 2, 2, 0, 0, 1, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> NoiseGrid.fill(noise, new float[3], 2, 2, 0, 0, 1));
+    }
+}
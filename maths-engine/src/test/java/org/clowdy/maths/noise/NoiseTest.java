@@ -0,0 +1,112 @@
+package org.clowdy.maths.noise;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoiseTest {
+    private static final int SAMPLES = 100000;
+
+    private final Noise[] noises = {
+            new PerlinNoise(42), new SimplexNoise(42), new ValueNoise(42),
+            FractalNoise.fbm(new SimplexNoise(42), 6, 2, 0.5f),
+            FractalNoise.ridged(new PerlinNoise(42), 5, 2, 0.5f)
+    };
+
+    @Test
+    public void samplesAreWithinRange() {
+        for (Noise noise : noises) {
+            SplittableRandom random = new SplittableRandom(1);
+            for (int i = 0; i < SAMPLES; i++) {
+                float x = (float) random.nextDouble(-1000, 1000);
+                float y = (float) random.nextDouble(-1000, 1000);
+                float z = (float) random.nextDouble(-1000, 1000);
+                assertEquals(0, noise.sample(x, y), 1, noise.getClass().getSimpleName());
+                assertEquals(0, noise.sample(x, y, z), 1, noise.getClass().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    public void samplesAreContinuous() {
+        for (Noise noise : noises) {
+            SplittableRandom random = new SplittableRandom(2);
+            for (int i = 0; i < SAMPLES; i++) {
+                float x = (float) random.nextDouble(-100, 100);
+                float y = (float) random.nextDouble(-100, 100);
+                float z = (float) random.nextDouble(-100, 100);
+                assertEquals(noise.sample(x, y), noise.sample(x + 0.001f, y - 0.001f), 0.05f);
+                assertEquals(noise.sample(x, y, z), noise.sample(x + 0.001f, y, z - 0.001f), 0.05f);
+            }
+        }
+    }
+
+    @Test
+    public void samplesAreDeterministicPerSeed() {
+        Noise[] same = {new PerlinNoise(42), new SimplexNoise(42), new ValueNoise(42)};
+        Noise[] other = {new PerlinNoise(43), new SimplexNoise(43), new ValueNoise(43)};
+        for (int n = 0; n < same.length; n++) {
+            int differences = 0;
+            for (int i = 0; i < 100; i++) {
+                float x = i * 0.37f;
+                float y = i * -0.59f;
+                assertEquals(noises[n].sample(x, y), same[n].sample(x, y));
+                assertEquals(noises[n].sample(x, y, x), same[n].sample(x, y, x));
+                if (noises[n].sample(x, y) != other[n].sample(x, y)) {
+                    differences++;
+                }
+            }
+            assertTrue(differences > 90);
+        }
+    }
+
+    @Test
+    public void gradientNoiseIsZeroAtLatticePoints() {
+        Noise noise = new PerlinNoise(7);
+        for (int x = -5; x <= 5; x++) {
+            for (int y = -5; y <= 5; y++) {
+                assertEquals(0, noise.sample(x, y), 0);
+                assertEquals(0, noise.sample(x, y, x - y), 0);
+            }
+        }
+    }
+
+    @Test
+    public void noiseIsNotConstant() {
+        for (Noise noise : noises) {
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            for (int i = 0; i < 1000; i++) {
+                float value = noise.sample(i * 0.173f, i * 0.311f);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            assertTrue(max - min > 0.5f, noise.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void singleOctaveFbmEqualsBase() {
+        Noise base = new SimplexNoise(3);
+        Noise fbm = FractalNoise.fbm(base, 1, 2, 0.5f);
+        assertEquals(base.sample(1.5f, -2.25f), fbm.sample(1.5f, -2.25f));
+        assertEquals(base.sample(1.5f, -2.25f, 4), fbm.sample(1.5f, -2.25f, 4));
+    }
+
+    @Test
+    public void ridgedPeaksAtZeroCrossings() {
+        Noise ridged = FractalNoise.ridged(new PerlinNoise(3), 1, 2, 0.5f);
+        assertEquals(1, ridged.sample(2, 3));
+    }
+
+    @Test
+    public void invalidFractalsThrow() {
+        Noise base = new ValueNoise(0);
+        assertThrows(IllegalArgumentException.class, () -> FractalNoise.fbm(null, 4, 2, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> FractalNoise.fbm(base, 0, 2, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> FractalNoise.ridged(base, 4, 0, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> FractalNoise.ridged(base, 4, 2, Float.NaN));
+    }
+}
@@ -0,0 +1,77 @@
+package org.clowdy.maths.sparse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseMatrixTest {
+    private static final float PRECISION = 0.0001f;
+
+    private final SparseMatrix matrix = SparseMatrix.builder(3, 4)
+            .add(2, 3, 6)
+            .add(0, 2, 2)
+            .add(0, 0, 1)
+            .add(2, 0, 5)
+            .add(1, 1, 3)
+            .add(2, 3, 1)
+            .add(1, 3, 4)
+            .add(1, 3, -4)
+            .build();
+
+    @Test
+    public void builderSortsAndSumsDuplicates() {
+        assertEquals(5, matrix.nonZeros());
+        assertEquals(1, matrix.get(0, 0));
+        assertEquals(0, matrix.get(0, 1));
+        assertEquals(2, matrix.get(0, 2));
+        assertEquals(3, matrix.get(1, 1));
+        assertEquals(0, matrix.get(1, 3));
+        assertEquals(5, matrix.get(2, 0));
+        assertEquals(7, matrix.get(2, 3));
+        assertArrayEquals(new int[]{0, 2, 3, 5}, matrix.rowStart);
+        assertArrayEquals(new int[]{0, 2, 1, 0, 3}, matrix.columnIndices);
+    }
+
+    @Test
+    public void builderCanBeClearedAndReused() {
+        SparseMatrix.Builder builder = SparseMatrix.builder(2, 2);
+        for (int i = 0; i < 40; i++) {
+            builder.add(i % 2, 1, 1);
+        }
+        assertEquals(20, builder.build().get(1, 1));
+        SparseMatrix rebuilt = builder.clear().add(0, 0, 2).build();
+        assertEquals(1, rebuilt.nonZeros());
+        assertEquals(2, rebuilt.get(0, 0));
+    }
+
+    @Test
+    public void multiplyMatchesDenseProduct() {
+        float[] product = matrix.multiply(new float[]{1, 2, 3, 4}, new float[3]);
+        assertArrayEquals(new float[]{7, 6, 33}, product, PRECISION);
+    }
+
+    @Test
+    public void valuesAreUpdatedInPlace() {
+        matrix.values()[0] = 10;
+        assertEquals(10, matrix.get(0, 0));
+    }
+
+    @Test
+    public void diagonalIsZeroWhereNotStored() {
+        assertArrayEquals(new float[]{1, 3, 0}, matrix.diagonal(new float[3]));
+    }
+
+    @Test
+    public void invalidInputThrows() {
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrix.builder(2, 2).add(0, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> matrix.multiply(new float[3], new float[3]));
+        float[] square = new float[3];
+        SparseMatrix identity = SparseMatrix.builder(3, 3).add(0, 0, 1).add(1, 1, 1).add(2, 2, 1).build();
+        assertThrows(IllegalArgumentException.class, () -> identity.multiply(square, square));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 2, new int[]{0, 2}, new int[]{1, 0}, new float[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseMatrix(1, 2, new int[]{0, 1}, new int[]{0, 1}, new float[2]));
+    }
+}
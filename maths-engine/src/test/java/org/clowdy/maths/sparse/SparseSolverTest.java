@@ -0,0 +1,121 @@
+package org.clowdy.maths.sparse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseSolverTest {
+    private static final float PRECISION = 0.001f;
+    private static final int SIZE = 200;
+
+    /*
+     * The tridiagonal matrix of a chain of bodies, 4 on the diagonal and -1 beside it, which is symmetric positive
+     * definite and diagonally dominant.
+     */
+    private static SparseMatrix chain(int n) {
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int i = 0; i < n; i++) {
+            builder.add(i, i, 4);
+            if (i > 0) {
+                builder.add(i, i - 1, -1);
+                builder.add(i - 1, i, -1);
+            }
+        }
+        return builder.build();
+    }
+
+    private static float[] rightHandSide(SparseMatrix matrix, float[] solution) {
+        return matrix.multiply(solution, new float[solution.length]);
+    }
+
+    private static float[] expected() {
+        float[] solution = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            solution[i] = (float) Math.sin(i * 0.1);
+        }
+        return solution;
+    }
+
+    @Test
+    public void conjugateGradientSolvesSymmetricPositiveDefiniteSystem() {
+        SparseMatrix matrix = chain(SIZE);
+        float[] expected = expected();
+        float[] x = new float[SIZE];
+        ConjugateGradient solver = new ConjugateGradient(SIZE, 1e-6f);
+        int iterations = solver.solve(matrix, rightHandSide(matrix, expected), x);
+        assertTrue(iterations > 0 && iterations < SIZE);
+        assertTrue(solver.getResidual() <= 1e-6f);
+        assertArrayEquals(expected, x, PRECISION);
+    }
+
+    @Test
+    public void conjugateGradientWarmStartFromSolutionDoesNotIterate() {
+        SparseMatrix matrix = chain(SIZE);
+        float[] expected = expected();
+        ConjugateGradient solver = new ConjugateGradient(SIZE, 1e-5f);
+        assertEquals(0, solver.solve(matrix, rightHandSide(matrix, expected), expected.clone()));
+    }
+
+    @Test
+    public void gaussSeidelSolvesUnboundedSystem() {
+        SparseMatrix matrix = chain(SIZE);
+        float[] expected = expected();
+        float[] x = new float[SIZE];
+        int iterations = new ProjectedGaussSeidel(100, 1e-7f).solve(matrix, rightHandSide(matrix, expected), x);
+        assertTrue(iterations < 100);
+        assertArrayEquals(expected, x, PRECISION);
+    }
+
+    @Test
+    public void gaussSeidelWarmStartConvergesFaster() {
+        SparseMatrix matrix = chain(SIZE);
+        float[] expected = expected();
+        float[] b = rightHandSide(matrix, expected);
+        ProjectedGaussSeidel solver = new ProjectedGaussSeidel(100, 1e-6f, 1.2f);
+        float[] cold = new float[SIZE];
+        int coldIterations = solver.solve(matrix, b, cold);
+        float[] warm = expected.clone();
+        warm[SIZE / 2] += 0.01f;
+        assertTrue(solver.solve(matrix, b, warm) < coldIterations);
+        assertArrayEquals(expected, warm, PRECISION);
+    }
+
+    @Test
+    public void projectedGaussSeidelClampsToBounds() {
+        // Two bodies pressed together: the second contact would need a negative, pulling, impulse.
+        SparseMatrix matrix = SparseMatrix.builder(2, 2).add(0, 0, 2).add(0, 1, 1).add(1, 0, 1).add(1, 1, 2)
+                .build();
+        float[] x = new float[2];
+        new ProjectedGaussSeidel(100, 1e-7f).solve(matrix, new float[]{4, -1}, new float[]{0, 0},
+                new float[]{Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY}, x);
+        assertArrayEquals(new float[]{2, 0}, x, PRECISION);
+    }
+
+    @Test
+    public void projectedGaussSeidelScalesDependentBounds() {
+        // A normal impulse and a friction impulse limited to half of it.
+        SparseMatrix matrix = SparseMatrix.builder(2, 2).add(0, 0, 1).add(1, 1, 1).build();
+        float[] x = new float[2];
+        new ProjectedGaussSeidel(10, 1e-7f).solve(matrix, new float[]{2, 5}, new float[]{0, -0.5f},
+                new float[]{Float.POSITIVE_INFINITY, 0.5f}, new int[]{-1, 0}, x);
+        assertArrayEquals(new float[]{2, 1}, x, PRECISION);
+    }
+
+    @Test
+    public void solversRejectInvalidInput() {
+        SparseMatrix zeroDiagonal = SparseMatrix.builder(2, 2).add(0, 0, 1).add(0, 1, 1).add(1, 0, 1).build();
+        SparseMatrix rectangular = SparseMatrix.builder(2, 3).add(0, 0, 1).add(1, 1, 1).build();
+        ProjectedGaussSeidel gaussSeidel = new ProjectedGaussSeidel(10, 0);
+        ConjugateGradient conjugateGradient = new ConjugateGradient(10, 0);
+        assertThrows(IllegalArgumentException.class, () -> gaussSeidel.solve(zeroDiagonal, new float[2],
+                new float[2]));
+        assertThrows(IllegalArgumentException.class, () -> conjugateGradient.solve(rectangular, new float[2],
+                new float[2]));
+        assertThrows(IllegalArgumentException.class, () -> conjugateGradient.solve(chain(3), new float[2],
+                new float[3]));
+        assertThrows(IllegalArgumentException.class, () -> gaussSeidel.solve(chain(2), new float[2], new float[2],
+                new float[2], new int[]{2, -1}, new float[2]));
+        assertThrows(IllegalArgumentException.class, () -> new ProjectedGaussSeidel(10, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ConjugateGradient(0, 0));
+    }
+}
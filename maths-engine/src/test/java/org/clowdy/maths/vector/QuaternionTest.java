@@ -0,0 +1,131 @@
+package org.clowdy.maths.vector;
+
+import org.clowdy.maths.matrix.Matrix3x3;
+import org.clowdy.maths.matrix.Matrix4x4;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuaternionTest extends VectorTest<Quaternion> {
+    private static final float PRECISION = 0.0001f;
+    private static final float HALF_PI = (float) (Math.PI / 2);
+
+    @Override
+    protected Quaternion newVectorInstance() {
+        return new Quaternion(0);
+    }
+
+    @Test
+    public void defaultQuaternionIsIdentity() {
+        assertEquals(new Quaternion(0, 0, 0, 1), new Quaternion());
+    }
+
+    @Test
+    public void rotateVectorAboutAxisReturnsRotatedVector() {
+        vector.fromAxisAngle(new Vector3D(0, 0, 2), HALF_PI);
+
+        Vector3D actual = vector.rotate(new Vector3D(1, 0, 0));
+
+        assertVectorEquals(new Vector3D(0, 1, 0), actual);
+    }
+
+    @Test
+    public void multiplyAppliesGivenRotationFirst() {
+        Quaternion aboutZ = new Quaternion().fromAxisAngle(0, 0, 1, HALF_PI);
+        Quaternion aboutX = new Quaternion().fromAxisAngle(1, 0, 0, HALF_PI);
+
+        Vector3D actual = new Quaternion(aboutX).multiply(aboutZ).rotate(new Vector3D(1, 0, 0));
+
+        // Z takes x to y, then X takes y to z.
+        assertVectorEquals(new Vector3D(0, 0, 1), actual);
+        assertSame(aboutZ, Quaternion.multiply(aboutX, aboutZ, aboutZ));
+    }
+
+    @Test
+    public void quaternionMultipliedByInverseIsIdentity() {
+        vector.set(1, 2, 3, 4);
+
+        Quaternion actual = new Quaternion(vector).multiply(new Quaternion(vector).inverse());
+
+        assertEquals(0, actual.x, PRECISION);
+        assertEquals(1, actual.w, PRECISION);
+        assertThrows(IllegalStateException.class, () -> new Quaternion(0).inverse());
+    }
+
+    @Test
+    public void axisAngleRoundTrips() {
+        vector.fromAxisAngle(new Vector3D(1, 2, 2), 1.2f);
+
+        assertEquals(1.2f, vector.getAngle(), PRECISION);
+        assertVectorEquals(new Vector3D(1 / 3f, 2 / 3f, 2 / 3f), vector.getAxis(new Vector3D()));
+        assertThrows(IllegalArgumentException.class, () -> vector.fromAxisAngle(new Vector3D(), 1));
+    }
+
+    @Test
+    public void matrixConversionRoundTrips() {
+        Quaternion[] rotations = {
+                new Quaternion().fromAxisAngle(1, 2, 3, 0.7f),
+                new Quaternion().fromAxisAngle(1, 0, 0, 3.1f),
+                new Quaternion().fromAxisAngle(0, 1, 0, 3.1f),
+                new Quaternion().fromAxisAngle(0, 0, 1, 3.1f)};
+        for (Quaternion rotation : rotations) {
+            Quaternion fromMatrix3 = new Quaternion().fromMatrix(rotation.toMatrix(new Matrix3x3()));
+            Quaternion fromMatrix4 = new Quaternion().fromMatrix(rotation.toMatrix(new Matrix4x4()));
+
+            assertEquals(1, Math.abs(rotation.dot(fromMatrix3)), PRECISION);
+            assertEquals(1, Math.abs(rotation.dot(fromMatrix4)), PRECISION);
+        }
+    }
+
+    @Test
+    public void matrixRotatesVectorAsQuaternion() {
+        vector.fromAxisAngle(1, 2, 3, 0.7f);
+        Matrix3x3 matrix = vector.toMatrix(new Matrix3x3());
+        Vector3D point = new Vector3D(4, -5, 6);
+
+        Vector3D expected = vector.rotate(new Vector3D(point));
+        Vector3D actual = new Vector3D(
+                matrix.get(0, 0) * point.x + matrix.get(0, 1) * point.y + matrix.get(0, 2) * point.z,
+                matrix.get(1, 0) * point.x + matrix.get(1, 1) * point.y + matrix.get(1, 2) * point.z,
+                matrix.get(2, 0) * point.x + matrix.get(2, 1) * point.y + matrix.get(2, 2) * point.z);
+
+        assertVectorEquals(expected, actual);
+    }
+
+    @Test
+    public void slerpHalfwayRotatesByHalfTheAngle() {
+        vector.identity();
+        Quaternion target = new Quaternion().fromAxisAngle(0, 1, 0, 2);
+
+        vector.slerp(target, 0.5f);
+
+        assertEquals(1, vector.getAngle(), PRECISION);
+        assertEquals(1, vector.length(), PRECISION);
+    }
+
+    @Test
+    public void slerpTakesShortestPath() {
+        vector.identity();
+        // The negated quaternion is the same rotation, so the halfway point is still half the angle.
+        Quaternion target = new Quaternion().fromAxisAngle(0, 1, 0, 2).multiply(-1);
+
+        vector.slerp(target, 0.5f);
+
+        assertEquals(1, Math.abs(vector.dot(new Quaternion().fromAxisAngle(0, 1, 0, 1))), PRECISION);
+    }
+
+    @Test
+    public void nlerpEndpointsReturnInputs() {
+        Quaternion start = new Quaternion().fromAxisAngle(1, 0, 0, 0.5f);
+        Quaternion target = new Quaternion().fromAxisAngle(0, 1, 0, 0.5f);
+
+        assertEquals(1, new Quaternion(start).nlerp(target, 0).dot(start), PRECISION);
+        assertEquals(1, new Quaternion(start).nlerp(target, 1).dot(target), PRECISION);
+    }
+
+    private static void assertVectorEquals(Vector3D expected, Vector3D actual) {
+        assertEquals(expected.x, actual.x, PRECISION);
+        assertEquals(expected.y, actual.y, PRECISION);
+        assertEquals(expected.z, actual.z, PRECISION);
+    }
+}
@@ -1,9 +1,14 @@
 package org.clowdy.maths.vector;
 
 
+import org.clowdy.maths.FastMath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public abstract class VectorTest<V extends AbstractVector<V>> {
@@ -140,6 +145,34 @@ public abstract class VectorTest<V extends AbstractVector<V>> {
     }
 
 
+    @Test
+    public void normaliseFastIsWithinErrorBound() {
+        vector.set(25, -4, 3, 2);
+        V expected = newVectorInstance().set(25, -4, 3, 2).normalise();
+
+        V actual = vector.normaliseFast();
+
+        assertSame(actual, vector);
+        assertEquals(1, actual.length(), FastMath.INV_SQRT_ERROR);
+        assertEquals(1, actual.dot(expected), FastMath.INV_SQRT_ERROR);
+    }
+
+    @Test
+    public void normaliseFastZeroVectorThrowsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> vector.normaliseFast(),
+                "Can not normalise a vector of zero length.");
+    }
+
+    @Test
+    public void lengthFastIsWithinErrorBound() {
+        vector.set(25, -4, 3, 2);
+
+        assertEquals(vector.length(), vector.lengthFast(), vector.length() * FastMath.INV_SQRT_ERROR);
+        assertEquals(vector.length() * vector.length(), vector.lengthSquared(), 0.001f);
+        assertEquals(0, newVectorInstance().lengthFast());
+    }
+
+
     // Angle Method Tests
 
     @Test
@@ -194,4 +227,78 @@ public abstract class VectorTest<V extends AbstractVector<V>> {
         assertThrows(IllegalArgumentException.class, () -> vector.angle(null),
                 "The input Vector cannot be null.");
     }
+
+    @Test
+    public void angleFastIsWithinErrorBound() {
+        vector.set(-2, 4, -3, 2);
+
+        V otherVector = newVectorInstance().set(11, 4, -6, 7);
+
+        assertEquals(vector.angle(otherVector), vector.angleFast(otherVector), FastMath.ACOS_ERROR + 0.000001f);
+    }
+
+    @Test
+    public void angleFastWithAZeroVectorThrowsAnIllegalArgumentException() {
+        vector.set(1, 2, -4, 8);
+
+        assertThrows(IllegalArgumentException.class, () -> vector.angleFast(newVectorInstance()),
+                "Can't find angle when one or both vectors have length of 0.");
+        assertThrows(IllegalArgumentException.class, () -> vector.angleFast(null),
+                "The input Vector cannot be null.");
+    }
+
+    // Buffer Method Tests
+
+    @Test
+    public void getIntoFloatBufferAndLoadReturnsEqualVector() {
+        vector.set(1, -2, 3, -4);
+        FloatBuffer buffer = FloatBuffer.allocate(vector.components() + 2);
+
+        vector.get(buffer, 2);
+        V actual = newVectorInstance().load(buffer, 2);
+
+        assertEquals(0, buffer.position());
+        assertEquals(0, buffer.get(0));
+        assertEquals(1, buffer.get(2));
+        assertEquals(vector, actual);
+    }
+
+    @Test
+    public void getIntoByteBufferAndLoadReturnsEqualVector() {
+        vector.set(1, -2, 3, -4);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(vector.components() * Float.BYTES + 4)
+                .order(ByteOrder.nativeOrder());
+
+        vector.get(buffer, 4);
+        V actual = newVectorInstance().load(buffer, 4);
+
+        assertEquals(1, buffer.getFloat(4));
+        assertEquals(vector, actual);
+    }
+
+    @Test
+    public void getIntoBufferWithoutRoomThrowsIndexOutOfBoundsException() {
+        vector.set(1, -2, 3, -4);
+        FloatBuffer buffer = FloatBuffer.allocate(vector.components());
+        ByteBuffer bytes = ByteBuffer.allocate(vector.components() * Float.BYTES);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(buffer, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(buffer, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(bytes, 1));
+        // The range is checked up front, so nothing is written before the exception.
+        assertEquals(0, buffer.get(1));
+        assertEquals(0, bytes.getFloat(0));
+    }
+
+    @Test
+    public void loadFromBufferWithoutRoomThrowsIndexOutOfBoundsException() {
+        vector.set(1, -2, 3, -4);
+        V expected = newVectorInstance().set(1, -2, 3, -4);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> vector.load(FloatBuffer.allocate(vector.components()), 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> vector.load(ByteBuffer.allocate(vector.components() * Float.BYTES), 1));
+        assertEquals(expected, vector);
+    }
 }
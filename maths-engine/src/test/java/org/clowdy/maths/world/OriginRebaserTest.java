@@ -0,0 +1,124 @@
+package org.clowdy.maths.world;
+
+import org.clowdy.maths.batch.Vector3Array;
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OriginRebaserTest {
+    private static final float THRESHOLD = 1024;
+    private static final float CELL = 256;
+
+    @Test
+    public void doesNotRebaseWithinThreshold() {
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        Vector3Array positions = new Vector3Array(1).set(0, 5, 6, 7);
+        rebaser.register(positions);
+        assertFalse(rebaser.update(new Vector3D(1000, 0, 0)));
+        assertEquals(new WorldPosition(), rebaser.getOrigin());
+        assertEquals(new Vector3D(5, 6, 7), positions.get(0, new Vector3D()));
+    }
+
+    @Test
+    public void rebaseSnapsToCellsAndKeepsWorldPositions() {
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        Vector3Array positions = new Vector3Array(2).set(0, 1500.5f, -3, 2).set(1, 1400, 20, -100);
+        rebaser.register(positions);
+        assertTrue(rebaser.update(positions.get(0, new Vector3D())));
+        assertEquals(new WorldPosition(1536, 0, 0), rebaser.getOrigin());
+        assertEquals(new Vector3D(-35.5f, -3, 2), positions.get(0, new Vector3D()));
+        WorldPosition world = rebaser.toWorld(positions.get(1, new Vector3D()), new WorldPosition());
+        assertEquals(new WorldPosition(1400, 20, -100), world);
+        assertEquals(new Vector3D(-136, 20, -100), rebaser.toLocal(world, new Vector3D()));
+    }
+
+    @Test
+    public void travellingFarKeepsLocalPrecision() {
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        Vector3Array positions = new Vector3Array(2).set(0, 0, 0, 0).set(1, 0.001f, 0, 0);
+        rebaser.register(positions);
+        Vector3D focus = new Vector3D();
+        int rebases = 0;
+        // Travel ten thousand kilometres in steps of 100m, rebasing as the focus leaves each threshold.
+        for (int step = 0; step < 100000; step++) {
+            float[] data = positions.data();
+            for (int i = 0; i < data.length; i += 3) {
+                data[i] += 100;
+            }
+            if (rebaser.update(positions.get(0, focus))) {
+                rebases++;
+            }
+        }
+        assertTrue(rebases > 1000);
+        assertEquals(1.0e7, rebaser.getOrigin().x + positions.getX(0), 1e-3);
+        // Moving in float near the threshold rounds each step by at most half an ulp of 1024.
+        assertEquals(0.001f, positions.getX(1) - positions.getX(0), 1e-4f);
+        assertTrue(Math.abs(positions.getX(0)) <= THRESHOLD);
+    }
+
+    @Test
+    public void parallelRebaseMatchesSequential() {
+        int size = OriginRebaser.PARALLEL_THRESHOLD * 4 + 7;
+        Vector3Array parallel = new Vector3Array(size);
+        Vector3Array sequential = new Vector3Array(size);
+        Random random = new Random(7);
+        for (int i = 0; i < size; i++) {
+            parallel.set(i, random.nextFloat() * 4096, random.nextFloat() * 4096, random.nextFloat() * 4096);
+        }
+        sequential.set(parallel);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL, pool);
+            rebaser.register(parallel);
+            assertTrue(rebaser.rebase(2048, -512, 256));
+        } finally {
+            pool.shutdown();
+        }
+        float[] data = sequential.data();
+        for (int i = 0; i < data.length; i += 3) {
+            data[i] -= 2048;
+            data[i + 1] -= -512;
+            data[i + 2] -= 256;
+        }
+        assertArrayEquals(data, parallel.data());
+    }
+
+    @Test
+    public void listenersAreToldOfEachRebase() {
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        Vector3D camera = new Vector3D(0, 3000, 0);
+        RebaseListener listener = (x, y, z) -> camera.subtract(new Vector3D(x, y, z));
+        rebaser.addListener(listener);
+        assertTrue(rebaser.update(camera));
+        assertEquals(new Vector3D(0, -72, 0), camera);
+        assertFalse(rebaser.rebase(0, 0, 0));
+        assertTrue(rebaser.removeListener(listener));
+        rebaser.rebase(256, 0, 0);
+        assertEquals(new Vector3D(0, -72, 0), camera);
+    }
+
+    @Test
+    public void unregisteredArraysAreNotShifted() {
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        Vector3Array positions = new Vector3Array(1).set(0, 1, 2, 3);
+        rebaser.register(positions);
+        assertTrue(rebaser.unregister(positions));
+        rebaser.rebase(256, 256, 256);
+        assertEquals(new Vector3D(1, 2, 3), positions.get(0, new Vector3D()));
+    }
+
+    @Test
+    public void invalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new OriginRebaser(0, CELL));
+        assertThrows(IllegalArgumentException.class, () -> new OriginRebaser(THRESHOLD, Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new OriginRebaser(THRESHOLD, CELL, null));
+        OriginRebaser rebaser = new OriginRebaser(THRESHOLD, CELL);
+        assertThrows(IllegalArgumentException.class, () -> rebaser.register(null));
+        assertThrows(IllegalArgumentException.class, () -> rebaser.addListener(null));
+        assertThrows(IllegalArgumentException.class, () -> rebaser.update(null));
+    }
+}
@@ -0,0 +1,64 @@
+package org.clowdy.maths.world;
+
+import org.clowdy.maths.vector.Vector3D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldPositionTest {
+    // Ten thousand kilometres in metres, far beyond the precise range of a float.
+    private static final double FAR = 1.0e7;
+
+    @Test
+    public void relativeToKeepsPrecisionFarFromTheOrigin() {
+        WorldPosition origin = new WorldPosition(FAR, -FAR, FAR);
+        WorldPosition position = new WorldPosition(FAR + 1.234, -FAR + 0.001, FAR - 5.5);
+        Vector3D local = position.relativeTo(origin, new Vector3D());
+        assertEquals(1.234f, local.x, 1e-6f);
+        assertEquals(0.001f, local.y, 1e-6f);
+        assertEquals(-5.5f, local.z, 1e-6f);
+        // Differencing after rounding to float loses the offset entirely.
+        assertEquals(0, (float) (-FAR + 0.001) - (float) -FAR);
+    }
+
+    @Test
+    public void addThenSubtractRoundTrips() {
+        WorldPosition origin = new WorldPosition(FAR, 2, -3);
+        WorldPosition position = new WorldPosition(origin).add(new Vector3D(0.25f, -1, 8));
+        assertEquals(new WorldPosition(FAR + 0.25, 1, 5), position);
+        assertEquals(new WorldPosition(0.25, -1, 8), position.subtract(origin));
+    }
+
+    @Test
+    public void distance() {
+        WorldPosition a = new WorldPosition(FAR, 0, 0);
+        WorldPosition b = new WorldPosition(FAR + 3, 4, 0);
+        assertEquals(25, a.distanceSquared(b));
+        assertEquals(5, a.distance(b));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        WorldPosition a = new WorldPosition(1.5, 2, 3);
+        WorldPosition b = new WorldPosition(1.5, 2, 3);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new WorldPosition(1.5, 2, 3.000001));
+        assertNotEquals(a, new Vector3D(1.5f, 2, 3));
+    }
+
+    @Test
+    public void toStringRemovesTrailingZeros() {
+        assertEquals("(1, 2.5, -3)", new WorldPosition(1, 2.5, -3).toString());
+    }
+
+    @Test
+    public void nullInputsThrow() {
+        WorldPosition position = new WorldPosition();
+        assertThrows(IllegalArgumentException.class, () -> position.set(null));
+        assertThrows(IllegalArgumentException.class, () -> position.add((Vector3D) null));
+        assertThrows(IllegalArgumentException.class, () -> position.distance(null));
+        assertThrows(IllegalArgumentException.class, () -> position.relativeTo(null, new Vector3D()));
+        assertThrows(IllegalArgumentException.class, () -> position.relativeTo(position, null));
+    }
+}
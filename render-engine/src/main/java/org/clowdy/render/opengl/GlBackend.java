@@ -0,0 +1,150 @@
+package org.clowdy.render.opengl;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The OpenGL calls made by the render engine, so they can be served by something other than a GPU. LWJGL is used
+ * in production, while tests and benchmarks on machines without a GPU use a RecordingBackend, which keeps buffer
+ * contents and bindings in memory and records each draw call.</p>
+ *
+ * <p>Each method mirrors the OpenGL function of the same name, taking the same arguments. The memory passed to
+ * bufferData is also allocated through the backend, so native memory is only needed when there is a native
+ * OpenGL to read it.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public interface GlBackend {
+    /**
+     * Returns a new buffer object name, as glGenBuffers.
+     *
+     * @return The name of the buffer.
+     */
+    int genBuffer();
+
+    /**
+     * Deletes the buffer object, as glDeleteBuffers.
+     *
+     * @param buffer The name of the buffer.
+     */
+    void deleteBuffer(int buffer);
+
+    /**
+     * Binds the buffer object to the target, as glBindBuffer.
+     *
+     * @param target The target, e.g. GL_ARRAY_BUFFER.
+     * @param buffer The name of the buffer, or 0 to unbind.
+     */
+    void bindBuffer(int target, int buffer);
+
+    /**
+     * Gives the buffer bound to the target new storage holding the remaining bytes of the data, as glBufferData.
+     *
+     * @param target The target the buffer is bound to.
+     * @param data   The data to copy into the buffer.
+     * @param usage  The usage hint, e.g. GL_STATIC_DRAW.
+     */
+    void bufferData(int target, ByteBuffer data, int usage);
+
+    /**
+     * Gives the buffer bound to the target new, undefined storage of the given size, as glBufferData with no data.
+     *
+     * @param target The target the buffer is bound to.
+     * @param size   The size of the storage in bytes.
+     * @param usage  The usage hint, e.g. GL_STREAM_DRAW.
+     */
+    void bufferData(int target, long size, int usage);
+
+    /**
+     * Maps a range of the buffer bound to the target into memory, as glMapBufferRange.
+     *
+     * @param target The target the buffer is bound to.
+     * @param offset The byte offset of the range.
+     * @param length The size of the range in bytes.
+     * @param access The access bits, e.g. GL_MAP_WRITE_BIT.
+     * @return The mapped range, or null if it could not be mapped.
+     */
+    ByteBuffer mapBufferRange(int target, long offset, long length, int access);
+
+    /**
+     * Unmaps the buffer bound to the target, as glUnmapBuffer.
+     *
+     * @param target The target the buffer is bound to.
+     * @return false if the contents were corrupted while mapped, true otherwise.
+     */
+    boolean unmapBuffer(int target);
+
+    /**
+     * Returns a new vertex array object name, as glGenVertexArrays.
+     *
+     * @return The name of the vertex array.
+     */
+    int genVertexArray();
+
+    /**
+     * Binds the vertex array object, as glBindVertexArray.
+     *
+     * @param array The name of the vertex array, or 0 to unbind.
+     */
+    void bindVertexArray(int array);
+
+    /**
+     * Deletes the vertex array object, as glDeleteVertexArrays.
+     *
+     * @param array The name of the vertex array.
+     */
+    void deleteVertexArray(int array);
+
+    /**
+     * Enables the vertex attribute of the bound vertex array, as glEnableVertexAttribArray.
+     *
+     * @param index The location of the attribute.
+     */
+    void enableVertexAttribArray(int index);
+
+    /**
+     * Points the vertex attribute of the bound vertex array at the buffer bound to GL_ARRAY_BUFFER, as
+     * glVertexAttribPointer.
+     *
+     * @param index      The location of the attribute.
+     * @param size       The number of components.
+     * @param type       The type of each component, e.g. GL_FLOAT.
+     * @param normalised Whether integer components are normalised.
+     * @param stride     The number of bytes from one vertex to the next.
+     * @param offset     The byte offset of the attribute in the buffer.
+     */
+    void vertexAttribPointer(int index, int size, int type, boolean normalised, int stride, long offset);
+
+    /**
+     * Draws primitives from the bound vertex array using its element buffer, as glDrawElements.
+     *
+     * @param mode   The kind of primitive, e.g. GL_TRIANGLES.
+     * @param count  The number of indices.
+     * @param type   The type of the indices, e.g. GL_UNSIGNED_SHORT.
+     * @param offset The byte offset of the first index in the element buffer.
+     */
+    void drawElements(int mode, int count, int type, long offset);
+
+    /**
+     * Allocates memory that can be passed to bufferData, in native byte order. It must be freed with free.
+     *
+     * @param bytes The size of the memory.
+     * @return The memory, positioned at 0 with the given limit.
+     */
+    ByteBuffer allocate(int bytes);
+
+    /**
+     * Frees memory allocated by allocate.
+     *
+     * @param buffer The memory to free.
+     */
+    void free(ByteBuffer buffer);
+
+    /**
+     * Returns the GlBackend backed by the LWJGL OpenGL binding, which requires a current OpenGL context.
+     *
+     * @return The LWJGL GlBackend.
+     */
+    static GlBackend lwjgl() {
+        return LwjglBackend.INSTANCE;
+    }
+}
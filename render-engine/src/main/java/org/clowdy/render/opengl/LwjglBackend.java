@@ -0,0 +1,97 @@
+package org.clowdy.render.opengl;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * A GlBackend backed by the LWJGL OpenGL binding, with memory allocated by MemoryUtil.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+final class LwjglBackend implements GlBackend {
+    static final LwjglBackend INSTANCE = new LwjglBackend();
+
+    private LwjglBackend() {
+    }
+
+    @Override
+    public int genBuffer() {
+        return glGenBuffers();
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        glDeleteBuffers(buffer);
+    }
+
+    @Override
+    public void bindBuffer(int target, int buffer) {
+        glBindBuffer(target, buffer);
+    }
+
+    @Override
+    public void bufferData(int target, ByteBuffer data, int usage) {
+        glBufferData(target, data, usage);
+    }
+
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        glBufferData(target, size, usage);
+    }
+
+    @Override
+    public ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        return glMapBufferRange(target, offset, length, access);
+    }
+
+    @Override
+    public boolean unmapBuffer(int target) {
+        return glUnmapBuffer(target);
+    }
+
+    @Override
+    public int genVertexArray() {
+        return glGenVertexArrays();
+    }
+
+    @Override
+    public void bindVertexArray(int array) {
+        glBindVertexArray(array);
+    }
+
+    @Override
+    public void deleteVertexArray(int array) {
+        glDeleteVertexArrays(array);
+    }
+
+    @Override
+    public void enableVertexAttribArray(int index) {
+        glEnableVertexAttribArray(index);
+    }
+
+    @Override
+    public void vertexAttribPointer(int index, int size, int type, boolean normalised, int stride, long offset) {
+        glVertexAttribPointer(index, size, type, normalised, stride, offset);
+    }
+
+    @Override
+    public void drawElements(int mode, int count, int type, long offset) {
+        glDrawElements(mode, count, type, offset);
+    }
+
+    @Override
+    public ByteBuffer allocate(int bytes) {
+        return MemoryUtil.memAlloc(bytes);
+    }
+
+    @Override
+    public void free(ByteBuffer buffer) {
+        MemoryUtil.memFree(buffer);
+    }
+}
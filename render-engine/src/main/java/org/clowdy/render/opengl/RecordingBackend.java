@@ -0,0 +1,477 @@
+package org.clowdy.render.opengl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+/**
+ * <p>A GlBackend that runs without a GPU, keeping the state OpenGL would in memory and recording each draw call.
+ * Buffer contents are held in heap memory, so uploads can be checked byte for byte, and a vertex array keeps its
+ * attribute pointers and element buffer as it does in OpenGL.</p>
+ *
+ * <p>Calls OpenGL would reject with an error, such as uploading with no buffer bound or drawing past the end of the
+ * element buffer, throw an IllegalStateException instead so tests fail at the call. Memory from allocate is counted
+ * until freed, so tests can also check that uploads release what they allocate.</p>
+ *
+ * <p>No rendering is done, so the cost measured through a RecordingBackend is the CPU side cost of preparing and
+ * submitting a frame.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class RecordingBackend implements GlBackend {
+    // The buffers and vertex arrays that have been generated and not deleted, by name.
+    private final Map<Integer, Buffer> buffers = new HashMap<>();
+    private final Map<Integer, VertexArray> vertexArrays = new HashMap<>();
+    // The buffer bound to each target other than GL_ELEMENT_ARRAY_BUFFER, which is state of the vertex array.
+    private final Map<Integer, Integer> bindings = new HashMap<>();
+    private final List<DrawCall> drawCalls = new ArrayList<>();
+    private int nextName = 1;
+    private int boundVertexArray;
+    private int callCount;
+    private int allocations;
+
+    @Override
+    public int genBuffer() {
+        callCount++;
+        int name = nextName++;
+        buffers.put(name, new Buffer());
+        return name;
+    }
+
+    @Override
+    public void deleteBuffer(int buffer) {
+        callCount++;
+        if (buffers.remove(buffer) != null) {
+            bindings.values().removeIf(bound -> bound == buffer);
+            for (VertexArray array : vertexArrays.values()) {
+                if (array.elementBuffer == buffer) {
+                    array.elementBuffer = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void bindBuffer(int target, int buffer) {
+        callCount++;
+        if (buffer != 0 && !buffers.containsKey(buffer)) {
+            throw new IllegalStateException("Buffer " + buffer + " does not exist.");
+        }
+        if (target == GL_ELEMENT_ARRAY_BUFFER) {
+            if (boundVertexArray == 0) {
+                throw new IllegalStateException("An element buffer can only be bound with a vertex array bound.");
+            }
+            vertexArrays.get(boundVertexArray).elementBuffer = buffer;
+        } else {
+            bindings.put(target, buffer);
+        }
+    }
+
+    @Override
+    public void bufferData(int target, ByteBuffer data, int usage) {
+        callCount++;
+        Buffer buffer = bound(target);
+        buffer.data = newStorage(data.remaining()).put(data.duplicate()).clear();
+        buffer.usage = usage;
+        buffer.mapped = false;
+    }
+
+    @Override
+    public void bufferData(int target, long size, int usage) {
+        callCount++;
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("A buffer of " + size + " bytes can not be recorded.");
+        }
+        Buffer buffer = bound(target);
+        buffer.data = newStorage((int) size);
+        buffer.usage = usage;
+        buffer.mapped = false;
+    }
+
+    @Override
+    public ByteBuffer mapBufferRange(int target, long offset, long length, int access) {
+        callCount++;
+        Buffer buffer = bound(target);
+        if (buffer.mapped) {
+            throw new IllegalStateException("The buffer bound to " + target + " is already mapped.");
+        }
+        if (offset < 0 || length <= 0 || offset + length > buffer.data.capacity()) {
+            throw new IllegalStateException("The range of " + length + " bytes at " + offset
+                    + " is outside a buffer of " + buffer.data.capacity() + ".");
+        }
+        buffer.mapped = true;
+        ByteBuffer range = buffer.data.duplicate();
+        range.position((int) offset).limit((int) (offset + length));
+        return range.slice().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public boolean unmapBuffer(int target) {
+        callCount++;
+        Buffer buffer = bound(target);
+        if (!buffer.mapped) {
+            throw new IllegalStateException("The buffer bound to " + target + " is not mapped.");
+        }
+        buffer.mapped = false;
+        return true;
+    }
+
+    @Override
+    public int genVertexArray() {
+        callCount++;
+        int name = nextName++;
+        vertexArrays.put(name, new VertexArray());
+        return name;
+    }
+
+    @Override
+    public void bindVertexArray(int array) {
+        callCount++;
+        if (array != 0 && !vertexArrays.containsKey(array)) {
+            throw new IllegalStateException("Vertex array " + array + " does not exist.");
+        }
+        boundVertexArray = array;
+    }
+
+    @Override
+    public void deleteVertexArray(int array) {
+        callCount++;
+        if (vertexArrays.remove(array) != null && boundVertexArray == array) {
+            boundVertexArray = 0;
+        }
+    }
+
+    @Override
+    public void enableVertexAttribArray(int index) {
+        callCount++;
+        boundVertexArray().enabled.add(index);
+    }
+
+    @Override
+    public void vertexAttribPointer(int index, int size, int type, boolean normalised, int stride, long offset) {
+        callCount++;
+        VertexArray array = boundVertexArray();
+        int buffer = bindings.getOrDefault(GL_ARRAY_BUFFER, 0);
+        if (buffer == 0) {
+            throw new IllegalStateException("An attribute can only be pointed at a bound GL_ARRAY_BUFFER.");
+        }
+        array.attributes.put(index, new AttributePointer(buffer, size, type, normalised, stride, offset));
+    }
+
+    @Override
+    public void drawElements(int mode, int count, int type, long offset) {
+        callCount++;
+        VertexArray array = boundVertexArray();
+        if (array.elementBuffer == 0) {
+            throw new IllegalStateException("The bound vertex array has no element buffer.");
+        }
+        int indexBytes = type == GL_UNSIGNED_BYTE ? 1 : type == GL_UNSIGNED_SHORT ? 2 : 4;
+        long end = offset + (long) count * indexBytes;
+        int capacity = buffers.get(array.elementBuffer).data.capacity();
+        if (count < 0 || offset < 0 || end > capacity) {
+            throw new IllegalStateException(count + " indices at " + offset
+                    + " are outside an element buffer of " + capacity + " bytes.");
+        }
+        drawCalls.add(new DrawCall(boundVertexArray, mode, count, type, offset));
+    }
+
+    @Override
+    public ByteBuffer allocate(int bytes) {
+        allocations++;
+        return newStorage(bytes);
+    }
+
+    @Override
+    public void free(ByteBuffer buffer) {
+        if (buffer != null) {
+            allocations--;
+        }
+    }
+
+    /**
+     * Returns a read only view of the contents of the given buffer.
+     *
+     * @param buffer The name of the buffer.
+     * @return The contents of the buffer, in native byte order.
+     * @throws IllegalArgumentException When the buffer does not exist.
+     */
+    public ByteBuffer getBufferData(int buffer) {
+        return buffer(buffer).data.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the usage hint of the given buffer's storage.
+     *
+     * @param buffer The name of the buffer.
+     * @return The usage hint, or 0 if it has no storage.
+     * @throws IllegalArgumentException When the buffer does not exist.
+     */
+    public int getBufferUsage(int buffer) {
+        return buffer(buffer).usage;
+    }
+
+    /**
+     * Returns true if the given buffer has been generated and not deleted.
+     *
+     * @param buffer The name of the buffer.
+     * @return true if the buffer exists, false if not.
+     */
+    public boolean isBuffer(int buffer) {
+        return buffers.containsKey(buffer);
+    }
+
+    /**
+     * Returns true if the given vertex array has been generated and not deleted.
+     *
+     * @param array The name of the vertex array.
+     * @return true if the vertex array exists, false if not.
+     */
+    public boolean isVertexArray(int array) {
+        return vertexArrays.containsKey(array);
+    }
+
+    /**
+     * Returns the buffer bound to the given target, taking GL_ELEMENT_ARRAY_BUFFER from the bound vertex array.
+     *
+     * @param target The target.
+     * @return The name of the bound buffer, or 0 if none is bound.
+     */
+    public int getBoundBuffer(int target) {
+        if (target == GL_ELEMENT_ARRAY_BUFFER) {
+            return boundVertexArray == 0 ? 0 : vertexArrays.get(boundVertexArray).elementBuffer;
+        }
+        return bindings.getOrDefault(target, 0);
+    }
+
+    /**
+     * Returns the bound vertex array.
+     *
+     * @return The name of the bound vertex array, or 0 if none is bound.
+     */
+    public int getBoundVertexArray() {
+        return boundVertexArray;
+    }
+
+    /**
+     * Returns the element buffer of the given vertex array.
+     *
+     * @param array The name of the vertex array.
+     * @return The name of the element buffer, or 0 if it has none.
+     * @throws IllegalArgumentException When the vertex array does not exist.
+     */
+    public int getElementBuffer(int array) {
+        return vertexArray(array).elementBuffer;
+    }
+
+    /**
+     * Returns the pointer of the given attribute of the given vertex array.
+     *
+     * @param array The name of the vertex array.
+     * @param index The location of the attribute.
+     * @return The attribute pointer, or null if it has not been set.
+     * @throws IllegalArgumentException When the vertex array does not exist.
+     */
+    public AttributePointer getAttributePointer(int array, int index) {
+        return vertexArray(array).attributes.get(index);
+    }
+
+    /**
+     * Returns true if the given attribute of the given vertex array is enabled.
+     *
+     * @param array The name of the vertex array.
+     * @param index The location of the attribute.
+     * @return true if the attribute is enabled, false if not.
+     * @throws IllegalArgumentException When the vertex array does not exist.
+     */
+    public boolean isAttributeEnabled(int array, int index) {
+        return vertexArray(array).enabled.contains(index);
+    }
+
+    /**
+     * Returns the draw calls recorded since the last call to clearRecording.
+     *
+     * @return An unmodifiable view of the draw calls, oldest first.
+     */
+    public List<DrawCall> getDrawCalls() {
+        return Collections.unmodifiableList(drawCalls);
+    }
+
+    /**
+     * Returns the number of OpenGL calls made since the last call to clearRecording, not counting allocate and
+     * free.
+     *
+     * @return The number of calls.
+     */
+    public int getCallCount() {
+        return callCount;
+    }
+
+    /**
+     * Returns the number of allocations that have not been freed.
+     *
+     * @return The number of outstanding allocations.
+     */
+    public int getOutstandingAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Clears the recorded draw calls and call count, e.g. at the end of each frame. Buffers, vertex arrays and
+     * bindings are kept.
+     */
+    public void clearRecording() {
+        drawCalls.clear();
+        callCount = 0;
+    }
+
+    /*
+     * Returns the buffer bound to the given target, throwing if none is.
+     */
+    private Buffer bound(int target) {
+        int name = getBoundBuffer(target);
+        if (name == 0) {
+            throw new IllegalStateException("No buffer is bound to " + target + ".");
+        }
+        return buffers.get(name);
+    }
+
+    private VertexArray boundVertexArray() {
+        if (boundVertexArray == 0) {
+            throw new IllegalStateException("No vertex array is bound.");
+        }
+        return vertexArrays.get(boundVertexArray);
+    }
+
+    private Buffer buffer(int name) {
+        Buffer buffer = buffers.get(name);
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer " + name + " does not exist.");
+        }
+        return buffer;
+    }
+
+    private VertexArray vertexArray(int name) {
+        VertexArray array = vertexArrays.get(name);
+        if (array == null) {
+            throw new IllegalArgumentException("Vertex array " + name + " does not exist.");
+        }
+        return array;
+    }
+
+    private static ByteBuffer newStorage(int bytes) {
+        return ByteBuffer.allocate(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /*
+     * The state of a buffer object.
+     */
+    private static final class Buffer {
+        private ByteBuffer data = newStorage(0);
+        private int usage;
+        private boolean mapped;
+    }
+
+    /*
+     * The state of a vertex array object.
+     */
+    private static final class VertexArray {
+        private final Map<Integer, AttributePointer> attributes = new HashMap<>();
+        private final Set<Integer> enabled = new HashSet<>();
+        private int elementBuffer;
+    }
+
+    /**
+     * A recorded glVertexAttribPointer, including the buffer bound to GL_ARRAY_BUFFER when it was made.
+     */
+    public static final class AttributePointer {
+        private final int buffer;
+        private final int size;
+        private final int type;
+        private final boolean normalised;
+        private final int stride;
+        private final long offset;
+
+        private AttributePointer(int buffer, int size, int type, boolean normalised, int stride, long offset) {
+            this.buffer = buffer;
+            this.size = size;
+            this.type = type;
+            this.normalised = normalised;
+            this.stride = stride;
+            this.offset = offset;
+        }
+
+        public int getBuffer() {
+            return buffer;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public boolean isNormalised() {
+            return normalised;
+        }
+
+        public int getStride() {
+            return stride;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+
+    /**
+     * A recorded glDrawElements, with the vertex array bound when it was made.
+     */
+    public static final class DrawCall {
+        private final int vertexArray;
+        private final int mode;
+        private final int count;
+        private final int type;
+        private final long offset;
+
+        private DrawCall(int vertexArray, int mode, int count, int type, long offset) {
+            this.vertexArray = vertexArray;
+            this.mode = mode;
+            this.count = count;
+            this.type = type;
+            this.offset = offset;
+        }
+
+        public int getVertexArray() {
+            return vertexArray;
+        }
+
+        public int getMode() {
+            return mode;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+}
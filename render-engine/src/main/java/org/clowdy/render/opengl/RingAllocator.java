@@ -0,0 +1,160 @@
+package org.clowdy.render.opengl;
+
+/**
+ * <p>Sub-allocates regions of a fixed size buffer as a ring, for streaming data that is rewritten every frame such
+ * as particle positions. Regions are allocated one after another from the head of the ring, wrapping to the start
+ * when a region does not fit before the end, and all regions of a frame are released together once the GPU can no
+ * longer be reading them.</p>
+ *
+ * <p>The GPU may be up to framesInFlight frames behind the CPU, so the regions of a frame are released after that
+ * many later frames have ended. Writing into a region is then never synchronised with the GPU, which removes the
+ * stall of updating a buffer the GPU is drawing from.</p>
+ *
+ * <p>The allocator only does the bookkeeping of offsets, it holds no memory and makes no OpenGL calls, so it is used
+ * by StreamingVbo and can be tested without an OpenGL context.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class RingAllocator {
+    // The number of bytes in the ring.
+    private final int capacity;
+    // The number of bytes used by each frame that has ended and not been released, oldest first, as a ring.
+    private final int[] frames;
+    // The index of the oldest frame in frames, and the number of frames held.
+    private int oldest;
+    private int held;
+    // The offset of the next allocation before alignment.
+    private int head;
+    // The number of bytes allocated and not released, including padding skipped by alignment and wrapping.
+    private int used;
+    // The number of bytes used by the current frame.
+    private int frameUsed;
+
+    /**
+     * Constructs a RingAllocator of the given capacity.
+     *
+     * @param capacity       The number of bytes in the ring.
+     * @param framesInFlight The number of ended frames whose regions may still be read by the GPU, usually 2 or 3.
+     * @throws IllegalArgumentException When the capacity or frames in flight is not positive.
+     */
+    public RingAllocator(int capacity, int framesInFlight) {
+        if (capacity <= 0 || framesInFlight <= 0) {
+            throw new IllegalArgumentException("The capacity and frames in flight must be positive.");
+        }
+        this.capacity = capacity;
+        this.frames = new int[framesInFlight];
+    }
+
+    /**
+     * Returns the byte offset of a new region of the given size in the current frame, aligned to the given
+     * alignment, or -1 if the ring does not have the free space without overwriting a frame still in flight.
+     *
+     * @param bytes     The size of the region.
+     * @param alignment The alignment of the offset, a power of 2, e.g. 4 for floats.
+     * @return The offset of the region, or -1 if it does not fit.
+     * @throws IllegalArgumentException When the size is negative or greater than the capacity, or the alignment
+     *                                  is not a power of 2.
+     */
+    public int allocate(int bytes, int alignment) {
+        checkRegion(bytes, alignment);
+        long start = place(bytes, alignment);
+        if (start < 0) {
+            return -1;
+        }
+        long padding = start >= head ? start - head : capacity - head;
+        head = (int) start + bytes;
+        used += (int) padding + bytes;
+        frameUsed += (int) padding + bytes;
+        return (int) start;
+    }
+
+    /**
+     * Returns true if a region of the given size and alignment could be allocated now, without allocating it.
+     *
+     * @param bytes     The size of the region.
+     * @param alignment The alignment of the offset, a power of 2.
+     * @return true if allocate would return an offset, false if it would return -1.
+     * @throws IllegalArgumentException When the size is negative or greater than the capacity, or the alignment
+     *                                  is not a power of 2.
+     */
+    public boolean fits(int bytes, int alignment) {
+        checkRegion(bytes, alignment);
+        return place(bytes, alignment) >= 0;
+    }
+
+    /**
+     * Ends the current frame, releasing the regions of the oldest frame once more than framesInFlight frames have
+     * ended since it.
+     */
+    public void endFrame() {
+        if (held == frames.length) {
+            used -= frames[oldest];
+            oldest = (oldest + 1) % frames.length;
+            held--;
+        }
+        frames[(oldest + held) % frames.length] = frameUsed;
+        held++;
+        frameUsed = 0;
+    }
+
+    /**
+     * Releases every region, e.g. after the buffer has been orphaned so the GPU reads the old storage.
+     */
+    public void reset() {
+        oldest = 0;
+        held = 0;
+        head = 0;
+        used = 0;
+        frameUsed = 0;
+    }
+
+    /*
+     * Returns the offset a region of the given size would be placed at, or -1 if it does not fit.
+     */
+    private long place(int bytes, int alignment) {
+        long start = ((long) head + alignment - 1) & -alignment;
+        if (start + bytes > capacity) {
+            // Skip the end of the ring, which is released along with this frame.
+            start = 0;
+        }
+        long padding = start >= head ? start - head : capacity - head;
+        return used + padding + bytes > capacity ? -1 : start;
+    }
+
+    private void checkRegion(int bytes, int alignment) {
+        if (bytes < 0 || bytes > capacity) {
+            throw new IllegalArgumentException("A region of " + bytes + " bytes can not be allocated from a ring of "
+                    + capacity + ".");
+        }
+        if (alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+            throw new IllegalArgumentException("The alignment must be a power of 2.");
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the ring.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of bytes allocated in the current frame, including any padding.
+     *
+     * @return The number of bytes used by the current frame.
+     */
+    public int getFrameUsed() {
+        return frameUsed;
+    }
+
+    /**
+     * Returns the number of bytes allocated and not yet released, including any padding.
+     *
+     * @return The number of bytes used.
+     */
+    public int getUsed() {
+        return used;
+    }
+}
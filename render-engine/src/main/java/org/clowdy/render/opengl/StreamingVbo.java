@@ -0,0 +1,236 @@
+package org.clowdy.render.opengl;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL15.GL_STREAM_DRAW;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * <p>A Vbo for data that is rewritten every frame, such as particle positions. The buffer storage is allocated
+ * once, and each upload writes into a new region of it sub-allocated by a RingAllocator, so the GPU can keep
+ * drawing from the regions of earlier frames while the next is written, without a stall or any reallocation.</p>
+ *
+ * <p>Regions are written through an unsynchronised mapping of just that range, which the RingAllocator makes safe
+ * by never handing out a region of a frame still in flight. When an upload does not fit in the free space of the
+ * ring the buffer is orphaned, the driver gives it new storage while the GPU finishes with the old, and the ring
+ * starts again. Each orphan is counted so the capacity can be tuned to avoid them.</p>
+ *
+ * <p>Draw calls already issued keep reading the old storage after an orphan, but a region uploaded earlier in the
+ * frame and not yet drawn is lost with it. A frame that uploads everything before drawing should declare its size
+ * with beginFrame, which orphans before the first upload when the frame would not fit, so no upload of the frame
+ * orphans. A frame that draws each region straight after uploading it does not need to.</p>
+ *
+ * <p>No native memory is allocated per upload, the data is copied straight into the mapped region. Draw calls
+ * read the data from the offset returned by each upload, and endFrame must be called once per frame after the
+ * draw calls are submitted.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class StreamingVbo {
+    // The alignment of each region, enough for any vertex attribute.
+    private static final int ALIGNMENT = 4;
+    // Maps a region for writing without waiting on the GPU, discarding its previous contents.
+    private static final int MAP_ACCESS = GL_MAP_WRITE_BIT | GL_MAP_INVALIDATE_RANGE_BIT | GL_MAP_UNSYNCHRONIZED_BIT;
+
+    private final GlBackend gl;
+    private final int id;
+    private final int type;
+    private final RingAllocator ring;
+    // The offset of the region currently mapped, or -1 if none is.
+    private int mappedOffset = -1;
+    private int orphans;
+
+    private StreamingVbo(GlBackend gl, int type, int capacity, int framesInFlight) {
+        ring = new RingAllocator(capacity, framesInFlight);
+        this.gl = gl;
+        this.type = type;
+        id = gl.genBuffer();
+        bind();
+        gl.bufferData(type, capacity, GL_STREAM_DRAW);
+    }
+
+    /**
+     * Creates a StreamingVbo of the given type and capacity through the LWJGL OpenGL binding.
+     *
+     * @param type           The type of Vbo, e.g. GL_ARRAY_BUFFER.
+     * @param capacity       The size of the buffer in bytes, enough for framesInFlight + 1 frames of uploads.
+     * @param framesInFlight The number of ended frames the GPU may still be drawing from, usually 2.
+     * @return The generated StreamingVbo.
+     * @throws IllegalArgumentException When the capacity or frames in flight is not positive.
+     */
+    public static StreamingVbo create(int type, int capacity, int framesInFlight) {
+        return create(GlBackend.lwjgl(), type, capacity, framesInFlight);
+    }
+
+    /**
+     * Creates a StreamingVbo of the given type and capacity through the given backend.
+     *
+     * @param gl             The backend to make OpenGL calls through.
+     * @param type           The type of Vbo, e.g. GL_ARRAY_BUFFER.
+     * @param capacity       The size of the buffer in bytes, enough for framesInFlight + 1 frames of uploads.
+     * @param framesInFlight The number of ended frames the GPU may still be drawing from, usually 2.
+     * @return The generated StreamingVbo.
+     * @throws IllegalArgumentException When the backend is null, or the capacity or frames in flight is not
+     *                                  positive.
+     */
+    public static StreamingVbo create(GlBackend gl, int type, int capacity, int framesInFlight) {
+        if (gl == null) {
+            throw new IllegalArgumentException("The GlBackend can not be null.");
+        }
+        return new StreamingVbo(gl, type, capacity, framesInFlight);
+    }
+
+    /**
+     * Binds this StreamingVbo for use.
+     */
+    public void bind() {
+        gl.bindBuffer(type, id);
+    }
+
+    /**
+     * Declares the number of bytes the uploads of this frame will use, each rounded up to a multiple of 4, before
+     * the first of them. The buffer is orphaned now if they would not all fit, so that none of the uploads of the
+     * frame orphan it and discard the regions uploaded before them.
+     *
+     * @param bytes The total size of the uploads of this frame.
+     * @throws IllegalArgumentException When the size is negative or larger than the buffer.
+     * @throws IllegalStateException    When a region has already been uploaded or mapped in this frame.
+     */
+    public void beginFrame(int bytes) {
+        if (mappedOffset >= 0 || ring.getFrameUsed() != 0) {
+            throw new IllegalStateException("beginFrame must be called before the first upload of a frame.");
+        }
+        if (!ring.fits(bytes, ALIGNMENT)) {
+            bind();
+            orphan();
+        }
+    }
+
+    /**
+     * Uploads the given floats into a new region of this frame, returning the byte offset of the region.
+     *
+     * @param data The floats to upload.
+     * @return The byte offset of the data in the buffer.
+     * @throws IllegalArgumentException When the data is null, empty or larger than the buffer.
+     * @throws IllegalStateException    When a region is already mapped.
+     */
+    public int upload(float[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The data can not be null.");
+        }
+        ByteBuffer region = map(data.length * Float.BYTES);
+        region.asFloatBuffer().put(data);
+        return unmap();
+    }
+
+    /**
+     * Uploads the remaining bytes of the given buffer into a new region of this frame, returning the byte offset of
+     * the region. The position of the buffer is unchanged.
+     *
+     * @param data The bytes to upload.
+     * @return The byte offset of the data in the buffer.
+     * @throws IllegalArgumentException When the data is null, empty or larger than the buffer.
+     * @throws IllegalStateException    When a region is already mapped.
+     */
+    public int upload(ByteBuffer data) {
+        if (data == null) {
+            throw new IllegalArgumentException("The data can not be null.");
+        }
+        ByteBuffer region = map(data.remaining());
+        region.put(data.duplicate());
+        return unmap();
+    }
+
+    /**
+     * Maps a new region of this frame of the given size for writing, in native byte order, so data can be written
+     * into the buffer directly. The region must be unmapped before drawing.
+     *
+     * @param bytes The size of the region.
+     * @return The mapped region.
+     * @throws IllegalArgumentException When the size is not positive or larger than the buffer.
+     * @throws IllegalStateException    When a region is already mapped.
+     */
+    public ByteBuffer map(int bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("The size of a mapped region must be positive.");
+        }
+        if (mappedOffset >= 0) {
+            throw new IllegalStateException("A region of the StreamingVbo is already mapped.");
+        }
+        bind();
+        int offset = ring.allocate(bytes, ALIGNMENT);
+        if (offset < 0) {
+            orphan();
+            offset = ring.allocate(bytes, ALIGNMENT);
+        }
+        ByteBuffer region = gl.mapBufferRange(type, offset, bytes, MAP_ACCESS);
+        if (region == null) {
+            throw new IllegalStateException("The StreamingVbo could not be mapped.");
+        }
+        mappedOffset = offset;
+        return region;
+    }
+
+    /**
+     * Unmaps the region mapped by map, returning its byte offset in the buffer.
+     *
+     * @return The byte offset of the region.
+     * @throws IllegalStateException When no region is mapped.
+     */
+    public int unmap() {
+        if (mappedOffset < 0) {
+            throw new IllegalStateException("No region of the StreamingVbo is mapped.");
+        }
+        bind();
+        gl.unmapBuffer(type);
+        int offset = mappedOffset;
+        mappedOffset = -1;
+        return offset;
+    }
+
+    /**
+     * Ends the current frame, after its draw calls have been submitted, so the regions of older frames can be
+     * reused.
+     */
+    public void endFrame() {
+        ring.endFrame();
+    }
+
+    /**
+     * Returns the number of times the buffer has been orphaned because an upload or a declared frame did not fit in
+     * the free space of the ring.
+     *
+     * @return The number of orphans.
+     */
+    public int getOrphanCount() {
+        return orphans;
+    }
+
+    /**
+     * Returns the id of this StreamingVbo.
+     *
+     * @return The id of this StreamingVbo.
+     */
+    public int getID() {
+        return id;
+    }
+
+    /**
+     * Deletes this StreamingVbo, unmapping any mapped region first.
+     */
+    public void delete() {
+        if (mappedOffset >= 0) {
+            unmap();
+        }
+        gl.deleteBuffer(id);
+    }
+
+    /*
+     * Gives the buffer new storage, leaving the old storage to the GPU until it has finished drawing from it.
+     */
+    private void orphan() {
+        gl.bufferData(type, ring.getCapacity(), GL_STREAM_DRAW);
+        ring.reset();
+        orphans++;
+    }
+}
@@ -1,8 +1,10 @@
 package org.clowdy.render.opengl;
 
-import static org.lwjgl.opengl.GL11.GL_FLOAT;
-import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
-import static org.lwjgl.opengl.GL30.*;
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
 
 /**
  * A Vertex Array Object is an OpenGL Object that stores all of the state needed
@@ -10,34 +12,93 @@ import static org.lwjgl.opengl.GL30.*;
  * Vbos.
  * <p>
  * This class provides methods to bind and delete VAOs as well as store vertex
- * data in them. The user is also able to retrieve the id of the VAO as well as
- * the VBOs stored in it.
+ * data in them. The vertex data is interleaved into a single Vbo laid out by a
+ * VertexFormat, and the indices are stored as shorts whenever there are few
+ * enough vertices. The user is also able to retrieve the id of the VAO as well
+ * as the VBOs stored in it.
+ * <p>
+ * Every OpenGL call is made through a GlBackend, so a Vao can be used without
+ * a GPU through a RecordingBackend.
  *
  * @author Dominic Cogan-Tucker
  */
 public final class Vao {
+    /**
+     * The backend the OpenGL calls of the Vao are made through.
+     */
+    private final GlBackend gl;
+
     /**
      * The id of the Vao as an int.
      */
     private int id;
 
     /**
-     * The position, textureCoord and index buffer objects of the Vao.
+     * The interleaved vertex and index buffer objects of the Vao.
      */
-    private Vbo pbo, tbo, ibo;
+    private Vbo vbo, ibo;
+
+    /**
+     * The layout of the vertex buffer object.
+     */
+    private VertexFormat format;
+
+    /**
+     * The number of indices and their OpenGL type.
+     */
+    private int indexCount, indexType;
 
     /**
      * Constructs a Vao, generating an id for it.
+     *
+     * @param gl The backend to make OpenGL calls through.
      */
-    private Vao() {
-        id = glGenVertexArrays();
+    private Vao(GlBackend gl) {
+        this.gl = gl;
+        id = gl.genVertexArray();
+    }
+
+    /**
+     * Creates a new Vao through the LWJGL OpenGL binding.
+     *
+     * @return The generated Vao.
+     */
+    public static Vao create() {
+        return create(GlBackend.lwjgl());
+    }
+
+    /**
+     * Creates a new Vao through the given backend.
+     *
+     * @param gl The backend to make OpenGL calls through.
+     * @return The generated Vao.
+     * @throws IllegalArgumentException When the backend is null.
+     */
+    public static Vao create(GlBackend gl) {
+        if (gl == null) {
+            throw new IllegalArgumentException("The GlBackend can not be null.");
+        }
+        return new Vao(gl);
     }
 
     /**
      * Bind this Vao for use.
      */
     public void bind() {
-        glBindVertexArray(id);
+        gl.bindVertexArray(id);
+    }
+
+    /**
+     * Binds this Vao and draws its triangles.
+     *
+     * @throws IllegalStateException When no data has been stored in this Vao.
+     */
+    public void draw() {
+        if (format == null) {
+            throw new IllegalStateException("No data has been stored in this Vao.");
+        }
+        bind();
+        gl.drawElements(GL_TRIANGLES, indexCount, indexType, 0);
     }
 
     /**
@@ -47,33 +108,74 @@ public final class Vao {
      * @param indices   The indices data.
      */
     public void storeData(float[] positions, int[] indices) {
-        bind();
-        pbo = Vbo.create(GL_ARRAY_BUFFER, positions);
-        glVertexAttribPointer(0, 3, GL_FLOAT, false, 0, 0);
-        ibo = Vbo.create(GL_ELEMENT_ARRAY_BUFFER, indices);
+        storeData(VertexFormat.POSITION, indices, positions);
     }
 
     /**
-     * Stores the given position, texture and indices data to this Vao
+     * Stores the given position, texture and indices data to this Vao,
+     * interleaved into one Vbo.
      *
      * @param positions     The vertex position data.
      * @param textureCoords The vertex texture coords.
      * @param indices       The indices data
      */
     public void storeData(float[] positions, float[] textureCoords, int[] indices) {
-        storeData(positions, indices);
-        tbo = Vbo.create(GL_ARRAY_BUFFER, textureCoords);
-        glVertexAttribPointer(1, 2, GL_FLOAT, false, 0, 0);
+        storeData(VertexFormat.POSITION_TEXTURE, indices, positions, textureCoords);
+    }
+
+    /**
+     * Stores the given attributes interleaved by the given format, and the
+     * given indices, to this Vao. The indices are stored as shorts when every
+     * vertex can be addressed by one. The data is packed into buffers that are
+     * freed once uploaded.
+     *
+     * @param format     The layout of the vertex data.
+     * @param indices    The indices data.
+     * @param attributes The data of each attribute, in the order of the format.
+     * @throws IllegalArgumentException When any input is null, the attributes
+     *                                  don't match the format, or an index is
+     *                                  outside of the vertices.
+     */
+    public void storeData(VertexFormat format, int[] indices, float[]... attributes) {
+        int vertexCount = VertexPacker.vertexCount(format, attributes);
+        if (indices == null) {
+            throw new IllegalArgumentException("The indices can not be null.");
+        }
+        ByteBuffer vertices = gl.allocate(vertexCount * format.getStride());
+        ByteBuffer packedIndices = gl.allocate(indices.length * VertexPacker.indexBytes(vertexCount));
+        try {
+            VertexPacker.pack(format, vertices, 0, attributes);
+            VertexPacker.packIndices(indices, vertexCount, packedIndices, 0);
+            bind();
+            vbo = Vbo.create(gl, GL_ARRAY_BUFFER, vertices);
+            for (int i = 0; i < format.attributeCount(); i++) {
+                VertexFormat.Attribute attribute = format.getAttribute(i);
+                gl.vertexAttribPointer(attribute.getLocation(), attribute.getGlSize(),
+                        attribute.getType().getGlType(), attribute.getType().isNormalised(),
+                        format.getStride(), attribute.getOffset());
+                gl.enableVertexAttribArray(attribute.getLocation());
+            }
+            ibo = Vbo.create(gl, GL_ELEMENT_ARRAY_BUFFER, packedIndices);
+        } finally {
+            gl.free(vertices);
+            gl.free(packedIndices);
+        }
+        this.format = format;
+        indexCount = indices.length;
+        indexType = VertexPacker.indexType(vertexCount);
     }
 
     /**
      * Deletes this VAO and all the VBOs contained in it.
      */
     public void delete() {
-        Vbo.delete(pbo);
-        Vbo.delete(ibo);
-        Vbo.delete(tbo);
-        glDeleteVertexArrays(id);
+        if (vbo != null) {
+            Vbo.delete(vbo);
+        }
+        if (ibo != null) {
+            Vbo.delete(ibo);
+        }
+        gl.deleteVertexArray(id);
     }
 
     /**
@@ -86,12 +188,12 @@ public final class Vao {
     }
 
     /**
-     * Returns the Position Buffer Object associated with this Vao.
+     * Returns the interleaved Vertex Buffer Object associated with this Vao.
      *
-     * @return The Position Buffer Object associated with this Vao.
+     * @return The Vertex Buffer Object associated with this Vao.
      */
-    public Vbo getPbo() {
-        return pbo;
+    public Vbo getVbo() {
+        return vbo;
     }
 
     /**
@@ -102,4 +204,34 @@ public final class Vao {
     public Vbo getIbo() {
         return ibo;
     }
+
+    /**
+     * Returns the layout of the vertex data of this Vao, or null if no data
+     * has been stored.
+     *
+     * @return The VertexFormat of this Vao.
+     */
+    public VertexFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the number of indices stored in this Vao, the count passed to
+     * glDrawElements.
+     *
+     * @return The number of indices.
+     */
+    public int getIndexCount() {
+        return indexCount;
+    }
+
+    /**
+     * Returns the OpenGL type of the indices stored in this Vao, either
+     * GL_UNSIGNED_SHORT or GL_UNSIGNED_INT, the type passed to glDrawElements.
+     *
+     * @return The OpenGL type of the indices.
+     */
+    public int getIndexType() {
+        return indexType;
+    }
 }
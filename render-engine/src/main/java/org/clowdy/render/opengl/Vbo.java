@@ -1,22 +1,24 @@
 package org.clowdy.render.opengl;
 
-import org.lwjgl.system.MemoryUtil;
+import java.nio.ByteBuffer;
 
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-
-import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
 
 /**
  * A Vertex Buffer Object is a data structure in the form of an array used by
  * OpenGl. The data is stored in a buffer in the graphics memory.
  * <p>
- * This class provides static methods to create and delete VBOs through the
- * LWJGL OpenGL binding.
+ * This class provides static methods to create and delete VBOs through a
+ * GlBackend.
  *
  * @author Dominic Cogan-Tucker
  */
 final class Vbo {
+    /**
+     * The backend the OpenGL calls of the Vbo are made through.
+     */
+    private final GlBackend gl;
+
     /**
      * The id of the Vbo as an int.
      */
@@ -31,22 +33,25 @@ final class Vbo {
      * Constructs a Vbo, generating an id and setting the type. Private to ensure
      * the constructor is only called within the create method of this class.
      *
+     * @param gl   The backend to make OpenGL calls through.
      * @param type The type of Vbo as an int.
      */
-    private Vbo(int type) {
-        id = glGenBuffers();
+    private Vbo(GlBackend gl, int type) {
+        this.gl = gl;
+        id = gl.genBuffer();
         this.type = type;
     }
 
     /**
      * Creates a new Vbo of a given type containing the given data.
      *
+     * @param gl   The backend to make OpenGL calls through.
      * @param type The type of Vbo.
      * @param data The data to be stored in the vbo.
      * @return The generated Vbo.
      */
-    protected static Vbo create(int type, float[] data) {
-        Vbo vbo = new Vbo(type);
+    protected static Vbo create(GlBackend gl, int type, float[] data) {
+        Vbo vbo = new Vbo(gl, type);
         vbo.bind();
         vbo.storeData(data);
         return vbo;
@@ -55,12 +60,28 @@ final class Vbo {
     /**
      * Creates a new Vbo of a given type containing the given data.
      *
+     * @param gl   The backend to make OpenGL calls through.
      * @param type The type of Vbo.
      * @param data The data to be stored in the vbo.
      * @return The generated Vbo.
      */
-    protected static Vbo create(int type, int[] data) {
-        Vbo vbo = new Vbo(type);
+    protected static Vbo create(GlBackend gl, int type, int[] data) {
+        Vbo vbo = new Vbo(gl, type);
+        vbo.bind();
+        vbo.storeData(data);
+        return vbo;
+    }
+
+    /**
+     * Creates a new Vbo of a given type containing the remaining bytes of the given buffer.
+     *
+     * @param gl   The backend to make OpenGL calls through.
+     * @param type The type of Vbo.
+     * @param data The data to be stored in the vbo.
+     * @return The generated Vbo.
+     */
+    protected static Vbo create(GlBackend gl, int type, ByteBuffer data) {
+        Vbo vbo = new Vbo(gl, type);
         vbo.bind();
         vbo.storeData(data);
         return vbo;
@@ -72,53 +93,63 @@ final class Vbo {
      * @param vbo The Vbo to delete.
      */
     protected static void delete(Vbo vbo) {
-        glDeleteBuffers(vbo.id);
+        vbo.gl.deleteBuffer(vbo.id);
     }
 
     /**
-     * Binds this Vbo for use.
+     * Returns the id of this Vbo.
+     *
+     * @return The id of this Vbo.
      */
-    private void bind() {
-        glBindBuffer(type, id);
+    public int getID() {
+        return id;
     }
 
     /**
-     * Stores the given float array to the Vbo.
-     *
-     * @param data The float array to store.
+     * Binds this Vbo for use.
      */
-    private void storeData(float[] data) {
-        FloatBuffer buffer = MemoryUtil.memAllocFloat(data.length);
-        buffer.put(data).flip();
-        storeData(buffer);
+    private void bind() {
+        gl.bindBuffer(type, id);
     }
 
     /**
-     * Stores the given float buffer to the Vbo
+     * Stores the given float array to the Vbo, through a buffer that is freed
+     * once bufferData has copied it.
      *
-     * @param buffer The float buffer to store.
+     * @param data The float array to store.
      */
-    private void storeData(FloatBuffer buffer) {
-        glBufferData(type, buffer, GL_STATIC_DRAW);
+    private void storeData(float[] data) {
+        ByteBuffer buffer = gl.allocate(data.length * Float.BYTES);
+        try {
+            buffer.asFloatBuffer().put(data);
+            storeData(buffer);
+        } finally {
+            gl.free(buffer);
+        }
     }
 
     /**
-     * Stores the given int array to the Vbo.
+     * Stores the given int array to the Vbo, through a buffer that is freed
+     * once bufferData has copied it.
      *
      * @param data The int array to store
      */
     private void storeData(int[] data) {
-        IntBuffer buffer = MemoryUtil.memAllocInt(data.length);
-        buffer.put(data).flip();
-        storeData(buffer);
+        ByteBuffer buffer = gl.allocate(data.length * Integer.BYTES);
+        try {
+            buffer.asIntBuffer().put(data);
+            storeData(buffer);
+        } finally {
+            gl.free(buffer);
+        }
     }
 
     /**
-     * Stores the given int buffer to the Vbo.
+     * Stores the remaining bytes of the given buffer to the Vbo.
      *
-     * @param buffer The int buffer to store.
+     * @param buffer The buffer to store.
      */
-    private void storeData(IntBuffer buffer) {
-        glBufferData(type, buffer, GL_STATIC_DRAW);
+    private void storeData(ByteBuffer buffer) {
+        gl.bufferData(type, buffer, GL_STATIC_DRAW);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,313 @@
+package org.clowdy.render.opengl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+import static org.lwjgl.opengl.GL33.GL_INT_2_10_10_10_REV;
+
+/**
+ * <p>Describes the layout of interleaved vertex data: the attributes of each vertex, their types, and where each
+ * one starts within the vertex. Every attribute of a vertex is stored back to back, so a single Vbo holds the whole
+ * mesh and a vertex is fetched by the GPU from one place.</p>
+ *
+ * <p>Attributes can be stored compressed, e.g. texture coordinates as half floats and normals as signed normalised
+ * 10-10-10-2 ints, which together with positions as floats takes a vertex from 32 to 20 bytes. Each attribute is
+ * aligned to 4 bytes, as GPUs fetch attributes faster when aligned.</p>
+ *
+ * <p>A VertexFormat is immutable and only describes the layout, the data is packed by VertexPacker, so both can be
+ * used without an OpenGL context.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class VertexFormat {
+    /**
+     * The format of a position as floats.
+     */
+    public static final VertexFormat POSITION = builder()
+            .add(0, 3, Type.FLOAT)
+            .build();
+
+    /**
+     * The format of a position and texture coordinates as floats.
+     */
+    public static final VertexFormat POSITION_TEXTURE = builder()
+            .add(0, 3, Type.FLOAT)
+            .add(1, 2, Type.FLOAT)
+            .build();
+
+    /**
+     * The format of a position as floats, texture coordinates as half floats and a packed normal.
+     */
+    public static final VertexFormat POSITION_TEXTURE_NORMAL_COMPRESSED = builder()
+            .add(0, 3, Type.FLOAT)
+            .add(1, 2, Type.HALF_FLOAT)
+            .add(2, 3, Type.PACKED_NORMAL)
+            .build();
+
+    // The alignment of each attribute within a vertex, in bytes.
+    private static final int ALIGNMENT = 4;
+
+    private final Attribute[] attributes;
+    private final int stride;
+
+    private VertexFormat(Attribute[] attributes, int stride) {
+        this.attributes = attributes;
+        this.stride = stride;
+    }
+
+    /**
+     * Returns a new Builder of a VertexFormat.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of bytes of each vertex, the distance from one vertex to the next.
+     *
+     * @return The stride in bytes.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the number of attributes of each vertex.
+     *
+     * @return The number of attributes.
+     */
+    public int attributeCount() {
+        return attributes.length;
+    }
+
+    /**
+     * Returns the attribute at the given index, in the order they were added.
+     *
+     * @param index The index of the attribute.
+     * @return The attribute.
+     * @throws IndexOutOfBoundsException When the index is out of range.
+     */
+    public Attribute getAttribute(int index) {
+        return attributes[index];
+    }
+
+    /**
+     * Returns true if the given format is equal to this format, false if not.
+     *
+     * @param other The format to check against.
+     * @return true if the given format is equal to this format, false if not.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof VertexFormat && Arrays.equals(attributes, ((VertexFormat) other).attributes);
+    }
+
+    /**
+     * Returns a hash code for this format.
+     *
+     * @return A hash code for this format.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(attributes);
+    }
+
+    /**
+     * The type an attribute is stored as in a vertex.
+     */
+    public enum Type {
+        /**
+         * Each component as a 32-bit float.
+         */
+        FLOAT(GL_FLOAT, Float.BYTES, false),
+
+        /**
+         * Each component as a 16-bit half float, with 11 bits of precision, e.g. for texture coordinates.
+         */
+        HALF_FLOAT(GL_HALF_FLOAT, Short.BYTES, false),
+
+        /**
+         * Three components in [-1, 1] as signed normalised 10-bit ints, with an optional fourth of -1, 0 or 1 in
+         * the last 2 bits, all packed into one 32-bit int, e.g. for normals and tangents.
+         */
+        PACKED_NORMAL(GL_INT_2_10_10_10_REV, 0, true);
+
+        private final int glType;
+        private final int componentBytes;
+        private final boolean normalised;
+
+        Type(int glType, int componentBytes, boolean normalised) {
+            this.glType = glType;
+            this.componentBytes = componentBytes;
+            this.normalised = normalised;
+        }
+
+        /**
+         * Returns the OpenGL type passed to glVertexAttribPointer.
+         *
+         * @return The OpenGL type.
+         */
+        public int getGlType() {
+            return glType;
+        }
+
+        /**
+         * Returns true if the stored ints are normalised into [-1, 1] when read by the GPU.
+         *
+         * @return true if the type is normalised, false if not.
+         */
+        public boolean isNormalised() {
+            return normalised;
+        }
+
+        /*
+         * Returns the number of bytes an attribute of the given number of components takes.
+         */
+        int bytes(int components) {
+            return this == PACKED_NORMAL ? Integer.BYTES : components * componentBytes;
+        }
+    }
+
+    /**
+     * An attribute of a vertex, its shader location, number of components, type and byte offset within the vertex.
+     */
+    public static final class Attribute {
+        private final int location;
+        private final int components;
+        private final Type type;
+        private final int offset;
+
+        private Attribute(int location, int components, Type type, int offset) {
+            this.location = location;
+            this.components = components;
+            this.type = type;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the location of the attribute in the shader.
+         *
+         * @return The location.
+         */
+        public int getLocation() {
+            return location;
+        }
+
+        /**
+         * Returns the number of components of the attribute, the number of floats of each vertex it is packed from.
+         *
+         * @return The number of components.
+         */
+        public int getComponents() {
+            return components;
+        }
+
+        /**
+         * Returns the type the attribute is stored as.
+         *
+         * @return The type.
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Returns the byte offset of the attribute from the start of the vertex.
+         *
+         * @return The offset in bytes.
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * Returns the size passed to glVertexAttribPointer, which is always 4 for a packed type.
+         *
+         * @return The OpenGL size.
+         */
+        public int getGlSize() {
+            return type == Type.PACKED_NORMAL ? 4 : components;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Attribute)) {
+                return false;
+            }
+            Attribute attribute = (Attribute) other;
+            return location == attribute.location && components == attribute.components
+                    && type == attribute.type && offset == attribute.offset;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((location * 31 + components) * 31 + type.hashCode()) * 31 + offset;
+        }
+    }
+
+    /**
+     * Builds a VertexFormat from attributes added in the order they are laid out in each vertex.
+     */
+    public static final class Builder {
+        private final List<Attribute> attributes = new ArrayList<>();
+        private int stride;
+
+        private Builder() {
+        }
+
+        /**
+         * Returns this Builder after adding an attribute after those already added.
+         *
+         * @param location   The location of the attribute in the shader.
+         * @param components The number of components, from 1 to 4, or 3 or 4 for PACKED_NORMAL.
+         * @param type       The type to store the attribute as.
+         * @return This Builder.
+         * @throws IllegalArgumentException When the location is negative or already used, the type is null, or the
+         *                                  number of components is invalid for the type.
+         */
+        public Builder add(int location, int components, Type type) {
+            if (type == null) {
+                throw new IllegalArgumentException("The type can not be null.");
+            }
+            if (location < 0) {
+                throw new IllegalArgumentException("The location can not be negative.");
+            }
+            for (Attribute attribute : attributes) {
+                if (attribute.location == location) {
+                    throw new IllegalArgumentException("Location " + location + " is already used.");
+                }
+            }
+            if (components < 1 || components > 4 || (type == Type.PACKED_NORMAL && components < 3)) {
+                throw new IllegalArgumentException(components + " components is invalid for " + type + ".");
+            }
+            attributes.add(new Attribute(location, components, type, stride));
+            stride += align(type.bytes(components));
+            return this;
+        }
+
+        /**
+         * Returns the VertexFormat of the attributes added.
+         *
+         * @return A new VertexFormat.
+         * @throws IllegalStateException When no attributes have been added.
+         */
+        public VertexFormat build() {
+            if (attributes.isEmpty()) {
+                throw new IllegalStateException("A VertexFormat must have at least one attribute.");
+            }
+            return new VertexFormat(attributes.toArray(new Attribute[0]), stride);
+        }
+
+        /*
+         * Rounds the given number of bytes up to the alignment of an attribute.
+         */
+        private static int align(int bytes) {
+            return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        }
+    }
+}
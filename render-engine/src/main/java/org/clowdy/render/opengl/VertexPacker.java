@@ -0,0 +1,288 @@
+package org.clowdy.render.opengl;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+/**
+ * <p>Packs vertex attributes into interleaved buffers laid out by a VertexFormat, and indices into 16-bit shorts
+ * when every vertex can be addressed by one. Packing is done entirely on the CPU, so it can be tested and run off
+ * the render thread without an OpenGL context.</p>
+ *
+ * <p>As with BufferWriter, each method writes at an absolute offset in the buffer's byte order, leaving the
+ * position of the buffer unchanged, and returns the offset just past the last byte written.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class VertexPacker {
+    /**
+     * The largest number of vertices addressed by 16-bit indices.
+     */
+    public static final int MAX_SHORT_INDEXED_VERTICES = 1 << 16;
+
+    // The largest magnitude of a signed normalised 10-bit component.
+    private static final int NORMAL_SCALE = 511;
+    private static final int NORMAL_MASK = 0x3ff;
+
+    // Private to prevent instantiation of a static utility class.
+    private VertexPacker() {
+    }
+
+    /**
+     * Returns the number of vertices of the given attributes, checking there is one array for each attribute of
+     * the format and that each holds the same number of vertices.
+     *
+     * @param format     The format of the vertices.
+     * @param attributes The components of each attribute, in the order of the format, e.g. xyz for each vertex.
+     * @return The number of vertices.
+     * @throws IllegalArgumentException When any input is null, or the arrays don't match the format.
+     */
+    public static int vertexCount(VertexFormat format, float[]... attributes) {
+        if (format == null || attributes == null) {
+            throw new IllegalArgumentException("The format and attributes can not be null.");
+        }
+        if (attributes.length != format.attributeCount()) {
+            throw new IllegalArgumentException("The format has " + format.attributeCount() + " attributes but "
+                    + attributes.length + " were given.");
+        }
+        int count = -1;
+        for (int i = 0; i < attributes.length; i++) {
+            int components = format.getAttribute(i).getComponents();
+            if (attributes[i] == null || attributes[i].length % components != 0) {
+                throw new IllegalArgumentException("Attribute " + i + " must hold " + components
+                        + " components for each vertex.");
+            }
+            int vertices = attributes[i].length / components;
+            if (count >= 0 && vertices != count) {
+                throw new IllegalArgumentException("Attribute " + i + " has " + vertices + " vertices but "
+                        + count + " were expected.");
+            }
+            count = vertices;
+        }
+        return count;
+    }
+
+    /**
+     * Packs the given attributes into the buffer interleaved by the given format, starting at the given byte
+     * offset. Any padding in a vertex is left unwritten.
+     *
+     * @param format     The format of the vertices.
+     * @param buffer     The buffer to write to.
+     * @param offset     The byte offset of the first vertex in the buffer.
+     * @param attributes The components of each attribute, in the order of the format.
+     * @return The byte offset after the last vertex written.
+     * @throws IllegalArgumentException  When any input is null, or the arrays don't match the format.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every vertex.
+     */
+    public static int pack(VertexFormat format, ByteBuffer buffer, int offset, float[]... attributes) {
+        int count = vertexCount(format, attributes);
+        int stride = format.getStride();
+        checkRange(buffer, offset, (long) count * stride);
+        for (int a = 0; a < attributes.length; a++) {
+            VertexFormat.Attribute attribute = format.getAttribute(a);
+            float[] source = attributes[a];
+            int components = attribute.getComponents();
+            int position = offset + attribute.getOffset();
+            switch (attribute.getType()) {
+                case FLOAT:
+                    for (int v = 0, s = 0; v < count; v++, position += stride) {
+                        for (int c = 0; c < components; c++, s++) {
+                            buffer.putFloat(position + c * Float.BYTES, source[s]);
+                        }
+                    }
+                    break;
+                case HALF_FLOAT:
+                    for (int v = 0, s = 0; v < count; v++, position += stride) {
+                        for (int c = 0; c < components; c++, s++) {
+                            buffer.putShort(position + c * Short.BYTES, toHalfFloat(source[s]));
+                        }
+                    }
+                    break;
+                default:
+                    for (int v = 0, s = 0; v < count; v++, position += stride, s += components) {
+                        float w = components == 4 ? source[s + 3] : 0;
+                        buffer.putInt(position, packNormal(source[s], source[s + 1], source[s + 2], w));
+                    }
+            }
+        }
+        return offset + count * stride;
+    }
+
+    /**
+     * Returns the OpenGL type of the indices of a mesh of the given number of vertices, GL_UNSIGNED_SHORT when
+     * every vertex can be addressed by 16 bits and GL_UNSIGNED_INT otherwise.
+     *
+     * @param vertexCount The number of vertices.
+     * @return The OpenGL type of the indices.
+     */
+    public static int indexType(int vertexCount) {
+        return vertexCount <= MAX_SHORT_INDEXED_VERTICES ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+    }
+
+    /**
+     * Returns the number of bytes of each index of a mesh of the given number of vertices.
+     *
+     * @param vertexCount The number of vertices.
+     * @return The size of each index in bytes.
+     */
+    public static int indexBytes(int vertexCount) {
+        return vertexCount <= MAX_SHORT_INDEXED_VERTICES ? Short.BYTES : Integer.BYTES;
+    }
+
+    /**
+     * Packs the given indices into the buffer as the type given by indexType, starting at the given byte offset.
+     *
+     * @param indices     The indices to pack.
+     * @param vertexCount The number of vertices the indices address.
+     * @param buffer      The buffer to write to.
+     * @param offset      The byte offset of the first index in the buffer.
+     * @return The byte offset after the last index written.
+     * @throws IllegalArgumentException  When the indices are null, or any is outside of the vertices.
+     * @throws IndexOutOfBoundsException When the buffer has no room for every index.
+     */
+    public static int packIndices(int[] indices, int vertexCount, ByteBuffer buffer, int offset) {
+        if (indices == null) {
+            throw new IllegalArgumentException("The indices can not be null.");
+        }
+        int bytes = indexBytes(vertexCount);
+        checkRange(buffer, offset, (long) indices.length * bytes);
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            if (index < 0 || index >= vertexCount) {
+                throw new IllegalArgumentException("Index " + index + " is outside of " + vertexCount
+                        + " vertices.");
+            }
+            if (bytes == Short.BYTES) {
+                buffer.putShort(offset + i * bytes, (short) index);
+            } else {
+                buffer.putInt(offset + i * bytes, index);
+            }
+        }
+        return offset + indices.length * bytes;
+    }
+
+    /**
+     * Returns the given float as the bits of a 16-bit half float, rounded to the nearest half float with ties to
+     * even. Values beyond the half float range become infinity and those below it become zero, keeping their sign.
+     *
+     * @param value The float to convert.
+     * @return The bits of the half float.
+     */
+    public static short toHalfFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+        if (exponent == 0xff) {
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1f) {
+            return (short) (sign | 0x7c00);
+        }
+        int shift;
+        int half;
+        if (halfExponent <= 0) {
+            // Subnormal in half precision, the implicit leading bit becomes explicit and is shifted down.
+            if (halfExponent < -10) {
+                return (short) sign;
+            }
+            mantissa |= 0x800000;
+            shift = 14 - halfExponent;
+            half = mantissa >> shift;
+        } else {
+            shift = 13;
+            half = (halfExponent << 10) | (mantissa >> shift);
+        }
+        int remainder = mantissa & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        // A carry out of the mantissa correctly rounds up into the exponent, or to infinity.
+        if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+            half++;
+        }
+        return (short) (sign | half);
+    }
+
+    /**
+     * Returns the float value of the given bits of a 16-bit half float.
+     *
+     * @param half The bits of the half float.
+     * @return The float value.
+     */
+    public static float fromHalfFloat(short half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            float magnitude = mantissa * 0x1.0p-24f;
+            return sign == 0 ? magnitude : -magnitude;
+        }
+        return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+    }
+
+    /**
+     * Returns the given components packed as a GL_INT_2_10_10_10_REV, x, y and z as signed normalised 10-bit ints
+     * from the lowest bits and w as a signed 2-bit int in the highest. Components are clamped into [-1, 1].
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param w The w component, e.g. the handedness of a tangent, rounded to -1, 0 or 1.
+     * @return The packed components.
+     */
+    public static int packNormal(float x, float y, float z, float w) {
+        return (normalise(x) & NORMAL_MASK)
+                | (normalise(y) & NORMAL_MASK) << 10
+                | (normalise(z) & NORMAL_MASK) << 20
+                | Math.round(clamp(w)) << 30;
+    }
+
+    /**
+     * Returns the component of the given index, from 0 for x to 3 for w, of a packed GL_INT_2_10_10_10_REV as the
+     * GPU reads it.
+     *
+     * @param packed The packed components.
+     * @param index  The index of the component.
+     * @return The value of the component in [-1, 1].
+     * @throws IndexOutOfBoundsException When the index is not from 0 to 3.
+     */
+    public static float unpackNormal(int packed, int index) {
+        if (index < 0 || index > 3) {
+            throw new IndexOutOfBoundsException("Component " + index + " is outside of 4 components.");
+        }
+        if (index == 3) {
+            return packed >> 30;
+        }
+        // Shift the component to the top bits then back, extending its sign.
+        int value = packed << (22 - index * 10) >> 22;
+        return Math.max(value / (float) NORMAL_SCALE, -1);
+    }
+
+    /*
+     * Returns a component in [-1, 1] as a signed 10-bit int.
+     */
+    private static int normalise(float value) {
+        return Math.round(clamp(value) * NORMAL_SCALE);
+    }
+
+    private static float clamp(float value) {
+        return value > 1 ? 1 : value < -1 ? -1 : value == value ? value : 0;
+    }
+
+    /*
+     * Checks the given number of bytes fit in the buffer from the given offset.
+     */
+    private static void checkRange(ByteBuffer buffer, int offset, long length) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("The buffer can not be null.");
+        }
+        if (offset < 0 || offset > buffer.limit() - length) {
+            throw new IndexOutOfBoundsException(length + " bytes at " + offset
+                    + " do not fit in a buffer with limit " + buffer.limit() + ".");
+        }
+    }
+}
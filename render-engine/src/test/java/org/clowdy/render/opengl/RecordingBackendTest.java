@@ -0,0 +1,71 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL15.*;
+
+public class RecordingBackendTest {
+    private final RecordingBackend gl = new RecordingBackend();
+
+    @Test
+    public void elementBufferIsStateOfTheVertexArray() {
+        int first = gl.genVertexArray();
+        int second = gl.genVertexArray();
+        int buffer = gl.genBuffer();
+        gl.bindVertexArray(first);
+        gl.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, buffer);
+        gl.bindVertexArray(second);
+        assertEquals(0, gl.getBoundBuffer(GL_ELEMENT_ARRAY_BUFFER));
+        gl.bindVertexArray(first);
+        assertEquals(buffer, gl.getBoundBuffer(GL_ELEMENT_ARRAY_BUFFER));
+    }
+
+    @Test
+    public void invalidCallsThrow() {
+        assertThrows(IllegalStateException.class, () -> gl.bufferData(GL_ARRAY_BUFFER, 4, GL_STATIC_DRAW));
+        assertThrows(IllegalStateException.class, () -> gl.bindBuffer(GL_ARRAY_BUFFER, 99));
+        assertThrows(IllegalStateException.class, () -> gl.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, gl.genBuffer()));
+        assertThrows(IllegalStateException.class, () -> gl.enableVertexAttribArray(0));
+        gl.bindVertexArray(gl.genVertexArray());
+        assertThrows(IllegalStateException.class, () -> gl.vertexAttribPointer(0, 3, GL_FLOAT, false, 0, 0));
+        assertThrows(IllegalStateException.class, () -> gl.drawElements(GL_TRIANGLES, 3, GL_UNSIGNED_INT, 0));
+        int indices = gl.genBuffer();
+        gl.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, indices);
+        gl.bufferData(GL_ELEMENT_ARRAY_BUFFER, 8, GL_STATIC_DRAW);
+        assertThrows(IllegalStateException.class, () -> gl.drawElements(GL_TRIANGLES, 3, GL_UNSIGNED_INT, 0));
+        gl.drawElements(GL_TRIANGLES, 2, GL_UNSIGNED_INT, 0);
+        assertEquals(1, gl.getDrawCalls().size());
+    }
+
+    @Test
+    public void mappedRangesWriteTheBuffer() {
+        int buffer = gl.genBuffer();
+        gl.bindBuffer(GL_ARRAY_BUFFER, buffer);
+        gl.bufferData(GL_ARRAY_BUFFER, 16, GL_STREAM_DRAW);
+        ByteBuffer range = gl.mapBufferRange(GL_ARRAY_BUFFER, 8, 8, 0);
+        range.putFloat(4, 3);
+        assertThrows(IllegalStateException.class, () -> gl.mapBufferRange(GL_ARRAY_BUFFER, 0, 4, 0));
+        assertTrue(gl.unmapBuffer(GL_ARRAY_BUFFER));
+        assertEquals(3, gl.getBufferData(buffer).getFloat(12));
+        assertThrows(IllegalStateException.class, () -> gl.mapBufferRange(GL_ARRAY_BUFFER, 12, 8, 0));
+        assertThrows(IllegalStateException.class, () -> gl.unmapBuffer(GL_ARRAY_BUFFER));
+    }
+
+    @Test
+    public void clearRecordingKeepsState() {
+        int buffer = gl.genBuffer();
+        gl.bindBuffer(GL_ARRAY_BUFFER, buffer);
+        assertEquals(2, gl.getCallCount());
+        gl.clearRecording();
+        assertEquals(0, gl.getCallCount());
+        assertEquals(buffer, gl.getBoundBuffer(GL_ARRAY_BUFFER));
+        gl.deleteBuffer(buffer);
+        assertEquals(0, gl.getBoundBuffer(GL_ARRAY_BUFFER));
+    }
+}
@@ -0,0 +1,101 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingAllocatorTest {
+    @Test
+    public void allocatesAlignedRegionsInOrder() {
+        RingAllocator ring = new RingAllocator(64, 2);
+        assertEquals(0, ring.allocate(3, 1));
+        assertEquals(4, ring.allocate(8, 4));
+        assertEquals(16, ring.allocate(4, 16));
+        assertEquals(20, ring.getUsed());
+    }
+
+    @Test
+    public void regionsAreReleasedAfterFramesInFlight() {
+        RingAllocator ring = new RingAllocator(100, 2);
+        assertEquals(0, ring.allocate(40, 4));
+        ring.endFrame();
+        assertEquals(40, ring.allocate(40, 4));
+        ring.endFrame();
+        // The first two frames may still be read, so only 20 bytes are free.
+        assertFalse(ring.fits(24, 4));
+        assertTrue(ring.fits(20, 4));
+        assertEquals(-1, ring.allocate(24, 4));
+        assertEquals(80, ring.allocate(20, 4));
+        assertEquals(20, ring.getFrameUsed());
+        ring.endFrame();
+        assertEquals(0, ring.getFrameUsed());
+        assertEquals(60, ring.getUsed());
+        // The first frame has been released, the region wraps to the start.
+        assertEquals(0, ring.allocate(40, 4));
+        assertEquals(100, ring.getUsed());
+    }
+
+    @Test
+    public void wrappingSkipsTheEndOfTheRing() {
+        RingAllocator ring = new RingAllocator(100, 1);
+        assertEquals(0, ring.allocate(70, 4));
+        ring.endFrame();
+        ring.endFrame();
+        assertEquals(0, ring.getUsed());
+        // 30 bytes remain at the end, too few, so the region wraps and the end is counted as used.
+        assertEquals(0, ring.allocate(40, 4));
+        assertEquals(70, ring.getUsed());
+        ring.endFrame();
+        ring.endFrame();
+        assertEquals(0, ring.getUsed());
+    }
+
+    @Test
+    public void neverOverlapsRegionsInFlight() {
+        int capacity = 1000;
+        RingAllocator ring = new RingAllocator(capacity, 2);
+        // The frame each byte was last allocated in, checked against the frames still in flight.
+        int[] owner = new int[capacity];
+        Arrays.fill(owner, -10);
+        Random random = new Random(3);
+        for (int frame = 0; frame < 2000; frame++) {
+            for (int i = 0; i < 5; i++) {
+                int bytes = 1 + random.nextInt(120);
+                int offset = ring.allocate(bytes, 1 << random.nextInt(4));
+                if (offset < 0) {
+                    continue;
+                }
+                for (int b = offset; b < offset + bytes; b++) {
+                    assertTrue(owner[b] < frame - 2, "Byte " + b + " of frame " + owner[b]
+                            + " reused in frame " + frame);
+                    owner[b] = frame;
+                }
+            }
+            ring.endFrame();
+        }
+    }
+
+    @Test
+    public void resetReleasesEverything() {
+        RingAllocator ring = new RingAllocator(64, 3);
+        ring.allocate(64, 4);
+        assertEquals(-1, ring.allocate(4, 4));
+        ring.reset();
+        assertEquals(0, ring.getUsed());
+        assertEquals(0, ring.allocate(4, 4));
+    }
+
+    @Test
+    public void invalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new RingAllocator(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new RingAllocator(64, 0));
+        RingAllocator ring = new RingAllocator(64, 2);
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(65, 4));
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(4, 3));
+        assertThrows(IllegalArgumentException.class, () -> ring.allocate(4, 0));
+    }
+}
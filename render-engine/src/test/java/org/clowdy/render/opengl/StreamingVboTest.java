@@ -0,0 +1,133 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_STREAM_DRAW;
+
+public class StreamingVboTest {
+    private final RecordingBackend gl = new RecordingBackend();
+
+    @Test
+    public void storageIsAllocatedOnce() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 256, 2);
+        assertEquals(256, gl.getBufferData(vbo.getID()).capacity());
+        assertEquals(GL_STREAM_DRAW, gl.getBufferUsage(vbo.getID()));
+        assertEquals(0, gl.getOutstandingAllocations());
+    }
+
+    @Test
+    public void uploadsAreWrittenIntoSuccessiveRegions() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 256, 2);
+        assertEquals(0, vbo.upload(new float[]{1, 2, 3}));
+        ByteBuffer bytes = ByteBuffer.allocate(6).order(ByteOrder.nativeOrder()).putShort((short) 7)
+                .putShort((short) 8).putShort((short) 9).flip();
+        assertEquals(12, vbo.upload(bytes));
+        assertEquals(0, bytes.position());
+        ByteBuffer data = gl.getBufferData(vbo.getID());
+        assertEquals(3, data.getFloat(8));
+        assertEquals(9, data.getShort(16));
+        // The next region is aligned to 4 bytes.
+        assertEquals(20, vbo.upload(new float[]{4}));
+    }
+
+    @Test
+    public void regionsAreReusedAfterFramesInFlight() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 96, 2);
+        float[] frame = new float[8];
+        for (int i = 0; i < 30; i++) {
+            assertEquals((i % 3) * 32, vbo.upload(frame));
+            vbo.endFrame();
+        }
+        assertEquals(0, vbo.getOrphanCount());
+    }
+
+    @Test
+    public void overrunningTheRingOrphansTheBuffer() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 64, 2);
+        vbo.upload(new float[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        vbo.endFrame();
+        assertEquals(0, vbo.upload(new float[]{11, 12, 13, 14, 15, 16, 17, 18}));
+        assertEquals(1, vbo.getOrphanCount());
+        assertEquals(11, gl.getBufferData(vbo.getID()).getFloat(0));
+        assertEquals(64, gl.getBufferData(vbo.getID()).capacity());
+    }
+
+    @Test
+    public void aDeclaredFrameThatWouldNotFitOrphansBeforeItsFirstUpload() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 64, 2);
+        vbo.upload(new float[10]);
+        vbo.endFrame();
+        vbo.beginFrame(32);
+        assertEquals(1, vbo.getOrphanCount());
+        // Both regions of the frame are written into the new storage, neither is discarded by an orphan.
+        assertEquals(0, vbo.upload(new float[]{1, 2, 3, 4}));
+        assertEquals(16, vbo.upload(new float[]{5, 6, 7, 8}));
+        assertEquals(1, vbo.getOrphanCount());
+        assertEquals(1, gl.getBufferData(vbo.getID()).getFloat(0));
+        assertEquals(5, gl.getBufferData(vbo.getID()).getFloat(16));
+        assertThrows(IllegalStateException.class, () -> vbo.beginFrame(4));
+        vbo.endFrame();
+        assertThrows(IllegalArgumentException.class, () -> vbo.beginFrame(65));
+    }
+
+    @Test
+    public void growingFramesNeverLoseTheirRegions() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 256, 2);
+        for (int frame = 1; frame <= 16; frame++) {
+            vbo.beginFrame(frame * 16);
+            int[] offsets = new int[frame];
+            for (int i = 0; i < frame; i++) {
+                offsets[i] = vbo.upload(new float[]{frame, i, 0, 0});
+            }
+            // Every region is drawn after all of the uploads, so each must still hold its data.
+            ByteBuffer data = gl.getBufferData(vbo.getID());
+            for (int i = 0; i < frame; i++) {
+                assertEquals(frame, data.getFloat(offsets[i]));
+                assertEquals(i, data.getFloat(offsets[i] + 4));
+            }
+            vbo.endFrame();
+        }
+        assertTrue(vbo.getOrphanCount() > 0);
+    }
+
+    @Test
+    public void overrunningTheRingMidFrameOrphansInsteadOfFailing() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 64, 2);
+        for (int frame = 1; frame <= 4; frame++) {
+            // Without a declared size a growing frame orphans mid-frame, regions drawn before it stay valid.
+            for (int i = 0; i < frame; i++) {
+                int offset = vbo.upload(new float[]{frame, i, 0, 0});
+                assertEquals(frame, gl.getBufferData(vbo.getID()).getFloat(offset));
+            }
+            vbo.endFrame();
+        }
+        assertTrue(vbo.getOrphanCount() > 0);
+    }
+
+    @Test
+    public void mapWritesInPlace() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 64, 2);
+        vbo.upload(new float[]{0});
+        ByteBuffer region = vbo.map(8);
+        region.putFloat(0, 5).putFloat(4, 6);
+        assertThrows(IllegalStateException.class, () -> vbo.map(4));
+        assertEquals(4, vbo.unmap());
+        assertEquals(6, gl.getBufferData(vbo.getID()).getFloat(8));
+        assertThrows(IllegalStateException.class, vbo::unmap);
+        assertThrows(IllegalArgumentException.class, () -> vbo.map(0));
+        assertThrows(IllegalArgumentException.class, () -> vbo.map(65));
+    }
+
+    @Test
+    public void deleteUnmapsAndReleasesTheBuffer() {
+        StreamingVbo vbo = StreamingVbo.create(gl, GL_ARRAY_BUFFER, 64, 2);
+        vbo.map(4);
+        vbo.delete();
+        assertFalse(gl.isBuffer(vbo.getID()));
+    }
+}
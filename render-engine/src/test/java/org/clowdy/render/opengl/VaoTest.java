@@ -0,0 +1,102 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+
+public class VaoTest {
+    private final RecordingBackend gl = new RecordingBackend();
+    private final float[] positions = {0, 0, 0, 1, 0, 0, 0, 1, 0};
+    private final float[] textureCoords = {0, 0, 1, 0, 0, 1};
+    private final int[] indices = {0, 1, 2};
+
+    @Test
+    public void storeDataInterleavesIntoOneBuffer() {
+        Vao vao = Vao.create(gl);
+        vao.storeData(positions, textureCoords, indices);
+        ByteBuffer vertices = gl.getBufferData(vao.getVbo().getID());
+        assertEquals(3 * 20, vertices.capacity());
+        assertEquals(1, vertices.getFloat(20));
+        assertEquals(1, vertices.getFloat(12 + 20));
+        assertEquals(GL_STATIC_DRAW, gl.getBufferUsage(vao.getVbo().getID()));
+        RecordingBackend.AttributePointer textures = gl.getAttributePointer(vao.getID(), 1);
+        assertEquals(vao.getVbo().getID(), textures.getBuffer());
+        assertEquals(2, textures.getSize());
+        assertEquals(GL_FLOAT, textures.getType());
+        assertEquals(20, textures.getStride());
+        assertEquals(12, textures.getOffset());
+        assertTrue(gl.isAttributeEnabled(vao.getID(), 0));
+        assertTrue(gl.isAttributeEnabled(vao.getID(), 1));
+        assertEquals(vao.getIbo().getID(), gl.getElementBuffer(vao.getID()));
+    }
+
+    @Test
+    public void indicesAreStoredAsShorts() {
+        Vao vao = Vao.create(gl);
+        vao.storeData(positions, indices);
+        ByteBuffer packed = gl.getBufferData(vao.getIbo().getID());
+        assertEquals(6, packed.capacity());
+        assertEquals(2, packed.getShort(4));
+        assertEquals(GL_UNSIGNED_SHORT, vao.getIndexType());
+        assertEquals(3, vao.getIndexCount());
+    }
+
+    @Test
+    public void compressedFormatIsUploaded() {
+        Vao vao = Vao.create(gl);
+        float[] normals = {0, 0, 1, 0, 0, 1, 0, 0, 1};
+        vao.storeData(VertexFormat.POSITION_TEXTURE_NORMAL_COMPRESSED, indices, positions, textureCoords, normals);
+        assertEquals(60, gl.getBufferData(vao.getVbo().getID()).capacity());
+        assertEquals(GL_HALF_FLOAT, gl.getAttributePointer(vao.getID(), 1).getType());
+        assertTrue(gl.getAttributePointer(vao.getID(), 2).isNormalised());
+        assertEquals(4, gl.getAttributePointer(vao.getID(), 2).getSize());
+    }
+
+    @Test
+    public void drawRecordsTheIndexedDraw() {
+        Vao vao = Vao.create(gl);
+        vao.storeData(positions, textureCoords, indices);
+        gl.clearRecording();
+        vao.draw();
+        assertEquals(1, gl.getDrawCalls().size());
+        RecordingBackend.DrawCall draw = gl.getDrawCalls().get(0);
+        assertEquals(vao.getID(), draw.getVertexArray());
+        assertEquals(GL_TRIANGLES, draw.getMode());
+        assertEquals(3, draw.getCount());
+        assertEquals(GL_UNSIGNED_SHORT, draw.getType());
+        assertEquals(2, gl.getCallCount());
+        assertThrows(IllegalStateException.class, () -> Vao.create(gl).draw());
+    }
+
+    @Test
+    public void uploadsFreeEveryAllocation() {
+        Vao vao = Vao.create(gl);
+        vao.storeData(positions, textureCoords, indices);
+        assertEquals(0, gl.getOutstandingAllocations());
+        assertThrows(IllegalArgumentException.class, () -> Vao.create(gl).storeData(positions, new int[]{3}));
+        assertEquals(0, gl.getOutstandingAllocations());
+        Vbo.delete(Vbo.create(gl, GL_ARRAY_BUFFER, positions));
+        Vbo.delete(Vbo.create(gl, GL_ELEMENT_ARRAY_BUFFER, indices));
+        assertEquals(0, gl.getOutstandingAllocations());
+    }
+
+    @Test
+    public void deleteReleasesEveryObject() {
+        Vao vao = Vao.create(gl);
+        vao.storeData(positions, indices);
+        int vbo = vao.getVbo().getID();
+        int ibo = vao.getIbo().getID();
+        vao.delete();
+        assertFalse(gl.isVertexArray(vao.getID()));
+        assertFalse(gl.isBuffer(vbo));
+        assertFalse(gl.isBuffer(ibo));
+        Vao empty = Vao.create(gl);
+        empty.delete();
+        assertFalse(gl.isVertexArray(empty.getID()));
+    }
+}
@@ -0,0 +1,69 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+import static org.lwjgl.opengl.GL33.GL_INT_2_10_10_10_REV;
+
+public class VertexFormatTest {
+    @Test
+    public void attributesAreInterleavedInOrder() {
+        VertexFormat format = VertexFormat.POSITION_TEXTURE_NORMAL_COMPRESSED;
+        assertEquals(3, format.attributeCount());
+        assertEquals(20, format.getStride());
+        assertEquals(0, format.getAttribute(0).getOffset());
+        assertEquals(12, format.getAttribute(1).getOffset());
+        assertEquals(16, format.getAttribute(2).getOffset());
+        assertEquals(GL_FLOAT, format.getAttribute(0).getType().getGlType());
+        assertEquals(GL_HALF_FLOAT, format.getAttribute(1).getType().getGlType());
+        assertEquals(GL_INT_2_10_10_10_REV, format.getAttribute(2).getType().getGlType());
+        assertTrue(format.getAttribute(2).getType().isNormalised());
+        assertEquals(4, format.getAttribute(2).getGlSize());
+        assertEquals(3, format.getAttribute(2).getComponents());
+    }
+
+    @Test
+    public void compressedFormatSavesMemory() {
+        VertexFormat full = VertexFormat.builder()
+                .add(0, 3, VertexFormat.Type.FLOAT)
+                .add(1, 2, VertexFormat.Type.FLOAT)
+                .add(2, 3, VertexFormat.Type.FLOAT)
+                .build();
+        assertEquals(32, full.getStride());
+        assertEquals(20, VertexFormat.POSITION_TEXTURE_NORMAL_COMPRESSED.getStride());
+    }
+
+    @Test
+    public void attributesAreAlignedToFourBytes() {
+        VertexFormat format = VertexFormat.builder()
+                .add(0, 3, VertexFormat.Type.HALF_FLOAT)
+                .add(1, 1, VertexFormat.Type.FLOAT)
+                .build();
+        assertEquals(8, format.getAttribute(1).getOffset());
+        assertEquals(12, format.getStride());
+    }
+
+    @Test
+    public void equalFormats() {
+        VertexFormat format = VertexFormat.builder()
+                .add(0, 3, VertexFormat.Type.FLOAT)
+                .add(1, 2, VertexFormat.Type.FLOAT)
+                .build();
+        assertEquals(VertexFormat.POSITION_TEXTURE, format);
+        assertEquals(VertexFormat.POSITION_TEXTURE.hashCode(), format.hashCode());
+        assertNotEquals(VertexFormat.POSITION, format);
+    }
+
+    @Test
+    public void invalidAttributesThrow() {
+        VertexFormat.Builder builder = VertexFormat.builder().add(0, 3, VertexFormat.Type.FLOAT);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(0, 2, VertexFormat.Type.FLOAT));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(-1, 2, VertexFormat.Type.FLOAT));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1, 5, VertexFormat.Type.FLOAT));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1, 2, VertexFormat.Type.PACKED_NORMAL));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1, 2, null));
+        assertThrows(IllegalStateException.class, () -> VertexFormat.builder().build());
+    }
+}
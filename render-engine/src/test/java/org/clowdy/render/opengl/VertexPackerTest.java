@@ -0,0 +1,119 @@
+package org.clowdy.render.opengl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+public class VertexPackerTest {
+    private final float[] positions = {0, 1, 2, 3, 4, 5};
+    private final float[] textureCoords = {0.25f, 0.5f, 1, 0};
+    private final float[] normals = {0, 0, 1, -1, 0, 0};
+
+    @Test
+    public void packsInterleavedVertices() {
+        VertexFormat format = VertexFormat.POSITION_TEXTURE_NORMAL_COMPRESSED;
+        ByteBuffer buffer = buffer(4 + 2 * format.getStride());
+        int end = VertexPacker.pack(format, buffer, 4, positions, textureCoords, normals);
+        assertEquals(4 + 40, end);
+        assertEquals(0, buffer.position());
+        for (int v = 0; v < 2; v++) {
+            int vertex = 4 + v * 20;
+            for (int c = 0; c < 3; c++) {
+                assertEquals(positions[v * 3 + c], buffer.getFloat(vertex + c * 4));
+            }
+            for (int c = 0; c < 2; c++) {
+                assertEquals(textureCoords[v * 2 + c], VertexPacker.fromHalfFloat(buffer.getShort(vertex + 12 + c * 2)));
+            }
+            int normal = buffer.getInt(vertex + 16);
+            for (int c = 0; c < 3; c++) {
+                assertEquals(normals[v * 3 + c], VertexPacker.unpackNormal(normal, c));
+            }
+            assertEquals(0, VertexPacker.unpackNormal(normal, 3));
+        }
+    }
+
+    @Test
+    public void mismatchedAttributesThrow() {
+        VertexFormat format = VertexFormat.POSITION_TEXTURE;
+        ByteBuffer buffer = buffer(100);
+        assertThrows(IllegalArgumentException.class, () -> VertexPacker.pack(format, buffer, 0, positions));
+        assertThrows(IllegalArgumentException.class,
+                () -> VertexPacker.pack(format, buffer, 0, positions, new float[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> VertexPacker.pack(format, buffer, 0, positions, new float[]{1, 2}));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> VertexPacker.pack(format, buffer(39), 0, positions, textureCoords));
+    }
+
+    @Test
+    public void indicesAreShortsWhenVerticesAllow() {
+        assertEquals(GL_UNSIGNED_SHORT, VertexPacker.indexType(VertexPacker.MAX_SHORT_INDEXED_VERTICES));
+        assertEquals(GL_UNSIGNED_INT, VertexPacker.indexType(VertexPacker.MAX_SHORT_INDEXED_VERTICES + 1));
+        int[] indices = {0, 65535, 7};
+        ByteBuffer shorts = buffer(6);
+        assertEquals(6, VertexPacker.packIndices(indices, 65536, shorts, 0));
+        assertEquals(65535, Short.toUnsignedInt(shorts.getShort(2)));
+        ByteBuffer ints = buffer(12);
+        assertEquals(12, VertexPacker.packIndices(indices, 70000, ints, 0));
+        assertEquals(65535, ints.getInt(4));
+        assertThrows(IllegalArgumentException.class, () -> VertexPacker.packIndices(indices, 100, buffer(6), 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> VertexPacker.packIndices(indices, 65536, buffer(5), 0));
+    }
+
+    @Test
+    public void halfFloatsRoundTrip() {
+        assertEquals((short) 0x3c00, VertexPacker.toHalfFloat(1));
+        assertEquals((short) 0xc000, VertexPacker.toHalfFloat(-2));
+        assertEquals((short) 0x7bff, VertexPacker.toHalfFloat(65504));
+        assertEquals((short) 0x7c00, VertexPacker.toHalfFloat(65520));
+        assertEquals((short) 0x0001, VertexPacker.toHalfFloat(0x1.0p-24f));
+        assertEquals((short) 0x0000, VertexPacker.toHalfFloat(0x1.0p-26f));
+        assertEquals((short) 0x8000, VertexPacker.toHalfFloat(-0f));
+        assertTrue(Float.isNaN(VertexPacker.fromHalfFloat(VertexPacker.toHalfFloat(Float.NaN))));
+        assertEquals(Float.NEGATIVE_INFINITY, VertexPacker.fromHalfFloat(VertexPacker.toHalfFloat(-1e10f)));
+        // Ties round to even, 1 + 2^-11 is halfway between 1 and the next half float.
+        assertEquals((short) 0x3c00, VertexPacker.toHalfFloat(1 + 0x1.0p-11f));
+        assertEquals((short) 0x3c02, VertexPacker.toHalfFloat(1 + 3 * 0x1.0p-11f));
+        for (int bits = 0; bits < 0x7c00; bits++) {
+            float value = VertexPacker.fromHalfFloat((short) bits);
+            assertEquals((short) bits, VertexPacker.toHalfFloat(value));
+            assertEquals((short) (bits | 0x8000), VertexPacker.toHalfFloat(-value));
+        }
+    }
+
+    @Test
+    public void halfFloatTextureCoordinatesArePreciseEnough() {
+        for (int i = 0; i <= 1024; i++) {
+            float coordinate = i / 1024f;
+            assertEquals(coordinate, VertexPacker.fromHalfFloat(VertexPacker.toHalfFloat(coordinate)), 0x1.0p-12f);
+        }
+    }
+
+    @Test
+    public void normalsArePackedAsSignedTenBits() {
+        int packed = VertexPacker.packNormal(1, -1, 0.5f, -1);
+        assertEquals(1, VertexPacker.unpackNormal(packed, 0));
+        assertEquals(-1, VertexPacker.unpackNormal(packed, 1));
+        assertEquals(0.5f, VertexPacker.unpackNormal(packed, 2), 1f / 1022);
+        assertEquals(-1, VertexPacker.unpackNormal(packed, 3));
+        int clamped = VertexPacker.packNormal(2, -3, Float.NaN, 0);
+        assertEquals(1, VertexPacker.unpackNormal(clamped, 0));
+        assertEquals(-1, VertexPacker.unpackNormal(clamped, 1));
+        assertEquals(0, VertexPacker.unpackNormal(clamped, 2));
+        float x = 0.267f, y = -0.534f, z = 0.801f;
+        int unit = VertexPacker.packNormal(x, y, z, 0);
+        assertEquals(x, VertexPacker.unpackNormal(unit, 0), 1f / 1022);
+        assertEquals(y, VertexPacker.unpackNormal(unit, 1), 1f / 1022);
+        assertEquals(z, VertexPacker.unpackNormal(unit, 2), 1f / 1022);
+        assertThrows(IndexOutOfBoundsException.class, () -> VertexPacker.unpackNormal(unit, 4));
+    }
+
+    private static ByteBuffer buffer(int bytes) {
+        return ByteBuffer.allocate(bytes).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,119 @@
+package org.clowdy.sandbox;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * <p>Headless load test driver. Builds a SimulationWorld from the command line arguments, runs the warm up and
+ * measured ticks, and prints a JSON report of throughput, tick latencies and heap usage. No window or OpenGL
+ * context is created, so the test can run on build machines without a GPU.</p>
+ *
+ * <p>The sandbox module packages a self contained target/sandbox.jar, e.g. after {@code mvn package -pl sandbox -am}
+ * run {@code java -jar sandbox/target/sandbox.jar --entities=50000 --churn=250 --ticks=2000 --output=report.json}</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class LoadTest {
+    private final LoadTestConfig config;
+
+    /**
+     * Constructs a LoadTest for the given configuration.
+     *
+     * @param config The configuration of the run.
+     */
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        String json = new LoadTest(config).run().toJson();
+        if (config.getOutput() == null) {
+            System.out.print(json);
+        } else {
+            Files.write(Paths.get(config.getOutput()), json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Runs the load test and returns its report.
+     *
+     * @return The report of the run.
+     */
+    public LoadTestReport run() {
+        SimulationWorld world = new SimulationWorld(config);
+        Runtime runtime = Runtime.getRuntime();
+        long tickPeriod = config.getTickRate() > 0 ? (long) (1e9 / config.getTickRate()) : 0;
+        float deltaTime = tickPeriod > 0 ? tickPeriod / 1e9f : 1 / 60f;
+
+        for (int i = 0; i < config.getWarmupTicks(); i++) {
+            world.tick(deltaTime);
+        }
+
+        TickStatistics statistics = new TickStatistics(config.getTicks());
+        long gcCollections = -gcCollections();
+        long gcMillis = -gcMillis();
+        long peakUsed = 0;
+        long start = System.nanoTime();
+        long nextTick = start;
+        for (int i = 0; i < config.getTicks(); i++) {
+            long tickStart = System.nanoTime();
+            world.tick(deltaTime);
+            statistics.record(System.nanoTime() - tickStart);
+            peakUsed = Math.max(peakUsed, runtime.totalMemory() - runtime.freeMemory());
+            if (tickPeriod > 0) {
+                nextTick += tickPeriod;
+                sleepUntil(nextTick);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        gcCollections += gcCollections();
+        gcMillis += gcMillis();
+
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return new LoadTestReport(config, statistics, elapsed, used, Math.max(peakUsed, used), runtime.totalMemory(),
+                runtime.maxMemory(), gcCollections, gcMillis, world.getContacts());
+    }
+
+    // Sleeps until the given System.nanoTime, returning immediately if it has already passed.
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Total collections across all garbage collectors.
+    private static long gcCollections() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionCount());
+        }
+        return total;
+    }
+
+    // Total collection time in milliseconds across all garbage collectors.
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,156 @@
+package org.clowdy.sandbox;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>The parameters of a headless load test run. Every parameter has a default, and can be overridden on the
+ * command line with arguments of the form {@code --name=value}, e.g. {@code --entities=50000 --churn=200}.</p>
+ *
+ * <ul>
+ *     <li>{@code entities} - the number of live Entities in the world.</li>
+ *     <li>{@code physics}, {@code collision}, {@code render} - the fraction (0 to 1) of Entities that carry a
+ *     velocity, collider and renderable Component respectively.</li>
+ *     <li>{@code churn} - the number of Entities destroyed and respawned each tick.</li>
+ *     <li>{@code tickRate} - the target ticks per second, 0 runs as fast as possible.</li>
+ *     <li>{@code ticks}, {@code warmup} - the number of measured and warm up ticks.</li>
+ *     <li>{@code worldSize} - the width of the cubic world, {@code seed} - the seed for world generation.</li>
+ *     <li>{@code output} - a file to write the JSON report to, standard output when not given.</li>
+ * </ul>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class LoadTestConfig {
+    // Every argument name accepted by parse.
+    private static final Set<String> KNOWN_KEYS = Set.of("entities", "physics", "collision", "render", "churn",
+            "tickRate", "ticks", "warmup", "worldSize", "seed", "output");
+
+    private final int entities;
+    private final double physicsFraction;
+    private final double collisionFraction;
+    private final double renderFraction;
+    private final int churn;
+    private final double tickRate;
+    private final int ticks;
+    private final int warmupTicks;
+    private final float worldSize;
+    private final long seed;
+    private final String output;
+
+    // Private to ensure configs are only created through parse.
+    private LoadTestConfig(Map<String, String> values) {
+        entities = parseInt(values, "entities", 10_000, 0);
+        physicsFraction = parseFraction(values, "physics", 0.8);
+        collisionFraction = parseFraction(values, "collision", 0.5);
+        renderFraction = parseFraction(values, "render", 0.7);
+        churn = parseInt(values, "churn", 50, 0);
+        tickRate = parseDouble(values, "tickRate", 0);
+        ticks = parseInt(values, "ticks", 1_000, 1);
+        warmupTicks = parseInt(values, "warmup", 200, 0);
+        worldSize = (float) parseDouble(values, "worldSize", 1_000);
+        seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        output = values.get("output");
+        if (churn > entities) {
+            throw new IllegalArgumentException("churn can not exceed the number of entities.");
+        }
+        values.keySet().removeAll(KNOWN_KEYS);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown load test arguments: " + values.keySet());
+        }
+    }
+
+    /**
+     * Returns a LoadTestConfig built from the given command line arguments.
+     *
+     * @param args The command line arguments, each of the form {@code --name=value}.
+     * @return The LoadTestConfig described by the arguments.
+     * @throws IllegalArgumentException When an argument is malformed, unknown or out of range.
+     */
+    public static LoadTestConfig parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Arguments must be of the form --name=value: " + arg);
+            }
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return new LoadTestConfig(values);
+    }
+
+    public int getEntities() {
+        return entities;
+    }
+
+    public double getPhysicsFraction() {
+        return physicsFraction;
+    }
+
+    public double getCollisionFraction() {
+        return collisionFraction;
+    }
+
+    public double getRenderFraction() {
+        return renderFraction;
+    }
+
+    public int getChurn() {
+        return churn;
+    }
+
+    public double getTickRate() {
+        return tickRate;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public int getWarmupTicks() {
+        return warmupTicks;
+    }
+
+    public float getWorldSize() {
+        return worldSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the file the report should be written to, or null for standard output.
+     *
+     * @return The report file path, or null for standard output.
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    private static int parseInt(Map<String, String> values, String key, int defaultValue, int minimum) {
+        String value = values.get(key);
+        int result = value == null ? defaultValue : Integer.parseInt(value);
+        if (result < minimum) {
+            throw new IllegalArgumentException(key + " must be at least " + minimum + ".");
+        }
+        return result;
+    }
+
+    private static double parseDouble(Map<String, String> values, String key, double defaultValue) {
+        String value = values.get(key);
+        double result = value == null ? defaultValue : Double.parseDouble(value);
+        if (result < 0 || Double.isNaN(result)) {
+            throw new IllegalArgumentException(key + " can not be negative.");
+        }
+        return result;
+    }
+
+    private static double parseFraction(Map<String, String> values, String key, double defaultValue) {
+        double result = parseDouble(values, key, defaultValue);
+        if (result > 1) {
+            throw new IllegalArgumentException(key + " must be a fraction between 0 and 1.");
+        }
+        return result;
+    }
+}
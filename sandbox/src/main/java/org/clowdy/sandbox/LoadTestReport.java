@@ -0,0 +1,126 @@
+package org.clowdy.sandbox;
+
+import java.util.Locale;
+
+/**
+ * <p>The result of a load test run, written as a single JSON object so that nightly runs can be collected and
+ * compared by tooling. Latencies are reported in milliseconds and memory in bytes.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class LoadTestReport {
+    private final LoadTestConfig config;
+    private final TickStatistics statistics;
+    private final long elapsedNanos;
+    private final long heapUsedBytes;
+    private final long heapPeakUsedBytes;
+    private final long heapCommittedBytes;
+    private final long heapMaxBytes;
+    private final long gcCollections;
+    private final long gcMillis;
+    private final int contacts;
+
+    /**
+     * Constructs a LoadTestReport from the measurements of a finished run.
+     *
+     * @param config             The configuration of the run.
+     * @param statistics         The measured tick durations.
+     * @param elapsedNanos       The wall clock duration of the measured ticks, including any pacing.
+     * @param heapUsedBytes      The heap in use at the end of the run.
+     * @param heapPeakUsedBytes  The highest heap usage sampled during the run.
+     * @param heapCommittedBytes The heap committed by the JVM at the end of the run.
+     * @param heapMaxBytes       The maximum heap the JVM may use.
+     * @param gcCollections      The number of garbage collections during the measured ticks.
+     * @param gcMillis           The time spent in garbage collection during the measured ticks.
+     * @param contacts           The number of collider contacts found by the final tick.
+     */
+    public LoadTestReport(LoadTestConfig config, TickStatistics statistics, long elapsedNanos, long heapUsedBytes,
+                          long heapPeakUsedBytes, long heapCommittedBytes, long heapMaxBytes, long gcCollections,
+                          long gcMillis, int contacts) {
+        this.config = config;
+        this.statistics = statistics;
+        this.elapsedNanos = elapsedNanos;
+        this.heapUsedBytes = heapUsedBytes;
+        this.heapPeakUsedBytes = heapPeakUsedBytes;
+        this.heapCommittedBytes = heapCommittedBytes;
+        this.heapMaxBytes = heapMaxBytes;
+        this.gcCollections = gcCollections;
+        this.gcMillis = gcMillis;
+        this.contacts = contacts;
+    }
+
+    /**
+     * Returns the measured ticks per second. Only the time spent inside ticks is counted, so the figure is the
+     * throughput the pipeline could sustain regardless of the configured tick rate.
+     *
+     * @return The measured ticks per second.
+     */
+    public double getTicksPerSecond() {
+        long total = statistics.getTotalNanos();
+        return total == 0 ? 0 : statistics.getCount() * 1e9 / total;
+    }
+
+    /**
+     * Returns this report as a JSON object.
+     *
+     * @return This report as a JSON String.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\n");
+        json.append("  \"config\": {\n");
+        field(json, "entities", config.getEntities(), true);
+        field(json, "physicsFraction", config.getPhysicsFraction(), true);
+        field(json, "collisionFraction", config.getCollisionFraction(), true);
+        field(json, "renderFraction", config.getRenderFraction(), true);
+        field(json, "churnPerTick", config.getChurn(), true);
+        field(json, "tickRate", config.getTickRate(), true);
+        field(json, "ticks", config.getTicks(), true);
+        field(json, "warmupTicks", config.getWarmupTicks(), true);
+        field(json, "worldSize", config.getWorldSize(), true);
+        field(json, "seed", config.getSeed(), false);
+        json.append("  },\n");
+        json.append("  \"ticks\": ").append(statistics.getCount()).append(",\n");
+        json.append("  \"elapsedSeconds\": ").append(number(elapsedNanos / 1e9)).append(",\n");
+        json.append("  \"ticksPerSecond\": ").append(number(getTicksPerSecond())).append(",\n");
+        json.append("  \"tickMillis\": {\n");
+        field(json, "mean", statistics.getMeanNanos() / 1e6, true);
+        field(json, "p50", statistics.getPercentileNanos(50) / 1e6, true);
+        field(json, "p90", statistics.getPercentileNanos(90) / 1e6, true);
+        field(json, "p99", statistics.getPercentileNanos(99) / 1e6, true);
+        field(json, "p999", statistics.getPercentileNanos(99.9) / 1e6, true);
+        field(json, "max", statistics.getPercentileNanos(100) / 1e6, false);
+        json.append("  },\n");
+        json.append("  \"heap\": {\n");
+        field(json, "usedBytes", heapUsedBytes, true);
+        field(json, "peakUsedBytes", heapPeakUsedBytes, true);
+        field(json, "committedBytes", heapCommittedBytes, true);
+        field(json, "maxBytes", heapMaxBytes, false);
+        json.append("  },\n");
+        json.append("  \"gc\": {\n");
+        field(json, "collections", gcCollections, true);
+        field(json, "millis", gcMillis, false);
+        json.append("  },\n");
+        json.append("  \"contacts\": ").append(contacts).append("\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    // Appends a nested "name": value pair.
+    private static void field(StringBuilder json, String name, long value, boolean more) {
+        json.append("    \"").append(name).append("\": ").append(value).append(more ? ",\n" : "\n");
+    }
+
+    // Appends a nested "name": value pair.
+    private static void field(StringBuilder json, String name, double value, boolean more) {
+        json.append("    \"").append(name).append("\": ").append(number(value)).append(more ? ",\n" : "\n");
+    }
+
+    // Formats a double as a JSON number, JSON has no representation for NaN or infinity.
+    private static String number(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
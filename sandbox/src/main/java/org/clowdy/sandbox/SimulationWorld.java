@@ -0,0 +1,131 @@
+package org.clowdy.sandbox;
+
+import org.clowdy.entity.Entity;
+import org.clowdy.entity.EntityBuilder;
+import org.clowdy.sandbox.component.ColliderComponent;
+import org.clowdy.sandbox.component.RenderableComponent;
+import org.clowdy.sandbox.component.TransformComponent;
+import org.clowdy.sandbox.component.VelocityComponent;
+import org.clowdy.sandbox.system.CollisionSystem;
+import org.clowdy.sandbox.system.PhysicsSystem;
+import org.clowdy.sandbox.system.RenderExtractionSystem;
+import org.clowdy.util.DaggerEntityUtilityFactory;
+import org.clowdy.util.EntityUtilityFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>A headless world populated according to a LoadTestConfig. Each tick destroys and respawns the configured number
+ * of Entities, then runs the physics, collision and render extraction systems in that order.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class SimulationWorld {
+    // Maximum speed of a spawned Entity in world units per second.
+    private static final float MAX_SPEED = 20;
+    // Maximum collider radius of a spawned Entity.
+    private static final float MAX_RADIUS = 2;
+
+    private final LoadTestConfig config;
+    private final EntityUtilityFactory factory;
+    private final PhysicsSystem physicsSystem;
+    private final CollisionSystem collisionSystem;
+    private final RenderExtractionSystem renderExtractionSystem;
+    // Live Entities, churned in place.
+    private final List<Entity> entities;
+    private final Random random;
+    // Index of the next Entity to be churned.
+    private int churnCursor;
+    // Number of collider contacts found by the last tick.
+    private int contacts;
+
+    /**
+     * Constructs a SimulationWorld and spawns the configured number of Entities.
+     *
+     * @param config The configuration of the world.
+     */
+    public SimulationWorld(LoadTestConfig config) {
+        this.config = config;
+        factory = DaggerEntityUtilityFactory.create();
+        physicsSystem = new PhysicsSystem(factory.getComponentManager(), config.getWorldSize() / 2);
+        collisionSystem = new CollisionSystem(factory.getComponentManager());
+        renderExtractionSystem = new RenderExtractionSystem(factory.getComponentManager());
+        entities = new ArrayList<>(config.getEntities());
+        random = new Random(config.getSeed());
+        for (int i = 0; i < config.getEntities(); i++) {
+            entities.add(spawn());
+        }
+    }
+
+    /**
+     * Advances the world by one tick of the given length.
+     *
+     * @param deltaTime The tick length in seconds.
+     */
+    public void tick(float deltaTime) {
+        churn();
+        physicsSystem.update(deltaTime);
+        contacts = collisionSystem.update();
+        renderExtractionSystem.update();
+    }
+
+    /**
+     * Returns the number of collider contacts found by the last tick.
+     *
+     * @return The number of collider contacts found by the last tick.
+     */
+    public int getContacts() {
+        return contacts;
+    }
+
+    /**
+     * Returns the number of live Entities.
+     *
+     * @return The number of live Entities.
+     */
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    // Destroys the configured number of Entities and replaces each with a newly spawned one.
+    private void churn() {
+        for (int i = 0; i < config.getChurn(); i++) {
+            Entity entity = entities.get(churnCursor);
+            entity.clear();
+            entities.set(churnCursor, spawn());
+            churnCursor = (churnCursor + 1) % entities.size();
+        }
+    }
+
+    // Builds an Entity with a random position and a Component mix drawn from the configured fractions.
+    private Entity spawn() {
+        EntityBuilder builder = factory.getBuilder();
+        float halfExtent = config.getWorldSize() / 2;
+        TransformComponent transform = new TransformComponent();
+        transform.position.set(randomRange(halfExtent), randomRange(halfExtent), randomRange(halfExtent));
+        builder.withComponent(transform);
+        if (random.nextDouble() < config.getPhysicsFraction()) {
+            VelocityComponent velocity = new VelocityComponent();
+            velocity.velocity.set(randomRange(MAX_SPEED), randomRange(MAX_SPEED), randomRange(MAX_SPEED));
+            builder.withComponent(velocity);
+        }
+        if (random.nextDouble() < config.getCollisionFraction()) {
+            ColliderComponent collider = new ColliderComponent();
+            collider.radius = 0.5f + random.nextFloat() * (MAX_RADIUS - 0.5f);
+            builder.withComponent(collider);
+        }
+        if (random.nextDouble() < config.getRenderFraction()) {
+            RenderableComponent renderable = new RenderableComponent();
+            renderable.meshId = random.nextInt(16);
+            builder.withComponent(renderable);
+        }
+        return builder.buildEntity();
+    }
+
+    // Returns a uniformly distributed float between -extent and extent.
+    private float randomRange(float extent) {
+        return (random.nextFloat() * 2 - 1) * extent;
+    }
+}
@@ -0,0 +1,95 @@
+package org.clowdy.sandbox;
+
+import java.util.Arrays;
+
+/**
+ * <p>Records the duration of every measured tick so that throughput and tail latencies can be reported once the
+ * run has finished. The samples are stored in a preallocated array so recording does not allocate.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class TickStatistics {
+    // Tick durations in nanoseconds.
+    private final long[] samples;
+    // Number of samples recorded.
+    private int count;
+    // Samples sorted on first use of a percentile.
+    private long[] sorted;
+
+    /**
+     * Constructs a TickStatistics able to hold the given number of samples.
+     *
+     * @param capacity The maximum number of samples.
+     */
+    public TickStatistics(int capacity) {
+        samples = new long[capacity];
+    }
+
+    /**
+     * Records the duration of a single tick.
+     *
+     * @param nanos The tick duration in nanoseconds.
+     * @throws IllegalStateException When the statistics are already full.
+     */
+    public void record(long nanos) {
+        if (count == samples.length) {
+            throw new IllegalStateException("TickStatistics capacity of " + samples.length + " exceeded.");
+        }
+        samples[count++] = nanos;
+        sorted = null;
+    }
+
+    /**
+     * Returns the number of recorded ticks.
+     *
+     * @return The number of recorded ticks.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the total duration of all recorded ticks in nanoseconds.
+     *
+     * @return The total duration of all recorded ticks.
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the mean tick duration in nanoseconds, or 0 when nothing has been recorded.
+     *
+     * @return The mean tick duration.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) getTotalNanos() / count;
+    }
+
+    /**
+     * Returns the tick duration at the given percentile using the nearest rank method, or 0 when nothing has
+     * been recorded.
+     *
+     * @param percentile The percentile between 0 and 100.
+     * @return The tick duration at the given percentile in nanoseconds.
+     * @throws IllegalArgumentException When the percentile is outside 0 to 100.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (sorted == null) {
+            sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,20 @@
+package org.clowdy.sandbox.component;
+
+import org.clowdy.component.Component;
+
+/**
+ * <p>A bounding sphere used by the CollisionSystem to detect contacts between Entities.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class ColliderComponent extends Component {
+    /**
+     * The radius of the bounding sphere.
+     */
+    public float radius;
+
+    @Override
+    protected PoolType[] setPoolTypes() {
+        return new PoolType[]{PoolType.COLLISION};
+    }
+}
@@ -0,0 +1,26 @@
+package org.clowdy.sandbox.component;
+
+import org.clowdy.component.Component;
+
+/**
+ * <p>Marks an Entity as visible. Headless runs have no renderer, so the component only carries the data the render
+ * extraction step would copy out each frame.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class RenderableComponent extends Component {
+    /**
+     * The id of the mesh used to draw the Entity.
+     */
+    public int meshId;
+
+    /**
+     * The uniform scale applied to the mesh.
+     */
+    public float scale = 1;
+
+    @Override
+    protected PoolType[] setPoolTypes() {
+        return new PoolType[]{PoolType.RENDER};
+    }
+}
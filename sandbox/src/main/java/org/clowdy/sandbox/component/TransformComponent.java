@@ -0,0 +1,22 @@
+package org.clowdy.sandbox.component;
+
+import org.clowdy.component.Component;
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * <p>Stores the position of an Entity in the simulated world. The transform is shared by every system that needs
+ * to know where an Entity is, so it belongs to the physics, collision and render pools.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class TransformComponent extends Component {
+    /**
+     * The position of the Entity in world space.
+     */
+    public Vector3D position = new Vector3D();
+
+    @Override
+    protected PoolType[] setPoolTypes() {
+        return new PoolType[]{PoolType.PHYSICS, PoolType.COLLISION, PoolType.RENDER};
+    }
+}
@@ -0,0 +1,21 @@
+package org.clowdy.sandbox.component;
+
+import org.clowdy.component.Component;
+import org.clowdy.maths.vector.Vector3D;
+
+/**
+ * <p>Stores the linear velocity of an Entity, integrated each tick by the PhysicsSystem.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class VelocityComponent extends Component {
+    /**
+     * The velocity of the Entity in world units per second.
+     */
+    public Vector3D velocity = new Vector3D();
+
+    @Override
+    protected PoolType[] setPoolTypes() {
+        return new PoolType[]{PoolType.PHYSICS};
+    }
+}
@@ -0,0 +1,106 @@
+package org.clowdy.sandbox.system;
+
+import org.clowdy.component.Component.PoolType;
+import org.clowdy.entity.Entity.ComponentManager;
+import org.clowdy.entity.Entity.ComponentPool;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.sandbox.component.ColliderComponent;
+import org.clowdy.sandbox.component.TransformComponent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>Detects overlapping bounding spheres using sort and sweep along the x axis. The collider data is gathered into
+ * primitive arrays that are reused between ticks, so a steady state world does not allocate.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class CollisionSystem {
+    // Source of the collision ComponentPools.
+    private final ComponentManager componentManager;
+    // Gathered sphere data, grown on demand.
+    private float[] x = new float[0], y = new float[0], z = new float[0], radius = new float[0];
+    // Sort keys packing the sortable min x bits with the collider index.
+    private long[] keys = new long[0];
+
+    /**
+     * Constructs a CollisionSystem that reads its pools from the given ComponentManager.
+     *
+     * @param componentManager The ComponentManager holding the collision pools.
+     */
+    public CollisionSystem(ComponentManager componentManager) {
+        this.componentManager = componentManager;
+    }
+
+    /**
+     * Returns the number of overlapping collider pairs in the world.
+     *
+     * @return The number of overlapping collider pairs.
+     */
+    public int update() {
+        Map<UUID, ComponentPool> pools = componentManager.getComponentPoolType(PoolType.COLLISION);
+        if (pools == null) {
+            return 0;
+        }
+        ensureCapacity(pools.size());
+        int count = 0;
+        for (ComponentPool pool : pools.values()) {
+            TransformComponent transform = (TransformComponent) pool.getComponent(TransformComponent.class);
+            ColliderComponent collider = (ColliderComponent) pool.getComponent(ColliderComponent.class);
+            if (transform != null && collider != null) {
+                Vector3D p = transform.position;
+                x[count] = p.x;
+                y[count] = p.y;
+                z[count] = p.z;
+                radius[count] = collider.radius;
+                keys[count] = ((long) sortableBits(p.x - collider.radius) << 32) | count;
+                count++;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        return sweep(count);
+    }
+
+    // Sweeps the sorted colliders, testing each against those whose x interval overlaps its own.
+    private int sweep(int count) {
+        int contacts = 0;
+        for (int i = 0; i < count; i++) {
+            int a = (int) keys[i];
+            float maxX = x[a] + radius[a];
+            for (int j = i + 1; j < count; j++) {
+                int b = (int) keys[j];
+                if (x[b] - radius[b] > maxX) {
+                    break;
+                }
+                float dx = x[a] - x[b];
+                float dy = y[a] - y[b];
+                float dz = z[a] - z[b];
+                float r = radius[a] + radius[b];
+                if (dx * dx + dy * dy + dz * dz <= r * r) {
+                    contacts++;
+                }
+            }
+        }
+        return contacts;
+    }
+
+    // Grows the gather arrays to hold at least the given number of colliders.
+    private void ensureCapacity(int capacity) {
+        if (keys.length < capacity) {
+            int size = Math.max(capacity, keys.length * 2);
+            x = new float[size];
+            y = new float[size];
+            z = new float[size];
+            radius = new float[size];
+            keys = new long[size];
+        }
+    }
+
+    // Maps a float to an int whose signed ordering matches the float ordering.
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+}
@@ -0,0 +1,74 @@
+package org.clowdy.sandbox.system;
+
+import org.clowdy.component.Component.PoolType;
+import org.clowdy.entity.Entity.ComponentManager;
+import org.clowdy.entity.Entity.ComponentPool;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.sandbox.component.TransformComponent;
+import org.clowdy.sandbox.component.VelocityComponent;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>Integrates the velocity of every Entity in the physics pools and keeps it inside the world bounds by
+ * reflecting its velocity when it crosses a boundary.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class PhysicsSystem {
+    // Source of the physics ComponentPools.
+    private final ComponentManager componentManager;
+    // Half the width of the cubic world centred on the origin.
+    private final float halfExtent;
+
+    /**
+     * Constructs a PhysicsSystem that reads its pools from the given ComponentManager.
+     *
+     * @param componentManager The ComponentManager holding the physics pools.
+     * @param halfExtent       Half the width of the cubic world centred on the origin.
+     */
+    public PhysicsSystem(ComponentManager componentManager, float halfExtent) {
+        this.componentManager = componentManager;
+        this.halfExtent = halfExtent;
+    }
+
+    /**
+     * Advances every moving Entity by the given time step and returns the number of Entities updated.
+     *
+     * @param deltaTime The time step in seconds.
+     * @return The number of Entities updated.
+     */
+    public int update(float deltaTime) {
+        Map<UUID, ComponentPool> pools = componentManager.getComponentPoolType(PoolType.PHYSICS);
+        if (pools == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (ComponentPool pool : pools.values()) {
+            TransformComponent transform = (TransformComponent) pool.getComponent(TransformComponent.class);
+            VelocityComponent velocity = (VelocityComponent) pool.getComponent(VelocityComponent.class);
+            if (transform != null && velocity != null) {
+                Vector3D p = transform.position;
+                Vector3D v = velocity.velocity;
+                p.x += v.x * deltaTime;
+                p.y += v.y * deltaTime;
+                p.z += v.z * deltaTime;
+                if (Math.abs(p.x) > halfExtent) {
+                    p.x = Math.copySign(halfExtent, p.x);
+                    v.x = -v.x;
+                }
+                if (Math.abs(p.y) > halfExtent) {
+                    p.y = Math.copySign(halfExtent, p.y);
+                    v.y = -v.y;
+                }
+                if (Math.abs(p.z) > halfExtent) {
+                    p.z = Math.copySign(halfExtent, p.z);
+                    v.z = -v.z;
+                }
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,74 @@
+package org.clowdy.sandbox.system;
+
+import org.clowdy.component.Component.PoolType;
+import org.clowdy.entity.Entity.ComponentManager;
+import org.clowdy.entity.Entity.ComponentPool;
+import org.clowdy.maths.vector.Vector3D;
+import org.clowdy.sandbox.component.RenderableComponent;
+import org.clowdy.sandbox.component.TransformComponent;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>Copies the position and scale of every renderable Entity into a packed instance array, mirroring the work the
+ * renderer does before submitting draw calls.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class RenderExtractionSystem {
+    // Floats written per renderable instance: x, y, z and scale.
+    private static final int STRIDE = 4;
+    // Source of the render ComponentPools.
+    private final ComponentManager componentManager;
+    // Packed instance data, grown on demand.
+    private float[] instances = new float[0];
+
+    /**
+     * Constructs a RenderExtractionSystem that reads its pools from the given ComponentManager.
+     *
+     * @param componentManager The ComponentManager holding the render pools.
+     */
+    public RenderExtractionSystem(ComponentManager componentManager) {
+        this.componentManager = componentManager;
+    }
+
+    /**
+     * Extracts the instance data of every renderable Entity and returns the number of instances written.
+     *
+     * @return The number of instances written.
+     */
+    public int update() {
+        Map<UUID, ComponentPool> pools = componentManager.getComponentPoolType(PoolType.RENDER);
+        if (pools == null) {
+            return 0;
+        }
+        if (instances.length < pools.size() * STRIDE) {
+            instances = new float[Math.max(pools.size() * STRIDE, instances.length * 2)];
+        }
+        int count = 0;
+        for (ComponentPool pool : pools.values()) {
+            TransformComponent transform = (TransformComponent) pool.getComponent(TransformComponent.class);
+            RenderableComponent renderable = (RenderableComponent) pool.getComponent(RenderableComponent.class);
+            if (transform != null && renderable != null) {
+                Vector3D p = transform.position;
+                int offset = count * STRIDE;
+                instances[offset] = p.x;
+                instances[offset + 1] = p.y;
+                instances[offset + 2] = p.z;
+                instances[offset + 3] = renderable.scale;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the packed instance data written by the last update.
+     *
+     * @return The packed instance data.
+     */
+    public float[] getInstances() {
+        return instances;
+    }
+}
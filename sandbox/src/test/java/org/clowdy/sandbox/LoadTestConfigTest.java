@@ -0,0 +1,45 @@
+package org.clowdy.sandbox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadTestConfigTest {
+    @Test
+    public void defaultsApplyWithoutArguments() {
+        LoadTestConfig config = LoadTestConfig.parse();
+        assertEquals(10_000, config.getEntities());
+        assertEquals(0.8, config.getPhysicsFraction());
+        assertEquals(50, config.getChurn());
+        assertEquals(1_000, config.getTicks());
+        assertEquals(200, config.getWarmupTicks());
+        assertEquals(42, config.getSeed());
+        assertNull(config.getOutput());
+    }
+
+    @Test
+    public void argumentsOverrideDefaults() {
+        LoadTestConfig config = LoadTestConfig.parse("--entities=50000", "--churn=250", "--ticks=2000",
+                "--render=0.25", "--tickRate=60", "--worldSize=512", "--seed=-3", "--output=report.json");
+        assertEquals(50_000, config.getEntities());
+        assertEquals(250, config.getChurn());
+        assertEquals(2_000, config.getTicks());
+        assertEquals(0.25, config.getRenderFraction());
+        assertEquals(60, config.getTickRate());
+        assertEquals(512, config.getWorldSize());
+        assertEquals(-3, config.getSeed());
+        assertEquals("report.json", config.getOutput());
+    }
+
+    @Test
+    public void invalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("entities=5"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--entities"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--entitys=5"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--entities=many"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--ticks=0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--physics=1.5"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--tickRate=-1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--entities=10", "--churn=11"));
+    }
+}
@@ -0,0 +1,42 @@
+package org.clowdy.sandbox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadTestReportTest {
+    @Test
+    public void toJsonReportsConfigLatenciesAndMemory() {
+        LoadTestConfig config = LoadTestConfig.parse("--entities=200", "--churn=5", "--ticks=4", "--seed=7");
+        TickStatistics statistics = new TickStatistics(4);
+        for (long nanos : new long[]{1_000_000, 2_000_000, 3_000_000, 4_000_000}) {
+            statistics.record(nanos);
+        }
+        LoadTestReport report = new LoadTestReport(config, statistics, 20_000_000, 1024, 2048, 4096, 8192, 3, 12,
+                17);
+        assertEquals(400, report.getTicksPerSecond(), 1e-9);
+        String json = report.toJson();
+        assertTrue(json.startsWith("{\n") && json.endsWith("}\n"));
+        assertTrue(json.contains("\"entities\": 200,"));
+        assertTrue(json.contains("\"churnPerTick\": 5,"));
+        assertTrue(json.contains("\"seed\": 7\n"));
+        assertTrue(json.contains("\"ticks\": 4,"));
+        assertTrue(json.contains("\"elapsedSeconds\": 0.0200,"));
+        assertTrue(json.contains("\"ticksPerSecond\": 400.0000,"));
+        assertTrue(json.contains("\"mean\": 2.5000,"));
+        assertTrue(json.contains("\"p50\": 2.0000,"));
+        assertTrue(json.contains("\"max\": 4.0000\n"));
+        assertTrue(json.contains("\"peakUsedBytes\": 2048,"));
+        assertTrue(json.contains("\"millis\": 12\n"));
+        assertTrue(json.contains("\"contacts\": 17\n"));
+    }
+
+    @Test
+    public void anEmptyRunHasNoThroughput() {
+        LoadTestReport report = new LoadTestReport(LoadTestConfig.parse(), new TickStatistics(1), 0, 0, 0, 0, -1,
+                0, 0, 0);
+        assertEquals(0, report.getTicksPerSecond());
+        assertTrue(report.toJson().contains("\"ticksPerSecond\": 0.0000,"));
+        assertTrue(report.toJson().contains("\"maxBytes\": -1\n"));
+    }
+}
@@ -0,0 +1,47 @@
+package org.clowdy.sandbox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickStatisticsTest {
+    @Test
+    public void percentilesUseTheNearestRank() {
+        TickStatistics statistics = new TickStatistics(100);
+        // Recorded out of order, the percentiles sort a copy.
+        for (int i = 100; i >= 1; i--) {
+            statistics.record(i);
+        }
+        assertEquals(1, statistics.getPercentileNanos(0));
+        assertEquals(50, statistics.getPercentileNanos(50));
+        assertEquals(90, statistics.getPercentileNanos(90));
+        assertEquals(99, statistics.getPercentileNanos(99));
+        assertEquals(100, statistics.getPercentileNanos(99.9));
+        assertEquals(100, statistics.getPercentileNanos(100));
+    }
+
+    @Test
+    public void totalsAndMeanCoverRecordedTicks() {
+        TickStatistics statistics = new TickStatistics(4);
+        assertEquals(0, statistics.getMeanNanos());
+        assertEquals(0, statistics.getPercentileNanos(50));
+        statistics.record(10);
+        statistics.record(30);
+        assertEquals(30, statistics.getPercentileNanos(100));
+        // A later sample is included in percentiles already computed once.
+        statistics.record(50);
+        assertEquals(3, statistics.getCount());
+        assertEquals(90, statistics.getTotalNanos());
+        assertEquals(30, statistics.getMeanNanos());
+        assertEquals(50, statistics.getPercentileNanos(100));
+    }
+
+    @Test
+    public void invalidUseThrows() {
+        TickStatistics statistics = new TickStatistics(1);
+        statistics.record(1);
+        assertThrows(IllegalStateException.class, () -> statistics.record(2));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getPercentileNanos(100.5));
+    }
+}
@@ -5,4 +5,9 @@ public class StringFormatter {
         return value == (long) value ?
                 Long.toString((long) value) : Float.toString(value);
     }
+
+    public static String removeTrailingZero(double value) {
+        return value == (long) value ?
+                Long.toString((long) value) : Double.toString(value);
+    }
 }
@@ -0,0 +1,169 @@
+package org.clowdy.util.job;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * <p>An immutable directed acyclic graph of the Jobs making up a frame. A Job only starts once every Job it depends
+ * on has finished; Jobs with no path between them may run in parallel.</p>
+ *
+ * <p>FrameGraphs are created through the FrameGraph.Builder, which validates that every dependency exists, that the
+ * graph has no cycles and that no simulation Job depends on a render Job.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class FrameGraph {
+    // Per job data, indexed in insertion order.
+    private final String[] names;
+    private final Stage[] stages;
+    private final Job[] jobs;
+    // Number of dependencies of each job.
+    private final int[] dependencyCounts;
+    // Indices of the jobs depending on each job.
+    private final int[][] dependents;
+    // Indices of the jobs in each stage.
+    private final int[][] stageJobs;
+
+    // Private to ensure FrameGraphs are only created through the Builder.
+    private FrameGraph(Builder builder, int[][] dependencies) {
+        int size = builder.names.size();
+        names = builder.names.toArray(new String[0]);
+        stages = builder.stages.toArray(new Stage[0]);
+        jobs = builder.jobs.toArray(new Job[0]);
+        dependencyCounts = new int[size];
+        int[] dependentCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            dependencyCounts[i] = dependencies[i].length;
+            for (int dependency : dependencies[i]) {
+                dependentCounts[dependency]++;
+            }
+        }
+        dependents = new int[size][];
+        for (int i = 0; i < size; i++) {
+            dependents[i] = new int[dependentCounts[i]];
+        }
+        int[] filled = new int[size];
+        for (int i = 0; i < size; i++) {
+            for (int dependency : dependencies[i]) {
+                dependents[dependency][filled[dependency]++] = i;
+            }
+        }
+        stageJobs = new int[Stage.values().length][];
+        for (Stage stage : Stage.values()) {
+            stageJobs[stage.ordinal()] = IntStream.range(0, size)
+                    .filter(i -> stages[i] == stage).toArray();
+        }
+    }
+
+    /**
+     * Returns a new Builder for a FrameGraph.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of Jobs in this FrameGraph.
+     *
+     * @return The number of Jobs in this FrameGraph.
+     */
+    public int size() {
+        return jobs.length;
+    }
+
+    // Accessors for the FrameScheduler.
+    String getName(int job) {
+        return names[job];
+    }
+
+    Stage getStage(int job) {
+        return stages[job];
+    }
+
+    Job getJob(int job) {
+        return jobs[job];
+    }
+
+    int getDependencyCount(int job) {
+        return dependencyCounts[job];
+    }
+
+    int[] getDependents(int job) {
+        return dependents[job];
+    }
+
+    int[] getStageJobs(Stage stage) {
+        return stageJobs[stage.ordinal()];
+    }
+
+    /**
+     * <p>Builds a FrameGraph. Jobs are identified by unique names, and may only depend on Jobs that were added
+     * before them, which guarantees the graph is acyclic.</p>
+     *
+     * @author Dominic Cogan-Tucker
+     */
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<Stage> stages = new ArrayList<>();
+        private final List<Job> jobs = new ArrayList<>();
+        private final List<int[]> dependencies = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Return this Builder after adding the given Job to the graph.
+         *
+         * @param name         The unique name of the Job.
+         * @param stage        The Stage the Job belongs to.
+         * @param job          The Job to add.
+         * @param dependencies The names of the Jobs that must finish before this Job starts.
+         * @return This Builder.
+         * @throws IllegalArgumentException When the name is already used, a dependency has not been added, or a
+         *                                  simulation Job depends on a render Job.
+         */
+        public Builder addJob(String name, Stage stage, Job job, String... dependencies) {
+            if (name == null || stage == null || job == null) {
+                throw new IllegalArgumentException("The name, stage and job can not be null.");
+            }
+            if (indices.containsKey(name)) {
+                throw new IllegalArgumentException("A job named '" + name + "' has already been added.");
+            }
+            int[] dependencyIndices = new int[dependencies.length];
+            Set<Integer> unique = new HashSet<>();
+            for (int i = 0; i < dependencies.length; i++) {
+                Integer index = indices.get(dependencies[i]);
+                if (index == null) {
+                    throw new IllegalArgumentException("Job '" + name + "' depends on '" + dependencies[i]
+                            + "' which has not been added.");
+                }
+                if (stage == Stage.SIMULATION && stages.get(index) == Stage.RENDER) {
+                    throw new IllegalArgumentException("Simulation job '" + name + "' can not depend on render job '"
+                            + dependencies[i] + "'.");
+                }
+                if (!unique.add(index)) {
+                    throw new IllegalArgumentException("Job '" + name + "' lists '" + dependencies[i] + "' twice.");
+                }
+                dependencyIndices[i] = index;
+            }
+            indices.put(name, names.size());
+            names.add(name);
+            stages.add(stage);
+            jobs.add(job);
+            this.dependencies.add(dependencyIndices);
+            return this;
+        }
+
+        /**
+         * Returns a new FrameGraph containing the Jobs added to this Builder.
+         *
+         * @return A new FrameGraph.
+         */
+        public FrameGraph build() {
+            return new FrameGraph(this, dependencies.toArray(new int[0][]));
+        }
+    }
+}
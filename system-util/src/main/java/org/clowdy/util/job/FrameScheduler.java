@@ -0,0 +1,230 @@
+package org.clowdy.util.job;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Executes the Jobs of a FrameGraph once per frame on a work-stealing ForkJoinPool. A Job is scheduled as soon as
+ * its last dependency finishes; Jobs released from inside a worker are forked onto that worker's own queue, and idle
+ * workers steal from the others, so every core stays busy while the graph has parallel work.</p>
+ *
+ * <p>Consecutive frames are ordered per Stage: the Jobs of a Stage in frame N+1 only start once every Job of that
+ * Stage in frame N has finished. When the scheduler is pipelined, runFrame returns once the simulation stage of the
+ * frame is done, leaving its render stage running alongside the simulation stage of the next frame. At most one
+ * render stage is ever left in flight. Render Jobs that overlap the next simulation must therefore only read state
+ * the simulation doesn't write, e.g. a snapshot taken by an earlier render Job.</p>
+ *
+ * <p>If a Job throws, the remaining Jobs of that frame are skipped and the failure is rethrown from runFrame or
+ * awaitIdle as an IllegalStateException.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class FrameScheduler implements AutoCloseable {
+    private final FrameGraph graph;
+    private final ForkJoinPool pool;
+    // True if the pool was created by, and so should be shut down by, this scheduler.
+    private final boolean ownsPool;
+    private final boolean pipelined;
+    // The most recently started frame.
+    private FrameExecution previous;
+    // Number of the next frame to run.
+    private long nextFrame;
+
+    /**
+     * Constructs a FrameScheduler that runs the given FrameGraph on a new ForkJoinPool with one worker per
+     * available processor. The pool is shut down when the scheduler is closed.
+     *
+     * @param graph     The FrameGraph to execute each frame.
+     * @param pipelined true to overlap the render stage of each frame with the simulation stage of the next.
+     */
+    public FrameScheduler(FrameGraph graph, boolean pipelined) {
+        this(graph, new ForkJoinPool(Runtime.getRuntime().availableProcessors()), true, pipelined);
+    }
+
+    /**
+     * Constructs a FrameScheduler that runs the given FrameGraph on the given ForkJoinPool. The pool is left
+     * running when the scheduler is closed.
+     *
+     * @param graph     The FrameGraph to execute each frame.
+     * @param pool      The pool to execute Jobs on.
+     * @param pipelined true to overlap the render stage of each frame with the simulation stage of the next.
+     */
+    public FrameScheduler(FrameGraph graph, ForkJoinPool pool, boolean pipelined) {
+        this(graph, pool, false, pipelined);
+    }
+
+    private FrameScheduler(FrameGraph graph, ForkJoinPool pool, boolean ownsPool, boolean pipelined) {
+        if (graph == null || pool == null) {
+            throw new IllegalArgumentException("The graph and pool can not be null.");
+        }
+        this.graph = graph;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.pipelined = pipelined;
+    }
+
+    /**
+     * Starts the next frame and returns its number once it may be followed by another. Without pipelining that
+     * is once the whole frame has finished; with pipelining it is once the frame's simulation stage and the
+     * previous frame's render stage have finished.
+     *
+     * @return The number of the frame started.
+     * @throws IllegalStateException When a Job of this frame or an earlier frame failed.
+     */
+    public long runFrame() {
+        FrameExecution current = new FrameExecution(nextFrame, previous);
+        FrameExecution last = previous;
+        previous = current;
+        nextFrame++;
+        if (pipelined) {
+            await(current.stageDone(Stage.SIMULATION));
+            if (last != null) {
+                await(last.stageDone(Stage.RENDER));
+            }
+        } else {
+            await(current.done);
+        }
+        return current.frame;
+    }
+
+    /**
+     * Blocks until every started frame has finished.
+     *
+     * @throws IllegalStateException When a Job of a started frame failed.
+     */
+    public void awaitIdle() {
+        if (previous != null) {
+            await(previous.done);
+        }
+    }
+
+    /**
+     * Returns true if this scheduler overlaps the render stage of each frame with the simulation of the next.
+     *
+     * @return true if this scheduler is pipelined.
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Waits for every started frame to finish, then shuts down the pool if it was created by this scheduler.
+     */
+    @Override
+    public void close() {
+        try {
+            awaitIdle();
+        } finally {
+            if (ownsPool) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Waits for the given future, rethrowing a Job failure as an IllegalStateException.
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * The state of a single frame, counting down the outstanding dependencies of each Job.
+     */
+    private final class FrameExecution {
+        private final long frame;
+        // Outstanding dependencies of each job, plus one for the stage gate.
+        private final AtomicIntegerArray pending;
+        // Jobs still to finish in each stage.
+        private final AtomicIntegerArray stageRemaining;
+        // Completed when every job of the stage has finished.
+        private final CompletableFuture<Void>[] stageDone;
+        // Completed when every stage has finished.
+        private final CompletableFuture<Void> done;
+        // The first failure of a job in this frame.
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private FrameExecution(long frame, FrameExecution previous) {
+            this.frame = frame;
+            Stage[] allStages = Stage.values();
+            pending = new AtomicIntegerArray(graph.size());
+            for (int i = 0; i < graph.size(); i++) {
+                pending.set(i, graph.getDependencyCount(i) + 1);
+            }
+            stageRemaining = new AtomicIntegerArray(allStages.length);
+            stageDone = new CompletableFuture[allStages.length];
+            for (Stage stage : allStages) {
+                stageRemaining.set(stage.ordinal(), graph.getStageJobs(stage).length);
+                stageDone[stage.ordinal()] = new CompletableFuture<>();
+            }
+            done = CompletableFuture.allOf(stageDone);
+            for (Stage stage : allStages) {
+                if (previous == null) {
+                    openGate(stage);
+                } else {
+                    CompletableFuture<Void> gate = pipelined ? previous.stageDone(stage) : previous.done;
+                    // A failed frame still opens the gate, its failure is reported by its own futures.
+                    gate.whenComplete((result, throwable) -> openGate(stage));
+                }
+            }
+        }
+
+        private CompletableFuture<Void> stageDone(Stage stage) {
+            return stageDone[stage.ordinal()];
+        }
+
+        // Releases the gate dependency of every job in the given stage.
+        private void openGate(Stage stage) {
+            int[] jobs = graph.getStageJobs(stage);
+            if (jobs.length == 0) {
+                stageDone(stage).complete(null);
+            }
+            for (int job : jobs) {
+                release(job);
+            }
+        }
+
+        // Removes one outstanding dependency from the given job, scheduling it once none remain.
+        private void release(int job) {
+            if (pending.decrementAndGet(job) == 0) {
+                ForkJoinTask<?> task = ForkJoinTask.adapt(() -> run(job));
+                if (ForkJoinTask.getPool() == pool) {
+                    task.fork();
+                } else {
+                    pool.execute(task);
+                }
+            }
+        }
+
+        // Runs the given job unless the frame has failed, then releases its dependents.
+        private void run(int job) {
+            if (failure.get() == null) {
+                try {
+                    graph.getJob(job).execute(frame);
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, new IllegalStateException("Job '" + graph.getName(job)
+                            + "' failed in frame " + frame + ".", throwable));
+                }
+            }
+            for (int dependent : graph.getDependents(job)) {
+                release(dependent);
+            }
+            Stage stage = graph.getStage(job);
+            if (stageRemaining.decrementAndGet(stage.ordinal()) == 0) {
+                Throwable throwable = failure.get();
+                if (throwable == null) {
+                    stageDone(stage).complete(null);
+                } else {
+                    stageDone(stage).completeExceptionally(throwable);
+                }
+            }
+        }
+    }
+}
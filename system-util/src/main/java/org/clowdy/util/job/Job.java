@@ -0,0 +1,16 @@
+package org.clowdy.util.job;
+
+/**
+ * A unit of work executed once per frame by a FrameScheduler.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@FunctionalInterface
+public interface Job {
+    /**
+     * Executes this Job for the given frame.
+     *
+     * @param frame The number of the frame being executed, starting from 0.
+     */
+    void execute(long frame);
+}
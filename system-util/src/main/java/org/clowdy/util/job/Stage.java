@@ -0,0 +1,19 @@
+package org.clowdy.util.job;
+
+/**
+ * The stage of a frame a Job belongs to. Each stage runs its jobs of consecutive frames in order, so the
+ * simulation jobs of frame N+1 never start before those of frame N have finished. When a FrameScheduler is
+ * pipelined, the render stage of frame N runs alongside the simulation stage of frame N+1.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public enum Stage {
+    /**
+     * Input sampling and simulation systems.
+     */
+    SIMULATION,
+    /**
+     * Render extraction and submission.
+     */
+    RENDER
+}
@@ -0,0 +1,34 @@
+package org.clowdy.util.loop;
+
+/**
+ * The time source of a GameLoop. The system clock is used in production, while tests can supply a fake clock whose
+ * time only advances when told to, making the loop fully deterministic.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public interface Clock {
+    /**
+     * Returns the current value of this Clock in nanoseconds. Only the difference between two values is
+     * meaningful.
+     *
+     * @return The current time in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Blocks the calling thread for approximately the given number of nanoseconds.
+     *
+     * @param nanos The time to sleep in nanoseconds.
+     * @throws InterruptedException When the thread is interrupted while sleeping.
+     */
+    void sleep(long nanos) throws InterruptedException;
+
+    /**
+     * Returns a Clock backed by System.nanoTime and Thread.sleep.
+     *
+     * @return The system Clock.
+     */
+    static Clock system() {
+        return SystemClock.INSTANCE;
+    }
+}
@@ -0,0 +1,103 @@
+package org.clowdy.util.loop;
+
+/**
+ * The timing of a single frame of a GameLoop. A single instance is reused for every frame, so listeners must copy
+ * any values they want to keep rather than retain the instance.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class FrameTelemetry {
+    long frame;
+    long frameNanos;
+    int updates;
+    long lagNanos;
+    long droppedNanos;
+    double alpha;
+    long requestedSleepNanos;
+    long actualSleepNanos;
+
+    FrameTelemetry() {
+    }
+
+    /**
+     * Returns the number of the frame, starting from 0.
+     *
+     * @return The frame number.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns the time elapsed since the start of the previous frame.
+     *
+     * @return The frame time in nanoseconds.
+     */
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * Returns the number of fixed updates run during the frame.
+     *
+     * @return The number of updates run during the frame.
+     */
+    public int getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Returns the simulation time left unconsumed after the frame's updates, always less than one step.
+     *
+     * @return The lag in nanoseconds.
+     */
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    /**
+     * Returns the simulation time discarded because the update limit per frame was reached. Non-zero values mean
+     * the simulation is running slower than real time.
+     *
+     * @return The discarded time in nanoseconds.
+     */
+    public long getDroppedNanos() {
+        return droppedNanos;
+    }
+
+    /**
+     * Returns the interpolation alpha passed to render.
+     *
+     * @return The interpolation alpha.
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Returns the time the loop asked to sleep for at the end of the frame, 0 if it did not sleep.
+     *
+     * @return The requested sleep in nanoseconds.
+     */
+    public long getRequestedSleepNanos() {
+        return requestedSleepNanos;
+    }
+
+    /**
+     * Returns the time the loop actually slept for at the end of the frame.
+     *
+     * @return The actual sleep in nanoseconds.
+     */
+    public long getActualSleepNanos() {
+        return actualSleepNanos;
+    }
+
+    /**
+     * Returns how much longer than requested the loop slept, negative if it woke early.
+     *
+     * @return The sleep error in nanoseconds.
+     */
+    public long getSleepErrorNanos() {
+        return actualSleepNanos - requestedSleepNanos;
+    }
+}
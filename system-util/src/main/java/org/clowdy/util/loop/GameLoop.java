@@ -0,0 +1,272 @@
+package org.clowdy.util.loop;
+
+/**
+ * <p>Drives a Simulation with a fixed simulation timestep and a variable render rate. Each frame the time elapsed
+ * since the previous frame is added to an accumulator, which is consumed by as many fixed updates as fit in it.
+ * The remainder is passed to render as an interpolation alpha, so rendering stays smooth whatever the ratio of frame
+ * rate to update rate.</p>
+ *
+ * <p>A frame never runs more than the configured number of updates. When the simulation can not keep up with real
+ * time the excess time is dropped, so the game slows down rather than falling into a spiral of death in which each
+ * frame has to run more updates than the last. If a target frame rate is set the loop sleeps at the end of each frame
+ * until the frame's deadline.</p>
+ *
+ * <p>The timing of every frame is reported to the TelemetryListener, if one is set. Time is read from a pluggable
+ * Clock, allowing the loop to be driven headlessly from tests.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public class GameLoop {
+    // The game being driven.
+    private final Simulation simulation;
+    // The source of time.
+    private final Clock clock;
+    // The receiver of frame timings, may be null.
+    private final TelemetryListener listener;
+    // The fixed update step, in nanoseconds and seconds.
+    private final long stepNanos;
+    private final double stepSeconds;
+    // The frame period to sleep to, 0 if uncapped.
+    private final long framePeriodNanos;
+    // The most updates run in a single frame.
+    private final int maxUpdatesPerFrame;
+    // The timing of the current frame, reused every frame.
+    private final FrameTelemetry telemetry = new FrameTelemetry();
+
+    // Unconsumed simulation time.
+    private long accumulator;
+    // Start of the previous frame.
+    private long previousTime;
+    // Time the current frame should end by when the frame rate is capped.
+    private long deadline;
+    private long frame;
+    private boolean started;
+    private volatile boolean running;
+
+    // Private to ensure GameLoops are only created through the Builder.
+    private GameLoop(Builder builder) {
+        simulation = builder.simulation;
+        clock = builder.clock;
+        listener = builder.listener;
+        stepNanos = Math.round(1_000_000_000.0 / builder.updateRate);
+        stepSeconds = stepNanos / 1_000_000_000.0;
+        framePeriodNanos = builder.frameRate == 0 ? 0 : Math.round(1_000_000_000.0 / builder.frameRate);
+        maxUpdatesPerFrame = builder.maxUpdatesPerFrame;
+    }
+
+    /**
+     * Returns a new Builder for a GameLoop driving the given Simulation.
+     *
+     * @param simulation The Simulation to drive.
+     * @return A new Builder.
+     */
+    public static Builder builder(Simulation simulation) {
+        return new Builder(simulation);
+    }
+
+    /**
+     * Runs frames on the calling thread until stop is called. If the thread is interrupted the loop stops and the
+     * interrupt status is preserved.
+     */
+    public void run() {
+        running = true;
+        while (running && !Thread.currentThread().isInterrupted()) {
+            runFrame();
+        }
+        running = false;
+    }
+
+    /**
+     * Causes run to return once the current frame is finished. May be called from any thread, including from
+     * within the Simulation.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Returns true if run is executing and stop has not been called.
+     *
+     * @return true if the loop is running, false if not.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs a single frame: the fixed updates the elapsed time calls for, one render, then, if the frame rate is
+     * capped, a sleep until the frame's deadline. The first frame only renders, as no time has elapsed yet. This
+     * allows the loop to be embedded in a loop owned by a windowing library.
+     *
+     * @return The timing of the frame, reused by the next frame.
+     */
+    public FrameTelemetry runFrame() {
+        long now = clock.nanoTime();
+        if (!started) {
+            started = true;
+            previousTime = now;
+            deadline = now;
+        }
+        long elapsed = now - previousTime;
+        previousTime = now;
+        accumulator += elapsed;
+
+        int updates = 0;
+        while (accumulator >= stepNanos && updates < maxUpdatesPerFrame) {
+            simulation.update(stepSeconds);
+            accumulator -= stepNanos;
+            updates++;
+        }
+        long dropped = 0;
+        if (accumulator >= stepNanos) {
+            // Keep the sub-step remainder so interpolation stays continuous.
+            dropped = accumulator - accumulator % stepNanos;
+            accumulator -= dropped;
+        }
+        double alpha = (double) accumulator / stepNanos;
+        simulation.render(alpha);
+
+        telemetry.frame = frame++;
+        telemetry.frameNanos = elapsed;
+        telemetry.updates = updates;
+        telemetry.lagNanos = accumulator;
+        telemetry.droppedNanos = dropped;
+        telemetry.alpha = alpha;
+        telemetry.requestedSleepNanos = 0;
+        telemetry.actualSleepNanos = 0;
+        if (framePeriodNanos > 0) {
+            sleepUntilDeadline();
+        }
+        if (listener != null) {
+            listener.onFrame(telemetry);
+        }
+        return telemetry;
+    }
+
+    // Sleeps until the end of the current frame period, recording how accurately the clock slept.
+    private void sleepUntilDeadline() {
+        deadline += framePeriodNanos;
+        long before = clock.nanoTime();
+        long remaining = deadline - before;
+        if (remaining <= 0) {
+            // More than a whole period behind, start pacing afresh rather than rushing to catch up.
+            if (remaining < -framePeriodNanos) {
+                deadline = before;
+            }
+            return;
+        }
+        try {
+            clock.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        telemetry.requestedSleepNanos = remaining;
+        telemetry.actualSleepNanos = clock.nanoTime() - before;
+    }
+
+    /**
+     * Returns the length of the fixed update step.
+     *
+     * @return The update step in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Builder for a GameLoop. By default the loop runs 60 updates per second, at most 5 per frame, renders as fast
+     * as possible and uses the system clock.
+     */
+    public static final class Builder {
+        private final Simulation simulation;
+        private Clock clock = Clock.system();
+        private TelemetryListener listener;
+        private double updateRate = 60;
+        private double frameRate;
+        private int maxUpdatesPerFrame = 5;
+
+        private Builder(Simulation simulation) {
+            if (simulation == null) {
+                throw new IllegalArgumentException("The simulation can not be null.");
+            }
+            this.simulation = simulation;
+        }
+
+        /**
+         * Sets the number of fixed updates per second of simulation time.
+         *
+         * @param updateRate The update rate in hertz, must be positive.
+         * @return This Builder.
+         */
+        public Builder updateRate(double updateRate) {
+            if (!(updateRate > 0)) {
+                throw new IllegalArgumentException("The update rate must be positive.");
+            }
+            this.updateRate = updateRate;
+            return this;
+        }
+
+        /**
+         * Sets the target frame rate the loop sleeps to hold. A rate of 0 renders as fast as possible.
+         *
+         * @param frameRate The frame rate in hertz, must be positive or 0.
+         * @return This Builder.
+         */
+        public Builder frameRate(double frameRate) {
+            if (!(frameRate >= 0)) {
+                throw new IllegalArgumentException("The frame rate can not be negative.");
+            }
+            this.frameRate = frameRate;
+            return this;
+        }
+
+        /**
+         * Sets the most updates run in a single frame, beyond which elapsed time is dropped.
+         *
+         * @param maxUpdatesPerFrame The update limit, must be positive.
+         * @return This Builder.
+         */
+        public Builder maxUpdatesPerFrame(int maxUpdatesPerFrame) {
+            if (maxUpdatesPerFrame < 1) {
+                throw new IllegalArgumentException("The update limit must be positive.");
+            }
+            this.maxUpdatesPerFrame = maxUpdatesPerFrame;
+            return this;
+        }
+
+        /**
+         * Sets the Clock the loop reads time from.
+         *
+         * @param clock The Clock to use.
+         * @return This Builder.
+         */
+        public Builder clock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("The clock can not be null.");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets the listener receiving the timing of every frame.
+         *
+         * @param listener The TelemetryListener, or null for none.
+         * @return This Builder.
+         */
+        public Builder telemetry(TelemetryListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Builds the GameLoop.
+         *
+         * @return The new GameLoop.
+         */
+        public GameLoop build() {
+            return new GameLoop(this);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.clowdy.util.loop;
+
+/**
+ * The game driven by a GameLoop. The simulation is advanced in fixed steps, while rendering happens once per frame
+ * and interpolates between the last two simulation states.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public interface Simulation {
+    /**
+     * Advances the simulation by one fixed step.
+     *
+     * @param deltaTime The length of the step in seconds, the same on every call.
+     */
+    void update(double deltaTime);
+
+    /**
+     * Renders a frame.
+     *
+     * @param alpha How far between the previous and current simulation state the frame is, from 0 inclusive to
+     *              1 exclusive.
+     */
+    void render(double alpha);
+}
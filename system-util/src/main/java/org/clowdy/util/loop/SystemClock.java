@@ -0,0 +1,23 @@
+package org.clowdy.util.loop;
+
+/**
+ * A Clock backed by System.nanoTime and Thread.sleep.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+final class SystemClock implements Clock {
+    static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long nanos) throws InterruptedException {
+        Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+    }
+}
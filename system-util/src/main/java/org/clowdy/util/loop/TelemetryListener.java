@@ -0,0 +1,16 @@
+package org.clowdy.util.loop;
+
+/**
+ * Receives the timing of each frame run by a GameLoop.
+ *
+ * @author Dominic Cogan-Tucker
+ */
+@FunctionalInterface
+public interface TelemetryListener {
+    /**
+     * Called at the end of every frame.
+     *
+     * @param telemetry The timing of the frame. The instance is reused for the next frame.
+     */
+    void onFrame(FrameTelemetry telemetry);
+}
@@ -0,0 +1,373 @@
+package org.clowdy.util.random;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>A small, fast and splittable pseudo random number generator, xoshiro256** seeded through SplitMix64. Unlike
+ * java.util.Random it has no shared atomic state, so each thread or job owning a FastRandom never contends, and
+ * unlike ThreadLocalRandom every sequence is reproducible from its seed.</p>
+ *
+ * <p>A FastRandom is not thread safe, instead parallel work derives independent generators:</p>
+ * <ul>
+ *     <li>stream(seed, id) derives the generator of e.g. an entity or job from a world seed and a stable id. The
+ *     sequence depends only on the seed and id, never on the order or thread the streams are created on, so a
+ *     parallel spawn replays exactly;</li>
+ *     <li>split() derives a new generator from the next values of this one, for work that is forked in a fixed
+ *     order.</li>
+ * </ul>
+ *
+ * <p>The static fill splits a large array into blocks with a stream per block, so it gives the same values whether
+ * the blocks are filled sequentially or in parallel.</p>
+ *
+ * @author Dominic Cogan-Tucker
+ */
+public final class FastRandom {
+    /**
+     * The number of floats from which the static fill is split between the tasks of a ForkJoinPool, and the size
+     * of each block of floats with its own stream.
+     */
+    public static final int FLOATS_PER_BLOCK = 4096;
+
+    // The increment of the SplitMix64 sequence, the golden ratio in 64-bit fixed point.
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    // Scales the top 24 bits of a long into a float in [0, 1), and the top 53 into a double.
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // The 256 bits of xoshiro256** state, never all zero.
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+    // The second value of the last pair of normally distributed values, if it has not been used yet.
+    private double nextGaussian;
+    private boolean haveNextGaussian;
+
+    /**
+     * Constructs a FastRandom with the given seed. Generators of the same seed give the same sequence.
+     *
+     * @param seed The seed of the generator.
+     */
+    public FastRandom(long seed) {
+        long state = seed;
+        s0 = mix(state += GOLDEN_GAMMA);
+        s1 = mix(state += GOLDEN_GAMMA);
+        s2 = mix(state += GOLDEN_GAMMA);
+        s3 = mix(state + GOLDEN_GAMMA);
+        if ((s0 | s1 | s2 | s3) == 0) {
+            s0 = GOLDEN_GAMMA;
+        }
+    }
+
+    /*
+     * Constructs a FastRandom with the given raw state, for testing against the reference implementation.
+     */
+    FastRandom(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /**
+     * Returns the generator of the given stream of a seed, e.g. of an entity id under a world seed. Distinct
+     * streams of the same seed are statistically independent.
+     *
+     * @param seed   The seed shared by the streams, e.g. the world seed.
+     * @param stream The id of the stream.
+     * @return The generator of the stream.
+     */
+    public static FastRandom stream(long seed, long stream) {
+        return new FastRandom(mix(seed) ^ mix(stream * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Returns the SplitMix64 finaliser of the given value, a bijective hash with good avalanche. It is the basis of
+     * seeding and can also be used directly to hash ids into well distributed bits.
+     *
+     * @param value The value to hash.
+     * @return The hash.
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a new generator seeded from the next value of this one, advancing this generator.
+     *
+     * @return A new generator.
+     */
+    public FastRandom split() {
+        return new FastRandom(nextLong());
+    }
+
+    /**
+     * Returns the next pseudo random long, uniformly distributed over every long.
+     *
+     * @return The next long.
+     */
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    /**
+     * Returns the next pseudo random int, uniformly distributed over every int.
+     *
+     * @return The next int.
+     */
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns the next pseudo random int in [0, bound), uniformly distributed without the bias of a modulo.
+     *
+     * @param bound The exclusive upper bound.
+     * @return The next int in [0, bound).
+     * @throws IllegalArgumentException When the bound is not positive.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound must be positive.");
+        }
+        // Lemire's multiply and shift, rejecting the few values that would make some results more likely.
+        long product = (nextLong() >>> 32) * bound;
+        long fraction = product & 0xffffffffL;
+        if (fraction < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (fraction < threshold) {
+                product = (nextLong() >>> 32) * bound;
+                fraction = product & 0xffffffffL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Returns the next pseudo random int in [origin, bound).
+     *
+     * @param origin The inclusive lower bound.
+     * @param bound  The exclusive upper bound.
+     * @return The next int in [origin, bound).
+     * @throws IllegalArgumentException When the origin is not less than the bound, or the range overflows an int.
+     */
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound || bound - origin <= 0) {
+            throw new IllegalArgumentException("The origin must be less than the bound within the range of an int.");
+        }
+        return origin + nextInt(bound - origin);
+    }
+
+    /**
+     * Returns the next pseudo random float, uniformly distributed in [0, 1).
+     *
+     * @return The next float in [0, 1).
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    /**
+     * Returns the next pseudo random float, uniformly distributed in [min, max).
+     *
+     * @param min The inclusive lower bound.
+     * @param max The exclusive upper bound.
+     * @return The next float in [min, max).
+     */
+    public float nextFloat(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /**
+     * Returns the next pseudo random double, uniformly distributed in [0, 1).
+     *
+     * @return The next double in [0, 1).
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns the next pseudo random boolean.
+     *
+     * @return The next boolean.
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns the next pseudo random double from the standard normal distribution, with mean 0 and standard
+     * deviation 1. The values are generated in pairs by the polar method.
+     *
+     * @return The next normally distributed double.
+     */
+    public double nextGaussian() {
+        if (haveNextGaussian) {
+            haveNextGaussian = false;
+            return nextGaussian;
+        }
+        double u, v, s;
+        do {
+            u = nextDouble() * 2 - 1;
+            v = nextDouble() * 2 - 1;
+            s = u * u + v * v;
+        } while (s >= 1 || s == 0);
+        double scale = Math.sqrt(-2 * Math.log(s) / s);
+        nextGaussian = v * scale;
+        haveNextGaussian = true;
+        return u * scale;
+    }
+
+    /**
+     * Returns the given array after filling it with pseudo random floats uniformly distributed in [0, 1).
+     *
+     * @param dest The array to fill.
+     * @return The given array.
+     * @throws IllegalArgumentException When the array is null.
+     */
+    public float[] fill(float[] dest) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination array can not be null.");
+        }
+        return fill(dest, 0, dest.length, 0, 1);
+    }
+
+    /**
+     * Returns the given array after filling the given range of it with pseudo random floats uniformly distributed
+     * in [min, max). Two floats are taken from each long, so a fill uses half the state updates of nextFloat.
+     *
+     * @param dest The array to fill.
+     * @param from The first index to fill.
+     * @param to   The index after the last to fill.
+     * @param min  The inclusive lower bound.
+     * @param max  The exclusive upper bound.
+     * @return The given array.
+     * @throws IllegalArgumentException  When the array is null.
+     * @throws IndexOutOfBoundsException When the range is outside the array.
+     */
+    public float[] fill(float[] dest, int from, int to, float min, float max) {
+        checkRange(dest, from, to);
+        float scale = (max - min) * FLOAT_UNIT;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            long bits = nextLong();
+            dest[i] = min + (bits >>> 40) * scale;
+            dest[i + 1] = min + ((bits >>> 16) & 0xffffff) * scale;
+        }
+        if (i < to) {
+            dest[i] = min + (nextLong() >>> 40) * scale;
+        }
+        return dest;
+    }
+
+    /**
+     * Returns the given array after filling it with pseudo random floats uniformly distributed in [min, max) from
+     * the streams of the given seed, splitting large arrays between the tasks of the common ForkJoinPool. Each
+     * block of FLOATS_PER_BLOCK floats is filled from its own stream, so the values depend only on the seed.
+     *
+     * @param seed The seed of the streams.
+     * @param dest The array to fill.
+     * @param min  The inclusive lower bound.
+     * @param max  The exclusive upper bound.
+     * @return The given array.
+     * @throws IllegalArgumentException When the array is null.
+     */
+    public static float[] fill(long seed, float[] dest, float min, float max) {
+        return fill(seed, dest, min, max, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the given array after filling it with pseudo random floats uniformly distributed in [min, max) from
+     * the streams of the given seed, splitting large arrays between the tasks of the given pool. Each block of
+     * FLOATS_PER_BLOCK floats is filled from its own stream, so the values depend only on the seed.
+     *
+     * @param seed The seed of the streams.
+     * @param dest The array to fill.
+     * @param min  The inclusive lower bound.
+     * @param max  The exclusive upper bound.
+     * @param pool The pool to run the tasks of a parallel fill on.
+     * @return The given array.
+     * @throws IllegalArgumentException When the array or pool is null.
+     */
+    public static float[] fill(long seed, float[] dest, float min, float max, ForkJoinPool pool) {
+        if (dest == null || pool == null) {
+            throw new IllegalArgumentException("The destination array and pool can not be null.");
+        }
+        int blocks = (dest.length + FLOATS_PER_BLOCK - 1) / FLOATS_PER_BLOCK;
+        if (blocks > 1) {
+            pool.invoke(new FillTask(seed, dest, min, max, 0, blocks));
+        } else {
+            fillBlocks(seed, dest, min, max, 0, blocks);
+        }
+        return dest;
+    }
+
+    /*
+     * Fills each block in the given range from its own stream.
+     */
+    private static void fillBlocks(long seed, float[] dest, float min, float max, int from, int to) {
+        for (int block = from; block < to; block++) {
+            int start = block * FLOATS_PER_BLOCK;
+            stream(seed, block).fill(dest, start, Math.min(start + FLOATS_PER_BLOCK, dest.length), min, max);
+        }
+    }
+
+    /*
+     * Checks the range is within the array.
+     */
+    private static void checkRange(float[] dest, int from, int to) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination array can not be null.");
+        }
+        if (from < 0 || from > to || to > dest.length) {
+            throw new IndexOutOfBoundsException("The range [" + from + ", " + to
+                    + ") is outside an array of " + dest.length + ".");
+        }
+    }
+
+    /**
+     * Fills a range of blocks, splitting the range in half until it is a single block. The blocks are disjoint so
+     * the tasks never write the same element.
+     */
+    private static final class FillTask extends RecursiveAction {
+        private final long seed;
+        private final float[] dest;
+        private final float min;
+        private final float max;
+        private final int from;
+        private final int to;
+
+        private FillTask(long seed, float[] dest, float min, float max, int from, int to) {
+            this.seed = seed;
+            this.dest = dest;
+            this.min = min;
+            this.max = max;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                fillBlocks(seed, dest, min, max, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FillTask(seed, dest, min, max, from, middle),
+                        new FillTask(seed, dest, min, max, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.clowdy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReflectionEqualsHelper Tests")
+public class ReflectionEqualsHelperTest {
+
+    @Test
+    @DisplayName("Objects With Equal Fields are Equal and Have Equal Hash Codes")
+    void objectsWithEqualFieldsAreEqual() {
+        Sample one = new Sample(1.5f, 2.5, 3, "a");
+        Sample two = new Sample(1.5f, 2.5, 3, "a");
+
+        assertTrue(ReflectionEqualsHelper.areEquals(one, two));
+        assertEquals(ReflectionEqualsHelper.hashcode(one), ReflectionEqualsHelper.hashcode(two));
+    }
+
+    @Test
+    @DisplayName("Objects With a Different Field are Not Equal")
+    void objectsWithDifferentFieldAreNotEqual() {
+        assertFalse(ReflectionEqualsHelper.areEquals(new Sample(1, 2, 3, "a"), new Sample(1, 2, 3, "b")));
+        assertFalse(ReflectionEqualsHelper.areEquals(new Sample(1, 2, 3, "a"), new Sample(1, 2, 4, "a")));
+        assertFalse(ReflectionEqualsHelper.areEquals(new Sample(1, 2, 3, "a"), new Sample(1, 2.5, 3, "a")));
+    }
+
+    @Test
+    @DisplayName("Positive and Negative Zero are Equal")
+    void positiveAndNegativeZeroAreEqual() {
+        Sample one = new Sample(0.0f, 0.0, 0, null);
+        Sample two = new Sample(-0.0f, -0.0, 0, null);
+
+        assertTrue(ReflectionEqualsHelper.areEquals(one, two));
+        assertEquals(ReflectionEqualsHelper.hashcode(one), ReflectionEqualsHelper.hashcode(two));
+    }
+
+    @Test
+    @DisplayName("NaN Fields are Equal to Themselves")
+    void nanFieldsAreEqual() {
+        assertTrue(ReflectionEqualsHelper.areEquals(new Sample(Float.NaN, Double.NaN, 0, null),
+                new Sample(Float.NaN, Double.NaN, 0, null)));
+    }
+
+    @Test
+    @DisplayName("Objects of Different Classes are Not Equal")
+    void objectsOfDifferentClassesAreNotEqual() {
+        assertFalse(ReflectionEqualsHelper.areEquals(new Sample(0, 0, 0, null), new Object()));
+    }
+
+    private static class Sample {
+        private static int instances;
+        private final float f;
+        private final double d;
+        private final int i;
+        private final String s;
+
+        private Sample(float f, double d, int i, String s) {
+            this.f = f;
+            this.d = d;
+            this.i = i;
+            this.s = s;
+            instances++;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.clowdy.util.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FrameScheduler Tests")
+public class FrameSchedulerTest {
+
+    @Test
+    @DisplayName("Jobs Run After Their Dependencies")
+    void jobsRunAfterTheirDependencies() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        FrameGraph graph = FrameGraph.builder()
+                .addJob("input", Stage.SIMULATION, frame -> order.add("input"))
+                .addJob("physics", Stage.SIMULATION, frame -> order.add("physics"), "input")
+                .addJob("ai", Stage.SIMULATION, frame -> order.add("ai"), "input")
+                .addJob("extract", Stage.RENDER, frame -> order.add("extract"), "physics", "ai")
+                .addJob("submit", Stage.RENDER, frame -> order.add("submit"), "extract")
+                .build();
+
+        try (FrameScheduler scheduler = new FrameScheduler(graph, false)) {
+            scheduler.runFrame();
+        }
+
+        assertEquals(5, order.size());
+        assertEquals("input", order.get(0));
+        assertTrue(order.indexOf("extract") > order.indexOf("physics"));
+        assertTrue(order.indexOf("extract") > order.indexOf("ai"));
+        assertEquals("submit", order.get(4));
+    }
+
+    @Test
+    @DisplayName("Every Job Runs Once Per Frame")
+    void everyJobRunsOncePerFrame() {
+        AtomicInteger count = new AtomicInteger();
+        FrameGraph.Builder builder = FrameGraph.builder();
+        for (int i = 0; i < 32; i++) {
+            builder.addJob("job" + i, i < 16 ? Stage.SIMULATION : Stage.RENDER, frame -> count.incrementAndGet());
+        }
+        FrameGraph graph = builder.build();
+
+        try (FrameScheduler scheduler = new FrameScheduler(graph, true)) {
+            for (int frame = 0; frame < 100; frame++) {
+                assertEquals(frame, scheduler.runFrame());
+            }
+        }
+
+        assertEquals(32 * 100, count.get());
+    }
+
+    @Test
+    @DisplayName("Pipelined Render Stage Overlaps the Next Simulation Stage")
+    void pipelinedRenderOverlapsNextSimulation() throws InterruptedException {
+        CountDownLatch nextSimulationStarted = new CountDownLatch(1);
+        FrameGraph graph = FrameGraph.builder()
+                .addJob("simulate", Stage.SIMULATION, frame -> {
+                    if (frame == 1) {
+                        nextSimulationStarted.countDown();
+                    }
+                })
+                .addJob("render", Stage.RENDER, frame -> {
+                    if (frame == 0) {
+                        awaitLatch(nextSimulationStarted);
+                    }
+                }, "simulate")
+                .build();
+
+        // The render job blocks its worker, so a second worker is needed to run the next simulation.
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try (FrameScheduler scheduler = new FrameScheduler(graph, pool, true)) {
+            scheduler.runFrame();
+            scheduler.runFrame();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(0, nextSimulationStarted.getCount());
+    }
+
+    @Test
+    @DisplayName("Stages of Consecutive Frames Run in Order")
+    void stagesOfConsecutiveFramesRunInOrder() {
+        List<Long> renderedFrames = new CopyOnWriteArrayList<>();
+        FrameGraph graph = FrameGraph.builder()
+                .addJob("simulate", Stage.SIMULATION, frame -> {
+                })
+                .addJob("render", Stage.RENDER, renderedFrames::add, "simulate")
+                .build();
+
+        try (FrameScheduler scheduler = new FrameScheduler(graph, true)) {
+            for (int frame = 0; frame < 50; frame++) {
+                scheduler.runFrame();
+            }
+        }
+
+        for (int frame = 0; frame < 50; frame++) {
+            assertEquals(frame, renderedFrames.get(frame));
+        }
+    }
+
+    @Test
+    @DisplayName("A Failing Job Skips Its Dependents and is Rethrown")
+    void failingJobIsRethrown() {
+        AtomicInteger dependentRuns = new AtomicInteger();
+        FrameGraph graph = FrameGraph.builder()
+                .addJob("fails", Stage.SIMULATION, frame -> {
+                    throw new RuntimeException("boom");
+                })
+                .addJob("dependent", Stage.SIMULATION, frame -> dependentRuns.incrementAndGet(), "fails")
+                .build();
+
+        FrameScheduler scheduler = new FrameScheduler(graph, false);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, scheduler::runFrame);
+
+        assertEquals("boom", exception.getCause().getCause().getMessage());
+        assertEquals(0, dependentRuns.get());
+        assertThrows(IllegalStateException.class, scheduler::close);
+    }
+
+    @Test
+    @DisplayName("Adding a Job With an Unknown Dependency Throws IllegalArgumentException")
+    void unknownDependencyThrowsIllegalArgumentException() {
+        FrameGraph.Builder builder = FrameGraph.builder();
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addJob("physics", Stage.SIMULATION, frame -> {
+                }, "input"));
+    }
+
+    @Test
+    @DisplayName("Adding a Simulation Job Depending on a Render Job Throws IllegalArgumentException")
+    void simulationDependingOnRenderThrowsIllegalArgumentException() {
+        FrameGraph.Builder builder = FrameGraph.builder()
+                .addJob("render", Stage.RENDER, frame -> {
+                });
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addJob("physics", Stage.SIMULATION, frame -> {
+                }, "render"));
+    }
+
+    @Test
+    @DisplayName("Adding Two Jobs With the Same Name Throws IllegalArgumentException")
+    void duplicateNameThrowsIllegalArgumentException() {
+        FrameGraph.Builder builder = FrameGraph.builder()
+                .addJob("input", Stage.SIMULATION, frame -> {
+                });
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addJob("input", Stage.SIMULATION, frame -> {
+                }));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the next frame.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.clowdy.util.loop;
+
+/**
+ * A Clock whose time only advances when told to. Sleeping advances the time by the requested amount plus a fixed
+ * oversleep.
+ */
+class FakeClock implements Clock {
+    private long time;
+    private long oversleep;
+
+    void advance(long nanos) {
+        time += nanos;
+    }
+
+    void setOversleep(long oversleep) {
+        this.oversleep = oversleep;
+    }
+
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+
+    @Override
+    public void sleep(long nanos) {
+        time += nanos + oversleep;
+    }
+}
@@ -0,0 +1,126 @@
+package org.clowdy.util.loop;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopTest {
+    private static final long STEP = 10_000_000;
+
+    private FakeClock clock;
+    private RecordingSimulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock();
+        simulation = new RecordingSimulation();
+    }
+
+    @Test
+    @DisplayName("Runs one update per elapsed step and interpolates the remainder")
+    void testFixedStep() {
+        GameLoop loop = GameLoop.builder(simulation).updateRate(100).clock(clock).build();
+        assertEquals(0, loop.runFrame().getUpdates());
+
+        clock.advance(STEP * 2 + STEP / 4);
+        FrameTelemetry telemetry = loop.runFrame();
+        assertEquals(2, telemetry.getUpdates());
+        assertEquals(STEP / 4, telemetry.getLagNanos());
+        assertEquals(0.25, telemetry.getAlpha(), 1e-9);
+        assertEquals(0.01, simulation.deltas.get(0), 1e-12);
+
+        clock.advance(STEP * 3 / 4);
+        telemetry = loop.runFrame();
+        assertEquals(1, telemetry.getUpdates());
+        assertEquals(0, telemetry.getLagNanos());
+        assertEquals(3, simulation.deltas.size());
+        assertEquals(List.of(0.0, 0.25, 0.0), simulation.alphas);
+    }
+
+    @Test
+    @DisplayName("Drops time beyond the update limit to avoid a spiral of death")
+    void testSpiralOfDeath() {
+        GameLoop loop = GameLoop.builder(simulation).updateRate(100).maxUpdatesPerFrame(3).clock(clock).build();
+        loop.runFrame();
+        clock.advance(STEP * 10 + STEP / 2);
+        FrameTelemetry telemetry = loop.runFrame();
+        assertEquals(3, telemetry.getUpdates());
+        assertEquals(STEP * 7, telemetry.getDroppedNanos());
+        assertEquals(STEP / 2, telemetry.getLagNanos());
+
+        clock.advance(STEP / 2);
+        assertEquals(1, loop.runFrame().getUpdates());
+    }
+
+    @Test
+    @DisplayName("Sleeps to the frame deadline and reports the sleep error")
+    void testFramePacing() {
+        List<Long> errors = new ArrayList<>();
+        GameLoop loop = GameLoop.builder(simulation).updateRate(100).frameRate(50).clock(clock)
+                .telemetry(telemetry -> errors.add(telemetry.getSleepErrorNanos())).build();
+        clock.setOversleep(1_000);
+        clock.advance(5_000_000);
+        FrameTelemetry telemetry = loop.runFrame();
+        assertEquals(20_000_000, telemetry.getRequestedSleepNanos());
+        assertEquals(20_001_000, telemetry.getActualSleepNanos());
+
+        // Work taking 5ms leaves 15ms less the previous oversleep until the next deadline.
+        clock.advance(5_000_000);
+        telemetry = loop.runFrame();
+        assertEquals(14_999_000, telemetry.getRequestedSleepNanos());
+        assertEquals(2, telemetry.getUpdates());
+        assertEquals(List.of(1_000L, 1_000L), errors);
+    }
+
+    @Test
+    @DisplayName("Run returns once the simulation stops the loop")
+    void testStop() {
+        GameLoop[] loop = new GameLoop[1];
+        loop[0] = GameLoop.builder(new Simulation() {
+            private int updates;
+
+            @Override
+            public void update(double deltaTime) {
+                if (++updates == 5) {
+                    loop[0].stop();
+                }
+            }
+
+            @Override
+            public void render(double alpha) {
+                clock.advance(STEP);
+            }
+        }).updateRate(100).clock(clock).build();
+        loop[0].run();
+        assertFalse(loop[0].isRunning());
+    }
+
+    @Test
+    @DisplayName("Rejects invalid configuration")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> GameLoop.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> GameLoop.builder(simulation).updateRate(0));
+        assertThrows(IllegalArgumentException.class, () -> GameLoop.builder(simulation).frameRate(-1));
+        assertThrows(IllegalArgumentException.class, () -> GameLoop.builder(simulation).maxUpdatesPerFrame(0));
+    }
+
+    private static class RecordingSimulation implements Simulation {
+        private final List<Double> deltas = new ArrayList<>();
+        private final List<Double> alphas = new ArrayList<>();
+
+        @Override
+        public void update(double deltaTime) {
+            deltas.add(deltaTime);
+        }
+
+        @Override
+        public void render(double alpha) {
+            alphas.add(alpha);
+        }
+    }
+}
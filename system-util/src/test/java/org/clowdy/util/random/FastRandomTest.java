@@ -0,0 +1,159 @@
+package org.clowdy.util.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastRandomTest {
+    @Test
+    @DisplayName("Matches the reference xoshiro256** output")
+    void testReference() {
+        FastRandom random = new FastRandom(1, 2, 3, 4);
+        assertEquals(11520L, random.nextLong());
+        assertEquals(0L, random.nextLong());
+        assertEquals(1509978240L, random.nextLong());
+        assertEquals(1215971899390074240L, random.nextLong());
+    }
+
+    @Test
+    @DisplayName("Matches the reference SplitMix64 finaliser")
+    void testMix() {
+        // The first output of SplitMix64 seeded with 0 is the finaliser of the golden gamma.
+        assertEquals(0xe220a8397b1dcdafL, FastRandom.mix(0x9e3779b97f4a7c15L));
+        assertEquals(0, FastRandom.mix(0));
+    }
+
+    @Test
+    @DisplayName("Generators of the same seed give the same sequence")
+    void testDeterministic() {
+        FastRandom a = new FastRandom(42);
+        FastRandom b = new FastRandom(42);
+        FastRandom c = new FastRandom(43);
+        int differences = 0;
+        for (int i = 0; i < 1000; i++) {
+            long value = a.nextLong();
+            assertEquals(value, b.nextLong());
+            if (value != c.nextLong()) {
+                differences++;
+            }
+        }
+        assertEquals(1000, differences);
+    }
+
+    @Test
+    @DisplayName("Streams depend only on the seed and id, not the order they are created in")
+    void testStreams() {
+        long[] forwards = new long[100];
+        for (int id = 0; id < 100; id++) {
+            forwards[id] = FastRandom.stream(7, id).nextLong();
+        }
+        Set<Long> distinct = new HashSet<>();
+        for (int id = 99; id >= 0; id--) {
+            long value = FastRandom.stream(7, id).nextLong();
+            assertEquals(forwards[id], value);
+            distinct.add(value);
+        }
+        assertEquals(100, distinct.size());
+        assertNotEquals(FastRandom.stream(7, 0).nextLong(), FastRandom.stream(8, 0).nextLong());
+    }
+
+    @Test
+    @DisplayName("Split generators are reproducible and independent of their parent")
+    void testSplit() {
+        FastRandom a = new FastRandom(5);
+        FastRandom b = new FastRandom(5);
+        FastRandom childA = a.split();
+        FastRandom childB = b.split();
+        assertEquals(childA.nextLong(), childB.nextLong());
+        assertEquals(a.nextLong(), b.nextLong());
+        assertNotEquals(a.nextLong(), childA.nextLong());
+    }
+
+    @Test
+    @DisplayName("Bounded values stay in range and cover it evenly")
+    void testBounds() {
+        FastRandom random = new FastRandom(9);
+        int[] counts = new int[10];
+        for (int i = 0; i < 100000; i++) {
+            counts[random.nextInt(10)]++;
+            int ranged = random.nextInt(-5, 5);
+            assertTrue(ranged >= -5 && ranged < 5);
+            float unit = random.nextFloat();
+            assertTrue(unit >= 0 && unit < 1);
+            float scaled = random.nextFloat(2, 3);
+            assertTrue(scaled >= 2 && scaled < 3);
+            double d = random.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+        }
+        for (int count : counts) {
+            assertEquals(10000, count, 500);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Gaussian values have zero mean and unit variance")
+    void testGaussian() {
+        FastRandom random = new FastRandom(11);
+        double sum = 0;
+        double sumSquares = 0;
+        int n = 200000;
+        for (int i = 0; i < n; i++) {
+            double value = random.nextGaussian();
+            sum += value;
+            sumSquares += value * value;
+        }
+        assertEquals(0, sum / n, 0.01);
+        assertEquals(1, sumSquares / n, 0.02);
+    }
+
+    @Test
+    @DisplayName("Fills a range of an array with values in bounds")
+    void testFill() {
+        float[] values = new float[101];
+        values[0] = -1;
+        values[100] = -1;
+        new FastRandom(3).fill(values, 1, 100, 10, 20);
+        assertEquals(-1, values[0]);
+        assertEquals(-1, values[100]);
+        double sum = 0;
+        for (int i = 1; i < 100; i++) {
+            assertTrue(values[i] >= 10 && values[i] < 20);
+            sum += values[i];
+        }
+        assertEquals(15, sum / 99, 1);
+        float[] unit = new FastRandom(3).fill(new float[7]);
+        for (float value : unit) {
+            assertTrue(value >= 0 && value < 1);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> new FastRandom(3).fill(values, 50, 102, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FastRandom(3).fill(null));
+    }
+
+    @Test
+    @DisplayName("A parallel seeded fill matches filling each block from its stream")
+    void testParallelFill() {
+        float[] parallel = new float[FastRandom.FLOATS_PER_BLOCK * 5 + 17];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            FastRandom.fill(99, parallel, -1, 1, pool);
+        } finally {
+            pool.shutdown();
+        }
+        float[] sequential = new float[parallel.length];
+        for (int block = 0; block * FastRandom.FLOATS_PER_BLOCK < sequential.length; block++) {
+            int start = block * FastRandom.FLOATS_PER_BLOCK;
+            FastRandom.stream(99, block).fill(sequential, start,
+                    Math.min(start + FastRandom.FLOATS_PER_BLOCK, sequential.length), -1, 1);
+        }
+        assertArrayEquals(sequential, parallel);
+        assertArrayEquals(parallel, FastRandom.fill(99, new float[parallel.length], -1, 1));
+    }
+}